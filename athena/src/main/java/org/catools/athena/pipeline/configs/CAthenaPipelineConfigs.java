@@ -18,6 +18,23 @@ public class CAthenaPipelineConfigs {
     return CHocon.asBoolean(Configs.CATOOLS_ATHENA_PIPELINE_LISTENER_CREATE_IF_NOT_EXIST);
   }
 
+  public static int getPublisherQueueCapacity() {
+    return CHocon.asInteger(Configs.CATOOLS_ATHENA_PIPELINE_LISTENER_PUBLISHER_QUEUE_CAPACITY);
+  }
+
+  public static int getPublisherThreadsCount() {
+    return CHocon.asInteger(Configs.CATOOLS_ATHENA_PIPELINE_LISTENER_PUBLISHER_THREADS_COUNT);
+  }
+
+  public static int getPublisherRetryCount() {
+    return CHocon.asInteger(Configs.CATOOLS_ATHENA_PIPELINE_LISTENER_PUBLISHER_RETRY_COUNT);
+  }
+
+  public static long getPublisherRetryIntervalInMilliseconds() {
+    return CHocon.asLong(
+        Configs.CATOOLS_ATHENA_PIPELINE_LISTENER_PUBLISHER_RETRY_INTERVAL_IN_MILLISECOND);
+  }
+
   @Getter
   @AllArgsConstructor
   private enum Configs implements CHoconPath {
@@ -25,7 +42,15 @@ public class CAthenaPipelineConfigs {
     CATOOLS_ATHENA_PIPELINE_LISTENER_ALWAYS_CREATE_NEW_PIPELINE(
         "catools.athena.pipeline.listener.always_create_new_pipeline"),
     CATOOLS_ATHENA_PIPELINE_LISTENER_CREATE_IF_NOT_EXIST(
-        "catools.athena.pipeline.listener.create_if_not_exist");
+        "catools.athena.pipeline.listener.create_if_not_exist"),
+    CATOOLS_ATHENA_PIPELINE_LISTENER_PUBLISHER_QUEUE_CAPACITY(
+        "catools.athena.pipeline.listener.publisher.queue_capacity"),
+    CATOOLS_ATHENA_PIPELINE_LISTENER_PUBLISHER_THREADS_COUNT(
+        "catools.athena.pipeline.listener.publisher.threads_count"),
+    CATOOLS_ATHENA_PIPELINE_LISTENER_PUBLISHER_RETRY_COUNT(
+        "catools.athena.pipeline.listener.publisher.retry_count"),
+    CATOOLS_ATHENA_PIPELINE_LISTENER_PUBLISHER_RETRY_INTERVAL_IN_MILLISECOND(
+        "catools.athena.pipeline.listener.publisher.retry_interval_in_millisecond");
 
     private final String path;
   }
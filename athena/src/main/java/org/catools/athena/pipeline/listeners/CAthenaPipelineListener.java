@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.catools.athena.pipeline.configs.CAthenaPipelineConfigs;
 import org.catools.athena.pipeline.helpers.CPipelineHelper;
 import org.catools.athena.pipeline.model.PipelineDto;
+import org.catools.athena.pipeline.publisher.CAthenaExecutionPublisher;
 import org.catools.athena.rest.feign.pipeline.utils.PipelineUtils;
 import org.testng.*;
 import org.testng.internal.IResultListener;
@@ -19,6 +20,7 @@ public class CAthenaPipelineListener
         IConfigurationListener,
         IInvokedMethodListener {
   private PipelineDto pipeline;
+  private CAthenaExecutionPublisher publisher;
   private Instant beforeClassStartTime;
   private Instant beforeMethodStartTime;
   private Instant beforeClassEndTime;
@@ -30,6 +32,7 @@ public class CAthenaPipelineListener
       return;
     }
     pipeline = CPipelineHelper.getPipeline();
+    publisher = new CAthenaExecutionPublisher();
   }
 
   @Override
@@ -52,17 +55,17 @@ public class CAthenaPipelineListener
   }
 
   @Override
-  public synchronized void onTestSuccess(ITestResult result) {
+  public void onTestSuccess(ITestResult result) {
     addResult(result);
   }
 
   @Override
-  public synchronized void onTestFailure(ITestResult result) {
+  public void onTestFailure(ITestResult result) {
     addResult(result);
   }
 
   @Override
-  public synchronized void onTestSkipped(ITestResult result) {
+  public void onTestSkipped(ITestResult result) {
     addResult(result);
   }
 
@@ -77,6 +80,8 @@ public class CAthenaPipelineListener
       return;
     }
 
+    // wait for queued executions before closing the pipeline
+    publisher.close();
     PipelineUtils.getPipelineClient().updatePipelineEndDate(pipeline.getId(), Instant.now());
   }
 
@@ -85,13 +90,14 @@ public class CAthenaPipelineListener
       return;
     }
 
-    CPipelineHelper.addResult(
-        testResult,
-        pipeline,
-        beforeClassStartTime,
-        beforeMethodStartTime,
-        beforeClassEndTime,
-        beforeMethodEndTime);
+    publisher.publish(
+        CPipelineHelper.buildExecutionDto(
+            testResult,
+            pipeline,
+            beforeClassStartTime,
+            beforeMethodStartTime,
+            beforeClassEndTime,
+            beforeMethodEndTime));
   }
 
   protected void setStartTime(ITestNGMethod method) {
@@ -0,0 +1,150 @@
+package org.catools.athena.pipeline.publisher;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.catools.athena.pipeline.configs.CAthenaPipelineConfigs;
+import org.catools.athena.pipeline.model.PipelineExecutionDto;
+import org.catools.athena.rest.feign.pipeline.helpers.PipelineHelper;
+import org.catools.common.concurrent.CBackgroundQueue;
+import org.catools.common.utils.CSleeper;
+
+/**
+ * Publishes pipeline executions to Athena from background threads.
+ *
+ * <p>Test threads only build the {@link PipelineExecutionDto} and put it in a {@link
+ * CBackgroundQueue}, and {@code threadsCount} worker threads send queued executions to Athena. When
+ * the queue is full, test threads wait until workers catch up. A failed call is retried up to
+ * {@code retryCount} times, waiting {@code retryInterval} milliseconds before the first retry and
+ * twice as long before each following one.
+ *
+ * <p>{@link #close()} waits until every queued execution is sent or has failed all retries, and the
+ * queue does the same from a shutdown hook if the publisher is not closed before the JVM exits.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * try (CAthenaExecutionPublisher publisher = new CAthenaExecutionPublisher()) {
+ *   publisher.publish(executionDto);
+ * }
+ * }</pre>
+ */
+@Slf4j
+public class CAthenaExecutionPublisher implements AutoCloseable {
+  private final Consumer<PipelineExecutionDto> sender;
+  private final int retryCount;
+  private final long retryInterval;
+  private final AtomicInteger publishedCount = new AtomicInteger();
+  private final AtomicInteger failedCount = new AtomicInteger();
+  private final CBackgroundQueue<PipelineExecutionDto> queue;
+
+  /**
+   * Creates a publisher which sends executions with {@link PipelineHelper#addExecution} using the
+   * configured queue capacity, threads count and retry settings.
+   */
+  public CAthenaExecutionPublisher() {
+    this(
+        executionDto -> PipelineHelper.addExecution(executionDto),
+        CAthenaPipelineConfigs.getPublisherQueueCapacity(),
+        CAthenaPipelineConfigs.getPublisherThreadsCount(),
+        CAthenaPipelineConfigs.getPublisherRetryCount(),
+        CAthenaPipelineConfigs.getPublisherRetryIntervalInMilliseconds());
+  }
+
+  /**
+   * Creates a publisher.
+   *
+   * @param sender sends a single execution to Athena
+   * @param queueCapacity the maximum number of executions waiting to be sent
+   * @param threadsCount the number of executions sent at the same time
+   * @param retryCount the number of times a failed call is retried
+   * @param retryInterval the time in milliseconds to wait before the first retry
+   */
+  public CAthenaExecutionPublisher(
+      Consumer<PipelineExecutionDto> sender,
+      int queueCapacity,
+      int threadsCount,
+      int retryCount,
+      long retryInterval) {
+    this.sender = Objects.requireNonNull(sender);
+    this.retryCount = Math.max(0, retryCount);
+    this.retryInterval = Math.max(0, retryInterval);
+    this.queue =
+        new CBackgroundQueue<>(
+            "Athena Publisher", queueCapacity, threadsCount, 1, batch -> batch.forEach(this::send));
+  }
+
+  /**
+   * Adds the execution to the queue, waiting for space if the queue is full. After the publisher is
+   * closed, the execution is sent on the calling thread.
+   *
+   * @param executionDto the execution to publish
+   */
+  public void publish(PipelineExecutionDto executionDto) {
+    queue.add(executionDto);
+  }
+
+  /**
+   * The number of executions which are waiting to be sent.
+   *
+   * @return number of queued executions
+   */
+  public int getPendingCount() {
+    return queue.getPendingCount();
+  }
+
+  /**
+   * The number of executions which have been sent to Athena.
+   *
+   * @return number of published executions
+   */
+  public int getPublishedCount() {
+    return publishedCount.get();
+  }
+
+  /**
+   * The number of executions which could not be sent after all retries.
+   *
+   * @return number of failed executions
+   */
+  public int getFailedCount() {
+    return failedCount.get();
+  }
+
+  /** Stops accepting executions to the queue and waits until all queued executions are sent. */
+  @Override
+  public void close() {
+    queue.close();
+
+    if (failedCount.get() > 0) {
+      log.error("{} executions were not published to Athena.", failedCount.get());
+    }
+  }
+
+  private void send(PipelineExecutionDto executionDto) {
+    long interval = retryInterval;
+    for (int attempt = 0; ; attempt++) {
+      try {
+        sender.accept(executionDto);
+        publishedCount.incrementAndGet();
+        return;
+      } catch (Throwable t) {
+        if (attempt >= retryCount) {
+          failedCount.incrementAndGet();
+          log.error(
+              "Failed to publish execution {}.{}.{} to Athena after {} attempts.",
+              executionDto.getPackageName(),
+              executionDto.getClassName(),
+              executionDto.getMethodName(),
+              attempt + 1,
+              t);
+          return;
+        }
+        log.warn("Failed to publish execution to Athena, retry in {} ms.", interval, t);
+        CSleeper.sleepTight(interval);
+        interval *= 2;
+      }
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package org.catools.athena.pipeline.publisher;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.catools.athena.pipeline.model.PipelineExecutionDto;
+import org.catools.common.extensions.verify.CVerify;
+import org.testng.annotations.Test;
+
+public class CAthenaExecutionPublisherTest {
+
+  @Test
+  public void testPublishAllExecutionsOnClose() {
+    List<String> sent = new CopyOnWriteArrayList<>();
+    CAthenaExecutionPublisher publisher =
+        new CAthenaExecutionPublisher(dto -> sent.add(dto.getMethodName()), 5, 2, 0, 0);
+    for (int i = 0; i < 20; i++) {
+      publisher.publish(execution("testMethod" + i));
+    }
+    publisher.close();
+
+    CVerify.Int.equals(sent.size(), 20, "All executions are sent");
+    CVerify.Int.equals(sent.stream().distinct().toList().size(), 20, "Each execution is sent once");
+    CVerify.Int.equals(publisher.getPublishedCount(), 20, "All executions are published");
+    CVerify.Int.equals(publisher.getPendingCount(), 0, "No execution is left in the queue");
+  }
+
+  @Test
+  public void testRetryFailedCalls() {
+    AtomicInteger calls = new AtomicInteger();
+    CAthenaExecutionPublisher publisher =
+        new CAthenaExecutionPublisher(
+            dto -> {
+              if (calls.incrementAndGet() % 2 == 1) {
+                throw new IllegalStateException("Athena is not available");
+              }
+            },
+            10,
+            1,
+            1,
+            1);
+    for (int i = 0; i < 5; i++) {
+      publisher.publish(execution("testMethod" + i));
+    }
+    publisher.close();
+
+    CVerify.Int.equals(calls.get(), 10, "Each execution is sent after one retry");
+    CVerify.Int.equals(publisher.getPublishedCount(), 5, "All executions are published");
+    CVerify.Int.equals(publisher.getFailedCount(), 0, "No execution failed");
+  }
+
+  @Test
+  public void testCountExecutionsWhichFailAllRetries() {
+    AtomicInteger calls = new AtomicInteger();
+    CAthenaExecutionPublisher publisher =
+        new CAthenaExecutionPublisher(
+            dto -> {
+              calls.incrementAndGet();
+              throw new IllegalStateException("Athena is not available");
+            },
+            10,
+            1,
+            2,
+            1);
+    for (int i = 0; i < 3; i++) {
+      publisher.publish(execution("testMethod" + i));
+    }
+    publisher.close();
+
+    CVerify.Int.equals(calls.get(), 9, "Each execution is tried once and retried twice");
+    CVerify.Int.equals(publisher.getPublishedCount(), 0, "No execution is published");
+    CVerify.Int.equals(publisher.getFailedCount(), 3, "All executions failed");
+  }
+
+  private static PipelineExecutionDto execution(String methodName) {
+    PipelineExecutionDto executionDto = new PipelineExecutionDto();
+    executionDto.setPackageName("org.catools.athena.pipeline.publisher");
+    executionDto.setClassName("CAthenaExecutionPublisherTest");
+    executionDto.setMethodName(methodName);
+    return executionDto;
+  }
+}
@@ -1,18 +1,21 @@
 package org.catools.atlassian.etl.jira;
 
 import com.atlassian.jira.rest.client.api.domain.BasicProject;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import lombok.experimental.UtilityClass;
+import org.catools.atlassian.etl.jira.configs.CEtlJiraConfigs;
 import org.catools.atlassian.etl.jira.translators.CEtlJiraTranslator;
+import org.catools.atlassian.etl.jira.translators.parsers.CEtlJiraFieldExtractionPlan;
 import org.catools.atlassian.jira.client.CJiraClient;
 import org.catools.common.collections.CSet;
 import org.catools.common.date.CDate;
 import org.catools.etl.tms.dao.CEtlItemDao;
 import org.catools.etl.tms.dao.CEtlLastSyncDao;
 
-import java.util.Date;
-import java.util.List;
-import java.util.Objects;
-
 /**
  * Utility class for synchronizing JIRA data into the ETL system. Provides methods to sync projects
  * and issues based on specified criteria.
@@ -21,6 +24,22 @@ import java.util.Objects;
 public class CEtlJiraSyncClient {
   private static final String JIRA = "JIRA";
 
+  // issue fields which CEtlJiraTranslator reads besides the fields of the extraction plan
+  private static final Set<String> ISSUE_FIELDS =
+      Set.of(
+          "summary",
+          "project",
+          "issuetype",
+          "status",
+          "priority",
+          "created",
+          "updated",
+          "components",
+          "assignee",
+          "labels",
+          "fixVersions",
+          "versions");
+
   /**
    * Synchronizes JIRA projects and their issues based on the provided project names and issue
    * types.
@@ -39,11 +58,14 @@ public class CEtlJiraSyncClient {
     Objects.requireNonNull(projectNamesToSync);
     Objects.requireNonNull(issueTypes);
 
+    CEtlJiraFieldExtractionPlan plan =
+        CEtlJiraFieldExtractionPlan.build(
+            CJiraClient.getFields(), CEtlJiraConfigs.JiraSync.getFieldsToRead());
     CSet<BasicProject> projects = CJiraClient.getProjects();
     for (BasicProject project : projects.getAll(p -> projectNamesToSync.contains(p.getName()))) {
       Date syncStartTime = CDate.now();
       for (String issueType : issueTypes) {
-        addItems(project, issueType, parallelInputCount, parallelOutputCount);
+        addItems(project, issueType, plan, parallelInputCount, parallelOutputCount);
       }
       CEtlLastSyncDao.updateProjectLastSync(JIRA, project.getName(), syncStartTime);
     }
@@ -54,28 +76,53 @@ public class CEtlJiraSyncClient {
    *
    * @param project The JIRA project from which to add items.
    * @param issueType The type of issues to be added from the project.
-   * @param parallelInputCount The number of parallel input threads to use during the addition.
+   * @param parallelInputCount The number of pages to fetch ahead while issues are being added.
    * @param parallelOutputCount The number of parallel output threads to use during the addition.
    * @throws NullPointerException if any of the parameters are null.
    */
   public static void addItems(
       BasicProject project, String issueType, int parallelInputCount, int parallelOutputCount) {
+    addItems(
+        project,
+        issueType,
+        CEtlJiraFieldExtractionPlan.build(
+            CJiraClient.getFields(), CEtlJiraConfigs.JiraSync.getFieldsToRead()),
+        parallelInputCount,
+        parallelOutputCount);
+  }
+
+  /**
+   * Adds items from a specific JIRA project and issue type to the ETL system.
+   *
+   * @param project The JIRA project from which to add items.
+   * @param issueType The type of issues to be added from the project.
+   * @param plan The plan to extract issue fields with, built once per sync.
+   * @param parallelInputCount The number of pages to fetch ahead while issues are being added.
+   * @param parallelOutputCount The number of parallel output threads to use during the addition.
+   * @throws NullPointerException if any of the parameters are null.
+   */
+  public static void addItems(
+      BasicProject project,
+      String issueType,
+      CEtlJiraFieldExtractionPlan plan,
+      int parallelInputCount,
+      int parallelOutputCount) {
     Objects.requireNonNull(project);
     Objects.requireNonNull(issueType);
+    Objects.requireNonNull(plan);
 
     Date lastSync = CEtlLastSyncDao.getItemsLastSync(JIRA, project.getName(), issueType);
 
+    Set<String> fields = new HashSet<>(ISSUE_FIELDS);
+    fields.addAll(plan.getFieldIdsToRead());
+
     Date syncStartTime = CDate.now();
-    CJiraClient.search(
-        project.getKey(),
-        issueType,
-        lastSync,
+    CJiraClient.searchPages(
+        CJiraClient.getIssuesJql(project.getKey(), issueType, lastSync),
+        fields,
         parallelInputCount,
         parallelOutputCount,
-        issues -> {
-          if (issues != null && issues.isNotEmpty())
-            CEtlItemDao.mergeItems(CEtlJiraTranslator.translateIssues(issues));
-        });
+        issues -> CEtlItemDao.mergeItems(CEtlJiraTranslator.translateIssues(issues, plan)));
 
     CEtlLastSyncDao.updateItemsLastSync(JIRA, project.getName(), issueType, syncStartTime);
   }
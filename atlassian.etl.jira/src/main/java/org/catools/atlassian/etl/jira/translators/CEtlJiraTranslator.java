@@ -5,14 +5,12 @@ import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.catools.atlassian.etl.jira.configs.CEtlJiraConfigs;
-import org.catools.atlassian.etl.jira.translators.parsers.CEtlJiraParser;
-import org.catools.common.collections.CHashMap;
+import org.catools.atlassian.etl.jira.translators.parsers.CEtlJiraFieldExtractionPlan;
 import org.catools.common.collections.CList;
 import org.catools.common.collections.CSet;
 import org.catools.etl.tms.cache.CEtlCacheManager;
 import org.catools.etl.tms.dao.CEtlBaseDao;
 import org.catools.etl.tms.model.*;
-import org.codehaus.jettison.json.JSONObject;
 
 import java.util.Date;
 import java.util.List;
@@ -31,6 +29,7 @@ import java.util.Objects;
 @Slf4j
 @UtilityClass
 public class CEtlJiraTranslator {
+  private static CEtlJiraFieldExtractionPlan defaultPlan;
 
   /**
    * Translates a set of Jira issues into a {@link CEtlItems} collection.
@@ -46,7 +45,28 @@ public class CEtlJiraTranslator {
    * @return a CEtlItems collection containing the translated items
    */
   public static CEtlItems translateIssues(CSet<Issue> issues) {
-    return new CEtlItems(issues.mapToSet(CEtlJiraTranslator::translateIssue));
+    CEtlJiraFieldExtractionPlan plan = getDefaultPlan();
+    return new CEtlItems(issues.mapToSet(issue -> translateIssue(issue, plan)));
+  }
+
+  /**
+   * Translates a set of Jira issues into a {@link CEtlItems} collection, reading issue fields with
+   * a plan built once per sync.
+   *
+   * <p>Example:
+   *
+   * <pre>{@code
+   * CEtlJiraFieldExtractionPlan plan =
+   *     CEtlJiraFieldExtractionPlan.build(CJiraClient.getFields(), fieldsToRead);
+   * CEtlItems items = CEtlJiraTranslator.translateIssues(issues, plan);
+   * }</pre>
+   *
+   * @param issues the set of Jira issues to be translated
+   * @param plan the plan to extract issue fields with
+   * @return a CEtlItems collection containing the translated items
+   */
+  public static CEtlItems translateIssues(CSet<Issue> issues, CEtlJiraFieldExtractionPlan plan) {
+    return new CEtlItems(issues.mapToSet(issue -> translateIssue(issue, plan)));
   }
 
   /**
@@ -64,7 +84,26 @@ public class CEtlJiraTranslator {
    * @return the translated CEtlItem object
    */
   public static CEtlItem translateIssue(Issue issue) {
+    return translateIssue(issue, getDefaultPlan());
+  }
+
+  /**
+   * Translates a single Jira issue into a {@link CEtlItem} object, reading issue fields with the
+   * given plan.
+   *
+   * <p>Example:
+   *
+   * <pre>{@code
+   * CEtlItem item = CEtlJiraTranslator.translateIssue(issue, plan);
+   * }</pre>
+   *
+   * @param issue the Jira issue to be translated
+   * @param plan the plan to extract issue fields with
+   * @return the translated CEtlItem object
+   */
+  public static CEtlItem translateIssue(Issue issue, CEtlJiraFieldExtractionPlan plan) {
     Objects.requireNonNull(issue);
+    Objects.requireNonNull(plan);
 
     CEtlItem item = CEtlBaseDao.find(CEtlItem.class, String.valueOf(issue.getKey()));
     if (item == null) {
@@ -84,7 +123,7 @@ public class CEtlJiraTranslator {
       item.setUpdated(issue.getUpdateDate() == null ? null : issue.getUpdateDate().toDate());
 
       item.getMetadata().clear();
-      addIssueMetaData(issue, item);
+      addIssueMetaData(issue, item, plan);
 
       item.getStatusTransitions().clear();
       addStatusTransition(issue, item);
@@ -139,7 +178,7 @@ public class CEtlJiraTranslator {
    *
    * <pre>{@code
    * Issue issue = ...; CEtlItem item = new CEtlItem();
-   * CEtlJiraTranslator.addIssueMetaData(issue, item);
+   * CEtlJiraTranslator.addIssueMetaData(issue, item, plan);
    * }</pre>
    *
    * @param issue the Jira issue containing the fields
@@ -162,18 +201,8 @@ public class CEtlJiraTranslator {
     }
 
     if (issue.getFields() != null) {
-      List<String> fieldsToRead = CEtlJiraConfigs.JiraSync.getFieldsToRead();
-      CList<IssueField> noneNull =
-          new CSet<>(issue.getFields()).getAll(CEtlJiraTranslator::valueIsNotNull);
-      for (IssueField field : noneNull) {
-        CHashMap<String, String> fieldsToSync = CEtlJiraParser.parserJiraField(field);
-
-        if (!fieldsToRead.isEmpty()) {
-          fieldsToSync = fieldsToSync.getAll((k, v) -> fieldsToRead.contains(k));
-        }
-
-        fieldsToSync.forEach((key, val) -> item.addItemMetaData(getMetaData(key, val)));
-      }
+      plan.extract(
+          issue.getFields(), (key, val) -> item.addItemMetaData(getMetaData(key, val)));
     }
   }
 
@@ -339,20 +368,17 @@ public class CEtlJiraTranslator {
   }
 
   /**
-   * Checks if the value of an {@link IssueField} is not null or a JSON null representation.
-   *
-   * <p>Example:
+   * A plan without field schema, so every field is parsed by {@link
+   * org.catools.atlassian.etl.jira.translators.parsers.CEtlJiraParser}. The plan is built once and
+   * reused by every translation which is not given a plan.
    *
-   * <pre>{@code
-   * boolean ok = CEtlJiraTranslator.valueIsNotNull(issueField);
-   * }</pre>
-   *
-   * @param f the IssueField to be checked
-   * @return true if the value is not null, false otherwise
+   * @return the plan which reads the configured fields
    */
-  private static boolean valueIsNotNull(IssueField f) {
-    return f.getValue() != null
-        && f.getValue() != JSONObject.EXPLICIT_NULL
-        && f.getValue() != JSONObject.NULL;
+  private static synchronized CEtlJiraFieldExtractionPlan getDefaultPlan() {
+    if (defaultPlan == null) {
+      defaultPlan =
+          CEtlJiraFieldExtractionPlan.build(List.of(), CEtlJiraConfigs.JiraSync.getFieldsToRead());
+    }
+    return defaultPlan;
   }
 }
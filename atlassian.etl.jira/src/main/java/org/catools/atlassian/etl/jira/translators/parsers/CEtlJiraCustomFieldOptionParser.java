@@ -1,13 +1,15 @@
 package org.catools.atlassian.etl.jira.translators.parsers;
 
 import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.apache.commons.lang3.StringUtils;
 import org.catools.common.collections.CHashMap;
-import org.catools.common.collections.CList;
-import org.catools.common.utils.CJsonUtil;
 import org.codehaus.jettison.json.JSONArray;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 
 /**
  * Parser for custom field options in Jira issues that contain array-based option values.
@@ -59,6 +61,10 @@ import java.util.LinkedHashMap;
  * @see IssueField
  */
 public class CEtlJiraCustomFieldOptionParser implements CEtlJiraFieldParser {
+  /** Shared reader for option arrays, so each field does not build its own object mapper. */
+  private static final ObjectReader OPTIONS_READER =
+      new ObjectMapper().readerFor(new TypeReference<List<LinkedHashMap<String, Object>>>() {});
+
   private final IssueField field;
 
   /**
@@ -217,26 +223,23 @@ public class CEtlJiraCustomFieldOptionParser implements CEtlJiraFieldParser {
    *     Returns empty map if no meaningful values are found or if all values are defaults.
    * @throws RuntimeException if JSON parsing fails or if the field value cannot be processed
    * @see CEtlJiraFieldParser#isDefaultValue(String) for list of filtered default values
-   * @see CJsonUtil#read(String, Class) for JSON parsing implementation
    */
   @Override
   public CHashMap<String, String> getNameValuePairs() {
     CHashMap<String, String> output = new CHashMap<>();
     try {
-      CList<LinkedHashMap<String, String>> parse =
-          CJsonUtil.read(field.getValue().toString(), CList.class);
-      for (LinkedHashMap<String, String> map : parse) {
+      List<LinkedHashMap<String, Object>> parse =
+          OPTIONS_READER.readValue(field.getValue().toString());
+      for (LinkedHashMap<String, Object> map : parse) {
         map.remove("self");
         map.remove("id");
         if (map.size() == 1) {
-          String value = new CList<>(map.values()).get(0);
+          String value = String.valueOf(map.values().iterator().next());
           if (!isDefaultValue(value)) {
             output.put(field.getName(), value);
           }
         } else if (!map.isEmpty()) {
-          output.put(field.getName(), new CList<>(map.values()).get(0));
-        } else {
-          field.getName();
+          output.put(field.getName(), String.valueOf(map.values().iterator().next()));
         }
       }
       return output;
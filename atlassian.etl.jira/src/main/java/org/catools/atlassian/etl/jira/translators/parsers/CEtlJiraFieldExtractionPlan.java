@@ -0,0 +1,258 @@
+package org.catools.atlassian.etl.jira.translators.parsers;
+
+import com.atlassian.jira.rest.client.api.domain.Field;
+import com.atlassian.jira.rest.client.api.domain.FieldSchema;
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.codehaus.jettison.json.JSONArray;
+import org.codehaus.jettison.json.JSONObject;
+
+/**
+ * Field extraction plan built once per sync from the Jira field schema.
+ *
+ * <p>Each field id is mapped to an extractor selected by the schema type of the field, so issue
+ * fields are not matched against every {@link CEtlJiraFieldParser} and option values are read from
+ * the JSON value directly instead of being serialized and parsed again. Fields which are not
+ * configured to be read are skipped without looking at their values. When a value does not have the
+ * shape its schema promises, or the field is not in the schema, the field is parsed by {@link
+ * CEtlJiraParser} as before.
+ *
+ * <p>Fields of custom types provided by Jira plugins, other than the system field types, are always
+ * parsed by {@link CEtlJiraParser}, which skips values of Jira plugins. When custom parsers are
+ * registered with {@link CEtlJiraParser#addFieldParser}, every field is parsed by {@link
+ * CEtlJiraParser}, so custom parsers keep working.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * CEtlJiraFieldExtractionPlan plan =
+ *     CEtlJiraFieldExtractionPlan.build(CJiraClient.getFields(), fieldsToRead);
+ * plan.extract(issue.getFields(), (name, value) -> item.addItemMetaData(...));
+ * }</pre>
+ */
+@Slf4j
+public class CEtlJiraFieldExtractionPlan {
+  private static final String PLUGIN = "com.atlassian.jira.plugin";
+  private static final String SYSTEM_PLUGIN = "com.atlassian.jira.plugin.system.";
+  private static final String NAVIGABLE_FIELDS = "*navigable";
+  private static final Set<String> SCALAR_TYPES =
+      ImmutableSet.of("string", "number", "date", "datetime", "any");
+  private static final Set<String> NAMED_TYPES =
+      ImmutableSet.of(
+          "user",
+          "priority",
+          "status",
+          "issuetype",
+          "project",
+          "resolution",
+          "securitylevel",
+          "version",
+          "component");
+
+  static final CEtlJiraFieldExtractor SKIP = (field, output) -> {};
+  static final CEtlJiraFieldExtractor GENERIC =
+      (field, output) -> CEtlJiraParser.parserJiraField(field).forEach(output);
+  static final CEtlJiraFieldExtractor SCALAR = CEtlJiraFieldExtractionPlan::extractScalar;
+  static final CEtlJiraFieldExtractor NAME = jsonAttribute("name");
+  static final CEtlJiraFieldExtractor VALUE = jsonAttribute("value");
+  static final CEtlJiraFieldExtractor OPTIONS = CEtlJiraFieldExtractionPlan::extractOptions;
+
+  private final Map<String, CEtlJiraFieldExtractor> extractors;
+  private final Set<String> fieldsToRead;
+  private final Set<String> fieldIdsToRead;
+
+  private CEtlJiraFieldExtractionPlan(
+      Map<String, CEtlJiraFieldExtractor> extractors,
+      Set<String> fieldsToRead,
+      Set<String> fieldIdsToRead) {
+    this.extractors = extractors;
+    this.fieldsToRead = fieldsToRead;
+    this.fieldIdsToRead = fieldIdsToRead;
+  }
+
+  /**
+   * Builds the plan from the Jira field schema.
+   *
+   * @param fields the fields defined in Jira.
+   * @param fieldsToRead the names of fields to read, all fields are read if it is empty.
+   * @return the extraction plan.
+   */
+  public static CEtlJiraFieldExtractionPlan build(
+      Iterable<Field> fields, Collection<String> fieldsToRead) {
+    return build(fields, fieldsToRead, CEtlJiraParser.hasCustomFieldParsers());
+  }
+
+  static CEtlJiraFieldExtractionPlan build(
+      Iterable<Field> fields, Collection<String> fieldsToRead, boolean hasCustomParsers) {
+    if (hasCustomParsers) {
+      log.info("Custom field parsers are registered, all fields are parsed by CEtlJiraParser.");
+    }
+
+    Set<String> toRead = new HashSet<>(fieldsToRead);
+    Map<String, CEtlJiraFieldExtractor> extractors = new HashMap<>();
+    Set<String> idsToRead = new HashSet<>();
+    for (Field field : fields) {
+      CEtlJiraFieldExtractor extractor;
+      if (!isToRead(toRead, field.getName())) {
+        extractor = SKIP;
+      } else if (hasCustomParsers) {
+        extractor = GENERIC;
+      } else {
+        extractor = getExtractor(field.getSchema());
+      }
+      if (extractor != SKIP) {
+        idsToRead.add(field.getId());
+      }
+      extractors.put(field.getId(), extractor);
+    }
+    log.debug("Field extraction plan built for {} fields.", extractors.size());
+    return new CEtlJiraFieldExtractionPlan(
+        extractors, toRead, toRead.isEmpty() ? Set.of(NAVIGABLE_FIELDS) : idsToRead);
+  }
+
+  /**
+   * The fields to request in a search so issues have every field this plan reads.
+   *
+   * @return the ids of the fields to read, or {@code *navigable} when all fields are read.
+   */
+  public Set<String> getFieldIdsToRead() {
+    return fieldIdsToRead;
+  }
+
+  /**
+   * Extracts name-value pairs of fields which should be read. Fields with null values are skipped.
+   *
+   * @param fields the fields of an issue.
+   * @param output the consumer of extracted name-value pairs.
+   */
+  public void extract(Iterable<IssueField> fields, BiConsumer<String, String> output) {
+    BiConsumer<String, String> filtered =
+        fieldsToRead.isEmpty()
+            ? output
+            : (name, value) -> {
+              if (fieldsToRead.contains(name)) {
+                output.accept(name, value);
+              }
+            };
+
+    for (IssueField field : fields) {
+      Object value = field.getValue();
+      if (value == null || value == JSONObject.EXPLICIT_NULL || value == JSONObject.NULL) {
+        continue;
+      }
+
+      // fields which are not in the schema the plan was built from are parsed as before
+      getExtractor(field.getId()).extract(field, filtered);
+    }
+  }
+
+  CEtlJiraFieldExtractor getExtractor(String fieldId) {
+    return extractors.getOrDefault(fieldId, GENERIC);
+  }
+
+  private static boolean isToRead(Set<String> fieldsToRead, String name) {
+    return fieldsToRead.isEmpty() || fieldsToRead.contains(name);
+  }
+
+  private static CEtlJiraFieldExtractor getExtractor(FieldSchema schema) {
+    if (schema == null || schema.getType() == null) {
+      return GENERIC;
+    }
+
+    // values of plugin fields are checked by CEtlJiraParser, which skips them
+    String custom = schema.getCustom();
+    if (custom != null && custom.startsWith(PLUGIN) && !custom.startsWith(SYSTEM_PLUGIN)) {
+      return GENERIC;
+    }
+
+    String type = schema.getType();
+    if (SCALAR_TYPES.contains(type)) {
+      return SCALAR;
+    }
+    if ("option".equals(type)) {
+      return VALUE;
+    }
+    if (NAMED_TYPES.contains(type)) {
+      return NAME;
+    }
+    if ("array".equals(type) && "option".equals(schema.getItems())) {
+      return OPTIONS;
+    }
+    return GENERIC;
+  }
+
+  private static void extractScalar(IssueField field, BiConsumer<String, String> output) {
+    Object value = field.getValue();
+    if (value instanceof JSONObject || value instanceof JSONArray) {
+      GENERIC.extract(field, output);
+      return;
+    }
+
+    output.accept(field.getName(), value.toString());
+  }
+
+  private static CEtlJiraFieldExtractor jsonAttribute(String attribute) {
+    return (field, output) -> {
+      if (field.getValue() instanceof JSONObject json
+          && json.opt(attribute) instanceof String value) {
+        output.accept(field.getName(), value);
+      } else {
+        GENERIC.extract(field, output);
+      }
+    };
+  }
+
+  private static void extractOptions(IssueField field, BiConsumer<String, String> output) {
+    if (!(field.getValue() instanceof JSONArray options)) {
+      GENERIC.extract(field, output);
+      return;
+    }
+
+    // the last option wins, the same as CEtlJiraCustomFieldOptionParser
+    String selected = null;
+    for (int i = 0; i < options.length(); i++) {
+      if (!(options.opt(i) instanceof JSONObject option)) {
+        GENERIC.extract(field, output);
+        return;
+      }
+
+      Object first = null;
+      int count = 0;
+      Iterator<?> keys = option.keys();
+      while (keys.hasNext()) {
+        Object key = keys.next();
+        if ("self".equals(key) || "id".equals(key)) {
+          continue;
+        }
+        Object value = option.opt(key.toString());
+        if (value instanceof JSONObject || value instanceof JSONArray) {
+          // nested options such as cascading selects
+          GENERIC.extract(field, output);
+          return;
+        }
+        if (count++ == 0) {
+          first = value;
+        }
+      }
+
+      if (first != null) {
+        String value = String.valueOf(first);
+        if (count > 1 || !CEtlJiraFieldParser.DEFAULT_VALUES.contains(value)) {
+          selected = value;
+        }
+      }
+    }
+
+    if (selected != null) {
+      output.accept(field.getName(), selected);
+    }
+  }
+}
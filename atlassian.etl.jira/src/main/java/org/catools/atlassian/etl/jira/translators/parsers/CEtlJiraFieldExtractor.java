@@ -0,0 +1,20 @@
+package org.catools.atlassian.etl.jira.translators.parsers;
+
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import java.util.function.BiConsumer;
+
+/**
+ * Extractor of name value pairs from a Jira issue field whose type is known in advance. Extractors
+ * are selected once per field id by {@link CEtlJiraFieldExtractionPlan}.
+ */
+@FunctionalInterface
+public interface CEtlJiraFieldExtractor {
+
+  /**
+   * Extracts name-value pairs from the field.
+   *
+   * @param field the field with a non-null value.
+   * @param output the consumer of extracted name-value pairs.
+   */
+  void extract(IssueField field, BiConsumer<String, String> output);
+}
@@ -3,11 +3,17 @@ package org.catools.atlassian.etl.jira.translators.parsers;
 import com.google.common.collect.ImmutableSet;
 import org.catools.common.collections.CHashMap;
 
+import java.util.Set;
+
 /**
  * Parser for Jira fields to convert them into name value pairs. Different implementations can
  * handle different field types.
  */
 public interface CEtlJiraFieldParser {
+  /** Values which are considered as default or placeholder values. */
+  Set<String> DEFAULT_VALUES =
+      ImmutableSet.of("0.0", "-1", "{}", "[]", "None", "N/A", String.valueOf(Long.MAX_VALUE));
+
   int rank();
 
   /**
@@ -17,8 +23,7 @@ public interface CEtlJiraFieldParser {
    * @return true if the value is a default value, false otherwise.
    */
   default boolean isDefaultValue(String value) {
-    return ImmutableSet.of("0.0", "-1", "{}", "[]", "None", "N/A", String.valueOf(Long.MAX_VALUE))
-        .contains(value);
+    return DEFAULT_VALUES.contains(value);
   }
 
   /**
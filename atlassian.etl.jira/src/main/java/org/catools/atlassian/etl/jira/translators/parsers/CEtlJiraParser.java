@@ -1,14 +1,12 @@
 package org.catools.atlassian.etl.jira.translators.parsers;
 
 import com.atlassian.jira.rest.client.api.domain.IssueField;
+import java.util.function.Function;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.catools.common.collections.CHashMap;
 import org.catools.common.collections.CList;
 
-import java.util.Comparator;
-import java.util.function.Function;
-
 /**
  * Utility class for parsing Jira issue fields using various field parsers. It maintains a list of
  * parsers and applies the most suitable one to each field. Fields that cannot be parsed are logged
@@ -24,9 +22,9 @@ import java.util.function.Function;
 @Slf4j
 @UtilityClass
 public class CEtlJiraParser {
-  private static final CList<IssueField> skippedFields = new CList<>();
   private static final CList<Function<IssueField, CEtlJiraFieldParser>> fieldParsers =
       new CList<>();
+  private static final int DEFAULT_PARSERS_COUNT;
 
   static {
     // Initialize the list of field parsers
@@ -34,6 +32,7 @@ public class CEtlJiraParser {
     fieldParsers.add(field -> new CEtlJiraJsonFieldParser(field, "name"));
     fieldParsers.add(field -> new CEtlJiraJsonFieldParser(field, "value"));
     fieldParsers.add(CEtlJiraIssueFieldParser::new);
+    DEFAULT_PARSERS_COUNT = fieldParsers.size();
   }
 
   /**
@@ -51,6 +50,15 @@ public class CEtlJiraParser {
     fieldParsers.add(parserFunction);
   }
 
+  /**
+   * Checks if any parser was added with {@link #addFieldParser(Function)}.
+   *
+   * @return true if custom field parsers are registered, false otherwise
+   */
+  public static boolean hasCustomFieldParsers() {
+    return fieldParsers.size() > DEFAULT_PARSERS_COUNT;
+  }
+
   /**
    * Parses a given Jira issue field using the most suitable parser from the list. If no suitable
    * parser is found, the field is logged and skipped.
@@ -66,13 +74,19 @@ public class CEtlJiraParser {
    * @return a map of name-value pairs extracted from the field, or an empty map if skipped
    */
   public static CHashMap<String, String> parserJiraField(IssueField field) {
-    CList<Function<IssueField, CEtlJiraFieldParser>> list =
-        fieldParsers.getAll(p -> p.apply(field).isRightParser());
+    // Create each parser once and pick the best match by rank
+    CEtlJiraFieldParser bestMatch = null;
+    for (Function<IssueField, CEtlJiraFieldParser> fieldParser : fieldParsers) {
+      CEtlJiraFieldParser parser = fieldParser.apply(field);
+      if ((bestMatch == null || parser.rank() < bestMatch.rank()) && parser.isRightParser()) {
+        bestMatch = parser;
+      }
+    }
+
     // Skip fields without a parser or those related to Jira plugins
-    if (list.isEmpty()
+    if (bestMatch == null
         || (field.getValue() != null
             && field.getValue().toString().contains("com.atlassian.jira.plugin"))) {
-      skippedFields.add(field);
       log.trace(
           "Could not find parser for field {} with value {}.\n record will be skipped",
           field.getName(),
@@ -80,9 +94,6 @@ public class CEtlJiraParser {
       return new CHashMap<>();
     }
 
-    // Sort parsers by rank and apply the best match
-    list.sort(Comparator.comparingInt(o -> o.apply(field).rank()));
-    Function<IssueField, CEtlJiraFieldParser> bestMatch = list.getFirstOrNull();
-    return bestMatch.apply(field).getNameValuePairs();
+    return bestMatch.getNameValuePairs();
   }
 }
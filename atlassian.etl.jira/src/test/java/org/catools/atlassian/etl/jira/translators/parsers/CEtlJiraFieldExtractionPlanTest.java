@@ -0,0 +1,192 @@
+package org.catools.atlassian.etl.jira.translators.parsers;
+
+import com.atlassian.jira.rest.client.api.domain.Field;
+import com.atlassian.jira.rest.client.api.domain.FieldSchema;
+import com.atlassian.jira.rest.client.api.domain.FieldType;
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.catools.common.extensions.verify.CVerify;
+import org.codehaus.jettison.json.JSONArray;
+import org.codehaus.jettison.json.JSONObject;
+import org.testng.annotations.Test;
+
+public class CEtlJiraFieldExtractionPlanTest {
+  private static final String SELECT_TYPE =
+      "com.atlassian.jira.plugin.system.customfieldtypes:select";
+  private static final String DEV_SUMMARY_TYPE =
+      "com.atlassian.jira.plugins.jira-development-integration-plugin:devsummarycf";
+
+  @Test
+  public void testMapSchemaTypeToExtractor() {
+    CEtlJiraFieldExtractionPlan plan =
+        CEtlJiraFieldExtractionPlan.build(
+            List.of(
+                field("string", "Summary", "string", null, null),
+                field("number", "Story Points", "number", null, null),
+                field("date", "Due Date", "date", null, null),
+                field("datetime", "Created", "datetime", null, null),
+                field("any", "Any", "any", null, null),
+                field("option", "Severity", "option", null, SELECT_TYPE),
+                field("user", "Assignee", "user", null, null),
+                field("priority", "Priority", "priority", null, null),
+                field("status", "Status", "status", null, null),
+                field("issuetype", "Issue Type", "issuetype", null, null),
+                field("project", "Project", "project", null, null),
+                field("resolution", "Resolution", "resolution", null, null),
+                field("securitylevel", "Security Level", "securitylevel", null, null),
+                field("version", "Version", "version", null, null),
+                field("component", "Component", "component", null, null),
+                field("options", "Team", "array", "option", null),
+                field("labels", "Labels", "array", "string", null),
+                field("unknown", "Unknown", "timetracking", null, null),
+                field("noschema", "No Schema", null, null, null)),
+            List.of(),
+            false);
+
+    Map<String, CEtlJiraFieldExtractor> expected = new LinkedHashMap<>();
+    List.of("string", "number", "date", "datetime", "any")
+        .forEach(id -> expected.put(id, CEtlJiraFieldExtractionPlan.SCALAR));
+    expected.put("option", CEtlJiraFieldExtractionPlan.VALUE);
+    List.of(
+            "user",
+            "priority",
+            "status",
+            "issuetype",
+            "project",
+            "resolution",
+            "securitylevel",
+            "version",
+            "component")
+        .forEach(id -> expected.put(id, CEtlJiraFieldExtractionPlan.NAME));
+    expected.put("options", CEtlJiraFieldExtractionPlan.OPTIONS);
+    expected.put("labels", CEtlJiraFieldExtractionPlan.GENERIC);
+    expected.put("unknown", CEtlJiraFieldExtractionPlan.GENERIC);
+    expected.put("noschema", CEtlJiraFieldExtractionPlan.GENERIC);
+    expected.put("notInSchema", CEtlJiraFieldExtractionPlan.GENERIC);
+
+    CVerify.Object.equals(
+        plan.getFieldIdsToRead(), Set.of("*navigable"), "All fields are searched");
+
+    expected.forEach(
+        (id, extractor) ->
+            CVerify.Bool.isTrue(
+                plan.getExtractor(id) == extractor, "Field " + id + " has the right extractor"));
+  }
+
+  @Test
+  public void testSkipFieldsWhichAreNotRead() {
+    CEtlJiraFieldExtractionPlan plan =
+        CEtlJiraFieldExtractionPlan.build(
+            List.of(
+                field("number", "Story Points", "number", null, null),
+                field("user", "Assignee", "user", null, null)),
+            List.of("Story Points"),
+            false);
+
+    CVerify.Bool.isTrue(
+        plan.getExtractor("number") == CEtlJiraFieldExtractionPlan.SCALAR, "Field is read");
+    CVerify.Bool.isTrue(
+        plan.getExtractor("user") == CEtlJiraFieldExtractionPlan.SKIP, "Field is skipped");
+    CVerify.Object.equals(
+        plan.getFieldIdsToRead(), Set.of("number"), "Only read field is searched");
+  }
+
+  @Test
+  public void testParsePluginFieldsByParser() {
+    CEtlJiraFieldExtractionPlan plan =
+        CEtlJiraFieldExtractionPlan.build(
+            List.of(
+                field("devsummary", "Development", "any", null, DEV_SUMMARY_TYPE),
+                field("option", "Severity", "option", null, SELECT_TYPE)),
+            List.of(),
+            false);
+
+    CVerify.Bool.isTrue(
+        plan.getExtractor("devsummary") == CEtlJiraFieldExtractionPlan.GENERIC,
+        "Plugin field is parsed by CEtlJiraParser");
+    CVerify.Bool.isTrue(
+        plan.getExtractor("option") == CEtlJiraFieldExtractionPlan.VALUE,
+        "System custom field is read by its schema type");
+
+    Map<String, String> output = extract(plan, issueField("devsummary", "Development", summary()));
+    CVerify.Int.equals(output.size(), 0, "Plugin value is skipped");
+  }
+
+  @Test
+  public void testParseAllFieldsByParserWithCustomParsers() {
+    CEtlJiraFieldExtractionPlan plan =
+        CEtlJiraFieldExtractionPlan.build(
+            List.of(
+                field("number", "Story Points", "number", null, null),
+                field("option", "Severity", "option", null, SELECT_TYPE),
+                field("user", "Assignee", "user", null, null)),
+            List.of("Story Points", "Severity"),
+            true);
+
+    CVerify.Bool.isTrue(
+        plan.getExtractor("number") == CEtlJiraFieldExtractionPlan.GENERIC,
+        "Scalar field is parsed by CEtlJiraParser");
+    CVerify.Bool.isTrue(
+        plan.getExtractor("option") == CEtlJiraFieldExtractionPlan.GENERIC,
+        "Option field is parsed by CEtlJiraParser");
+    CVerify.Bool.isTrue(
+        plan.getExtractor("user") == CEtlJiraFieldExtractionPlan.SKIP,
+        "Field which is not read is still skipped");
+  }
+
+  @Test
+  public void testExtractValuesBySchemaType() throws Exception {
+    CEtlJiraFieldExtractionPlan plan =
+        CEtlJiraFieldExtractionPlan.build(
+            List.of(
+                field("number", "Story Points", "number", null, null),
+                field("option", "Severity", "option", null, SELECT_TYPE),
+                field("user", "Assignee", "user", null, null),
+                field("options", "Team", "array", "option", null)),
+            List.of(),
+            false);
+
+    Map<String, String> output =
+        extract(
+            plan,
+            issueField("number", "Story Points", 5.0),
+            issueField("option", "Severity", new JSONObject().put("id", "1").put("value", "High")),
+            issueField("user", "Assignee", new JSONObject().put("name", "jdoe")),
+            issueField(
+                "options",
+                "Team",
+                new JSONArray()
+                    .put(new JSONObject().put("id", "1").put("value", "None"))
+                    .put(new JSONObject().put("id", "2").put("value", "Core"))),
+            issueField("user", "Assignee", JSONObject.NULL));
+
+    CVerify.String.equals(output.get("Story Points"), "5.0", "Scalar value is read");
+    CVerify.String.equals(output.get("Severity"), "High", "Option value is read");
+    CVerify.String.equals(output.get("Assignee"), "jdoe", "Name is read");
+    CVerify.String.equals(output.get("Team"), "Core", "Last selected option is read");
+  }
+
+  private static Map<String, String> extract(
+      CEtlJiraFieldExtractionPlan plan, IssueField... fields) {
+    Map<String, String> output = new LinkedHashMap<>();
+    plan.extract(List.of(fields), output::put);
+    return output;
+  }
+
+  private static String summary() {
+    return "{summaryBean=com.atlassian.jira.plugin.devstatus.rest.SummaryBean@1a2b3c}";
+  }
+
+  private static Field field(String id, String name, String type, String items, String custom) {
+    FieldSchema schema = type == null ? null : new FieldSchema(type, items, null, custom, null);
+    return new Field(
+        id, name, custom == null ? FieldType.JIRA : FieldType.CUSTOM, true, true, true, schema);
+  }
+
+  private static IssueField issueField(String id, String name, Object value) {
+    return new IssueField(id, name, null, value);
+  }
+}
@@ -6,26 +6,31 @@ import lombok.extern.slf4j.Slf4j;
 import org.catools.atlassian.etl.scale.configs.CEtlZScaleConfigs;
 import org.catools.atlassian.etl.scale.translators.CEtlZScaleTestCaseTranslator;
 import org.catools.atlassian.scale.CZScaleClient;
+import org.catools.atlassian.scale.exception.CZScaleClientException;
 import org.catools.atlassian.scale.model.CZScaleTestCase;
 import org.catools.atlassian.scale.model.CZScaleTestExecution;
 import org.catools.atlassian.scale.model.CZScaleTestRun;
 import org.catools.atlassian.scale.model.CZScaleTestRuns;
+import org.catools.common.collections.CList;
 import org.catools.common.collections.CSet;
 import org.catools.common.concurrent.CParallelRunner;
 import org.catools.common.date.CDate;
 import org.catools.common.utils.CStringUtil;
 import org.catools.etl.tms.cache.CEtlCacheManager;
+import org.catools.etl.tms.configs.CEtlConfigs;
 import org.catools.etl.tms.dao.CEtlExecutionDao;
 import org.catools.etl.tms.dao.CEtlItemDao;
 import org.catools.etl.tms.dao.CEtlLastSyncDao;
 import org.catools.etl.tms.model.*;
 
 import java.util.Date;
-import java.util.Stack;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.catools.atlassian.etl.scale.helpers.CEtlZScaleSyncHelper.getProjectByName;
 import static org.catools.atlassian.etl.scale.helpers.CEtlZScaleSyncHelper.getProjectVersions;
-import static org.catools.atlassian.etl.scale.translators.CEtlZScaleTestRunTranslator.translateExecution;
+import static org.catools.atlassian.etl.scale.translators.CEtlZScaleTestRunTranslator.translateExecutions;
 import static org.catools.atlassian.etl.scale.translators.CEtlZScaleTestRunTranslator.translateTestRun;
 
 /**
@@ -53,40 +58,73 @@ public class CEtlZScaleSyncClient {
 
     updateTestCases(
         project.getKey(), etlProject, versions, parallelInputCount, parallelOutputCount);
-    updateTestRuns(project.getKey(), versions, parallelOutputCount);
+    updateTestRuns(project.getKey(), versions, parallelInputCount, parallelOutputCount);
   }
 
   /**
-   * Updates test runs for a specific project.
+   * Updates test runs for a specific project. Test runs of each folder are read and saved by up to
+   * {@code parallelInputCount} threads at the same time.
    *
    * @param projectKey The key of the project.
    * @param versions The versions associated with the project.
+   * @param parallelInputCount The number of test runs to synchronize at the same time.
    * @param parallelOutputCount The number of parallel threads for output operations.
    * @throws Throwable If an error occurs during the update.
    */
   private static void updateTestRuns(
-      String projectKey, CEtlVersions versions, int parallelOutputCount) throws Throwable {
+      String projectKey, CEtlVersions versions, int parallelInputCount, int parallelOutputCount)
+      throws Throwable {
     for (String activeFolder : CEtlZScaleConfigs.Scale.getSyncTestRunsFolders()) {
       Date projectSyncStartTime = CDate.now();
-      CZScaleTestRuns testRunsToSync = getTestRunsToSync(projectKey, activeFolder);
-      for (CZScaleTestRun scaleTestRun : testRunsToSync) {
-        String testRunInfoKey = scaleTestRun.getKey();
-        String runDbSyncKey = "SCALE_RUN_" + testRunInfoKey.toUpperCase();
-        Date runLastSync = CEtlLastSyncDao.getProjectLastSync(runDbSyncKey, projectKey);
-
-        log.info("Start sync {} run.", testRunInfoKey);
-        CZScaleTestRun testRun = CZScaleClient.TestRuns.getTestRun(testRunInfoKey);
-
-        if (testRun.getItems().isNotEmpty()) {
-          CEtlVersion version = getVersionForTestRun(versions, testRun);
-          updateTestRunExecutions(
-              version, testRunInfoKey, runLastSync, testRun, parallelOutputCount);
-        }
-
-        CEtlLastSyncDao.updateProjectLastSync(runDbSyncKey, projectKey, projectSyncStartTime);
-        log.info("Finish sync {} run.", testRunInfoKey);
-      }
+      Queue<CZScaleTestRun> testRunsToSync =
+          new ConcurrentLinkedQueue<>(getTestRunsToSync(projectKey, activeFolder));
+      new CParallelRunner<>(
+              String.format("Sync %s Test Runs", activeFolder),
+              Math.max(1, Math.min(parallelInputCount, testRunsToSync.size())),
+              () -> {
+                CZScaleTestRun scaleTestRun;
+                while ((scaleTestRun = testRunsToSync.poll()) != null) {
+                  updateTestRun(
+                      projectKey,
+                      versions,
+                      scaleTestRun.getKey(),
+                      projectSyncStartTime,
+                      parallelOutputCount);
+                }
+                return true;
+              })
+          .invokeAll();
+    }
+  }
+
+  /**
+   * Updates a single test run and its executions.
+   *
+   * @param projectKey The key of the project.
+   * @param versions The versions associated with the project.
+   * @param testRunInfoKey The key of the test run.
+   * @param projectSyncStartTime The time the folder synchronization started.
+   * @param parallelOutputCount The number of parallel threads for output operations.
+   */
+  private static void updateTestRun(
+      String projectKey,
+      CEtlVersions versions,
+      String testRunInfoKey,
+      Date projectSyncStartTime,
+      int parallelOutputCount) {
+    String runDbSyncKey = "SCALE_RUN_" + testRunInfoKey.toUpperCase();
+    Date runLastSync = CEtlLastSyncDao.getProjectLastSync(runDbSyncKey, projectKey);
+
+    log.info("Start sync {} run.", testRunInfoKey);
+    CZScaleTestRun testRun = CZScaleClient.TestRuns.getTestRun(testRunInfoKey);
+
+    if (testRun.getItems().isNotEmpty()) {
+      CEtlVersion version = getVersionForTestRun(versions, testRun);
+      updateTestRunExecutions(version, testRunInfoKey, runLastSync, testRun, parallelOutputCount);
     }
+
+    CEtlLastSyncDao.updateProjectLastSync(runDbSyncKey, projectKey, projectSyncStartTime);
+    log.info("Finish sync {} run.", testRunInfoKey);
   }
 
   /**
@@ -112,40 +150,52 @@ public class CEtlZScaleSyncClient {
    * @param runLastSync The last synchronization time for the test run.
    * @param testRun The test run to update.
    * @param parallelOutputCount The number of parallel threads for output operations.
-   * @throws Throwable If an error occurs during the update.
    */
   private static void updateTestRunExecutions(
       CEtlVersion version,
       String testRunInfoKey,
       Date runLastSync,
       CZScaleTestRun testRun,
-      int parallelOutputCount)
-      throws Throwable {
+      int parallelOutputCount) {
     log.info(
         "Start updating {} run execution with {} items.",
         testRun.getKey(),
         testRun.getItems().size());
     CEtlCycle cycle = translateTestRun(version, testRun);
-    Stack<CZScaleTestExecution> executionsToSync = new Stack<>();
-    executionsToSync.addAll(testRun.getItems().getAll(item -> itemShouldSync(runLastSync, item)));
+    CEtlExecutions executionsToSync =
+        translateExecutions(
+            testRun, cycle, testRun.getItems().getAll(item -> itemShouldSync(runLastSync, item)));
+
+    int total = executionsToSync.size();
+    log.info("{} items need to be updated for {} run.", total, testRun.getKey());
 
-    log.info("{} items need to be updated for {} run.", executionsToSync.size(), testRun.getKey());
-    new CParallelRunner<>(
+    Queue<CList<CEtlExecution>> batches =
+        new ConcurrentLinkedQueue<>(
+            executionsToSync.partition(CEtlConfigs.getEtlBulkTransactionPartitionSize()));
+    AtomicInteger saved = new AtomicInteger();
+    CParallelRunner<Boolean> runner =
+        new CParallelRunner<>(
             String.format("Update %s Test Run Executions", testRun.getKey()),
-            parallelOutputCount,
+            Math.max(1, Math.min(parallelOutputCount, batches.size())),
             () -> {
-              while (true) {
-                CZScaleTestExecution testExecution;
-                synchronized (executionsToSync) {
-                  if (executionsToSync.isEmpty()) break;
-                  testExecution = executionsToSync.pop();
-                }
-                CEtlExecution execution = translateExecution(testRun, cycle, testExecution);
-                if (execution != null) CEtlExecutionDao.mergeExecution(execution);
+              CList<CEtlExecution> batch;
+              while ((batch = batches.poll()) != null) {
+                CEtlExecutionDao.mergeExecutions(new CEtlExecutions(batch));
+                log.info(
+                    "{} of {} executions saved for {} run.",
+                    saved.addAndGet(batch.size()),
+                    total,
+                    testRun.getKey());
               }
               return true;
-            })
-        .invokeAll();
+            });
+
+    try {
+      runner.invokeAll();
+    } catch (Throwable t) {
+      throw new CZScaleClientException(
+          "Failed to save executions of " + testRun.getKey() + " run", t);
+    }
 
     CSet<String> issueKeysFromScale =
         testRun.getItems().mapToSet(CZScaleTestExecution::getTestCaseKey);
@@ -181,22 +231,17 @@ public class CEtlZScaleSyncClient {
     Date projectSyncStartTime = CDate.now();
     Date projectLastSync = CEtlLastSyncDao.getProjectLastSync("SCALE_TEST_CYCLES", projectKey);
     for (String activeFolder : CEtlZScaleConfigs.Scale.getSyncTestCasesFolders()) {
-      CZScaleClient.TestCases.getProjectTestCases(
+      CZScaleClient.TestCases.forEachProjectTestCaseWithHistory(
           projectKey,
           activeFolder,
-          "createdOn,updatedOn,key",
           parallelInputCount,
           parallelOutputCount,
-          testCase -> {
-            if (testCase != null && !testCaseIsSynced(projectLastSync, testCase)) {
-              CZScaleTestCase testCaseItem = CZScaleClient.TestCases.getTestCase(testCase.getKey());
-              if (testCaseItem != null)
-                CEtlItemDao.mergeItem(
-                    CEtlZScaleTestCaseTranslator.translateTestCase(
-                        project, versions, testCaseItem));
-            }
-          });
+          testCase -> testCase != null && !testCaseIsSynced(projectLastSync, testCase),
+          testCase ->
+              CEtlItemDao.mergeItem(
+                  CEtlZScaleTestCaseTranslator.translateTestCase(project, versions, testCase)));
     }
+    CZScaleClient.TestCases.clearCache();
 
     CEtlLastSyncDao.updateProjectLastSync("SCALE_TEST_CYCLES", projectKey, projectSyncStartTime);
   }
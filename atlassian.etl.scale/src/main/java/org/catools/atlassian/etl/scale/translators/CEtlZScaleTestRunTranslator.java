@@ -15,7 +15,11 @@ import org.catools.etl.tms.dao.CEtlBaseDao;
 import org.catools.etl.tms.model.*;
 
 import java.security.InvalidParameterException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Translator class for converting ZScale test runs and executions into ETL-compatible objects.
@@ -86,22 +90,73 @@ public class CEtlZScaleTestRunTranslator {
       etlExecution.setId(String.valueOf(execution.getId()));
     }
 
+    return translateExecution(
+        testRun,
+        cycle,
+        execution,
+        etlExecution,
+        CEtlZScaleTestRunTranslator::getStatus,
+        CEtlZScaleTestRunTranslator::getExecutor);
+  }
+
+  /**
+   * Translates test executions of a ZScale test run into ETL executions.
+   *
+   * <p>Unlike {@link #translateExecution(CZScaleTestRun, CEtlCycle, CZScaleTestExecution)}, the
+   * existing executions are not read from the database, since merge overrides all of their fields,
+   * and each distinct status and executor is resolved only once for the whole collection.
+   *
+   * @param testRun The ZScale test run associated with the executions.
+   * @param cycle The ETL cycle associated with the executions.
+   * @param executions The ZScale test executions to be translated.
+   * @return The translated ETL executions, without executions which test case could not be read.
+   */
+  public static CEtlExecutions translateExecutions(
+      CZScaleTestRun testRun, CEtlCycle cycle, Collection<CZScaleTestExecution> executions) {
+    Objects.requireNonNull(executions);
+
+    Map<CZScaleExecutionStatus, CEtlExecutionStatus> statuses = new HashMap<>();
+    Map<String, CEtlUser> executors = new HashMap<>();
+    CEtlExecutions output = new CEtlExecutions();
+
+    for (CZScaleTestExecution execution : executions) {
+      CEtlExecution etlExecution = new CEtlExecution();
+      etlExecution.setId(String.valueOf(execution.getId()));
+
+      etlExecution =
+          translateExecution(
+              testRun,
+              cycle,
+              execution,
+              etlExecution,
+              status -> statuses.computeIfAbsent(status, CEtlZScaleTestRunTranslator::getStatus),
+              executedBy ->
+                  executors.computeIfAbsent(executedBy, CEtlZScaleTestRunTranslator::getExecutor));
+      if (etlExecution != null) {
+        output.add(etlExecution);
+      }
+    }
+    return output;
+  }
+
+  private static CEtlExecution translateExecution(
+      CZScaleTestRun testRun,
+      CEtlCycle cycle,
+      CZScaleTestExecution execution,
+      CEtlExecution etlExecution,
+      Function<CZScaleExecutionStatus, CEtlExecutionStatus> statusReader,
+      Function<String, CEtlUser> executorReader) {
     try {
       // Retrieve or create the associated ETL item
-      try {
-        etlExecution.setItem(CEtlCacheManager.readItem(execution.getTestCaseKey()));
-      } catch (InvalidParameterException e) {
-        CZScaleTestCase testcase = CZScaleClient.TestCases.getTestCase(execution.getTestCaseKey());
-        if (testcase == null) {
-          log.error("Failed to read testcase {} after 5 retry", execution.getTestCaseKey());
-          return null;
-        }
-        etlExecution.setItem(CEtlZScaleSyncHelper.addItem(testcase));
+      CEtlItem item = getItem(execution.getTestCaseKey());
+      if (item == null) {
+        return null;
       }
+      etlExecution.setItem(item);
 
       // Set properties for the ETL execution
-      etlExecution.setStatus(getStatus(execution.getStatus()));
-      etlExecution.setExecutor(getExecutor(execution));
+      etlExecution.setStatus(statusReader.apply(execution.getStatus()));
+      etlExecution.setExecutor(executorReader.apply(execution.getExecutedBy()));
       etlExecution.setCycle(cycle);
       etlExecution.setCreated(testRun.getCreatedOn());
       etlExecution.setExecuted(execution.getExecutionDate());
@@ -113,16 +168,35 @@ public class CEtlZScaleTestRunTranslator {
     }
   }
 
+  /**
+   * Reads the ETL item for a test case key and adds it from ZScale if it does not exist yet.
+   *
+   * @param testCaseKey The key of the test case.
+   * @return The ETL item or null if the test case cannot be read from ZScale.
+   */
+  private static CEtlItem getItem(String testCaseKey) {
+    try {
+      return CEtlCacheManager.readItem(testCaseKey);
+    } catch (InvalidParameterException e) {
+      CZScaleTestCase testcase = CZScaleClient.TestCases.getTestCase(testCaseKey);
+      if (testcase == null) {
+        log.error("Failed to read testcase {} after 5 retry", testCaseKey);
+        return null;
+      }
+      return CEtlZScaleSyncHelper.addItem(testcase);
+    }
+  }
+
   /**
    * Retrieves the executor of a test execution.
    *
-   * @param execution The ZScale test execution.
+   * @param executedBy The name of the user who executed the test.
    * @return The ETL user representing the executor.
    */
-  private static CEtlUser getExecutor(CZScaleTestExecution execution) {
-    return StringUtils.isBlank(execution.getExecutedBy())
+  private static CEtlUser getExecutor(String executedBy) {
+    return StringUtils.isBlank(executedBy)
         ? CEtlUser.UNSET
-        : CEtlCacheManager.readUser(new CEtlUser(execution.getExecutedBy()));
+        : CEtlCacheManager.readUser(new CEtlUser(executedBy));
   }
 
   /**
@@ -9,9 +9,10 @@ import org.catools.common.collections.CSet;
 import org.catools.common.date.CDate;
 import org.catools.etl.tms.dao.CEtlExecutionDao;
 import org.catools.etl.tms.dao.CEtlLastSyncDao;
-import org.catools.etl.tms.model.CEtlExecution;
 
 import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Client class for synchronizing ZAPI data with the ETL system. Provides methods to synchronize
@@ -46,15 +47,19 @@ public class CEtlZApiSyncClient {
 
       // If the project was previously synchronized, filter versions to only include updated ones
       if (projectLastSync != null) {
-        CZApiExecutions executions =
-            CZApiClient.Search.getExecutions(
-                String.format("project='%s'", project.getName()),
-                projectLastSync,
-                parallelInputCount,
-                parallelOutputCount,
-                null);
-        CSet<String> versionsToUpdate = executions.mapToSet(CZApiExecution::getVersionName);
+        Set<String> versionsToUpdate = ConcurrentHashMap.newKeySet();
+        CZApiClient.Search.forEachExecutions(
+            String.format("project='%s'", project.getName()),
+            projectLastSync,
+            parallelInputCount,
+            parallelOutputCount,
+            executions -> executions.forEach(e -> versionsToUpdate.add(e.getVersionName())));
         projectVersions.removeIf(v -> !versionsToUpdate.contains(v.getName()));
+        log.info(
+            "{} versions of project {} changed since {}.",
+            projectVersions.size(),
+            project.getName(),
+            projectLastSync);
       }
 
       // Synchronize cycles and executions for each version
@@ -96,27 +101,22 @@ public class CEtlZApiSyncClient {
             "project=\"%s\" AND fixVersion = \"%s\"", project.getName(), version.getName());
 
     Date syncStartTime = CDate.now();
-    CZApiClient.Search.getExecutions(
+    CZApiClient.Search.forEachExecutions(
         zql,
         lastSync,
         parallelInputCount,
         parallelOutputCount,
         zApiExecutions -> {
-          if (zApiExecutions != null && zApiExecutions.isNotEmpty()) {
-            // Filter out executions that do not belong to the specified project or version
-            zApiExecutions.removeIf(
-                e ->
-                    !project.getName().equalsIgnoreCase(e.getProjectName())
-                        || !version.getName().equalsIgnoreCase(e.getVersionName()));
+          // Filter out executions that do not belong to the specified project or version
+          zApiExecutions.removeIf(
+              e ->
+                  !project.getName().equalsIgnoreCase(e.getProjectName())
+                      || !version.getName().equalsIgnoreCase(e.getVersionName()));
 
-            if (zApiExecutions.isNotEmpty()) {
-              // Translate and merge each execution into the ETL system
-              for (CZApiExecution execution : zApiExecutions) {
-                CEtlExecution translatedExecution =
-                    CEtlZApiTranslator.translateExecution(project, version, cycles, execution);
-                CEtlExecutionDao.mergeExecution(translatedExecution);
-              }
-            }
+          if (zApiExecutions.isNotEmpty()) {
+            // Translate and merge the whole page into the ETL system in one transaction
+            CEtlExecutionDao.mergeExecutions(
+                CEtlZApiTranslator.translateExecutions(project, version, cycles, zApiExecutions));
           }
         });
 
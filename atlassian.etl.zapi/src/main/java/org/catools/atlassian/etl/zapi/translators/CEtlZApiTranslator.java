@@ -7,6 +7,9 @@ import org.catools.etl.tms.cache.CEtlCacheManager;
 import org.catools.etl.tms.dao.CEtlBaseDao;
 import org.catools.etl.tms.model.*;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -97,6 +100,64 @@ public class CEtlZApiTranslator {
     }
   }
 
+  /**
+   * Translates a page of ZAPI executions into ETL executions. Cycles, statuses and executors are
+   * read once for the whole page and executions are not looked up from the database, as they are
+   * merged by id.
+   *
+   * @param project The ZAPI project associated with the executions.
+   * @param version The ZAPI version associated with the executions.
+   * @param cycles The ZAPI cycles containing the executions.
+   * @param executions The ZAPI executions to be translated.
+   * @return The translated ETL executions.
+   */
+  public static CEtlExecutions translateExecutions(
+      CZApiProject project,
+      CZApiVersion version,
+      CZApiCycles cycles,
+      Collection<CZApiExecution> executions) {
+    Objects.requireNonNull(project);
+    Objects.requireNonNull(version);
+    Objects.requireNonNull(cycles);
+    Objects.requireNonNull(executions);
+
+    Map<Long, CEtlCycle> etlCycles = new HashMap<>();
+    Map<String, CEtlExecutionStatus> statuses = new HashMap<>();
+    Map<String, CEtlUser> executors = new HashMap<>();
+    CEtlExecutions output = new CEtlExecutions();
+
+    for (CZApiExecution execution : executions) {
+      try {
+        String statusName = execution.getExecutionStatus();
+        String executorName = execution.getExecutedByUserName();
+
+        CEtlExecution etlExecution = new CEtlExecution();
+        etlExecution.setId(String.valueOf(execution.getId()));
+        etlExecution.setItem(CEtlCacheManager.readItem(execution.getIssueKey()));
+        etlExecution.setStatus(
+            StringUtils.isBlank(statusName)
+                ? CEtlExecutionStatus.UNSET
+                : statuses.computeIfAbsent(statusName, CEtlZApiTranslator::getStatus));
+        etlExecution.setExecutor(
+            StringUtils.isBlank(executorName)
+                ? CEtlUser.UNSET
+                : executors.computeIfAbsent(
+                    executorName, name -> CEtlCacheManager.readUser(new CEtlUser(name))));
+        etlExecution.setCycle(
+            etlCycles.computeIfAbsent(
+                execution.getCycleId(),
+                id -> translateCycle(project, version, cycles.getById(id))));
+        etlExecution.setCreated(execution.getCreatedOn());
+        etlExecution.setExecuted(execution.getExecutedOn());
+        output.add(etlExecution);
+      } catch (Throwable t) {
+        log.error("Failed to translate execution {}.", execution, t);
+        throw t;
+      }
+    }
+    return output;
+  }
+
   /**
    * Retrieves the executor of a test execution.
    *
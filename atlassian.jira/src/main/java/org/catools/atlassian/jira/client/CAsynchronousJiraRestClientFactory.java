@@ -10,21 +10,44 @@ import com.atlassian.jira.rest.client.internal.async.AsynchronousJiraRestClientF
 import com.atlassian.jira.rest.client.internal.async.DisposableHttpClient;
 
 import java.net.URI;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Custom implementation of the AsynchronousJiraRestClientFactory. This class extends the default
  * AsynchronousJiraRestClientFactory to provide a custom implementation for creating JiraRestClient
  * instances.
+ *
+ * <p>The headers of every response are passed to the response headers listener, so callers can
+ * follow the rate limit of the server.
  */
 public class CAsynchronousJiraRestClientFactory extends AsynchronousJiraRestClientFactory
     implements JiraRestClientFactory {
+  private final Consumer<Map<String, String>> responseHeadersListener;
+
+  /** Constructs a new factory which ignores response headers. */
+  public CAsynchronousJiraRestClientFactory() {
+    this(headers -> {});
+  }
+
+  /**
+   * Constructs a new factory.
+   *
+   * @param responseHeadersListener The listener to call with the headers of each response.
+   */
+  public CAsynchronousJiraRestClientFactory(
+      Consumer<Map<String, String>> responseHeadersListener) {
+    this.responseHeadersListener = responseHeadersListener;
+  }
 
   @Override
   public JiraRestClient create(
       final URI serverUri, final AuthenticationHandler authenticationHandler) {
     final DisposableHttpClient httpClient =
         new AsynchronousHttpClientFactory().createClient(serverUri, authenticationHandler);
-    return new CAsynchronousJiraRestClient(serverUri, httpClient);
+    return new CAsynchronousJiraRestClient(
+        serverUri,
+        CJiraResponseHeadersHttpClient.decorate(httpClient, responseHeadersListener));
   }
 
   @Override
@@ -43,6 +66,8 @@ public class CAsynchronousJiraRestClientFactory extends AsynchronousJiraRestClie
   public JiraRestClient create(final URI serverUri, final HttpClient httpClient) {
     final DisposableHttpClient disposableHttpClient =
         new AsynchronousHttpClientFactory().createClient(httpClient);
-    return new CAsynchronousJiraRestClient(serverUri, disposableHttpClient);
+    return new CAsynchronousJiraRestClient(
+        serverUri,
+        CJiraResponseHeadersHttpClient.decorate(disposableHttpClient, responseHeadersListener));
   }
 }
@@ -6,23 +6,23 @@ import com.atlassian.jira.rest.client.api.domain.*;
 import com.atlassian.jira.rest.client.api.domain.input.IssueInput;
 import com.atlassian.jira.rest.client.api.domain.input.LinkIssuesInput;
 import com.atlassian.jira.rest.client.api.domain.input.TransitionInput;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.catools.atlassian.jira.configs.CJiraConfigs;
 import org.catools.atlassian.jira.exception.CJiraClientException;
 import org.catools.common.collections.CList;
 import org.catools.common.collections.CSet;
-import org.catools.common.concurrent.CParallelIO;
+import org.catools.common.concurrent.CParallelRunner;
 import org.catools.common.date.CDate;
 import org.catools.common.functions.CMemoize;
 import org.catools.common.utils.CRetry;
-import org.catools.common.utils.CSleeper;
-
-import java.util.Date;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Consumer;
-import java.util.function.Function;
 
 /**
  * Utility class for interacting with the Jira REST API. Provides methods for retrieving projects,
@@ -39,10 +39,21 @@ public class CJiraClient {
           IssueRestClient.Expandos.TRANSITIONS,
           IssueRestClient.Expandos.NAMES);
 
+  private static final CMemoize<CJiraRequestScheduler> scheduler =
+      new CMemoize<>(
+          () ->
+              new CJiraRequestScheduler(
+                  CJiraConfigs.Jira.getMaxConcurrentCalls(),
+                  CJiraConfigs.Jira.getCallsPerSecond(),
+                  CJiraConfigs.Jira.getRateLimitBurst(),
+                  CJiraConfigs.Jira.getRetryAfterInMilliseconds(),
+                  CJiraConfigs.Jira.getRateLimitMaxRetries()));
+
   private static final CMemoize<JiraRestClient> restClient =
       new CMemoize<>(
           () ->
-              new CAsynchronousJiraRestClientFactory()
+              new CAsynchronousJiraRestClientFactory(
+                      headers -> scheduler.get().onResponseHeaders(headers))
                   .createWithBasicHttpAuthentication(
                       CJiraConfigs.Jira.getHomeUri(),
                       CJiraConfigs.Jira.getUserName(),
@@ -61,6 +72,19 @@ public class CJiraClient {
         });
   }
 
+  /**
+   * Retrieves all system and custom fields defined in the Jira instance.
+   *
+   * @return A set of all fields with their schema.
+   */
+  public static CSet<Field> getFields() {
+    return doAction(
+        restClient -> {
+          log.info("Request all fields from jira client.");
+          return new CSet<>(restClient.getMetadataClient().getFields().claim());
+        });
+  }
+
   /**
    * Retrieves the current project based on the configured project key.
    *
@@ -135,7 +159,17 @@ public class CJiraClient {
    * @return The issue with the specified key.
    */
   public static Issue getIssue(String issueKey) {
-    return doAction(
+    return join(getIssueAsync(issueKey));
+  }
+
+  /**
+   * Retrieves an issue by its key without waiting for the response.
+   *
+   * @param issueKey The key of the issue.
+   * @return A future completed with the issue with the specified key.
+   */
+  public static CompletableFuture<Issue> getIssueAsync(String issueKey) {
+    return doActionAsync(
         jc -> {
           log.info("Request issue information for issue with {} key.", issueKey);
           return jc.getIssueClient().getIssue(issueKey, expandos).claim();
@@ -228,13 +262,30 @@ public class CJiraClient {
       int parallelInputCount,
       int parallelOutputCount,
       Consumer<CSet<Issue>> supplier) {
+    return search(
+        getIssuesJql(projectName, issueType, lastSync),
+        parallelInputCount,
+        parallelOutputCount,
+        supplier);
+  }
+
+  /**
+   * Builds the JQL to search for issues in a project based on issue type and last synchronization
+   * date.
+   *
+   * @param projectName The name of the project.
+   * @param issueType The type of issues to search for.
+   * @param lastSync The last synchronization date, null to search all issues.
+   * @return The JQL query string.
+   */
+  public static String getIssuesJql(String projectName, String issueType, Date lastSync) {
     String jql = String.format("project = \"%s\" AND issuetype = \"%s\"", projectName, issueType);
 
     if (lastSync != null) {
       jql +=
           String.format(" AND updated >= \"%s\"", new CDate(lastSync).toFormat("yyyy-MM-dd HH:mm"));
     }
-    return search(jql, parallelInputCount, parallelOutputCount, supplier);
+    return jql;
   }
 
   /**
@@ -268,39 +319,78 @@ public class CJiraClient {
       int parallelOutputCount,
       Consumer<CSet<Issue>> supplier) {
     CSet<Issue> items = new CSet<>();
-
-    CParallelIO<CSet<Issue>> parallelIO =
-        new CParallelIO<>("Search Jira Items", parallelInputCount, parallelOutputCount);
-
-    int maxResult = CJiraConfigs.Jira.getSearchBufferSize();
-    AtomicInteger counter = new AtomicInteger(0);
-
-    parallelIO.setInputExecutor(
-        eof -> {
-          int startAt = counter.getAndIncrement() * maxResult;
-          CSet<Issue> search = search(jql, startAt, maxResult, fields);
-          if (search.isEmpty()) {
-            eof.set(true);
-          } else {
-            items.addAll(search);
+    searchPages(
+        jql,
+        fields,
+        parallelInputCount,
+        parallelOutputCount,
+        issues -> {
+          synchronized (items) {
+            items.addAll(issues);
           }
-          return search;
-        });
-
-    parallelIO.setOutputExecutor(
-        (eof, issues) -> {
-          if (supplier != null && issues != null && issues.isNotEmpty()) {
+          if (supplier != null) {
             supplier.accept(issues);
           }
         });
+    return items;
+  }
 
-    try {
-      parallelIO.run();
+  /**
+   * Searches for issues using a JQL query and passes each page to the consumer without keeping the
+   * issues in memory. Up to {@code prefetchPages} next pages are fetched while the consumers
+   * process the current ones.
+   *
+   * @param jql The JQL query string.
+   * @param fields The fields to include in the search results, null to include all fields.
+   * @param prefetchPages The maximum number of pages to request ahead of the consumers.
+   * @param parallelOutputCount The number of threads processing pages.
+   * @param consumer A consumer to process each page of the search results.
+   * @return The total number of issues matching the search criteria.
+   */
+  public static int searchPages(
+      String jql,
+      Set<String> fields,
+      int prefetchPages,
+      int parallelOutputCount,
+      Consumer<CSet<Issue>> consumer) {
+    try (CJiraSearchStream stream =
+        new CJiraSearchStream(
+            jql, fields, CJiraConfigs.Jira.getSearchBufferSize(), prefetchPages)) {
+      CParallelRunner<Boolean> runner =
+          new CParallelRunner<>(
+              "Search Jira Items",
+              parallelOutputCount,
+              () -> {
+                for (CSet<Issue> issues = stream.nextPage();
+                    issues != null;
+                    issues = stream.nextPage()) {
+                  if (issues.isNotEmpty()) {
+                    consumer.accept(issues);
+                  }
+                }
+                return true;
+              });
+      runner.invokeAll();
+      return stream.getTotal();
     } catch (Throwable t) {
       throw new CJiraClientException("Could not finish search.", t);
     }
+  }
 
-    return items;
+  /**
+   * Creates a search stream which reads pages of a JQL query in order while prefetching {@link
+   * CJiraConfigs.Jira#getSearchPrefetchPages()} next pages.
+   *
+   * @param jql The JQL query string.
+   * @param fields The fields to include in the search results, null to include all fields.
+   * @return The search stream, which should be closed when it is not needed anymore.
+   */
+  public static CJiraSearchStream searchStream(String jql, Set<String> fields) {
+    return new CJiraSearchStream(
+        jql,
+        fields,
+        CJiraConfigs.Jira.getSearchBufferSize(),
+        CJiraConfigs.Jira.getSearchPrefetchPages());
   }
 
   /**
@@ -313,38 +403,118 @@ public class CJiraClient {
    * @return A set of issues matching the search criteria.
    */
   public static CSet<Issue> search(String jql, int startAt, int maxResults, Set<String> fields) {
-    return doAction(
-        restClient -> {
-          SearchResult searchResult =
-              CRetry.retry(
-                  integer -> {
-                    log.info(
-                        "Search JQL '{}' with maxResults:{}, startAt:{}, fields:{}, attempt: {}",
-                        jql,
-                        maxResults,
-                        startAt,
-                        fields,
-                        integer);
-                    return restClient
-                        .getSearchClient()
-                        .searchJql(jql, maxResults, startAt, fields)
-                        .claim();
-                  },
-                  5,
-                  30000);
-          return new CSet<>(searchResult.getIssues());
-        });
+    return new CSet<>(searchResult(jql, startAt, maxResults, fields).getIssues());
+  }
+
+  /**
+   * Executes a JQL search page and retries it when it fails. The result contains the total number
+   * of issues matching the query.
+   *
+   * @param jql The JQL query string.
+   * @param startAt The starting index of the results.
+   * @param maxResults The maximum number of results to return.
+   * @param fields The fields to include in the search results.
+   * @return The search result.
+   */
+  public static SearchResult searchResult(
+      String jql, int startAt, int maxResults, Set<String> fields) {
+    return CRetry.retry(
+        integer -> {
+          log.info(
+              "Search JQL '{}' with maxResults:{}, startAt:{}, fields:{}, attempt: {}",
+              jql,
+              maxResults,
+              startAt,
+              fields,
+              integer);
+          return join(searchResultAsync(jql, startAt, maxResults, fields));
+        },
+        5,
+        30000);
+  }
+
+  /**
+   * Searches for issues using a JQL query with pagination without waiting for the response.
+   *
+   * @param jql The JQL query string.
+   * @param startAt The starting index of the results.
+   * @param maxResults The maximum number of results to return.
+   * @param fields The fields to include in the search results.
+   * @return A future completed with the issues matching the search criteria.
+   */
+  public static CompletableFuture<CSet<Issue>> searchAsync(
+      String jql, int startAt, int maxResults, Set<String> fields) {
+    return searchResultAsync(jql, startAt, maxResults, fields)
+        .thenApply(searchResult -> new CSet<>(searchResult.getIssues()));
+  }
+
+  /**
+   * Executes a JQL search page without waiting for the response. The result contains the total
+   * number of issues matching the query.
+   *
+   * @param jql The JQL query string.
+   * @param startAt The starting index of the results.
+   * @param maxResults The maximum number of results to return.
+   * @param fields The fields to include in the search results.
+   * @return A future completed with the search result.
+   */
+  public static CompletableFuture<SearchResult> searchResultAsync(
+      String jql, int startAt, int maxResults, Set<String> fields) {
+    return doActionAsync(
+        restClient ->
+            restClient.getSearchClient().searchJql(jql, maxResults, startAt, fields).claim());
   }
 
   /**
-   * Executes an action with the Jira REST client.
+   * Executes an action with the Jira REST client and waits for the result.
    *
    * @param supplier The function to execute.
    * @param <R> The return type of the function.
    * @return The result of the function.
    */
-  public static synchronized <R> R doAction(Function<JiraRestClient, R> supplier) {
-    CSleeper.sleepTight(CJiraConfigs.Jira.getDelayBetweenCallsInMilliseconds());
-    return supplier.apply(restClient.get());
+  public static <R> R doAction(Function<JiraRestClient, R> supplier) {
+    return join(doActionAsync(supplier));
+  }
+
+  /**
+   * Waits for the future and rethrows the failure of the action as is.
+   *
+   * @param future The future to wait for.
+   * @param <R> The return type of the future.
+   * @return The result of the future.
+   */
+  public static <R> R join(CompletableFuture<R> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException re) {
+        throw re;
+      }
+      throw new CJiraClientException("Could not finish jira action.", e.getCause());
+    }
+  }
+
+  /**
+   * Schedules an action with the Jira REST client without waiting for it. Actions run on at most
+   * {@link CJiraConfigs.Jira#getMaxConcurrentCalls()} threads within the configured rate limit.
+   *
+   * @param supplier The function to execute.
+   * @param <R> The return type of the function.
+   * @return A future completed with the result of the function.
+   */
+  public static <R> CompletableFuture<R> doActionAsync(Function<JiraRestClient, R> supplier) {
+    return scheduler.get().submit(() -> supplier.apply(restClient.get()));
+  }
+
+  /**
+   * Adapts the rate limit of Jira calls to the {@code Retry-After} and {@code X-RateLimit-*}
+   * headers returned by the server.
+   *
+   * @param headers The response headers.
+   * @deprecated The headers of every response are passed to the scheduler by the rest client.
+   */
+  @Deprecated
+  public static void onResponseHeaders(Map<String, String> headers) {
+    scheduler.get().onResponseHeaders(headers);
   }
 }
@@ -0,0 +1,174 @@
+package org.catools.atlassian.jira.client;
+
+import com.atlassian.jira.rest.client.api.RestClientException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.catools.atlassian.jira.exception.CJiraClientException;
+import org.catools.common.concurrent.CNamedThread;
+import org.catools.common.concurrent.CRateLimiter;
+
+/**
+ * Schedules Jira calls on a bounded number of threads and keeps them within the rate limit.
+ *
+ * <p>Each call waits for a token from {@link CRateLimiter}. Calls rejected with {@code 429 Too Many
+ * Requests} pause all calls and are retried. The rate limit is adapted to the server by passing the
+ * response headers to {@link #onResponseHeaders(Map)}, so a 429 response with {@code Retry-After}
+ * header pauses calls for the time the server asked for, and the configured pause is only used when
+ * the header is missing.
+ *
+ * <p>Calls submitted from a scheduler thread run on the same thread so nested calls cannot exhaust
+ * the pool.
+ */
+@Slf4j
+public class CJiraRequestScheduler {
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final String RETRY_AFTER = "Retry-After";
+  private static final String RATE_LIMIT_LIMIT = "X-RateLimit-Limit";
+  private static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+  private static final String RATE_LIMIT_FILL_RATE = "X-RateLimit-FillRate";
+  private static final String RATE_LIMIT_INTERVAL = "X-RateLimit-Interval-Seconds";
+
+  private final ThreadLocal<Boolean> schedulerThread = ThreadLocal.withInitial(() -> false);
+  private final AtomicLong retryAfterCount = new AtomicLong();
+  private final ExecutorService executor;
+  private final CRateLimiter rateLimiter;
+  private final long retryAfterInMilliseconds;
+  private final int maxRetries;
+
+  /**
+   * Constructs a new scheduler.
+   *
+   * @param maxConcurrentCalls The maximum number of calls in flight.
+   * @param callsPerSecond The steady rate of calls.
+   * @param burst The maximum number of calls which can be sent in a burst.
+   * @param retryAfterInMilliseconds The pause after 429 response without Retry-After header.
+   * @param maxRetries The number of times to retry a call rejected with 429 response.
+   */
+  public CJiraRequestScheduler(
+      int maxConcurrentCalls,
+      double callsPerSecond,
+      int burst,
+      long retryAfterInMilliseconds,
+      int maxRetries) {
+    this(
+        maxConcurrentCalls,
+        new CRateLimiter(callsPerSecond, burst),
+        retryAfterInMilliseconds,
+        maxRetries);
+  }
+
+  CJiraRequestScheduler(
+      int maxConcurrentCalls,
+      CRateLimiter rateLimiter,
+      long retryAfterInMilliseconds,
+      int maxRetries) {
+    this.executor =
+        Executors.newFixedThreadPool(maxConcurrentCalls, new CNamedThread("Jira Request"));
+    this.rateLimiter = rateLimiter;
+    this.retryAfterInMilliseconds = retryAfterInMilliseconds;
+    this.maxRetries = maxRetries;
+  }
+
+  /**
+   * Schedules the call and returns without waiting for it.
+   *
+   * @param call The call to execute.
+   * @param <R> The return type of the call.
+   * @return A future completed with the result of the call.
+   */
+  public <R> CompletableFuture<R> submit(Supplier<R> call) {
+    if (schedulerThread.get()) {
+      try {
+        return CompletableFuture.completedFuture(execute(call));
+      } catch (Throwable t) {
+        return CompletableFuture.failedFuture(t);
+      }
+    }
+
+    return CompletableFuture.supplyAsync(
+        () -> {
+          schedulerThread.set(true);
+          return execute(call);
+        },
+        executor);
+  }
+
+  /**
+   * Adapts the rate limit to the server response headers. Header names are case-insensitive.
+   *
+   * @param headers The response headers.
+   */
+  public void onResponseHeaders(Map<String, String> headers) {
+    Map<String, String> values = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    values.putAll(headers);
+
+    int limit = NumberUtils.toInt(values.get(RATE_LIMIT_LIMIT), -1);
+    double fillRate = NumberUtils.toDouble(values.get(RATE_LIMIT_FILL_RATE), -1);
+    double interval = NumberUtils.toDouble(values.get(RATE_LIMIT_INTERVAL), -1);
+    if (limit > 0 && fillRate > 0 && interval > 0) {
+      rateLimiter.setRate(fillRate / interval, limit);
+    }
+
+    int remaining = NumberUtils.toInt(values.get(RATE_LIMIT_REMAINING), -1);
+    if (remaining >= 0) {
+      rateLimiter.setRemaining(remaining);
+    }
+
+    long retryAfter = NumberUtils.toLong(values.get(RETRY_AFTER), -1);
+    if (retryAfter >= 0) {
+      rateLimiter.pauseFor(retryAfter * 1000);
+      retryAfterCount.incrementAndGet();
+    }
+  }
+
+  private <R> R execute(Supplier<R> call) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        rateLimiter.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CJiraClientException("Interrupted while waiting for jira rate limit.", e);
+      }
+
+      long retryAfterCountBeforeCall = retryAfterCount.get();
+      try {
+        return call.get();
+      } catch (RuntimeException e) {
+        if (!isTooManyRequests(e) || attempt > maxRetries) {
+          throw e;
+        }
+        if (retryAfterCount.get() != retryAfterCountBeforeCall) {
+          log.warn(
+              "Jira rejected call with 429, attempt {} of {}, pause calls as server requested.",
+              attempt,
+              maxRetries);
+        } else {
+          log.warn(
+              "Jira rejected call with 429, attempt {} of {}, pause calls for {} ms.",
+              attempt,
+              maxRetries,
+              retryAfterInMilliseconds);
+          rateLimiter.pauseFor(retryAfterInMilliseconds);
+        }
+      }
+    }
+  }
+
+  private static boolean isTooManyRequests(Throwable t) {
+    for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+      if (cause instanceof RestClientException e
+          && e.getStatusCode().isPresent()
+          && e.getStatusCode().get() == TOO_MANY_REQUESTS) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,79 @@
+package org.catools.atlassian.jira.client;
+
+import com.atlassian.httpclient.api.Request;
+import com.atlassian.httpclient.api.ResponsePromise;
+import com.atlassian.httpclient.api.ResponsePromises;
+import com.atlassian.jira.rest.client.internal.async.DisposableHttpClient;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decorates the HTTP client of the Jira REST client so the headers of every response are passed to
+ * a listener, i.e. to adapt the rate limit to the {@code Retry-After} and {@code X-RateLimit-*}
+ * headers.
+ *
+ * <p>Requests are sent by the {@link Request.Builder} which the client creates, so the builders are
+ * decorated as well. The listener runs before the promise of the response completes, so the caller
+ * of a rejected request sees the rate limit from its response.
+ */
+@Slf4j
+@UtilityClass
+class CJiraResponseHeadersHttpClient {
+
+  /**
+   * Decorates the HTTP client.
+   *
+   * @param httpClient The HTTP client to decorate.
+   * @param listener The listener to call with the headers of each response.
+   * @return The decorated HTTP client.
+   */
+  static DisposableHttpClient decorate(
+      DisposableHttpClient httpClient, Consumer<Map<String, String>> listener) {
+    return proxy(DisposableHttpClient.class, httpClient, listener);
+  }
+
+  private static <T> T proxy(Class<T> type, T target, Consumer<Map<String, String>> listener) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            type.getClassLoader(), new Class<?>[] {type}, new Handler(target, listener)));
+  }
+
+  private record Handler(Object target, Consumer<Map<String, String>> listener)
+      implements InvocationHandler {
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Object result;
+      try {
+        result = method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+
+      if (result == target) {
+        return proxy;
+      }
+      if (result instanceof Request.Builder builder) {
+        return proxy(Request.Builder.class, builder, listener);
+      }
+      if (result instanceof ResponsePromise promise) {
+        return ResponsePromises.toResponsePromise(
+            promise.map(
+                response -> {
+                  try {
+                    listener.accept(response.getHeaders());
+                  } catch (RuntimeException e) {
+                    log.warn("Failed to read jira response headers.", e);
+                  }
+                  return response;
+                }));
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package org.catools.atlassian.jira.client;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.SearchResult;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.catools.common.collections.CSet;
+
+/**
+ * Iterates over the pages of a JQL search while the next pages are fetched in background.
+ *
+ * <p>The first page is read when the stream is created to find the total number of issues. After
+ * that up to {@code prefetchPages} pages are requested concurrently through {@link
+ * CJiraClient#searchAsync(String, int, int, Set)} and kept in a bounded buffer, so the network
+ * latency of next pages is hidden behind processing of the current one. Pages are returned in
+ * order. Failed requests, including the first page, are retried like {@link
+ * CJiraClient#search(String, int, int, Set)}.
+ *
+ * <p>{@link #nextPage()} can be called from several consumer threads.
+ */
+@Slf4j
+public class CJiraSearchStream implements Iterator<CSet<Issue>>, AutoCloseable {
+  private final Deque<Page> buffer = new ArrayDeque<>();
+  private final String jql;
+  private final Set<String> fields;
+  private final int prefetchPages;
+  private final int pageSize;
+  private int nextStartAt;
+  private boolean closed;
+
+  @Getter private final int total;
+
+  /**
+   * Constructs a new search stream and reads the first page.
+   *
+   * @param jql The JQL query string.
+   * @param fields The fields to include in the search results, null to include all fields.
+   * @param pageSize The maximum number of issues to read in each page.
+   * @param prefetchPages The maximum number of pages to request ahead of the consumer.
+   */
+  public CJiraSearchStream(String jql, Set<String> fields, int pageSize, int prefetchPages) {
+    this.jql = jql;
+    this.fields = fields;
+    this.prefetchPages = Math.max(1, prefetchPages);
+
+    SearchResult first = CJiraClient.searchResult(jql, 0, pageSize, fields);
+    // server can cap the page size
+    this.pageSize = first.getMaxResults() > 0 ? first.getMaxResults() : pageSize;
+    this.total = first.getTotal();
+    this.nextStartAt = this.pageSize;
+
+    log.info("Search JQL '{}' found {} issues, read in pages of {}.", jql, total, this.pageSize);
+    buffer.add(new Page(0, CompletableFuture.completedFuture(new CSet<>(first.getIssues()))));
+    fill();
+  }
+
+  @Override
+  public synchronized boolean hasNext() {
+    return !buffer.isEmpty();
+  }
+
+  @Override
+  public CSet<Issue> next() {
+    CSet<Issue> page = nextPage();
+    if (page == null) {
+      throw new NoSuchElementException();
+    }
+    return page;
+  }
+
+  /**
+   * Waits for the next page in order and requests another page to keep the buffer full.
+   *
+   * @return The next page, or null if all pages are read.
+   */
+  public CSet<Issue> nextPage() {
+    Page page;
+    synchronized (this) {
+      page = buffer.pollFirst();
+      fill();
+    }
+
+    if (page == null) {
+      return null;
+    }
+
+    try {
+      return CJiraClient.join(page.getIssues());
+    } catch (RuntimeException e) {
+      log.warn("Failed to prefetch issues from {}, read them again.", page.getStartAt(), e);
+      return CJiraClient.search(jql, page.getStartAt(), pageSize, fields);
+    }
+  }
+
+  /** Cancels pages which are requested but not read yet. */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    buffer.forEach(page -> page.getIssues().cancel(false));
+    buffer.clear();
+  }
+
+  private void fill() {
+    while (!closed && buffer.size() < prefetchPages && nextStartAt < total) {
+      buffer.add(
+          new Page(nextStartAt, CJiraClient.searchAsync(jql, nextStartAt, pageSize, fields)));
+      nextStartAt += pageSize;
+    }
+  }
+
+  @Value
+  private static class Page {
+    int startAt;
+    CompletableFuture<CSet<Issue>> issues;
+  }
+}
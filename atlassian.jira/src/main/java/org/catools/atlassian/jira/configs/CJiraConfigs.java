@@ -1,5 +1,7 @@
 package org.catools.atlassian.jira.configs;
 
+import java.net.URI;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.UtilityClass;
@@ -7,9 +9,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.catools.common.hocon.CHocon;
 import org.catools.common.hocon.model.CHoconPath;
 
-import java.net.URI;
-import java.util.List;
-
 /**
  * Configuration utility class for Jira integration. Provides methods to retrieve Jira-related
  * configuration values from the application's configuration files.
@@ -95,15 +94,73 @@ public class CJiraConfigs {
       return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_JIRA_SEARCH_BUFFER_SIZE);
     }
 
+    /**
+     * Retrieves the number of search pages to request ahead of the consumer from the configuration.
+     *
+     * @return The number of pages to prefetch.
+     */
+    public static int getSearchPrefetchPages() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_JIRA_SEARCH_PREFETCH_PAGES);
+    }
+
     /**
      * Retrieves the delay between API calls to Jira in milliseconds from the configuration.
      *
      * @return The delay in milliseconds.
+     * @deprecated Calls are spaced by {@link #getCallsPerSecond()} and the delay is not used.
      */
+    @Deprecated
     public static int getDelayBetweenCallsInMilliseconds() {
       return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_JIRA_DELAY_BETWEEN_CALLS_IN_MILLI);
     }
 
+    /**
+     * Retrieves the maximum number of concurrent Jira API calls from the configuration.
+     *
+     * @return The maximum number of requests in flight.
+     */
+    public static int getMaxConcurrentCalls() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_JIRA_MAX_CONCURRENT_CALLS);
+    }
+
+    /**
+     * Retrieves the steady rate of Jira API calls from the configuration.
+     *
+     * @return The number of calls per second.
+     */
+    public static double getCallsPerSecond() {
+      return CHocon.asDouble(Configs.CATOOLS_ATLASSIAN_JIRA_CALLS_PER_SECOND);
+    }
+
+    /**
+     * Retrieves the maximum number of Jira API calls which can be sent in a burst from the
+     * configuration.
+     *
+     * @return The burst size.
+     */
+    public static int getRateLimitBurst() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_JIRA_RATE_LIMIT_BURST);
+    }
+
+    /**
+     * Retrieves the pause after a 429 response without Retry-After header from the configuration.
+     *
+     * @return The pause in milliseconds.
+     */
+    public static int getRetryAfterInMilliseconds() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_JIRA_RETRY_AFTER_IN_MILLI);
+    }
+
+    /**
+     * Retrieves the number of times to retry a request rejected with 429 response from the
+     * configuration.
+     *
+     * @return The number of retries.
+     */
+    public static int getRateLimitMaxRetries() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_JIRA_RATE_LIMIT_MAX_RETRIES);
+    }
+
     /**
      * Enum representing the configuration keys for Jira. Each enum value corresponds to a specific
      * configuration path.
@@ -124,16 +181,49 @@ public class CJiraConfigs {
       /** Configuration for Jira version name. Path: `catools.atlassian.jira.version_name` */
       CATOOLS_ATLASSIAN_JIRA_VERSION_NAME("catools.atlassian.jira.version_name"),
       /**
-       * Configuration for delay between API calls to Jira in milliseconds. Path:
+       * Configuration for delay between API calls to Jira in milliseconds, not used anymore. Path:
        * `catools.atlassian.jira.delay_between_calls_in_millisecond`
        */
+      @Deprecated
       CATOOLS_ATLASSIAN_JIRA_DELAY_BETWEEN_CALLS_IN_MILLI(
           "catools.atlassian.jira.delay_between_calls_in_millisecond"),
       /**
        * Configuration for search buffer size for Jira queries. Path:
        * `catools.atlassian.jira.search_buffer_size`
        */
-      CATOOLS_ATLASSIAN_JIRA_SEARCH_BUFFER_SIZE("catools.atlassian.jira.search_buffer_size");
+      CATOOLS_ATLASSIAN_JIRA_SEARCH_BUFFER_SIZE("catools.atlassian.jira.search_buffer_size"),
+      /**
+       * Configuration for number of search pages to prefetch. Path:
+       * `catools.atlassian.jira.search_prefetch_pages`
+       */
+      CATOOLS_ATLASSIAN_JIRA_SEARCH_PREFETCH_PAGES("catools.atlassian.jira.search_prefetch_pages"),
+      /**
+       * Configuration for maximum number of concurrent Jira API calls. Path:
+       * `catools.atlassian.jira.max_concurrent_calls`
+       */
+      CATOOLS_ATLASSIAN_JIRA_MAX_CONCURRENT_CALLS("catools.atlassian.jira.max_concurrent_calls"),
+      /**
+       * Configuration for steady rate of Jira API calls. Path:
+       * `catools.atlassian.jira.calls_per_second`
+       */
+      CATOOLS_ATLASSIAN_JIRA_CALLS_PER_SECOND("catools.atlassian.jira.calls_per_second"),
+      /**
+       * Configuration for Jira API calls burst size. Path:
+       * `catools.atlassian.jira.rate_limit_burst`
+       */
+      CATOOLS_ATLASSIAN_JIRA_RATE_LIMIT_BURST("catools.atlassian.jira.rate_limit_burst"),
+      /**
+       * Configuration for pause after 429 response in milliseconds. Path:
+       * `catools.atlassian.jira.retry_after_in_millisecond`
+       */
+      CATOOLS_ATLASSIAN_JIRA_RETRY_AFTER_IN_MILLI(
+          "catools.atlassian.jira.retry_after_in_millisecond"),
+      /**
+       * Configuration for number of retries after 429 response. Path:
+       * `catools.atlassian.jira.rate_limit_max_retries`
+       */
+      CATOOLS_ATLASSIAN_JIRA_RATE_LIMIT_MAX_RETRIES(
+          "catools.atlassian.jira.rate_limit_max_retries");
 
       private final String path; // The configuration path for the property.
     }
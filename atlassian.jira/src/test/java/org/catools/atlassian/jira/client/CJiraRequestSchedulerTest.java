@@ -0,0 +1,115 @@
+package org.catools.atlassian.jira.client;
+
+import com.atlassian.jira.rest.client.api.RestClientException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.catools.common.concurrent.CRateLimiter;
+import org.catools.common.extensions.verify.CVerify;
+import org.testng.annotations.Test;
+
+public class CJiraRequestSchedulerTest {
+
+  @Test
+  public void testRemainingHeader() {
+    CRateLimiter rateLimiter = new CRateLimiter(0.001, 5);
+    new CJiraRequestScheduler(1, rateLimiter, 0, 0)
+        .onResponseHeaders(Map.of("x-ratelimit-remaining", "1"));
+
+    CVerify.Bool.isTrue(rateLimiter.tryAcquire(), "Remaining call is allowed");
+    CVerify.Bool.isFalse(rateLimiter.tryAcquire(), "Headers are read case-insensitive");
+  }
+
+  @Test
+  public void testRateLimitHeaders() {
+    CRateLimiter rateLimiter = new CRateLimiter(1000, 10);
+    new CJiraRequestScheduler(1, rateLimiter, 0, 0)
+        .onResponseHeaders(
+            Map.of(
+                "X-RateLimit-Limit", "2",
+                "X-RateLimit-FillRate", "1",
+                "X-RateLimit-Interval-Seconds", "1000"));
+
+    CVerify.Bool.isTrue(rateLimiter.tryAcquire(), "First call of server burst is allowed");
+    CVerify.Bool.isTrue(rateLimiter.tryAcquire(), "Second call of server burst is allowed");
+    CVerify.Bool.isFalse(rateLimiter.tryAcquire(), "Bucket is limited to server burst");
+  }
+
+  @Test
+  public void testRetryAfterHeader() {
+    CRateLimiter rateLimiter = new CRateLimiter(1000, 10);
+    new CJiraRequestScheduler(1, rateLimiter, 0, 0).onResponseHeaders(Map.of("Retry-After", "60"));
+
+    CVerify.Bool.isTrue(rateLimiter.isPaused(), "Calls are paused for Retry-After");
+  }
+
+  @Test
+  public void testRetryTooManyRequestsAfterServerPause() {
+    CRateLimiter rateLimiter = new CRateLimiter(1000, 10);
+    CJiraRequestScheduler scheduler =
+        new CJiraRequestScheduler(1, rateLimiter, TimeUnit.MINUTES.toMillis(10), 2);
+    AtomicInteger attempts = new AtomicInteger();
+
+    long start = System.nanoTime();
+    String result =
+        scheduler
+            .submit(
+                () -> {
+                  if (attempts.incrementAndGet() == 1) {
+                    scheduler.onResponseHeaders(Map.of("Retry-After", "0"));
+                    throw new RestClientException(Collections.emptyList(), 429);
+                  }
+                  return "done";
+                })
+            .orTimeout(1, TimeUnit.MINUTES)
+            .join();
+    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    CVerify.String.equals(result, "done", "Call is retried after 429");
+    CVerify.Int.equals(attempts.get(), 2, "Call is sent twice");
+    CVerify.Long.less(elapsed, 30_000L, "Retry-After is used instead of configured pause");
+  }
+
+  @Test
+  public void testRetryTooManyRequestsWithoutRetryAfter() {
+    CRateLimiter rateLimiter = new CRateLimiter(1000, 10);
+    CJiraRequestScheduler scheduler = new CJiraRequestScheduler(1, rateLimiter, 200, 2);
+    AtomicInteger attempts = new AtomicInteger();
+
+    long start = System.nanoTime();
+    scheduler
+        .submit(
+            () -> {
+              if (attempts.incrementAndGet() == 1) {
+                throw new RestClientException(Collections.emptyList(), 429);
+              }
+              return true;
+            })
+        .join();
+    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    CVerify.Int.equals(attempts.get(), 2, "Call is sent twice");
+    CVerify.Long.greaterOrEqual(elapsed, 200L, "Configured pause is used without Retry-After");
+  }
+
+  @Test
+  public void testDoNotRetryOtherFailures() {
+    CJiraRequestScheduler scheduler =
+        new CJiraRequestScheduler(1, new CRateLimiter(1000, 10), 0, 2);
+    AtomicInteger attempts = new AtomicInteger();
+
+    Throwable failure =
+        scheduler
+            .submit(
+                () -> {
+                  attempts.incrementAndGet();
+                  throw new RestClientException(Collections.emptyList(), 500);
+                })
+            .handle((r, t) -> t)
+            .join();
+
+    CVerify.Object.isNotNull(failure, "Call fails");
+    CVerify.Int.equals(attempts.get(), 1, "Call is not retried");
+  }
+}
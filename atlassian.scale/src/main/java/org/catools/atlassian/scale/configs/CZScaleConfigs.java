@@ -109,6 +109,52 @@ public class CZScaleConfigs {
       return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_SCALE_DELAY_BETWEEN_CALLS_IN_MILLI);
     }
 
+    /**
+     * Returns the configured number of threads used to read test case histories of a search page.
+     *
+     * @return the number of history threads as an integer
+     */
+    public static int getHistoryParallelCount() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_SCALE_HISTORY_PARALLEL_COUNT);
+    }
+
+    /**
+     * Returns the configured wait (in milliseconds) before retrying a failed request or a 429 or
+     * 5xx response without Retry-After header. The wait doubles after each attempt.
+     *
+     * @return the initial retry wait in milliseconds as an integer
+     */
+    public static int getRetryAfterInMilliseconds() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_SCALE_RETRY_AFTER_IN_MILLI);
+    }
+
+    /**
+     * Returns the configured number of times to retry a failed request or a 429 or 5xx response.
+     *
+     * @return the number of retries as an integer
+     */
+    public static int getRateLimitMaxRetries() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_SCALE_RATE_LIMIT_MAX_RETRIES);
+    }
+
+    /**
+     * Returns the configured maximum number of test results published in a single request.
+     *
+     * @return the publish batch size as an integer
+     */
+    public static int getPublishBatchSize() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_SCALE_PUBLISH_BATCH_SIZE);
+    }
+
+    /**
+     * Returns the configured maximum number of test results waiting to be published.
+     *
+     * @return the publish queue capacity as an integer
+     */
+    public static int getPublishQueueCapacity() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_SCALE_PUBLISH_QUEUE_CAPACITY);
+    }
+
     /**
      * Enum of configuration paths used by {@link Scale} accessors.
      *
@@ -172,7 +218,41 @@ public class CZScaleConfigs {
        * Configuration path for the search buffer size (pagination) for Scale queries. Property key:
        * {@code catools.atlassian.scale.search_buffer_size}
        */
-      CATOOLS_ATLASSIAN_SCALE_SEARCH_BUFFER_SIZE("catools.atlassian.scale.search_buffer_size");
+      CATOOLS_ATLASSIAN_SCALE_SEARCH_BUFFER_SIZE("catools.atlassian.scale.search_buffer_size"),
+
+      /**
+       * Configuration path for the number of threads reading test case histories of a search page.
+       * Property key: {@code catools.atlassian.scale.history_parallel_count}
+       */
+      CATOOLS_ATLASSIAN_SCALE_HISTORY_PARALLEL_COUNT(
+          "catools.atlassian.scale.history_parallel_count"),
+
+      /**
+       * Configuration path for the wait before retrying a rate limited request in milliseconds.
+       * Property key: {@code catools.atlassian.scale.retry_after_in_millisecond}
+       */
+      CATOOLS_ATLASSIAN_SCALE_RETRY_AFTER_IN_MILLI(
+          "catools.atlassian.scale.retry_after_in_millisecond"),
+
+      /**
+       * Configuration path for the number of retries of a rate limited request. Property key:
+       * {@code catools.atlassian.scale.rate_limit_max_retries}
+       */
+      CATOOLS_ATLASSIAN_SCALE_RATE_LIMIT_MAX_RETRIES(
+          "catools.atlassian.scale.rate_limit_max_retries"),
+
+      /**
+       * Configuration path for the maximum number of test results published in a single request.
+       * Property key: {@code catools.atlassian.scale.publish_batch_size}
+       */
+      CATOOLS_ATLASSIAN_SCALE_PUBLISH_BATCH_SIZE("catools.atlassian.scale.publish_batch_size"),
+
+      /**
+       * Configuration path for the maximum number of test results waiting to be published. Property
+       * key: {@code catools.atlassian.scale.publish_queue_capacity}
+       */
+      CATOOLS_ATLASSIAN_SCALE_PUBLISH_QUEUE_CAPACITY(
+          "catools.atlassian.scale.publish_queue_capacity");
 
       private final String path;
     }
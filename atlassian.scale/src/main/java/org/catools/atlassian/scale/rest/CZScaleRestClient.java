@@ -3,19 +3,27 @@ package org.catools.atlassian.scale.rest;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
-import org.catools.atlassian.scale.configs.CZScaleConfigs;
-import org.catools.atlassian.scale.exception.CZScaleClientException;
-import org.catools.common.concurrent.CParallelCollectionIO;
-import org.catools.common.extensions.verify.CVerify;
-import org.catools.common.utils.CRetry;
-import org.catools.common.utils.CSleeper;
-
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.catools.atlassian.scale.configs.CZScaleConfigs;
+import org.catools.atlassian.scale.exception.CZScaleClientException;
+import org.catools.common.concurrent.CParallelRunner;
+import org.catools.common.concurrent.CThreadRunner;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.utils.CSleeper;
 
 /**
  * Base REST client for interacting with the Scale system.
@@ -24,7 +32,11 @@ import java.util.function.Consumer;
  * processing data in parallel. It is designed to be extended by other REST client classes to
  * interact with specific endpoints in the Scale system.
  */
+@Slf4j
 public class CZScaleRestClient {
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final int INTERNAL_SERVER_ERROR = 500;
+  private static final String RETRY_AFTER = "Retry-After";
 
   /** Default constructor. */
   public CZScaleRestClient() {}
@@ -44,46 +56,123 @@ public class CZScaleRestClient {
       String actionName,
       int parallelInputCount,
       int parallelOutputCount,
-      BiFunction<Integer, Integer, Set<T>> requestProcessor,
+      BiFunction<Integer, Integer, ? extends Collection<T>> requestProcessor,
       Consumer<T> onAction) {
-
     Set<T> output = Collections.synchronizedSet(new HashSet<>());
-
-    CParallelCollectionIO<T> parallelIO =
-        new CParallelCollectionIO<>(actionName, parallelInputCount, parallelOutputCount);
-
-    int maxResult = CZScaleConfigs.Scale.getSearchBufferSize();
-    AtomicInteger counter = new AtomicInteger(0);
-
-    parallelIO.setInputExecutor(
-        eof -> {
-          int startAt = counter.getAndIncrement() * maxResult;
-          Set<T> result =
-              CRetry.retry(integer -> requestProcessor.apply(startAt, maxResult), 3, 5000);
-          if (result == null || result.isEmpty()) {
-            eof.set(true);
-            CSleeper.sleepTight(500);
-          } else {
-            output.addAll(result);
-            eof.set(false);
+    readAllPages(
+        actionName,
+        parallelInputCount,
+        parallelOutputCount,
+        requestProcessor,
+        item -> {
+          output.add(item);
+          if (onAction != null) {
+            onAction.accept(item);
           }
-          return result;
         });
+    return output;
+  }
 
-    parallelIO.setOutputExecutor(
-        (eof, issue) -> {
-          if (onAction != null && issue != null) {
-            onAction.accept(issue);
-          }
-        });
+  /**
+   * Reads all pages in parallel and passes each item to the consumer without keeping them in
+   * memory.
+   *
+   * <p>Each input thread reads its own pages ({@code i, i + n, i + 2n, ...} for {@code n} input
+   * threads) until it reaches the first empty page any thread has seen. Read pages wait in a queue
+   * of {@code parallelInputCount} pages for the output threads, so at most about twice that many
+   * pages are in memory at any time.
+   *
+   * <p>Pages are not retried here, the {@code requestProcessor} is expected to read them through
+   * {@link #get(RequestSpecification)} which retries failed requests.
+   *
+   * @param actionName the name of the action being performed
+   * @param parallelInputCount the number of parallel input threads
+   * @param parallelOutputCount the number of parallel output threads
+   * @param requestProcessor a function which reads a page for the given startAt and maxResults
+   * @param onAction a consumer to process each retrieved item
+   * @param <T> the type of data being processed
+   */
+  protected static <T> void readAllPages(
+      String actionName,
+      int parallelInputCount,
+      int parallelOutputCount,
+      BiFunction<Integer, Integer, ? extends Collection<T>> requestProcessor,
+      Consumer<T> onAction) {
+    int maxResult = CZScaleConfigs.Scale.getSearchBufferSize();
+    int readers = Math.max(1, parallelInputCount);
+    BlockingQueue<Collection<T>> pages = new ArrayBlockingQueue<>(readers);
+    AtomicInteger readerIndex = new AtomicInteger();
+    AtomicInteger activeReaders = new AtomicInteger(readers);
+    AtomicInteger lastPage = new AtomicInteger(Integer.MAX_VALUE);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    CParallelRunner<Boolean> reader =
+        new CParallelRunner<>(
+            actionName + " Reader",
+            readers,
+            () -> {
+              try {
+                for (int page = readerIndex.getAndIncrement();
+                    page < lastPage.get() && failure.get() == null;
+                    page += readers) {
+                  int startAt = page * maxResult;
+                  Collection<T> result = requestProcessor.apply(startAt, maxResult);
+                  if (result == null || result.isEmpty()) {
+                    lastPage.accumulateAndGet(page, Math::min);
+                    continue;
+                  }
+                  while (!pages.offer(result, 100, TimeUnit.MILLISECONDS)) {
+                    if (failure.get() != null) {
+                      return false;
+                    }
+                  }
+                }
+              } finally {
+                activeReaders.decrementAndGet();
+              }
+              return true;
+            });
+
+    CParallelRunner<Boolean> writer =
+        new CParallelRunner<>(
+            actionName + " Writer",
+            parallelOutputCount,
+            () -> {
+              while (failure.get() == null && (activeReaders.get() > 0 || !pages.isEmpty())) {
+                Collection<T> page = pages.poll(100, TimeUnit.MILLISECONDS);
+                if (page != null && onAction != null) {
+                  page.stream().filter(Objects::nonNull).forEach(onAction);
+                }
+              }
+              return true;
+            });
+
+    Thread readerThread =
+        CThreadRunner.run(
+            () -> {
+              try {
+                reader.invokeAll();
+              } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+              }
+            });
 
     try {
-      parallelIO.run();
+      writer.invokeAll();
     } catch (Throwable t) {
-      throw new CZScaleClientException("Could not finish search.", t);
+      failure.compareAndSet(null, t);
     }
 
-    return output;
+    try {
+      readerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failure.compareAndSet(null, e);
+    }
+
+    if (failure.get() != null) {
+      throw new CZScaleClientException("Could not finish search.", failure.get());
+    }
   }
 
   /**
@@ -93,7 +182,7 @@ public class CZScaleRestClient {
    * @return the response from the server
    */
   protected Response getWithoutVerification(RequestSpecification request) {
-    return CRetry.retry(integer -> decorate(request).get(), 5, 1000);
+    return send(() -> decorate(request).get());
   }
 
   /**
@@ -103,7 +192,7 @@ public class CZScaleRestClient {
    * @return the verified response from the server
    */
   protected Response get(RequestSpecification request) {
-    return CRetry.retry(integer -> verifyResponse(decorate(request).get()), 5, 1000);
+    return verifyResponse(send(() -> decorate(request).get()));
   }
 
   /**
@@ -113,7 +202,7 @@ public class CZScaleRestClient {
    * @return the verified response from the server
    */
   protected Response delete(RequestSpecification request) {
-    return CRetry.retry(integer -> verifyResponse(decorate(request).delete()), 5, 1000);
+    return verifyResponse(send(() -> decorate(request).delete()));
   }
 
   /**
@@ -123,7 +212,7 @@ public class CZScaleRestClient {
    * @return the verified response from the server
    */
   protected Response post(RequestSpecification request) {
-    return CRetry.retry(integer -> verifyResponse(decorate(request).post()), 5, 1000);
+    return verifyResponse(send(() -> decorate(request).post()));
   }
 
   /**
@@ -133,7 +222,60 @@ public class CZScaleRestClient {
    * @return the verified response from the server
    */
   protected Response put(RequestSpecification request) {
-    return CRetry.retry(integer -> verifyResponse(decorate(request).put()), 5, 1000);
+    return verifyResponse(send(() -> decorate(request).put()));
+  }
+
+  /**
+   * Sends the request and sends it again as long as it fails or the server responds with {@code 429
+   * Too Many Requests} or a {@code 5xx} error. This is the only place requests are retried. The
+   * wait time is read from {@code Retry-After} header and falls back to {@link
+   * CZScaleConfigs.Scale#getRetryAfterInMilliseconds()} which doubles after each attempt.
+   *
+   * @param request the request to send
+   * @return the first response which is not retried, or the last one if retries are exhausted
+   */
+  protected static Response send(Supplier<Response> request) {
+    long backoff = CZScaleConfigs.Scale.getRetryAfterInMilliseconds();
+    int maxRetries = CZScaleConfigs.Scale.getRateLimitMaxRetries();
+    for (int attempt = 1; ; attempt++) {
+      Response response;
+      try {
+        response = request.get();
+      } catch (RuntimeException e) {
+        if (attempt > maxRetries) {
+          throw e;
+        }
+        log.warn(
+            "Scale request failed, attempt {} of {}, retry in {} ms.",
+            attempt,
+            maxRetries,
+            backoff,
+            e);
+        CSleeper.sleepTight(backoff);
+        backoff *= 2;
+        continue;
+      }
+
+      if (!isRetryable(response) || attempt > maxRetries) {
+        return response;
+      }
+
+      long retryAfter = NumberUtils.toLong(response.getHeader(RETRY_AFTER), -1);
+      long wait = retryAfter >= 0 ? retryAfter * 1000 : backoff;
+      log.warn(
+          "Scale responded {}, attempt {} of {}, retry in {} ms.",
+          response.statusCode(),
+          attempt,
+          maxRetries,
+          wait);
+      CSleeper.sleepTight(wait);
+      backoff *= 2;
+    }
+  }
+
+  private static boolean isRetryable(Response response) {
+    return response.statusCode() == TOO_MANY_REQUESTS
+        || response.statusCode() >= INTERNAL_SERVER_ERROR;
   }
 
   /**
@@ -0,0 +1,183 @@
+package org.catools.atlassian.scale.rest.cycle;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.catools.atlassian.scale.CZScaleClient;
+import org.catools.atlassian.scale.configs.CZScaleConfigs;
+import org.catools.atlassian.scale.model.CZScaleTestResult;
+import org.catools.atlassian.scale.model.CZScaleTestResults;
+import org.catools.common.collections.CList;
+import org.catools.common.concurrent.CBackgroundQueue;
+
+/**
+ * Queue of test results to publish to a test run.
+ *
+ * <p>Results are accumulated while tests are running and a {@link CBackgroundQueue} worker sends
+ * them with {@link CZScaleTestRunClient#createTestResults} in requests of up to {@code batchSize}
+ * results. Results of the same test case which have not been sent yet are coalesced and only the
+ * last one is published. When the queue is full, publishing waits until the worker catches up.
+ *
+ * <p>Results which could not be sent are kept and sent again with the next batch. {@link #close()}
+ * sends everything left in the queue, and a shutdown hook does the same if the publisher is not
+ * closed before the JVM exits.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * try (CZScaleTestResultPublisher publisher = new CZScaleTestResultPublisher(testRunKey)) {
+ *   publisher.publish(testResult);
+ * }
+ * }</pre>
+ */
+@Slf4j
+public class CZScaleTestResultPublisher implements AutoCloseable {
+  private final CZScaleTestRunClient client;
+  private final String testRunKey;
+  private final int batchSize;
+  private final Map<String, CZScaleTestResult> pending = new LinkedHashMap<>();
+  private final Set<String> failed = new LinkedHashSet<>();
+  private final Object sendLock = new Object();
+  private final AtomicInteger published = new AtomicInteger();
+  private final CBackgroundQueue<String> queue;
+  private final Thread shutdownHook;
+
+  /**
+   * Creates a publisher for the test run using the configured queue capacity and batch size.
+   *
+   * @param testRunKey the key of the test run
+   */
+  public CZScaleTestResultPublisher(String testRunKey) {
+    this(
+        CZScaleClient.TestRuns,
+        testRunKey,
+        CZScaleConfigs.Scale.getPublishQueueCapacity(),
+        CZScaleConfigs.Scale.getPublishBatchSize());
+  }
+
+  /**
+   * Creates a publisher for the test run.
+   *
+   * @param client the client to send results with
+   * @param testRunKey the key of the test run
+   * @param queueCapacity the maximum number of results waiting to be sent
+   * @param batchSize the maximum number of results to send in a single request
+   */
+  public CZScaleTestResultPublisher(
+      CZScaleTestRunClient client, String testRunKey, int queueCapacity, int batchSize) {
+    this.client = Objects.requireNonNull(client);
+    this.testRunKey = Objects.requireNonNull(testRunKey);
+    this.batchSize = Math.max(1, batchSize);
+    this.queue =
+        new CBackgroundQueue<>(
+            "ZScale Publisher " + testRunKey, queueCapacity, 1, this.batchSize, this::send);
+
+    this.shutdownHook = new Thread(this::close);
+    Runtime.getRuntime().addShutdownHook(shutdownHook);
+  }
+
+  /**
+   * Adds the result to the queue. A result of the same test case which has not been sent yet is
+   * replaced. After the publisher is closed, the result is sent on the calling thread.
+   *
+   * @param testResult the result to publish, it should have a test case key
+   */
+  public void publish(CZScaleTestResult testResult) {
+    String testCaseKey =
+        Objects.requireNonNull(testResult.getTestCaseKey(), "Test result has no test case key.");
+    boolean queued;
+    synchronized (pending) {
+      queued = pending.put(testCaseKey, testResult) != null;
+    }
+
+    // a test case which is already pending is sent with its latest result
+    if (!queued) {
+      queue.add(testCaseKey);
+    }
+  }
+
+  /**
+   * The number of results which are waiting to be sent.
+   *
+   * @return number of queued results
+   */
+  public int getPendingCount() {
+    synchronized (pending) {
+      return pending.size();
+    }
+  }
+
+  /**
+   * The number of results which have been sent to the test run.
+   *
+   * @return number of published results
+   */
+  public int getPublishedCount() {
+    return published.get();
+  }
+
+  /**
+   * Stops accepting results to the queue, sends all queued results and tries one more time to send
+   * results which could not be sent before.
+   */
+  @Override
+  public void close() {
+    queue.close();
+    send(List.of());
+
+    int pendingCount = getPendingCount();
+    if (pendingCount > 0) {
+      log.error("{} results of {} were not published.", pendingCount, testRunKey);
+    }
+
+    try {
+      Runtime.getRuntime().removeShutdownHook(shutdownHook);
+    } catch (IllegalStateException e) {
+      // the JVM is already shutting down and the hook is running or has run
+    }
+  }
+
+  private void send(List<String> testCaseKeys) {
+    synchronized (sendLock) {
+      CList<CZScaleTestResult> results = new CList<>();
+      synchronized (pending) {
+        Set<String> keys = new LinkedHashSet<>(failed);
+        keys.addAll(testCaseKeys);
+        failed.clear();
+        for (String key : keys) {
+          CZScaleTestResult result = pending.remove(key);
+          if (result != null) {
+            results.add(result);
+          }
+        }
+      }
+
+      for (CList<CZScaleTestResult> batch : results.partition(batchSize)) {
+        try {
+          client.createTestResults(testRunKey, new CZScaleTestResults(batch));
+          published.addAndGet(batch.size());
+          log.debug("{} results published to {}.", batch.size(), testRunKey);
+        } catch (Throwable t) {
+          log.warn("Failed to publish {} results to {}, will retry.", batch.size(), testRunKey, t);
+          keepFailed(batch);
+        }
+      }
+    }
+  }
+
+  private void keepFailed(List<CZScaleTestResult> batch) {
+    synchronized (pending) {
+      for (CZScaleTestResult result : batch) {
+        // a result published after the batch was taken is newer and is already queued
+        if (pending.putIfAbsent(result.getTestCaseKey(), result) == null) {
+          failed.add(result.getTestCaseKey());
+        }
+      }
+    }
+  }
+}
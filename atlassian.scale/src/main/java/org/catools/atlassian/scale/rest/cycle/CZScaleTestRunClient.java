@@ -74,6 +74,32 @@ public class CZScaleTestRunClient extends CZScaleRestClient {
     return new CZScaleTestRuns(results);
   }
 
+  /**
+   * Reads all test runs for a given project and folder with parallel processing and passes them to
+   * the consumer without keeping them in memory.
+   *
+   * @param projectKey the key of the project
+   * @param folder the folder containing the test runs
+   * @param fields the fields to include in the response
+   * @param parallelInputCount the number of parallel input threads
+   * @param parallelOutputCount the number of parallel output threads
+   * @param onAction a consumer to process each test run
+   */
+  public void forEachTestRun(
+      String projectKey,
+      String folder,
+      String fields,
+      int parallelInputCount,
+      int parallelOutputCount,
+      Consumer<CZScaleTestRun> onAction) {
+    readAllPages(
+        "Get Test Runs",
+        parallelInputCount,
+        parallelOutputCount,
+        (start, max) -> _getAllTestRuns(projectKey, folder, fields, start, max),
+        onAction);
+  }
+
   /**
    * Helper method to retrieve a subset of test runs.
    *
@@ -167,6 +193,30 @@ public class CZScaleTestRunClient extends CZScaleRestClient {
     return new CZScaleTestResults(get_test_results);
   }
 
+  /**
+   * Reads all test results for a specific test run with parallel processing and passes them to the
+   * consumer without keeping them in memory.
+   *
+   * @param testRunKey the key of the test run
+   * @param fields the fields to include in the response
+   * @param parallelInputCount the number of parallel input threads
+   * @param parallelOutputCount the number of parallel output threads
+   * @param onAction a consumer to process each test result
+   */
+  public void forEachTestResult(
+      String testRunKey,
+      String fields,
+      int parallelInputCount,
+      int parallelOutputCount,
+      Consumer<CZScaleTestResult> onAction) {
+    readAllPages(
+        "Get Test Results",
+        parallelInputCount,
+        parallelOutputCount,
+        (start, max) -> _getTestResults(testRunKey, fields, start, max),
+        onAction);
+  }
+
   /**
    * Helper method to retrieve a subset of test results.
    *
@@ -281,10 +331,16 @@ public class CZScaleTestRunClient extends CZScaleRestClient {
 
     CList<String> createdTestCases =
         getTestRun(testRunKey).getItems().mapToList(CZScaleTestExecution::getTestCaseKey);
+    CZScaleTestResults testResultsToAdd = new CZScaleTestResults();
     for (CZScalePlanExecution item : planTestRun.getItems()) {
       if (createdTestCases.contains(item.getTestCaseKey())) continue;
-      CZScaleTestResult testResultToAdd = convertPlanExecutionToTestResult(item);
-      createTestResult(testRunKey, testResultToAdd);
+      testResultsToAdd.add(convertPlanExecutionToTestResult(item));
+    }
+
+    // send missing results in bulk instead of one request per test case
+    for (CList<CZScaleTestResult> partition :
+        testResultsToAdd.partition(CZScaleConfigs.Scale.getPublishBatchSize())) {
+      createTestResults(testRunKey, new CZScaleTestResults(partition));
     }
 
     return testRunKey;
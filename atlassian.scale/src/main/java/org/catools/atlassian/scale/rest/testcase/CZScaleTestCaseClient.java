@@ -3,17 +3,27 @@ package org.catools.atlassian.scale.rest.testcase;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.catools.atlassian.scale.configs.CZScaleConfigs;
+import org.catools.atlassian.scale.exception.CZScaleClientException;
 import org.catools.atlassian.scale.model.CZScaleChangeHistories;
 import org.catools.atlassian.scale.model.CZScaleTestCase;
 import org.catools.atlassian.scale.model.CZScaleTestCases;
 import org.catools.atlassian.scale.rest.CZScaleRestClient;
+import org.catools.common.concurrent.CParallelRunner;
+import org.catools.common.date.CDate;
 import org.catools.common.utils.CSleeper;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Client for managing test cases in the Scale system.
@@ -24,6 +34,8 @@ import java.util.function.Consumer;
  */
 @Slf4j
 public class CZScaleTestCaseClient extends CZScaleRestClient {
+  private final Map<String, Integer> testIds = new ConcurrentHashMap<>();
+  private final Map<String, CachedHistory> histories = new ConcurrentHashMap<>();
 
   /**
    * Default constructor.
@@ -64,10 +76,38 @@ public class CZScaleTestCaseClient extends CZScaleRestClient {
       int parallelInputCount,
       int parallelOutputCount,
       Consumer<CZScaleTestCase> onAction) {
-    String query = String.format("projectKey = \"%s\"", project);
-    if (StringUtils.isNotBlank(folder)) query += String.format(" AND folder = \"%s\"", folder);
+    return getAllTestCases(
+        getProjectQuery(project, folder),
+        fields,
+        parallelInputCount,
+        parallelOutputCount,
+        onAction);
+  }
 
-    return getAllTestCases(query, fields, parallelInputCount, parallelOutputCount, onAction);
+  /**
+   * Reads all test cases for a given project and folder with parallel processing and passes them to
+   * the consumer without keeping them in memory.
+   *
+   * @param project the key of the project
+   * @param folder the folder containing the test cases
+   * @param fields the fields to include in the response
+   * @param parallelInputCount the number of parallel input threads
+   * @param parallelOutputCount the number of parallel output threads
+   * @param onAction a consumer to process each test case
+   */
+  public void forEachProjectTestCase(
+      String project,
+      String folder,
+      String fields,
+      int parallelInputCount,
+      int parallelOutputCount,
+      Consumer<CZScaleTestCase> onAction) {
+    forEachTestCase(
+        getProjectQuery(project, folder),
+        fields,
+        parallelInputCount,
+        parallelOutputCount,
+        onAction);
   }
 
   /**
@@ -177,6 +217,99 @@ public class CZScaleTestCaseClient extends CZScaleRestClient {
     return new CZScaleTestCases(result);
   }
 
+  /**
+   * Reads all test cases based on a query and passes them to the consumer without keeping them in
+   * memory.
+   *
+   * @param query the query string to filter test cases
+   * @param fields the fields to include in the response
+   * @param parallelInputCount the number of parallel input threads
+   * @param parallelOutputCount the number of parallel output threads
+   * @param onAction a consumer to process each test case
+   */
+  public void forEachTestCase(
+      String query,
+      String fields,
+      int parallelInputCount,
+      int parallelOutputCount,
+      Consumer<CZScaleTestCase> onAction) {
+    readAllPages(
+        "Get Test Cases",
+        parallelInputCount,
+        parallelOutputCount,
+        (start, max) -> _getAllTestCases(query, fields, start, max),
+        onAction);
+  }
+
+  /**
+   * Reads all test cases based on a query with their change histories and passes them to the
+   * consumer without keeping them in memory.
+   *
+   * <p>Test cases are searched with all fields, so there is no need to read each test case
+   * separately. The histories of each page are read by up to {@link
+   * CZScaleConfigs.Scale#getHistoryParallelCount()} threads, since Scale does not provide a bulk
+   * history endpoint. Histories are cached by test case key and last update time until {@link
+   * #clearCache()} is called, so test cases which have not changed since they were read are not
+   * requested again in the same sync window.
+   *
+   * @param query the query string to filter test cases
+   * @param parallelInputCount the number of parallel input threads
+   * @param parallelOutputCount the number of parallel output threads
+   * @param filter a predicate to select test cases to read history for and pass to the consumer, or
+   *     {@code null} to select all test cases
+   * @param onAction a consumer to process each test case
+   */
+  public void forEachTestCaseWithHistory(
+      String query,
+      int parallelInputCount,
+      int parallelOutputCount,
+      Predicate<CZScaleTestCase> filter,
+      Consumer<CZScaleTestCase> onAction) {
+    readAllPages(
+        "Get Test Cases With History",
+        parallelInputCount,
+        parallelOutputCount,
+        (start, max) -> addHistories(_getAllTestCases(query, null, start, max), filter),
+        testCase -> {
+          if (filter == null || filter.test(testCase)) {
+            onAction.accept(testCase);
+          }
+        });
+  }
+
+  /**
+   * Reads all test cases for a given project and folder with their change histories.
+   *
+   * @param project the key of the project
+   * @param folder the folder containing the test cases
+   * @param parallelInputCount the number of parallel input threads
+   * @param parallelOutputCount the number of parallel output threads
+   * @param filter a predicate to select test cases to read history for and pass to the consumer, or
+   *     {@code null} to select all test cases
+   * @param onAction a consumer to process each test case
+   * @see #forEachTestCaseWithHistory(String, int, int, Predicate, Consumer)
+   */
+  public void forEachProjectTestCaseWithHistory(
+      String project,
+      String folder,
+      int parallelInputCount,
+      int parallelOutputCount,
+      Predicate<CZScaleTestCase> filter,
+      Consumer<CZScaleTestCase> onAction) {
+    forEachTestCaseWithHistory(
+        getProjectQuery(project, folder),
+        parallelInputCount,
+        parallelOutputCount,
+        filter,
+        onAction);
+  }
+
+  /** Clears cached test case ids and histories, should be called when a sync window ends. */
+  public void clearCache() {
+    testIds.clear();
+    histories.clear();
+  }
+
   /**
    * Retrieves a specific test case by its key.
    *
@@ -203,10 +336,70 @@ public class CZScaleTestCaseClient extends CZScaleRestClient {
 
     response.then().statusCode(200);
     CZScaleTestCase testcase = response.body().as(CZScaleTestCase.class);
-    testcase.setHistories(_getTestCaseHistory(testCaseKey));
+    if (!addCachedHistory(testcase)) {
+      addHistory(testcase);
+    }
     return testcase;
   }
 
+  private CZScaleTestCases addHistories(CZScaleTestCases page, Predicate<CZScaleTestCase> filter) {
+    Queue<CZScaleTestCase> toRead = new ConcurrentLinkedQueue<>();
+    for (CZScaleTestCase testCase : page) {
+      if (filter != null && !filter.test(testCase)) {
+        continue;
+      }
+      if (!addCachedHistory(testCase)) {
+        toRead.add(testCase);
+      }
+    }
+
+    if (!toRead.isEmpty()) {
+      try {
+        new CParallelRunner<>(
+                "Get Test Case Histories",
+                Math.min(toRead.size(), CZScaleConfigs.Scale.getHistoryParallelCount()),
+                () -> {
+                  CZScaleTestCase testCase;
+                  while ((testCase = toRead.poll()) != null) {
+                    addHistory(testCase);
+                  }
+                  return true;
+                })
+            .invokeAll();
+      } catch (Throwable t) {
+        throw new CZScaleClientException("Could not read test case histories.", t);
+      }
+    }
+    return page;
+  }
+
+  private boolean addCachedHistory(CZScaleTestCase testCase) {
+    CachedHistory cached = histories.get(testCase.getKey());
+    if (cached == null || !Objects.equals(cached.getUpdatedOn(), testCase.getUpdatedOn())) {
+      return false;
+    }
+    testCase.setHistories(cached.getHistories());
+    return true;
+  }
+
+  private void addHistory(CZScaleTestCase testCase) {
+    testCase.setHistories(_getTestCaseHistory(testCase.getKey()));
+    histories.put(
+        testCase.getKey(), new CachedHistory(testCase.getUpdatedOn(), testCase.getHistories()));
+  }
+
+  @Value
+  private static class CachedHistory {
+    CDate updatedOn;
+    CZScaleChangeHistories histories;
+  }
+
+  private static String getProjectQuery(String project, String folder) {
+    String query = String.format("projectKey = \"%s\"", project);
+    if (StringUtils.isNotBlank(folder)) query += String.format(" AND folder = \"%s\"", folder);
+    return query;
+  }
+
   /**
    * Helper method to retrieve a subset of test cases based on a query.
    *
@@ -274,6 +467,11 @@ public class CZScaleTestCaseClient extends CZScaleRestClient {
    * @return the ID of the test case
    */
   private Integer _getTestId(String testCaseKey) {
+    Integer cached = testIds.get(testCaseKey);
+    if (cached != null) {
+      return cached;
+    }
+
     String homeUri = CZScaleConfigs.Scale.getTestsUri();
     log.trace("Get {} id from {}", testCaseKey, homeUri);
     RequestSpecification specification =
@@ -285,7 +483,11 @@ public class CZScaleTestCaseClient extends CZScaleRestClient {
     if (response.statusCode() != 200) log.warn("Response::\n{}", response.body().asString());
 
     response.then().statusCode(200);
-    return response.jsonPath().get("id[0]");
+    Integer id = response.jsonPath().get("id[0]");
+    if (id != null) {
+      testIds.put(testCaseKey, id);
+    }
+    return id;
   }
 
   /**
@@ -0,0 +1,145 @@
+package org.catools.atlassian.scale.rest;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.catools.atlassian.scale.configs.CZScaleConfigs;
+import org.catools.atlassian.scale.exception.CZScaleClientException;
+import org.catools.common.extensions.verify.CVerify;
+import org.testng.annotations.Test;
+
+public class CZScaleRestClientTest {
+
+  @Test
+  public void testReadAllPages() {
+    int total = CZScaleConfigs.Scale.getSearchBufferSize() * 5 / 2;
+    List<Integer> read = Collections.synchronizedList(new ArrayList<>());
+    CZScaleRestClient.readAllPages(
+        "Read Pages", 3, 2, (startAt, maxResults) -> page(startAt, maxResults, total), read::add);
+
+    CVerify.Int.equals(read.size(), total, "All items are read once");
+    CVerify.Collection.containsAll(read, items(0, total), "All items are read");
+  }
+
+  @Test
+  public void testReadAllInParallel() {
+    int total = CZScaleConfigs.Scale.getSearchBufferSize() + 1;
+    AtomicInteger consumed = new AtomicInteger();
+    Set<Integer> read =
+        CZScaleRestClient.readAllInParallel(
+            "Read Pages",
+            2,
+            2,
+            (startAt, maxResults) -> page(startAt, maxResults, total),
+            item -> consumed.incrementAndGet());
+
+    CVerify.Int.equals(read.size(), total, "All items are returned");
+    CVerify.Int.equals(consumed.get(), total, "All items are passed to the consumer");
+  }
+
+  @Test
+  public void testStopReadingAtFirstEmptyPage() {
+    int pageSize = CZScaleConfigs.Scale.getSearchBufferSize();
+    List<Integer> requested = Collections.synchronizedList(new ArrayList<>());
+    CZScaleRestClient.readAllPages(
+        "Read Pages",
+        1,
+        1,
+        (startAt, maxResults) -> {
+          requested.add(startAt);
+          return page(startAt, maxResults, pageSize * 3);
+        },
+        item -> {});
+
+    CVerify.Collection.equals(
+        requested,
+        List.of(0, pageSize, pageSize * 2, pageSize * 3),
+        "Pages are read until the first empty page");
+  }
+
+  @Test
+  public void testDoNotRetryPageInReader() {
+    AtomicInteger attempts = new AtomicInteger();
+    try {
+      CZScaleRestClient.readAllPages(
+          "Read Pages",
+          1,
+          1,
+          (startAt, maxResults) -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("Failed to read page");
+          },
+          item -> {});
+      CVerify.Bool.isTrue(false, "Failed page fails the read");
+    } catch (CZScaleClientException e) {
+      CVerify.Int.equals(attempts.get(), 1, "Page is read once by the reader");
+    }
+  }
+
+  @Test
+  public void testSendRetriesTooManyRequests() {
+    AtomicInteger attempts = new AtomicInteger();
+    Response response =
+        CZScaleRestClient.send(
+            () -> attempts.incrementAndGet() == 1 ? response(429, "0") : response(200, null));
+
+    CVerify.Int.equals(response.statusCode(), 200, "Rate limited request is sent again");
+    CVerify.Int.equals(attempts.get(), 2, "Request is sent twice");
+  }
+
+  @Test
+  public void testSendRetriesFailedRequest() {
+    AtomicInteger attempts = new AtomicInteger();
+    Response response =
+        CZScaleRestClient.send(
+            () -> {
+              if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("Connection reset");
+              }
+              return attempts.get() == 2 ? response(502, null) : response(200, null);
+            });
+
+    CVerify.Int.equals(response.statusCode(), 200, "Failed request is sent again");
+    CVerify.Int.equals(attempts.get(), 3, "Request is sent until it succeeds");
+  }
+
+  @Test
+  public void testSendDoesNotRetryClientError() {
+    AtomicInteger attempts = new AtomicInteger();
+    Response response =
+        CZScaleRestClient.send(
+            () -> {
+              attempts.incrementAndGet();
+              return response(404, null);
+            });
+
+    CVerify.Int.equals(response.statusCode(), 404, "Client error is returned");
+    CVerify.Int.equals(attempts.get(), 1, "Client error is not retried");
+  }
+
+  private static List<Integer> page(int startAt, int maxResults, int total) {
+    return items(startAt, Math.min(startAt + maxResults, total));
+  }
+
+  private static List<Integer> items(int from, int to) {
+    return IntStream.range(from, to).boxed().collect(Collectors.toList());
+  }
+
+  private static Response response(int statusCode, String retryAfter) {
+    ResponseBuilder builder =
+        new ResponseBuilder()
+            .setStatusCode(statusCode)
+            .setHeader("Content-Type", "application/json")
+            .setBody("");
+    if (retryAfter != null) {
+      builder.setHeader("Retry-After", retryAfter);
+    }
+    return builder.build();
+  }
+}
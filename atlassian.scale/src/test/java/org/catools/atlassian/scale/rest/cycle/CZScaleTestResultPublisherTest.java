@@ -0,0 +1,151 @@
+package org.catools.atlassian.scale.rest.cycle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.catools.atlassian.scale.model.CZScaleTestResult;
+import org.catools.atlassian.scale.model.CZScaleTestResults;
+import org.catools.common.collections.CList;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.utils.CSleeper;
+import org.testng.annotations.Test;
+
+public class CZScaleTestResultPublisherTest {
+
+  @Test
+  public void testPublishInBatchesOnClose() {
+    RecordingClient client = new RecordingClient();
+    try (CZScaleTestResultPublisher publisher =
+        new CZScaleTestResultPublisher(client, "RUN-1", 100, 10)) {
+      for (int i = 0; i < 25; i++) {
+        publisher.publish(result("T-" + i, CZScaleExecutionStatus.PASS));
+      }
+    }
+
+    CVerify.Int.equals(client.getResultCount(), 25, "All results are published");
+    CVerify.Bool.isTrue(
+        client.getBatchSizes().stream().allMatch(size -> size <= 10),
+        "Results are sent in batches of up to batch size");
+  }
+
+  @Test
+  public void testCoalesceResultsOfSameTestCase() throws InterruptedException {
+    RecordingClient client = new RecordingClient();
+    client.getBlock().set(true);
+    CZScaleTestResultPublisher publisher = new CZScaleTestResultPublisher(client, "RUN-2", 100, 10);
+
+    // keep the worker busy with the first result, so the next ones wait in the queue
+    publisher.publish(result("T-0", CZScaleExecutionStatus.PASS));
+    CVerify.Bool.isTrue(client.awaitSending(), "The first result is being sent");
+
+    publisher.publish(result("T-1", CZScaleExecutionStatus.FAIL));
+    publisher.publish(result("T-2", CZScaleExecutionStatus.PASS));
+    publisher.publish(result("T-1", CZScaleExecutionStatus.PASS));
+    CVerify.Int.equals(publisher.getPendingCount(), 2, "Results of same test case are coalesced");
+
+    client.getBlock().set(false);
+    publisher.close();
+    CVerify.Int.equals(client.getResultCount(), 3, "One result per test case is published");
+    CVerify.Object.equals(
+        client.getStatus("T-1"), CZScaleExecutionStatus.PASS, "The last result is published");
+  }
+
+  @Test
+  public void testPublishInBackground() {
+    RecordingClient client = new RecordingClient();
+    try (CZScaleTestResultPublisher publisher =
+        new CZScaleTestResultPublisher(client, "RUN-3", 100, 5)) {
+      for (int i = 0; i < 5; i++) {
+        publisher.publish(result("T-" + i, CZScaleExecutionStatus.PASS));
+      }
+      for (int i = 0; i < 100 && publisher.getPublishedCount() < 5; i++) {
+        CSleeper.sleepTight(100);
+      }
+      CVerify.Int.equals(publisher.getPublishedCount(), 5, "Results are published before close");
+    }
+  }
+
+  @Test
+  public void testKeepFailedResultsForNextBatch() {
+    RecordingClient client = new RecordingClient();
+    client.getFail().set(true);
+    CZScaleTestResultPublisher publisher = new CZScaleTestResultPublisher(client, "RUN-4", 100, 10);
+    publisher.publish(result("T-1", CZScaleExecutionStatus.PASS));
+
+    for (int i = 0; i < 100 && client.getAttempts() == 0; i++) {
+      CSleeper.sleepTight(100);
+    }
+    CVerify.Int.equals(client.getAttempts(), 1, "Result is sent in background");
+    CVerify.Int.equals(publisher.getPendingCount(), 1, "Failed result stays in the queue");
+
+    client.getFail().set(false);
+    publisher.publish(result("T-2", CZScaleExecutionStatus.PASS));
+    publisher.close();
+    CVerify.Int.equals(client.getResultCount(), 2, "Failed result is published with next batch");
+    CVerify.Int.equals(publisher.getPendingCount(), 0, "Nothing is left in the queue");
+  }
+
+  private static CZScaleTestResult result(String testCaseKey, CZScaleExecutionStatus status) {
+    return new CZScaleTestResult().setTestCaseKey(testCaseKey).setStatus(status);
+  }
+
+  private static class RecordingClient extends CZScaleTestRunClient {
+    private final List<CZScaleTestResult> results = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicBoolean fail = new AtomicBoolean();
+    private final AtomicBoolean block = new AtomicBoolean();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final CountDownLatch sending = new CountDownLatch(1);
+
+    @Override
+    public CList<Long> createTestResults(String testRunKey, CZScaleTestResults testResults) {
+      attempts.incrementAndGet();
+      sending.countDown();
+      while (block.get()) {
+        CSleeper.sleepTight(10);
+      }
+      if (fail.get()) {
+        throw new IllegalStateException("Server is not available");
+      }
+      results.addAll(testResults);
+      batchSizes.add(testResults.size());
+      return new CList<>();
+    }
+
+    private int getResultCount() {
+      return results.size();
+    }
+
+    private List<Integer> getBatchSizes() {
+      return batchSizes;
+    }
+
+    private AtomicBoolean getFail() {
+      return fail;
+    }
+
+    private AtomicBoolean getBlock() {
+      return block;
+    }
+
+    private int getAttempts() {
+      return attempts.get();
+    }
+
+    private boolean awaitSending() throws InterruptedException {
+      return sending.await(10, TimeUnit.SECONDS);
+    }
+
+    private CZScaleExecutionStatus getStatus(String testCaseKey) {
+      return results.stream()
+          .filter(r -> testCaseKey.equals(r.getTestCaseKey()))
+          .map(CZScaleTestResult::getStatus)
+          .findFirst()
+          .orElse(null);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package org.catools.atlassian.scale.rest.cycle;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import java.util.ArrayList;
+import java.util.List;
+import org.catools.atlassian.scale.model.CZScalePlanExecution;
+import org.catools.atlassian.scale.model.CZScalePlanExecutions;
+import org.catools.atlassian.scale.model.CZScalePlanTestRun;
+import org.catools.atlassian.scale.model.CZScaleTestExecution;
+import org.catools.atlassian.scale.model.CZScaleTestExecutions;
+import org.catools.atlassian.scale.model.CZScaleTestResult;
+import org.catools.atlassian.scale.model.CZScaleTestResults;
+import org.catools.atlassian.scale.model.CZScaleTestRun;
+import org.catools.common.collections.CList;
+import org.catools.common.extensions.verify.CVerify;
+import org.testng.annotations.Test;
+
+public class CZScaleTestRunClientTest {
+
+  @Test
+  public void testCreateTestRunAddsMissingResultsInBatches() {
+    StubClient client = new StubClient("PRJ-T1");
+    CZScalePlanTestRun planTestRun =
+        new CZScalePlanTestRun()
+            .setProjectKey("PRJ")
+            .setItems(
+                new CZScalePlanExecutions(
+                    item("PRJ-T1"),
+                    item("PRJ-T2"),
+                    item("PRJ-T3"),
+                    item("PRJ-T4"),
+                    item("PRJ-T5"),
+                    item("PRJ-T6")));
+
+    String testRunKey = client.createTestRun(planTestRun);
+
+    CVerify.String.equals(testRunKey, "PRJ-C1", "Key of the created test run is returned");
+    CVerify.Collection.equals(
+        client.batches.stream().map(List::size).toList(),
+        List.of(2, 2, 1),
+        "Missing results are sent in batches of publish_batch_size");
+    CVerify.Collection.equals(
+        client.batches.stream().flatMap(List::stream).sorted().toList(),
+        List.of("PRJ-T2", "PRJ-T3", "PRJ-T4", "PRJ-T5", "PRJ-T6"),
+        "Each missing result is sent once");
+  }
+
+  @Test
+  public void testCreateTestRunWithAllItemsCreated() {
+    StubClient client = new StubClient("PRJ-T1", "PRJ-T2");
+    CZScalePlanTestRun planTestRun =
+        new CZScalePlanTestRun()
+            .setProjectKey("PRJ")
+            .setItems(new CZScalePlanExecutions(item("PRJ-T1"), item("PRJ-T2")));
+
+    client.createTestRun(planTestRun);
+
+    CVerify.Int.equals(client.batches.size(), 0, "No results are sent");
+  }
+
+  private static CZScalePlanExecution item(String testCaseKey) {
+    return new CZScalePlanExecution()
+        .setTestCaseKey(testCaseKey)
+        .setStatus(CZScaleExecutionStatus.PASS);
+  }
+
+  private static class StubClient extends CZScaleTestRunClient {
+    private final List<List<String>> batches = new ArrayList<>();
+    private final String[] createdTestCases;
+
+    private StubClient(String... createdTestCases) {
+      this.createdTestCases = createdTestCases;
+    }
+
+    @Override
+    protected Response post(RequestSpecification request) {
+      return new ResponseBuilder()
+          .setStatusCode(201)
+          .setContentType("application/json")
+          .setHeader("Content-Type", "application/json")
+          .setBody("{\"key\": \"PRJ-C1\"}")
+          .build();
+    }
+
+    @Override
+    public CZScaleTestRun getTestRun(String testRunKey) {
+      CZScaleTestExecutions items = new CZScaleTestExecutions();
+      for (String testCaseKey : createdTestCases) {
+        items.add(new CZScaleTestExecution().setTestCaseKey(testCaseKey));
+      }
+      return new CZScaleTestRun().setKey(testRunKey).setItems(items);
+    }
+
+    @Override
+    public CList<Long> createTestResults(String testRunKey, CZScaleTestResults testResults) {
+      batches.add(new ArrayList<>(testResults.mapToList(CZScaleTestResult::getTestCaseKey)));
+      return new CList<>();
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package org.catools.atlassian.scale.rest.testcase;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.catools.atlassian.scale.model.CZScaleTestCase;
+import org.catools.common.extensions.verify.CVerify;
+import org.testng.annotations.Test;
+
+public class CZScaleTestCaseClientTest {
+
+  @Test
+  public void testReadUnchangedHistoryFromCache() {
+    StubClient client = new StubClient();
+    List<CZScaleTestCase> first = readWithHistory(client);
+    List<CZScaleTestCase> second = readWithHistory(client);
+
+    CVerify.Int.equals(first.size(), 2, "All test cases are read");
+    CVerify.Int.equals(second.size(), 2, "All test cases are read again");
+    CVerify.Int.equals(client.getCount("/testcase/11/history"), 1, "History is read once");
+    CVerify.Int.equals(client.getCount("/testcase/12/history"), 1, "History is read once");
+    CVerify.Int.equals(client.getCount("/testcase/PRJ-T1/allVersions"), 1, "Id is read once");
+    CVerify.Int.equals(
+        second.get(0).getHistories().size(), 1, "Cached history is added to test case");
+  }
+
+  @Test
+  public void testReadChangedHistoryAgain() {
+    StubClient client = new StubClient();
+    readWithHistory(client);
+    client.updatedOn = "2024-02-01";
+    readWithHistory(client);
+
+    CVerify.Int.equals(client.getCount("/testcase/11/history"), 2, "Changed history is read");
+    CVerify.Int.equals(
+        client.getCount("/testcase/PRJ-T1/allVersions"), 1, "Cached id is used for changes");
+  }
+
+  @Test
+  public void testClearCache() {
+    StubClient client = new StubClient();
+    readWithHistory(client);
+    client.clearCache();
+    readWithHistory(client);
+
+    CVerify.Int.equals(client.getCount("/testcase/11/history"), 2, "History is read again");
+    CVerify.Int.equals(client.getCount("/testcase/PRJ-T1/allVersions"), 2, "Id is read again");
+  }
+
+  private static List<CZScaleTestCase> readWithHistory(StubClient client) {
+    List<CZScaleTestCase> testCases = Collections.synchronizedList(new ArrayList<>());
+    client.forEachTestCaseWithHistory("projectKey = \"PRJ\"", 1, 1, null, testCases::add);
+    return testCases;
+  }
+
+  private static class StubClient extends CZScaleTestCaseClient {
+    private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+    private volatile String updatedOn = "2024-01-01";
+
+    @Override
+    protected Response get(RequestSpecification request) {
+      FilterableRequestSpecification specification = (FilterableRequestSpecification) request;
+      String path = specification.getBasePath();
+      counts.computeIfAbsent(path, k -> new AtomicInteger()).incrementAndGet();
+
+      if (path.equals("/testcase/search")) {
+        Object startAt = specification.getQueryParams().get("startAt");
+        return Integer.parseInt(startAt.toString()) > 0
+            ? response("[]")
+            : response("[" + testCase("PRJ-T1") + "," + testCase("PRJ-T2") + "]");
+      }
+      if (path.endsWith("/allVersions")) {
+        return response(path.contains("PRJ-T1") ? "[{\"id\":11}]" : "[{\"id\":12}]");
+      }
+      return response("[{\"id\":1,\"type\":\"CHANGE\"}]");
+    }
+
+    private int getCount(String path) {
+      AtomicInteger count = counts.get(path);
+      return count == null ? 0 : count.get();
+    }
+
+    private String testCase(String key) {
+      return "{\"key\":\"" + key + "\",\"updatedOn\":\"" + updatedOn + "\"}";
+    }
+
+    private static Response response(String body) {
+      return new ResponseBuilder()
+          .setStatusCode(200)
+          .setContentType("application/json")
+          .setBody(body)
+          .build();
+    }
+  }
+}
@@ -106,11 +106,88 @@ public class CZApiConfigs {
      * Returns the configured delay (in milliseconds) to wait between API calls.
      *
      * @return delay between calls in milliseconds
+     * @deprecated calls are spaced by {@link #getRateLimitPerSecond()} and the delay is not used
      */
+    @Deprecated
     public static int getDelayBetweenCallsInMilliseconds() {
       return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_ZAPI_DELAY_BETWEEN_CALLS_IN_MILLISECOND);
     }
 
+    /**
+     * Returns the date format of dates used in ZQL queries.
+     *
+     * @return ZQL date format pattern
+     */
+    public static String getSearchDateFormat() {
+      return CHocon.asString(Configs.CATOOLS_ATLASSIAN_ZAPI_SEARCH_DATE_FORMAT);
+    }
+
+    /**
+     * Returns the configured number of search pages to read in parallel.
+     *
+     * @return number of pages to read in parallel
+     * @deprecated search pages are read one after another and the setting is not used
+     */
+    @Deprecated
+    public static int getSearchParallelCount() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_ZAPI_SEARCH_PARALLEL_COUNT);
+    }
+
+    /**
+     * Returns the configured steady rate of ZAPI calls per second shared by all threads.
+     *
+     * @return calls per second, zero or negative value disables the limit
+     */
+    public static int getRateLimitPerSecond() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_ZAPI_RATE_LIMIT_PER_SECOND);
+    }
+
+    /**
+     * Returns the configured maximum number of ZAPI calls which can be sent in a burst.
+     *
+     * @return burst size
+     */
+    public static int getRateLimitBurst() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_ZAPI_RATE_LIMIT_BURST);
+    }
+
+    /**
+     * Returns the configured number of bulk operation partitions to submit at the same time.
+     *
+     * @return number of partitions to submit in parallel
+     */
+    public static int getBulkParallelCount() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_ZAPI_BULK_PARALLEL_COUNT);
+    }
+
+    /**
+     * Returns the configured number of times failed bulk operation partitions are retried.
+     *
+     * @return number of retries
+     */
+    public static int getBulkMaxRetries() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_ZAPI_BULK_MAX_RETRIES);
+    }
+
+    /**
+     * Returns the configured interval (in milliseconds) between polls of server side job progress.
+     *
+     * @return poll interval in milliseconds
+     */
+    public static int getJobProgressPollIntervalInMilliseconds() {
+      return CHocon.asInteger(
+          Configs.CATOOLS_ATLASSIAN_ZAPI_JOB_PROGRESS_POLL_INTERVAL_IN_MILLISECOND);
+    }
+
+    /**
+     * Returns the configured time (in milliseconds) to wait for a server side job to finish.
+     *
+     * @return job timeout in milliseconds
+     */
+    public static int getJobProgressTimeoutInMilliseconds() {
+      return CHocon.asInteger(Configs.CATOOLS_ATLASSIAN_ZAPI_JOB_PROGRESS_TIMEOUT_IN_MILLISECOND);
+    }
+
     /**
      * Enum of configuration paths used by the ZAPI integration.
      *
@@ -141,9 +218,10 @@ public class CZApiConfigs {
       CATOOLS_ATLASSIAN_ZAPI_DATE_FORMAT("catools.atlassian.zapi.date_format"),
 
       /**
-       * Millisecond delay between consecutive ZAPI calls. Path:
+       * Millisecond delay between consecutive ZAPI calls, not used anymore. Path:
        * catools.atlassian.zapi.delay_between_calls_in_millisecond
        */
+      @Deprecated
       CATOOLS_ATLASSIAN_ZAPI_DELAY_BETWEEN_CALLS_IN_MILLISECOND(
           "catools.atlassian.zapi.delay_between_calls_in_millisecond"),
 
@@ -151,7 +229,53 @@ public class CZApiConfigs {
        * Paging/search buffer size for ZAPI requests. Path:
        * catools.atlassian.zapi.search_buffer_size
        */
-      CATOOLS_ATLASSIAN_ZAPI_SEARCH_BUFFER_SIZE("catools.atlassian.zapi.search_buffer_size");
+      CATOOLS_ATLASSIAN_ZAPI_SEARCH_BUFFER_SIZE("catools.atlassian.zapi.search_buffer_size"),
+
+      /**
+       * Date format of dates used in ZQL queries. Path: catools.atlassian.zapi.search_date_format
+       */
+      CATOOLS_ATLASSIAN_ZAPI_SEARCH_DATE_FORMAT("catools.atlassian.zapi.search_date_format"),
+
+      /**
+       * Number of search pages to read in parallel, not used anymore. Path:
+       * catools.atlassian.zapi.search_parallel_count
+       */
+      @Deprecated
+      CATOOLS_ATLASSIAN_ZAPI_SEARCH_PARALLEL_COUNT("catools.atlassian.zapi.search_parallel_count"),
+
+      /**
+       * Steady rate of ZAPI calls per second. Path: catools.atlassian.zapi.rate_limit_per_second
+       */
+      CATOOLS_ATLASSIAN_ZAPI_RATE_LIMIT_PER_SECOND("catools.atlassian.zapi.rate_limit_per_second"),
+
+      /** Maximum burst of ZAPI calls. Path: catools.atlassian.zapi.rate_limit_burst */
+      CATOOLS_ATLASSIAN_ZAPI_RATE_LIMIT_BURST("catools.atlassian.zapi.rate_limit_burst"),
+
+      /**
+       * Number of bulk operation partitions submitted in parallel. Path:
+       * catools.atlassian.zapi.bulk_parallel_count
+       */
+      CATOOLS_ATLASSIAN_ZAPI_BULK_PARALLEL_COUNT("catools.atlassian.zapi.bulk_parallel_count"),
+
+      /**
+       * Number of retries of failed bulk operation partitions. Path:
+       * catools.atlassian.zapi.bulk_max_retries
+       */
+      CATOOLS_ATLASSIAN_ZAPI_BULK_MAX_RETRIES("catools.atlassian.zapi.bulk_max_retries"),
+
+      /**
+       * Millisecond interval between polls of server side job progress. Path:
+       * catools.atlassian.zapi.job_progress_poll_interval_in_millisecond
+       */
+      CATOOLS_ATLASSIAN_ZAPI_JOB_PROGRESS_POLL_INTERVAL_IN_MILLISECOND(
+          "catools.atlassian.zapi.job_progress_poll_interval_in_millisecond"),
+
+      /**
+       * Millisecond time to wait for a server side job to finish. Path:
+       * catools.atlassian.zapi.job_progress_timeout_in_millisecond
+       */
+      CATOOLS_ATLASSIAN_ZAPI_JOB_PROGRESS_TIMEOUT_IN_MILLISECOND(
+          "catools.atlassian.zapi.job_progress_timeout_in_millisecond");
 
       private final String path;
     }
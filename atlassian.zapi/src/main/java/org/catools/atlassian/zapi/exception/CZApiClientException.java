@@ -10,6 +10,15 @@ import org.catools.common.exception.CRuntimeException;
  */
 public class CZApiClientException extends CRuntimeException {
 
+  /**
+   * Constructs a new {@code CZApiClientException} with the specified detail message.
+   *
+   * @param message the detail message explaining the reason for the exception
+   */
+  public CZApiClientException(String message) {
+    super(message);
+  }
+
   /**
    * Constructs a new {@code CZApiClientException} with the specified detail message and cause.
    *
@@ -10,6 +10,15 @@ import org.catools.common.exception.CRuntimeException;
  */
 public class CZApiException extends CRuntimeException {
 
+  /**
+   * Constructs a new {@code CZApiException} with the specified detail message.
+   *
+   * @param message the detail message explaining the reason for the exception
+   */
+  public CZApiException(String message) {
+    super(message);
+  }
+
   /**
    * Constructs a new {@code CZApiException} with the specified detail message and cause.
    *
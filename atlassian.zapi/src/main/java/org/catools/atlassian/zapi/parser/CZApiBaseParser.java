@@ -1,13 +1,18 @@
 package org.catools.atlassian.zapi.parser;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.restassured.path.json.JsonPath;
 import lombok.experimental.UtilityClass;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.catools.atlassian.zapi.configs.CZApiConfigs;
 import org.catools.common.collections.CList;
 import org.catools.common.date.CDate;
 import org.json.JSONObject;
 
+import java.io.IOException;
+
 /**
  * Utility class for parsing data in the ZAPI system.
  *
@@ -58,10 +63,53 @@ public class CZApiBaseParser {
    * @return the parsed {@link CDate} object, or {@code null} if the value is blank
    */
   public static CDate getDate(JSONObject json, String createdDate) {
-    String val = json.optString(createdDate);
+    return toDate(json.optString(createdDate));
+  }
+
+  /**
+   * Parses a date value using the configured date formats.
+   *
+   * @param val the date value
+   * @return the parsed {@link CDate} object, or {@code null} if the value is blank
+   */
+  public static CDate toDate(String val) {
     if (StringUtils.isBlank(val)) {
       return null;
     }
     return CDate.valueOf(val, dateFormats.toArray(new String[dateFormats.size()]));
   }
+
+  /**
+   * Reads the current value of a streaming parser as string, the same way {@link
+   * JSONObject#optString(String)} does for a parsed object. Null values are read as empty string
+   * and nested objects or arrays are skipped.
+   *
+   * @param parser the parser positioned on the value
+   * @return the value as string
+   * @throws IOException if the value cannot be read
+   */
+  public static String getString(JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return StringUtils.EMPTY;
+    }
+    return token == null || token == JsonToken.VALUE_NULL ? StringUtils.EMPTY : parser.getText();
+  }
+
+  /**
+   * Reads the current value of a streaming parser as long, the same way {@link
+   * JSONObject#optLong(String)} does for a parsed object. Values which are not numbers are read as
+   * {@code 0}.
+   *
+   * @param parser the parser positioned on the value
+   * @return the value as long
+   * @throws IOException if the value cannot be read
+   */
+  public static long getLong(JsonParser parser) throws IOException {
+    if (parser.currentToken() != null && parser.currentToken().isNumeric()) {
+      return parser.getValueAsLong();
+    }
+    return NumberUtils.toLong(getString(parser));
+  }
 }
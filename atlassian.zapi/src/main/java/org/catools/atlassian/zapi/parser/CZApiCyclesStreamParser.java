@@ -0,0 +1,161 @@
+package org.catools.atlassian.zapi.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.restassured.response.Response;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.catools.atlassian.zapi.exception.CZApiClientException;
+import org.catools.atlassian.zapi.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import static org.catools.atlassian.zapi.parser.CZApiBaseParser.getLong;
+import static org.catools.atlassian.zapi.parser.CZApiBaseParser.getString;
+import static org.catools.atlassian.zapi.parser.CZApiBaseParser.toDate;
+
+/**
+ * Streaming parser for cycle data in the ZAPI system.
+ *
+ * <p>Unlike {@link CZApiCyclesParser} and {@link CZApiCycleParser}, this parser reads the response
+ * body once with a Jackson {@link JsonParser} and creates each cycle as soon as it is read, without
+ * building a string copy or a DOM of the whole payload.
+ */
+@UtilityClass
+public class CZApiCyclesStreamParser {
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  /**
+   * Parses a {@link CZApiCycles} object for a specific project from the given response.
+   *
+   * @param project the project for which cycles are being parsed
+   * @param response the HTTP response containing the cycle data
+   * @return the parsed {@link CZApiCycles} object
+   */
+  public static CZApiCycles parse(CZApiProject project, Response response) {
+    CZApiCycles output = new CZApiCycles();
+    parse(
+        response.asInputStream(),
+        (projectId, cycle) -> {
+          if (Objects.equals(project.getId(), projectId)) {
+            output.add(cycle.setProject(project));
+          }
+        });
+    return output;
+  }
+
+  /**
+   * Parses a {@link CZApiCycles} object for multiple projects from the given response.
+   *
+   * @param projects the collection of projects to retrieve project details
+   * @param response the HTTP response containing the cycle data
+   * @return the parsed {@link CZApiCycles} object
+   */
+  public static CZApiCycles parse(CZApiProjects projects, Response response) {
+    CZApiCycles output = new CZApiCycles();
+    parse(
+        response.asInputStream(),
+        (projectId, cycle) -> output.add(cycle.setProject(projects.getById(projectId))));
+    return output;
+  }
+
+  /**
+   * Parses cycles keyed by their id from the input stream and passes each of them to the consumer
+   * with the id of its project. The project of the cycle is not set.
+   *
+   * @param input the stream containing the cycle data, it is closed when parsing finishes
+   * @param consumer the consumer to process the project id and cycle
+   * @return the number of cycles passed to the consumer
+   * @throws CZApiClientException if the input cannot be parsed
+   */
+  public static int parse(InputStream input, BiConsumer<Long, CZApiCycle> consumer) {
+    try (JsonParser parser = JSON_FACTORY.createParser(input)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return 0;
+      }
+
+      int count = 0;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String key = parser.currentName();
+        parser.nextToken();
+        if (StringUtils.equalsIgnoreCase(key, "recordsCount")
+            || parser.currentToken() != JsonToken.START_OBJECT) {
+          parser.skipChildren();
+          continue;
+        }
+
+        CZApiCycle cycle = new CZApiCycle();
+        long projectId = readCycle(parser, cycle);
+        cycle.setId(Long.valueOf(key));
+        consumer.accept(projectId, cycle);
+        count++;
+      }
+      return count;
+    } catch (IOException | NumberFormatException e) {
+      throw new CZApiClientException("Could not parse cycle records.", e);
+    }
+  }
+
+  /**
+   * Parses a single {@link CZApiCycle} object from the given projects and response.
+   *
+   * @param projects the collection of projects to retrieve project details
+   * @param response the HTTP response containing the cycle data
+   * @return the parsed {@link CZApiCycle} object
+   * @throws CZApiClientException if the input cannot be parsed
+   */
+  public static CZApiCycle parseCycle(CZApiProjects projects, Response response) {
+    try (JsonParser parser = JSON_FACTORY.createParser(response.asInputStream())) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new CZApiClientException("Cycle response is not a JSON object.");
+      }
+
+      CZApiCycle cycle = new CZApiCycle();
+      long projectId = readCycle(parser, cycle);
+      return cycle.setProject(projects.getById(projectId));
+    } catch (IOException e) {
+      throw new CZApiClientException("Could not parse cycle record.", e);
+    }
+  }
+
+  private static long readCycle(JsonParser parser, CZApiCycle cycle) throws IOException {
+    long projectId = 0;
+    long versionId = 0;
+    String versionName = StringUtils.EMPTY;
+
+    // absent fields are read as empty values, the same as JSONObject#optString does
+    cycle.setDescription(StringUtils.EMPTY);
+    cycle.setEnvironment(StringUtils.EMPTY);
+    cycle.setBuild(StringUtils.EMPTY);
+    cycle.setName(StringUtils.EMPTY);
+    cycle.setModifiedBy(StringUtils.EMPTY);
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "id" -> cycle.setId(getLong(parser));
+        case "projectId" -> projectId = getLong(parser);
+        case "versionId" -> versionId = getLong(parser);
+        case "versionName" -> versionName = getString(parser);
+        case "description" -> cycle.setDescription(getString(parser));
+        case "startDate" -> cycle.setStartDate(toDate(getString(parser)));
+        case "endDate" -> cycle.setEndDate(toDate(getString(parser)));
+        case "environment" -> cycle.setEnvironment(getString(parser));
+        case "build" -> cycle.setBuild(getString(parser));
+        case "name" -> cycle.setName(getString(parser));
+        case "modifiedBy" ->
+            cycle.setModifiedBy(Strings.CS.removeEnd(getString(parser), "(Inactive)"));
+        default -> parser.skipChildren();
+      }
+    }
+
+    cycle.setVersion(new CZApiVersion(versionId, versionName));
+    return projectId;
+  }
+}
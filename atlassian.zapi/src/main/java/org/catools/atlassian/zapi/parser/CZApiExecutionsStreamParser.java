@@ -0,0 +1,263 @@
+package org.catools.atlassian.zapi.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+import lombok.Data;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.catools.atlassian.zapi.exception.CZApiClientException;
+import org.catools.atlassian.zapi.model.CZApiExecution;
+import org.catools.atlassian.zapi.model.CZApiExecutionDefects;
+import org.catools.atlassian.zapi.model.CZApiExecutions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import static org.catools.atlassian.zapi.parser.CZApiBaseParser.getLong;
+import static org.catools.atlassian.zapi.parser.CZApiBaseParser.getString;
+import static org.catools.atlassian.zapi.parser.CZApiBaseParser.toDate;
+
+/**
+ * Streaming parser for execution data in the ZAPI system.
+ *
+ * <p>Unlike {@link CZApiExecutionsParser}, this parser reads the response body once with a Jackson
+ * {@link JsonParser} and passes each execution to the consumer as soon as it is read, without
+ * building a string copy or a DOM of the whole payload. Executions which refer to an execution
+ * status by id are held back only if the {@code status} map appears after the {@code executions}
+ * array.
+ */
+@Slf4j
+@UtilityClass
+public class CZApiExecutionsStreamParser {
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  private static final JsonFactory JSON_FACTORY = MAPPER.getFactory();
+
+  /**
+   * Parses a {@link CZApiExecutions} object from the given HTTP response.
+   *
+   * @param response the HTTP response containing the execution data
+   * @return the parsed {@link CZApiExecutions} object
+   */
+  public static CZApiExecutions parse(Response response) {
+    return parse(response, totalCount -> {});
+  }
+
+  /**
+   * Parses a {@link CZApiExecutions} object from the given HTTP response.
+   *
+   * @param response the HTTP response containing the execution data
+   * @param totalCountConsumer the consumer to receive the {@code totalCount} of the search, it is
+   *     not called if the response does not have it
+   * @return the parsed {@link CZApiExecutions} object
+   */
+  public static CZApiExecutions parse(Response response, LongConsumer totalCountConsumer) {
+    CZApiExecutions output = new CZApiExecutions();
+    int count =
+        parse(
+            response.asInputStream(),
+            execution -> {
+              if (!output.add(execution)) {
+                log.warn(
+                    "Duplicated execution identified during execution records parsing. {} ",
+                    execution);
+              }
+            },
+            totalCountConsumer);
+
+    if (output.size() != count) {
+      log.warn("{} execution records parsed to {} records", count, output.size());
+    }
+    return output;
+  }
+
+  /**
+   * Parses executions from the input stream and passes each of them to the consumer.
+   *
+   * @param input the stream containing the execution data, it is closed when parsing finishes
+   * @param consumer the consumer to process each execution
+   * @return the number of executions passed to the consumer
+   * @throws CZApiClientException if the input cannot be parsed
+   */
+  public static int parse(InputStream input, Consumer<CZApiExecution> consumer) {
+    return parse(input, consumer, totalCount -> {});
+  }
+
+  /**
+   * Parses executions from the input stream and passes each of them to the consumer.
+   *
+   * @param input the stream containing the execution data, it is closed when parsing finishes
+   * @param consumer the consumer to process each execution
+   * @param totalCountConsumer the consumer to receive the {@code totalCount} of the search, it is
+   *     not called if the response does not have it
+   * @return the number of executions passed to the consumer
+   * @throws CZApiClientException if the input cannot be parsed
+   */
+  public static int parse(
+      InputStream input, Consumer<CZApiExecution> consumer, LongConsumer totalCountConsumer) {
+    try (JsonParser parser = JSON_FACTORY.createParser(input)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return 0;
+      }
+
+      Map<String, String> statuses = null;
+      List<ExecutionRecord> pending = new ArrayList<>();
+      int count = 0;
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        parser.nextToken();
+        if ("status".equals(field)) {
+          statuses = readStatuses(parser);
+        } else if ("totalCount".equals(field)) {
+          totalCountConsumer.accept(getLong(parser));
+        } else if ("executions".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            ExecutionRecord record = readExecution(parser);
+            if (statuses == null && record.getStatusName() == null) {
+              pending.add(record);
+            } else {
+              consumer.accept(record.toExecution(statuses));
+              count++;
+            }
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      for (ExecutionRecord record : pending) {
+        consumer.accept(record.toExecution(statuses));
+        count++;
+      }
+      return count;
+    } catch (IOException e) {
+      throw new CZApiClientException("Could not parse execution records.", e);
+    }
+  }
+
+  private static Map<String, String> readStatuses(JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+
+    Map<String, String> statuses = new HashMap<>();
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String id = parser.currentName();
+      parser.nextToken();
+      statuses.put(id, readName(parser));
+    }
+    return statuses;
+  }
+
+  private static String readName(JsonParser parser) throws IOException {
+    String name = null;
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      if ("name".equals(field)) {
+        name = getString(parser);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return name;
+  }
+
+  private static ExecutionRecord readExecution(JsonParser parser) throws IOException {
+    ExecutionRecord record = new ExecutionRecord();
+    CZApiExecution execution = record.getExecution();
+
+    // absent fields are read as empty values, the same as JSONObject#optString and optLong do
+    execution.setId(0L);
+    execution.setOrderId(0L);
+    execution.setCycleId(0L);
+    execution.setIssueId(0L);
+    execution.setExecutedByUserName(StringUtils.EMPTY);
+    execution.setComment(StringUtils.EMPTY);
+    execution.setCycleName(StringUtils.EMPTY);
+    execution.setVersionName(StringUtils.EMPTY);
+    execution.setProjectKey(StringUtils.EMPTY);
+    execution.setProjectName(StringUtils.EMPTY);
+    execution.setIssueKey(StringUtils.EMPTY);
+    execution.setExecutionDefectCount(0L);
+    execution.setStepDefectCount(0L);
+    execution.setTotalDefectCount(0L);
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "id" -> execution.setId(getLong(parser));
+        case "orderId" -> execution.setOrderId(getLong(parser));
+        case "executionStatus" -> record.setStatusId(getString(parser));
+        case "status" -> record.setStatusName(readName(parser));
+        case "executedOn" -> execution.setExecutedOn(toDate(getString(parser)));
+        case "executedByUserName" -> execution.setExecutedByUserName(getString(parser));
+        case "comment" -> execution.setComment(getString(parser));
+        case "cycleId" -> execution.setCycleId(getLong(parser));
+        case "cycleName" -> execution.setCycleName(getString(parser));
+        case "versionName" -> execution.setVersionName(getString(parser));
+        case "projectKey" -> execution.setProjectKey(getString(parser));
+        case "project" -> execution.setProjectName(getString(parser));
+        case "creationDate" -> execution.setCreatedOn(toDate(getString(parser)));
+        case "issueId" -> execution.setIssueId(getLong(parser));
+        case "issueKey" -> execution.setIssueKey(getString(parser));
+        case "executionDefectCount" -> execution.setExecutionDefectCount(getLong(parser));
+        case "stepDefectCount" -> execution.setStepDefectCount(getLong(parser));
+        case "totalDefectCount" -> execution.setTotalDefectCount(getLong(parser));
+        case "executionDefects" -> execution.setExecutionDefects(readDefects(parser));
+        default -> parser.skipChildren();
+      }
+    }
+    return record;
+  }
+
+  private static CZApiExecutionDefects readDefects(JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return null;
+    }
+    return MAPPER.readValue(parser, CZApiExecutionDefects.class);
+  }
+
+  @Data
+  private static class ExecutionRecord {
+    private final CZApiExecution execution = new CZApiExecution();
+    private String statusId;
+    private String statusName;
+
+    private CZApiExecution toExecution(Map<String, String> statuses) {
+      if (statuses != null) {
+        if (!statuses.containsKey(statusId)) {
+          throw new CZApiClientException(
+              "Execution status " + statusId + " is not defined for execution " + execution);
+        }
+        execution.setExecutionStatus(statuses.get(statusId));
+      } else if (statusName != null) {
+        execution.setExecutionStatus(statusName);
+      } else {
+        throw new CZApiClientException("Execution status is not defined for " + execution);
+      }
+      return execution;
+    }
+  }
+}
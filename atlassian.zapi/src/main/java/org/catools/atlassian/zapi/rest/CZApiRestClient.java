@@ -5,8 +5,9 @@ import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.catools.atlassian.zapi.configs.CZApiConfigs;
+import org.catools.atlassian.zapi.exception.CZApiClientException;
+import org.catools.common.concurrent.CRateLimiter;
 import org.catools.common.extensions.verify.CVerify;
-import org.catools.common.utils.CSleeper;
 
 /**
  * Base class for interacting with the ZAPI REST API.
@@ -15,6 +16,9 @@ import org.catools.common.utils.CSleeper;
  * authentication, response verification, and request decoration.
  */
 public class CZApiRestClient {
+  private static final CRateLimiter RATE_LIMITER =
+      new CRateLimiter(
+          CZApiConfigs.ZApi.getRateLimitPerSecond(), CZApiConfigs.ZApi.getRateLimitBurst());
 
   /**
    * Sends a GET request to the specified path.
@@ -73,13 +77,19 @@ public class CZApiRestClient {
   }
 
   /**
-   * Decorates the request specification with authentication, content type, and delay handling.
+   * Decorates the request specification with authentication, content type and rate limit handling.
+   * Calls are spaced by the shared {@link CRateLimiter} instead of a fixed delay.
    *
    * @param request the {@link RequestSpecification} object to decorate
    * @return the decorated {@link RequestSpecification} object
    */
   protected RequestSpecification decorate(RequestSpecification request) {
-    CSleeper.sleepTight(CZApiConfigs.ZApi.getDelayBetweenCallsInMilliseconds());
+    try {
+      RATE_LIMITER.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CZApiClientException("Interrupted while waiting for rate limit.", e);
+    }
     return request
         .auth()
         .preemptive()
@@ -7,8 +7,7 @@ import org.catools.atlassian.zapi.CZApiClient;
 import org.catools.atlassian.zapi.configs.CZApiConfigs;
 import org.catools.atlassian.zapi.exception.CZApiException;
 import org.catools.atlassian.zapi.model.*;
-import org.catools.atlassian.zapi.parser.CZApiCycleParser;
-import org.catools.atlassian.zapi.parser.CZApiCyclesParser;
+import org.catools.atlassian.zapi.parser.CZApiCyclesStreamParser;
 import org.catools.atlassian.zapi.rest.CZApiRestClient;
 import org.catools.common.extensions.verify.CVerify;
 import org.codehaus.jettison.json.JSONObject;
@@ -54,7 +53,7 @@ public class CZApiCycleClient extends CZApiRestClient {
             .basePath("/cycle")
             .queryParam("projectId", project.getId())
             .queryParam("versionId", version.getId());
-    return CZApiCyclesParser.parse(project, get(specification));
+    return CZApiCyclesStreamParser.parse(project, get(specification));
   }
 
   /**
@@ -65,7 +64,7 @@ public class CZApiCycleClient extends CZApiRestClient {
    */
   public CZApiCycle getCycleById(long cycleId) {
     CZApiProjects projects = CZApiClient.Project.getProjects();
-    return CZApiCycleParser.parse(projects, get(String.format("/cycle/%s", cycleId)));
+    return CZApiCyclesStreamParser.parseCycle(projects, get(String.format("/cycle/%s", cycleId)));
   }
 
   /**
@@ -0,0 +1,212 @@
+package org.catools.atlassian.zapi.rest.execution;
+
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.catools.atlassian.zapi.configs.CZApiConfigs;
+import org.catools.atlassian.zapi.exception.CZApiException;
+import org.catools.atlassian.zapi.rest.CZApiRestClient;
+import org.catools.common.concurrent.CParallelRunner;
+import org.catools.common.concurrent.CThreadRunner;
+import org.catools.common.utils.CSleeper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Runs a ZAPI bulk operation over partitions of items.
+ *
+ * <p>Partitions are submitted by up to {@code parallelCount} threads. When the server answers with
+ * a {@code jobProgressToken} the job is handed to a tracker thread which polls the progress of all
+ * outstanding jobs, so submitting threads do not wait for server side jobs to finish. Only the
+ * partitions which could not be submitted or which job reported an error are retried.
+ *
+ * @param <T> the type of items sent to the server
+ */
+@Slf4j
+public class CZApiBulkOperation<T> extends CZApiRestClient {
+  private static final String JOB_PROGRESS_TOKEN = "jobProgressToken";
+
+  private final String name;
+  private final Function<List<T>, Response> submitter;
+  private final int parallelCount;
+  private final int maxRetries;
+
+  /**
+   * Constructs a new bulk operation using the configured parallel count and retries.
+   *
+   * @param name the name of the operation used in logs and thread names
+   * @param submitter the function to send one partition to the server
+   */
+  public CZApiBulkOperation(String name, Function<List<T>, Response> submitter) {
+    this(
+        name,
+        submitter,
+        CZApiConfigs.ZApi.getBulkParallelCount(),
+        CZApiConfigs.ZApi.getBulkMaxRetries());
+  }
+
+  /**
+   * Constructs a new bulk operation.
+   *
+   * @param name the name of the operation used in logs and thread names
+   * @param submitter the function to send one partition to the server
+   * @param parallelCount the maximum number of partitions to submit at the same time
+   * @param maxRetries the number of times failed partitions are submitted again
+   */
+  public CZApiBulkOperation(
+      String name, Function<List<T>, Response> submitter, int parallelCount, int maxRetries) {
+    this.name = name;
+    this.submitter = submitter;
+    this.parallelCount = Math.max(1, parallelCount);
+    this.maxRetries = Math.max(0, maxRetries);
+  }
+
+  /**
+   * Splits items into partitions and submits them until all of them succeed or retries are
+   * exhausted.
+   *
+   * @param items the items to send to the server
+   * @param partitionSize the maximum number of items to send in a single request
+   * @throws CZApiException if some partitions still fail after all retries
+   */
+  public void run(Collection<T> items, int partitionSize) {
+    List<List<T>> partitions = new ArrayList<>();
+    List<T> partition = new ArrayList<>();
+    for (T item : items) {
+      partition.add(item);
+      if (partition.size() == partitionSize) {
+        partitions.add(partition);
+        partition = new ArrayList<>();
+      }
+    }
+    if (!partition.isEmpty()) {
+      partitions.add(partition);
+    }
+
+    for (int attempt = 0; !partitions.isEmpty(); attempt++) {
+      if (attempt > maxRetries) {
+        throw new CZApiException(
+            String.format(
+                "%s failed for %d partitions after %d retries.",
+                name, partitions.size(), maxRetries));
+      }
+      if (attempt > 0) {
+        log.warn("{} failed for {} partitions, retry {}.", name, partitions.size(), attempt);
+      }
+      partitions = runPartitions(partitions);
+    }
+  }
+
+  private List<List<T>> runPartitions(List<List<T>> partitions) {
+    Queue<List<T>> toSubmit = new ConcurrentLinkedQueue<>(partitions);
+    Map<String, TrackedJob<T>> jobs = new ConcurrentHashMap<>();
+    List<List<T>> failed = Collections.synchronizedList(new ArrayList<>());
+    AtomicBoolean submitting = new AtomicBoolean(true);
+
+    Thread tracker = CThreadRunner.run(() -> trackJobs(jobs, failed, submitting));
+    try {
+      new CParallelRunner<>(
+              name,
+              Math.min(parallelCount, partitions.size()),
+              () -> {
+                List<T> partition;
+                while ((partition = toSubmit.poll()) != null) {
+                  submit(partition, jobs, failed);
+                }
+                return true;
+              })
+          .invokeAll();
+    } catch (Throwable t) {
+      throw new CZApiException(name + " could not submit partitions.", t);
+    } finally {
+      submitting.set(false);
+    }
+
+    try {
+      tracker.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CZApiException(name + " interrupted while waiting for jobs to finish.", e);
+    }
+    return new ArrayList<>(failed);
+  }
+
+  private void submit(List<T> partition, Map<String, TrackedJob<T>> jobs, List<List<T>> failed) {
+    try {
+      Response response = submitter.apply(partition);
+      String token = getString(response, JOB_PROGRESS_TOKEN);
+      if (StringUtils.isNotBlank(token)) {
+        long deadline =
+            System.currentTimeMillis() + CZApiConfigs.ZApi.getJobProgressTimeoutInMilliseconds();
+        jobs.put(token, new TrackedJob<>(partition, deadline));
+      }
+    } catch (Throwable t) {
+      log.warn("{} could not submit partition of {} items.", name, partition.size(), t);
+      failed.add(partition);
+    }
+  }
+
+  private void trackJobs(
+      Map<String, TrackedJob<T>> jobs, List<List<T>> failed, AtomicBoolean submitting) {
+    int pollInterval = CZApiConfigs.ZApi.getJobProgressPollIntervalInMilliseconds();
+    while (submitting.get() || !jobs.isEmpty()) {
+      for (Map.Entry<String, TrackedJob<T>> job : jobs.entrySet()) {
+        if (isJobFinished(job.getKey(), job.getValue(), failed)) {
+          jobs.remove(job.getKey());
+        }
+      }
+      CSleeper.sleepTight(pollInterval);
+    }
+  }
+
+  private boolean isJobFinished(String token, TrackedJob<T> job, List<List<T>> failed) {
+    try {
+      Response response = get("/execution/jobProgress/" + token);
+      String error = getString(response, "errorMessage");
+      if (StringUtils.isNotBlank(error)) {
+        log.warn("{} job {} failed. {}", name, token, error);
+        failed.add(job.getPartition());
+        return true;
+      }
+
+      Object progress = JsonPath.from(response.asString()).get("progress");
+      if (progress instanceof Number number && number.doubleValue() >= 1) {
+        log.trace("{} job {} finished for {} items.", name, token, job.getPartition().size());
+        return true;
+      }
+    } catch (Throwable t) {
+      log.debug("{} could not read progress of job {}.", name, token, t);
+    }
+
+    if (System.currentTimeMillis() > job.getDeadline()) {
+      log.warn("{} job {} did not finish in time.", name, token);
+      failed.add(job.getPartition());
+      return true;
+    }
+    return false;
+  }
+
+  private static String getString(Response response, String path) {
+    String body = response.asString();
+    return StringUtils.isBlank(body) || !body.trim().startsWith("{")
+        ? null
+        : JsonPath.from(body).getString(path);
+  }
+
+  @Value
+  private static class TrackedJob<T> {
+    List<T> partition;
+    long deadline;
+  }
+}
@@ -9,7 +9,6 @@ import org.catools.atlassian.zapi.exception.CZApiException;
 import org.catools.atlassian.zapi.model.CZApiCycle;
 import org.catools.atlassian.zapi.model.CZApiExecutions;
 import org.catools.atlassian.zapi.rest.CZApiRestClient;
-import org.catools.common.collections.CList;
 import org.catools.common.collections.CSet;
 import org.codehaus.jettison.json.JSONObject;
 
@@ -17,7 +16,8 @@ import org.codehaus.jettison.json.JSONObject;
  * Client class for managing test executions in the ZAPI system.
  *
  * <p>This class provides methods to add tests to a cycle and update the status of executions in
- * bulk.
+ * bulk. Bulk requests are sent through {@link CZApiBulkOperation}, which submits partitions
+ * concurrently and retries only the failed ones.
  */
 @Slf4j
 public class CZApiExecutionClient extends CZApiRestClient {
@@ -49,30 +49,33 @@ public class CZApiExecutionClient extends CZApiRestClient {
    */
   public void addTestsToCycle(
       Long projectId, Long versionId, Long cycleId, CSet<String> issueKeys, int partitionSize) {
-    for (CList<String> keys : issueKeys.partition(partitionSize)) {
-      log.trace("Add executions for items: {}", keys);
-      JSONObject entity;
-      try {
-        // Builds the JSON payload for the request
-        entity =
-            new JSONObject()
-                .put("issues", keys)
-                .put("method", "1")
-                .put("cycleId", cycleId)
-                .put("projectId", projectId)
-                .put("versionId", versionId);
-      } catch (Exception e) {
-        throw new CZApiException("Failed to build JSONObject", e);
-      }
+    new CZApiBulkOperation<String>(
+            "Add Tests To Cycle " + cycleId,
+            keys -> {
+              log.trace("Add executions for items: {}", keys);
+              JSONObject entity;
+              try {
+                // Builds the JSON payload for the request
+                entity =
+                    new JSONObject()
+                        .put("issues", keys)
+                        .put("method", "1")
+                        .put("cycleId", cycleId)
+                        .put("projectId", projectId)
+                        .put("versionId", versionId);
+              } catch (Exception e) {
+                throw new CZApiException("Failed to build JSONObject", e);
+              }
 
-      // Sends the request to add tests to the cycle
-      RequestSpecification specification =
-          RestAssured.given()
-              .baseUri(CZApiConfigs.ZApi.getZApiUri())
-              .basePath("/execution/addTestsToCycle")
-              .body(entity.toString());
-      post(specification);
-    }
+              // Sends the request to add tests to the cycle
+              RequestSpecification specification =
+                  RestAssured.given()
+                      .baseUri(CZApiConfigs.ZApi.getZApiUri())
+                      .basePath("/execution/addTestsToCycle")
+                      .body(entity.toString());
+              return post(specification);
+            })
+        .run(issueKeys, partitionSize);
   }
 
   /**
@@ -104,22 +107,32 @@ public class CZApiExecutionClient extends CZApiRestClient {
    */
   public void updateBulkStatus(
       CSet<Long> executionIds, CZApiExecutionStatus status, int partitionSize) {
+    String statusId = CZApiConfigs.ZApi.getStatusMap().get(status.name());
     try {
-      for (CList<Long> ids : executionIds.partition(partitionSize)) {
-        // Builds the JSON payload for the request
-        JSONObject entity =
-            new JSONObject()
-                .put("executions", ids)
-                .put("status", CZApiConfigs.ZApi.getStatusMap().get(status.name()));
-        RequestSpecification specification =
-            RestAssured.given()
-                .baseUri(CZApiConfigs.ZApi.getZApiUri())
-                .basePath("/execution/updateBulkStatus")
-                .body(entity.toString());
-        Response response = put(specification);
-        log.debug(
-            "response code:" + response.statusCode() + ", message:" + response.body().asString());
-      }
+      new CZApiBulkOperation<Long>(
+              "Update Bulk Status " + status,
+              ids -> {
+                JSONObject entity;
+                try {
+                  // Builds the JSON payload for the request
+                  entity = new JSONObject().put("executions", ids).put("status", statusId);
+                } catch (Exception e) {
+                  throw new CZApiException("Failed to build JSONObject", e);
+                }
+                RequestSpecification specification =
+                    RestAssured.given()
+                        .baseUri(CZApiConfigs.ZApi.getZApiUri())
+                        .basePath("/execution/updateBulkStatus")
+                        .body(entity.toString());
+                Response response = put(specification);
+                log.debug(
+                    "response code:"
+                        + response.statusCode()
+                        + ", message:"
+                        + response.body().asString());
+                return response;
+              })
+          .run(executionIds, partitionSize);
     } catch (Exception e) {
       throw new CZApiException("Could not update execution statuses", e);
     }
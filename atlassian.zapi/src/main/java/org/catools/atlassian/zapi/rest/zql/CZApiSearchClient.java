@@ -6,7 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.catools.atlassian.zapi.configs.CZApiConfigs;
 import org.catools.atlassian.zapi.exception.CZApiClientException;
 import org.catools.atlassian.zapi.model.CZApiExecutions;
-import org.catools.atlassian.zapi.parser.CZApiExecutionsParser;
+import org.catools.atlassian.zapi.parser.CZApiExecutionsStreamParser;
 import org.catools.atlassian.zapi.rest.CZApiRestClient;
 import org.catools.common.concurrent.CParallelIO;
 import org.catools.common.date.CDate;
@@ -14,7 +14,9 @@ import org.catools.common.utils.CRetry;
 
 import java.util.Date;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 /**
  * Client class for searching test executions in the ZAPI system using ZQL queries.
@@ -111,33 +113,89 @@ public class CZApiSearchClient extends CZApiRestClient {
       int parallelOutputCount,
       Consumer<CZApiExecutions> supplier) {
     CZApiExecutions executions = new CZApiExecutions();
-    CParallelIO<CZApiExecutions> parallelIO =
-        new CParallelIO<>("Search ZApi Executions", parallelInputCount, parallelOutputCount);
+    forEachExecutions(
+        zql,
+        lastSyncDate,
+        parallelInputCount,
+        parallelOutputCount,
+        page -> {
+          synchronized (executions) {
+            executions.addAll(page);
+          }
+          if (supplier != null) {
+            supplier.accept(page);
+          }
+        });
+    log.info("{} execution record returned for ZQL = {}", executions.size(), zql);
+    return executions;
+  }
 
+  /**
+   * Reads test executions page by page and passes each page to the consumer without keeping them.
+   *
+   * <p>The first page is read to find the total number of executions, then the offsets of the
+   * remaining pages are computed from it and pages are read by {@code parallelInputCount} threads.
+   * If the server does not report the total, pages are read until an empty page is returned. The
+   * consumer is called from {@code parallelOutputCount} threads and should be thread safe.
+   *
+   * @param zql the ZQL query string
+   * @param modifiedSince the date to filter executions created or executed after this date, or
+   *     null to read all executions
+   * @param parallelInputCount the number of parallel input threads
+   * @param parallelOutputCount the number of parallel output threads
+   * @param consumer a consumer to process each page of executions
+   * @return the number of executions passed to the consumer
+   */
+  public int forEachExecutions(
+      String zql,
+      Date modifiedSince,
+      int parallelInputCount,
+      int parallelOutputCount,
+      Consumer<CZApiExecutions> consumer) {
     int maxResult = CZApiConfigs.ZApi.getSearchBufferSize();
-    AtomicInteger counter = new AtomicInteger(0);
+    AtomicLong totalCount = new AtomicLong(-1);
+    AtomicInteger read = new AtomicInteger();
+
+    CZApiExecutions firstPage =
+        CRetry.retry(
+            integer -> _getExecutions(zql, modifiedSince, 0, maxResult, totalCount::set), 5, 5000);
+    if (firstPage == null || firstPage.isEmpty()) {
+      return 0;
+    }
+
+    consumer.accept(firstPage);
+    read.addAndGet(firstPage.size());
+    if (totalCount.get() >= 0 && totalCount.get() <= maxResult) {
+      return read.get();
+    }
+
+    log.info("{} execution records to read for ZQL = {}", totalCount.get(), zql);
+    CParallelIO<CZApiExecutions> parallelIO =
+        new CParallelIO<>("Search ZApi Executions", parallelInputCount, parallelOutputCount);
+    AtomicInteger counter = new AtomicInteger(1);
 
     parallelIO.setInputExecutor(
         eof -> {
           int startAt = counter.getAndIncrement() * maxResult;
+          if (totalCount.get() >= 0 && startAt >= totalCount.get()) {
+            eof.set(true);
+            return null;
+          }
+
           CZApiExecutions search =
               CRetry.retry(
-                  integer -> _getExecutions(zql, lastSyncDate, startAt, maxResult), 5, 5000);
-
+                  integer -> _getExecutions(zql, modifiedSince, startAt, maxResult, null), 5, 5000);
           if (search == null || search.isEmpty()) {
-            log.info("{} execution record returned for ZQL = {}", executions.size(), zql);
             eof.set(true);
-          } else {
-            executions.addAll(search);
-            eof.set(false);
           }
           return search;
         });
 
     parallelIO.setOutputExecutor(
-        (eof, issues) -> {
-          if (supplier != null && issues != null && issues.isNotEmpty()) {
-            supplier.accept(issues);
+        (eof, page) -> {
+          if (page != null && page.isNotEmpty()) {
+            consumer.accept(page);
+            read.addAndGet(page.size());
           }
         });
 
@@ -147,7 +205,7 @@ public class CZApiSearchClient extends CZApiRestClient {
       throw new CZApiClientException("Could not finish search.", t);
     }
 
-    return executions;
+    return read.get();
   }
 
   /**
@@ -158,15 +216,20 @@ public class CZApiSearchClient extends CZApiRestClient {
    * @param lastSyncDate the date to filter executions created or executed after this date
    * @param offset the starting index for the query results
    * @param maxResults the maximum number of results to retrieve
+   * @param totalCountConsumer the consumer to receive the total number of executions, or null
    * @return a {@link CZApiExecutions} object containing the test executions
    */
   private CZApiExecutions _getExecutions(
-      String zql, Date lastSyncDate, int offset, int maxResults) {
+      String zql,
+      Date lastSyncDate,
+      int offset,
+      int maxResults,
+      LongConsumer totalCountConsumer) {
     if (lastSyncDate != null) {
       zql +=
           String.format(
               " AND (creationDate >= '%1$s' or executionDate >= '%1$s')",
-              new CDate(lastSyncDate).toFormat("yyyy/MM/dd"));
+              new CDate(lastSyncDate).toFormat(CZApiConfigs.ZApi.getSearchDateFormat()));
     }
 
     log.info("Execute Search {}, maxResults:{}, startAt:{}", zql, maxResults, offset);
@@ -178,6 +241,8 @@ public class CZApiSearchClient extends CZApiRestClient {
             .queryParam("offset", offset)
             .queryParam("maxRecords", maxResults);
 
-    return CZApiExecutionsParser.parse(get(specification));
+    return totalCountConsumer == null
+        ? CZApiExecutionsStreamParser.parse(get(specification))
+        : CZApiExecutionsStreamParser.parse(get(specification), totalCountConsumer);
   }
 }
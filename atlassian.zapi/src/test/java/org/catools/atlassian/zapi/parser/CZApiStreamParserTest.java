@@ -0,0 +1,183 @@
+package org.catools.atlassian.zapi.parser;
+
+import com.sun.management.ThreadMXBean;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.catools.atlassian.zapi.model.*;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.utils.CResourceUtil;
+import org.testng.annotations.Test;
+
+@Slf4j
+public class CZApiStreamParserTest {
+  private static final int LARGE_EXECUTIONS = 5000;
+  private static final int LARGE_CYCLES = 2000;
+  private static final int COMPARISON_ROUNDS = 5;
+
+  @Test
+  public void testParseExecutionsWithStatusMapAfterExecutions() {
+    Response response = response(CResourceUtil.getString("executions.json", getClass()));
+    CZApiExecutions executions = CZApiExecutionsStreamParser.parse(response);
+
+    CVerify.Object.equals(
+        executions, CZApiExecutionsParser.parse(response), "Both parsers read same executions");
+    CZApiExecution first = executions.getFirst(e -> e.getId() == 1001);
+    CVerify.String.equals(first.getExecutionStatus(), "PASS", "Status is resolved by id");
+    CVerify.Int.equals(first.getExecutionDefects().size(), 1, "Defects are read");
+    CVerify.String.equals(
+        first.getExecutionDefects().getFirst().getDefectKey(), "PRJ-9", "Defect key is read");
+    CZApiExecution second = executions.getFirst(e -> e.getId() == 1002);
+    CVerify.String.equals(second.getExecutionStatus(), "FAIL", "Status is resolved by id");
+    CVerify.String.equals(second.getComment(), "", "Null value is read as empty string");
+    CVerify.Object.isNull(second.getExecutedOn(), "Null date is read as null");
+  }
+
+  @Test
+  public void testParseExecutionsWithInlineStatus() {
+    Response response =
+        response(CResourceUtil.getString("executionsWithInlineStatus.json", getClass()));
+    CZApiExecutions executions = CZApiExecutionsStreamParser.parse(response);
+
+    CVerify.Object.equals(
+        executions, CZApiExecutionsParser.parse(response), "Both parsers read same executions");
+    CVerify.String.equals(
+        executions.getFirst().getExecutionStatus(), "WIP", "Inline status is read");
+    CVerify.Long.equals(executions.getFirst().getIssueId(), 2003L, "Numeric string is read");
+  }
+
+  @Test
+  public void testParseEmptyExecutions() {
+    CVerify.Int.equals(
+        CZApiExecutionsStreamParser.parse(response("")).size(), 0, "Empty body has no execution");
+  }
+
+  @Test
+  public void testParseCycles() {
+    Response response = response(CResourceUtil.getString("cycles.json", getClass()));
+    CZApiProjects projects =
+        new CZApiProjects(
+            new CZApiProject().setId(100L).setName("Project"),
+            new CZApiProject().setId(101L).setName("Other"));
+
+    CZApiCycles cycles = CZApiCyclesStreamParser.parse(projects, response);
+    CVerify.Object.equals(
+        cycles, CZApiCyclesParser.parse(projects, response), "Both parsers read same cycles");
+    CVerify.Int.equals(cycles.size(), 3, "All cycles are read");
+
+    CZApiCycle regression = cycles.getFirst(c -> c.getId() == 10);
+    CVerify.String.equals(regression.getModifiedBy(), "jdoe ", "Inactive suffix is removed");
+    CVerify.String.equals(regression.getVersion().getName(), "1.0", "Version is read");
+    CVerify.Object.isNotNull(regression.getStartDate(), "Start date is read");
+
+    CZApiCycles projectCycles = CZApiCyclesStreamParser.parse(projects.getById(101), response);
+    CVerify.Int.equals(projectCycles.size(), 1, "Only cycles of the project are read");
+    CVerify.String.equals(projectCycles.getFirst().getName(), "Smoke", "Project cycle is read");
+  }
+
+  @Test
+  public void testParseLargeExecutions() {
+    Response response = response(largeExecutionsPayload());
+    CZApiExecutions executions = CZApiExecutionsStreamParser.parse(response);
+
+    CVerify.Int.equals(executions.size(), LARGE_EXECUTIONS, "All executions are read");
+    CVerify.Object.equals(
+        executions, CZApiExecutionsParser.parse(response), "Both parsers read same executions");
+  }
+
+  @Test
+  public void testCompareWithDomParsers() {
+    // only logs the numbers, they depend on the JVM and warm-up too much to assert on
+    Response executions = response(largeExecutionsPayload());
+    compare(
+        "executions",
+        () -> CZApiExecutionsParser.parse(executions),
+        () -> CZApiExecutionsStreamParser.parse(executions));
+
+    Response cycles = response(largeCyclesPayload());
+    CZApiProjects projects = new CZApiProjects(new CZApiProject().setId(100L).setName("Project"));
+    compare(
+        "cycles",
+        () -> CZApiCyclesParser.parse(projects, cycles),
+        () -> CZApiCyclesStreamParser.parse(projects, cycles));
+  }
+
+  private static void compare(String name, Supplier<?> domParser, Supplier<?> streamParser) {
+    long[] dom = measure(domParser);
+    long[] stream = measure(streamParser);
+    log.info(
+        "Parsing {} per round: DOM {} KB/{} ms, streaming {} KB/{} ms.",
+        name,
+        dom[0] / 1024,
+        dom[1],
+        stream[0] / 1024,
+        stream[1]);
+  }
+
+  private static long[] measure(Supplier<?> parser) {
+    ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().threadId();
+
+    // warm up
+    for (int i = 0; i < COMPARISON_ROUNDS; i++) {
+      parser.get();
+    }
+
+    long bytes = threadBean.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+    for (int i = 0; i < COMPARISON_ROUNDS; i++) {
+      parser.get();
+    }
+    long elapsed = System.nanoTime() - start;
+    bytes = threadBean.getThreadAllocatedBytes(threadId) - bytes;
+    return new long[] {bytes / COMPARISON_ROUNDS, elapsed / COMPARISON_ROUNDS / 1_000_000};
+  }
+
+  private static String largeCyclesPayload() {
+    List<String> cycles = new ArrayList<>();
+    for (int i = 0; i < LARGE_CYCLES; i++) {
+      cycles.add(
+          String.format(
+              "\"%1$d\": {\"projectId\": 100, \"versionId\": 200, \"versionName\": \"1.0\","
+                  + " \"name\": \"Cycle %1$d\", \"description\": \"Cycle description %1$d\","
+                  + " \"startDate\": \"01/Mar/24\", \"endDate\": \"31/Mar/24\","
+                  + " \"environment\": \"QA\", \"build\": \"1.0.%1$d\","
+                  + " \"modifiedBy\": \"user%2$d\", \"totalExecutions\": %1$d}",
+              i, i % 10));
+    }
+    return "{" + String.join(",", cycles) + ", \"recordsCount\": " + LARGE_CYCLES + "}";
+  }
+
+  private static String largeExecutionsPayload() {
+    List<String> executions = new ArrayList<>();
+    for (int i = 0; i < LARGE_EXECUTIONS; i++) {
+      executions.add(
+          String.format(
+              "{\"id\": %1$d, \"orderId\": %1$d, \"executionStatus\": \"%2$d\","
+                  + " \"executedOn\": \"12/Mar/24\", \"executedByUserName\": \"user%3$d\","
+                  + " \"comment\": \"Execution comment %1$d\", \"cycleId\": 10,"
+                  + " \"cycleName\": \"Regression\", \"versionName\": \"1.0\","
+                  + " \"projectKey\": \"PRJ\", \"project\": \"Project\","
+                  + " \"creationDate\": \"10/Mar/24\", \"issueId\": %1$d,"
+                  + " \"issueKey\": \"PRJ-%1$d\", \"executionDefectCount\": 0,"
+                  + " \"stepDefectCount\": 0, \"totalDefectCount\": 0,"
+                  + " \"htmlComment\": \"<p>Execution comment %1$d</p>\"}",
+              i, i % 2 + 1, i % 10));
+    }
+    return "{\"executions\": ["
+        + String.join(",", executions)
+        + "], \"status\": {\"1\": {\"name\": \"PASS\"}, \"2\": {\"name\": \"FAIL\"}}}";
+  }
+
+  private static Response response(String body) {
+    return new ResponseBuilder()
+        .setStatusCode(200)
+        .setContentType("application/json")
+        .setBody(body)
+        .build();
+  }
+}
@@ -0,0 +1,83 @@
+package org.catools.atlassian.zapi.rest.execution;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.catools.atlassian.zapi.exception.CZApiException;
+import org.catools.common.extensions.verify.CVerify;
+import org.testng.annotations.Test;
+
+public class CZApiBulkOperationTest {
+
+  @Test
+  public void testSubmitAllPartitions() {
+    List<Integer> submitted = Collections.synchronizedList(new ArrayList<>());
+    new CZApiBulkOperation<Integer>(
+            "Submit All",
+            items -> {
+              submitted.addAll(items);
+              return response("");
+            },
+            4,
+            0)
+        .run(items(95), 10);
+
+    CVerify.Int.equals(submitted.size(), 95, "All items are submitted once");
+    CVerify.Collection.containsAll(submitted, items(95), "All items are submitted");
+  }
+
+  @Test
+  public void testRetryOnlyFailedPartitions() {
+    Map<Integer, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    new CZApiBulkOperation<Integer>(
+            "Retry Failed",
+            items -> {
+              int attempt =
+                  attempts
+                      .computeIfAbsent(items.get(0), k -> new AtomicInteger())
+                      .incrementAndGet();
+              if (items.get(0) == 20 && attempt < 3) {
+                throw new IllegalStateException("Partition failed");
+              }
+              return response("{\"success\":\"ok\"}");
+            },
+            4,
+            2)
+        .run(items(50), 10);
+
+    CVerify.Int.equals(attempts.size(), 5, "All partitions are submitted");
+    CVerify.Int.equals(attempts.get(20).get(), 3, "Failed partition is retried");
+    CVerify.Int.equals(attempts.get(0).get(), 1, "Successful partition is not retried");
+  }
+
+  @Test(expectedExceptions = CZApiException.class)
+  public void testFailAfterRetries() {
+    new CZApiBulkOperation<Integer>(
+            "Always Fail",
+            items -> {
+              throw new IllegalStateException("Partition failed");
+            },
+            2,
+            1)
+        .run(items(5), 2);
+  }
+
+  private static List<Integer> items(int count) {
+    return IntStream.range(0, count).boxed().collect(Collectors.toList());
+  }
+
+  private static Response response(String body) {
+    return new ResponseBuilder()
+        .setStatusCode(200)
+        .setContentType("application/json")
+        .setBody(body)
+        .build();
+  }
+}
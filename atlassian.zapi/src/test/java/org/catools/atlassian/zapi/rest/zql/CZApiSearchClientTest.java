@@ -0,0 +1,119 @@
+package org.catools.atlassian.zapi.rest.zql;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.catools.atlassian.zapi.configs.CZApiConfigs;
+import org.catools.atlassian.zapi.model.CZApiExecution;
+import org.catools.common.extensions.verify.CVerify;
+import org.testng.annotations.Test;
+
+public class CZApiSearchClientTest {
+
+  @Test
+  public void testReadAllPagesOfTotalCount() {
+    int pageSize = CZApiConfigs.ZApi.getSearchBufferSize();
+    int total = pageSize * 3 + pageSize / 2;
+    StubClient client = new StubClient(total, true);
+    List<Long> ids = Collections.synchronizedList(new ArrayList<>());
+
+    int read = client.forEachExecutions("project = PRJ", null, 3, 2, page -> ids.addAll(ids(page)));
+
+    CVerify.Int.equals(read, total, "All executions are counted");
+    CVerify.Collection.equals(sorted(ids), expectedIds(total), "All executions are read once");
+    CVerify.Collection.equals(
+        new ArrayList<>(new TreeSet<>(client.offsets)),
+        List.of(0, pageSize, pageSize * 2, pageSize * 3),
+        "Only pages within the total count are requested");
+  }
+
+  @Test
+  public void testReadSinglePage() {
+    int pageSize = CZApiConfigs.ZApi.getSearchBufferSize();
+    StubClient client = new StubClient(pageSize / 2, true);
+
+    int read = client.forEachExecutions("project = PRJ", null, 3, 2, page -> {});
+
+    CVerify.Int.equals(read, pageSize / 2, "All executions are counted");
+    CVerify.Collection.equals(
+        new ArrayList<>(client.offsets), List.of(0), "Only first page is requested");
+  }
+
+  @Test
+  public void testReadUntilEmptyPageWithoutTotalCount() {
+    int pageSize = CZApiConfigs.ZApi.getSearchBufferSize();
+    int total = pageSize * 2 + 1;
+    StubClient client = new StubClient(total, false);
+    List<Long> ids = Collections.synchronizedList(new ArrayList<>());
+
+    int read = client.forEachExecutions("project = PRJ", null, 1, 1, page -> ids.addAll(ids(page)));
+
+    CVerify.Int.equals(read, total, "All executions are counted");
+    CVerify.Collection.equals(sorted(ids), expectedIds(total), "All executions are read once");
+  }
+
+  private static List<Long> ids(Iterable<CZApiExecution> page) {
+    List<Long> ids = new ArrayList<>();
+    page.forEach(execution -> ids.add(execution.getId()));
+    return ids;
+  }
+
+  private static List<Long> sorted(List<Long> ids) {
+    synchronized (ids) {
+      return ids.stream().sorted().collect(Collectors.toList());
+    }
+  }
+
+  private static List<Long> expectedIds(int total) {
+    return LongStream.range(0, total).boxed().collect(Collectors.toList());
+  }
+
+  private static class StubClient extends CZApiSearchClient {
+    private final Set<Integer> offsets = ConcurrentHashMap.newKeySet();
+    private final int total;
+    private final boolean reportTotal;
+
+    private StubClient(int total, boolean reportTotal) {
+      this.total = total;
+      this.reportTotal = reportTotal;
+    }
+
+    @Override
+    protected Response get(RequestSpecification request) {
+      FilterableRequestSpecification specification = (FilterableRequestSpecification) request;
+      int offset = Integer.parseInt(specification.getQueryParams().get("offset").toString());
+      int maxRecords =
+          Integer.parseInt(specification.getQueryParams().get("maxRecords").toString());
+      offsets.add(offset);
+
+      List<String> executions = new ArrayList<>();
+      for (int i = offset; i < Math.min(offset + maxRecords, total); i++) {
+        executions.add(
+            String.format(
+                "{\"id\": %1$d, \"orderId\": %1$d, \"executionStatus\": \"1\", \"issueId\": %1$d,"
+                    + " \"issueKey\": \"PRJ-%1$d\"}",
+                i));
+      }
+      String body =
+          "{"
+              + (reportTotal ? "\"totalCount\": " + total + ", " : "")
+              + "\"executions\": ["
+              + String.join(",", executions)
+              + "], \"status\": {\"1\": {\"name\": \"PASS\"}}}";
+      return new ResponseBuilder()
+          .setStatusCode(200)
+          .setContentType("application/json")
+          .setBody(body)
+          .build();
+    }
+  }
+}
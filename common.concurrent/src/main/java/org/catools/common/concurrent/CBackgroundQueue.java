@@ -0,0 +1,165 @@
+package org.catools.common.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A bounded queue which hands its items to background threads in batches.
+ *
+ * <p>Producers only put items in the queue, and worker threads take up to {@code batchSize} items
+ * at a time and pass them to the handler. When the queue is full, producers wait until the workers
+ * catch up, so memory use stays bounded. Exceptions thrown by the handler are logged and the
+ * workers keep running, so the handler should take care of items it could not process.
+ *
+ * <p>{@link #close()} stops accepting items, waits for the workers and handles anything left in the
+ * queue on the calling thread. Items added after the queue is closed are handled on the calling
+ * thread. A shutdown hook closes the queue if it is not closed before the JVM exits.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * try (CBackgroundQueue<String> queue =
+ *     new CBackgroundQueue<>("Writer", 1000, 1, 50, batch -> repository.saveAll(batch))) {
+ *   queue.add("item");
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the queued items
+ */
+@Slf4j
+public class CBackgroundQueue<T> implements AutoCloseable {
+  private final String name;
+  private final Consumer<List<T>> handler;
+  private final BlockingQueue<T> queue;
+  private final int batchSize;
+  private final List<Thread> workers = new ArrayList<>();
+  private final Thread shutdownHook;
+  private volatile boolean closed;
+
+  /**
+   * Creates the queue and starts its worker threads.
+   *
+   * @param name the name prefix of the worker threads
+   * @param queueCapacity the maximum number of items waiting to be handled
+   * @param threadsCount the number of worker threads
+   * @param batchSize the maximum number of items passed to the handler at once
+   * @param handler handles a batch of items
+   */
+  public CBackgroundQueue(
+      String name, int queueCapacity, int threadsCount, int batchSize, Consumer<List<T>> handler) {
+    this.name = Objects.requireNonNull(name);
+    this.handler = Objects.requireNonNull(handler);
+    this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    this.batchSize = Math.max(1, batchSize);
+
+    CNamedThread threadFactory = new CNamedThread(name);
+    this.shutdownHook = threadFactory.newThread(this::close);
+    Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+    for (int i = 0; i < Math.max(1, threadsCount); i++) {
+      Thread worker = threadFactory.newThread(this::runWorker);
+      worker.start();
+      workers.add(worker);
+    }
+  }
+
+  /**
+   * Adds the item to the queue, waiting for space if the queue is full. After the queue is closed,
+   * or if the calling thread is interrupted while waiting, the item is handled on the calling
+   * thread.
+   *
+   * @param item the item to add
+   */
+  public void add(T item) {
+    Objects.requireNonNull(item);
+    try {
+      while (!closed) {
+        if (queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    handle(List.of(item));
+  }
+
+  /**
+   * The number of items which are waiting to be handled.
+   *
+   * @return number of queued items
+   */
+  public int getPendingCount() {
+    return queue.size();
+  }
+
+  /** Stops accepting items to the queue and waits until all queued items are handled. */
+  @Override
+  public void close() {
+    synchronized (queue) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+
+    for (Thread worker : workers) {
+      try {
+        worker.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    // handle anything queued after the workers stopped
+    List<T> batch;
+    while (!(batch = takeBatch(batchSize)).isEmpty()) {
+      handle(batch);
+    }
+
+    try {
+      Runtime.getRuntime().removeShutdownHook(shutdownHook);
+    } catch (IllegalStateException e) {
+      // the JVM is already shutting down and the hook is running or has run
+    }
+  }
+
+  private void runWorker() {
+    while (!closed || !queue.isEmpty()) {
+      try {
+        T first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        List<T> batch = takeBatch(batchSize - 1);
+        batch.add(0, first);
+        handle(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private List<T> takeBatch(int maxSize) {
+    List<T> batch = new ArrayList<>(batchSize);
+    queue.drainTo(batch, maxSize);
+    return batch;
+  }
+
+  private void handle(List<T> batch) {
+    try {
+      handler.accept(batch);
+    } catch (Throwable t) {
+      log.error("{} failed to handle {} items.", name, batch.size(), t);
+    }
+  }
+}
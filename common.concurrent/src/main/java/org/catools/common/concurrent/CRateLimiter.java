@@ -0,0 +1,135 @@
+package org.catools.common.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter which can be shared by all threads calling the same server. The bucket
+ * holds up to {@code burst} tokens and is refilled at {@code callsPerSecond}, so concurrent callers
+ * together never exceed the rate. Each call takes one token and waits if the bucket is empty or if
+ * calls are paused, for example because the server asked for it.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * CRateLimiter rateLimiter = new CRateLimiter(10, 5);
+ * rateLimiter.acquire();
+ * client.call();
+ * }</pre>
+ */
+public class CRateLimiter {
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private double capacity;
+  private double tokensPerNano;
+  private double tokens;
+  private long lastRefill = System.nanoTime();
+  private long pausedUntil = lastRefill;
+
+  /**
+   * Constructs a new rate limiter with a full bucket.
+   *
+   * @param callsPerSecond the steady rate of calls, zero or negative value disables the limit
+   * @param burst the maximum number of calls which can be sent in a burst
+   */
+  public CRateLimiter(double callsPerSecond, int burst) {
+    setRate(callsPerSecond, burst);
+    this.tokens = capacity;
+  }
+
+  /**
+   * Changes the refill rate and size of the bucket.
+   *
+   * @param callsPerSecond the steady rate of calls, zero or negative value disables the limit
+   * @param burst the maximum number of calls which can be sent in a burst
+   */
+  public synchronized void setRate(double callsPerSecond, int burst) {
+    refill(System.nanoTime());
+    this.capacity = Math.max(1, burst);
+    this.tokensPerNano = Math.max(callsPerSecond, 0) / NANOS_PER_SECOND;
+    this.tokens = Math.min(tokens, capacity);
+  }
+
+  /**
+   * Limits the available tokens to what the server reports as remaining.
+   *
+   * @param remaining the number of calls the server accepts before rejecting them
+   */
+  public synchronized void setRemaining(int remaining) {
+    refill(System.nanoTime());
+    this.tokens = Math.min(tokens, Math.max(remaining, 0));
+  }
+
+  /**
+   * Stops handing out tokens for the given time. A shorter pause does not cut an active one.
+   *
+   * @param millis the pause in milliseconds
+   */
+  public synchronized void pauseFor(long millis) {
+    long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    if (until - pausedUntil > 0) {
+      pausedUntil = until;
+    }
+    tokens = 0;
+  }
+
+  /**
+   * Whether calls are paused.
+   *
+   * @return true if calls are paused
+   */
+  public synchronized boolean isPaused() {
+    return System.nanoTime() - pausedUntil < 0;
+  }
+
+  /**
+   * Takes a token if one is available without waiting.
+   *
+   * @return true if a token was taken
+   */
+  public synchronized boolean tryAcquire() {
+    long now = System.nanoTime();
+    refill(now);
+    if (now - pausedUntil >= 0 && tokens >= 1) {
+      tokens -= 1;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Waits until a token is available and takes it.
+   *
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  public void acquire() throws InterruptedException {
+    while (true) {
+      long waitNanos;
+      synchronized (this) {
+        long now = System.nanoTime();
+        refill(now);
+        if (now - pausedUntil >= 0 && tokens >= 1) {
+          tokens -= 1;
+          return;
+        }
+        waitNanos =
+            now - pausedUntil < 0 ? pausedUntil - now : (long) ((1 - tokens) / tokensPerNano);
+      }
+      TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, 1));
+    }
+  }
+
+  private void refill(long now) {
+    if (now - pausedUntil < 0) {
+      lastRefill = now;
+      return;
+    }
+    if (tokensPerNano <= 0) {
+      tokens = capacity;
+    } else {
+      // tokens are not collected while calls are paused
+      long from = pausedUntil - lastRefill > 0 ? pausedUntil : lastRefill;
+      tokens = Math.min(capacity, tokens + (now - from) * tokensPerNano);
+    }
+    lastRefill = now;
+  }
+}
@@ -0,0 +1,92 @@
+package org.catools.common.tests.concurrent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.catools.common.concurrent.CBackgroundQueue;
+import org.catools.common.utils.CSleeper;
+import org.testng.annotations.Test;
+
+public class CBackgroundQueueTest {
+
+  @Test
+  public void testHandleAllItemsInBatchesOnClose() {
+    List<Integer> items = new CopyOnWriteArrayList<>();
+    List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    try (CBackgroundQueue<Integer> queue =
+        new CBackgroundQueue<>(
+            "Batches",
+            1000,
+            2,
+            10,
+            batch -> {
+              items.addAll(batch);
+              batchSizes.add(batch.size());
+            })) {
+      for (int i = 0; i < 95; i++) {
+        queue.add(i);
+      }
+    }
+
+    Assertions.assertThat(items).hasSize(95).doesNotHaveDuplicates();
+    Assertions.assertThat(batchSizes).allMatch(size -> size <= 10);
+  }
+
+  @Test
+  public void testWaitForWorkersWhenQueueIsFull() {
+    AtomicInteger handled = new AtomicInteger();
+    try (CBackgroundQueue<Integer> queue =
+        new CBackgroundQueue<>(
+            "Bounded",
+            2,
+            1,
+            1,
+            batch -> {
+              CSleeper.sleepTight(20);
+              handled.addAndGet(batch.size());
+            })) {
+      for (int i = 0; i < 10; i++) {
+        queue.add(i);
+        Assertions.assertThat(queue.getPendingCount()).isLessThanOrEqualTo(2);
+      }
+    }
+
+    Assertions.assertThat(handled.get()).isEqualTo(10);
+  }
+
+  @Test
+  public void testKeepHandlingAfterHandlerFailure() {
+    AtomicInteger handled = new AtomicInteger();
+    try (CBackgroundQueue<Integer> queue =
+        new CBackgroundQueue<>(
+            "Failures",
+            100,
+            1,
+            1,
+            batch -> {
+              if (batch.get(0) % 2 == 0) {
+                throw new IllegalStateException("Failed to handle " + batch);
+              }
+              handled.incrementAndGet();
+            })) {
+      for (int i = 0; i < 10; i++) {
+        queue.add(i);
+      }
+    }
+
+    Assertions.assertThat(handled.get()).isEqualTo(5);
+  }
+
+  @Test
+  public void testHandleOnCallingThreadAfterClose() {
+    List<String> threads = new CopyOnWriteArrayList<>();
+    CBackgroundQueue<Integer> queue =
+        new CBackgroundQueue<>(
+            "Closed", 10, 1, 1, batch -> threads.add(Thread.currentThread().getName()));
+    queue.close();
+
+    queue.add(1);
+    Assertions.assertThat(threads).containsExactly(Thread.currentThread().getName());
+  }
+}
@@ -0,0 +1,85 @@
+package org.catools.common.tests.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.Assertions;
+import org.catools.common.concurrent.CRateLimiter;
+import org.testng.annotations.Test;
+
+public class CRateLimiterTest {
+
+  @Test
+  public void testBurst() {
+    CRateLimiter rateLimiter = new CRateLimiter(0.001, 3);
+    Assertions.assertThat(rateLimiter.tryAcquire()).isTrue();
+    Assertions.assertThat(rateLimiter.tryAcquire()).isTrue();
+    Assertions.assertThat(rateLimiter.tryAcquire()).isTrue();
+    Assertions.assertThat(rateLimiter.tryAcquire()).isFalse();
+  }
+
+  @Test
+  public void testBurstIsNotDelayed() throws InterruptedException {
+    CRateLimiter rateLimiter = new CRateLimiter(0.001, 5);
+    Assertions.assertThat(acquire(rateLimiter, 5)).isLessThan(1000L);
+  }
+
+  @Test
+  public void testCallsAfterBurstFollowRate() throws InterruptedException {
+    CRateLimiter rateLimiter = new CRateLimiter(20, 1);
+    Assertions.assertThat(acquire(rateLimiter, 5)).isGreaterThanOrEqualTo(190L);
+  }
+
+  @Test
+  public void testDisabledLimit() throws InterruptedException {
+    CRateLimiter rateLimiter = new CRateLimiter(0, 1);
+    Assertions.assertThat(acquire(rateLimiter, 1000)).isLessThan(1000L);
+  }
+
+  @Test
+  public void testSetRemaining() {
+    CRateLimiter rateLimiter = new CRateLimiter(0.001, 5);
+    rateLimiter.setRemaining(1);
+    Assertions.assertThat(rateLimiter.tryAcquire()).isTrue();
+    Assertions.assertThat(rateLimiter.tryAcquire()).isFalse();
+  }
+
+  @Test
+  public void testSetRate() {
+    CRateLimiter rateLimiter = new CRateLimiter(0.001, 5);
+    rateLimiter.setRate(0.001, 2);
+    Assertions.assertThat(rateLimiter.tryAcquire()).isTrue();
+    Assertions.assertThat(rateLimiter.tryAcquire()).isTrue();
+    Assertions.assertThat(rateLimiter.tryAcquire()).isFalse();
+  }
+
+  @Test
+  public void testPauseFor() throws InterruptedException {
+    CRateLimiter rateLimiter = new CRateLimiter(1000, 5);
+    rateLimiter.pauseFor(1000);
+    rateLimiter.pauseFor(10);
+    Assertions.assertThat(rateLimiter.isPaused()).isTrue();
+    Assertions.assertThat(rateLimiter.tryAcquire()).isFalse();
+
+    // a shorter pause does not cut the active pause
+    Thread.sleep(100);
+    Assertions.assertThat(rateLimiter.tryAcquire()).isFalse();
+
+    Thread.sleep(1000);
+    Assertions.assertThat(rateLimiter.isPaused()).isFalse();
+    Assertions.assertThat(rateLimiter.tryAcquire()).isTrue();
+  }
+
+  @Test
+  public void testPauseDisabledLimit() {
+    CRateLimiter rateLimiter = new CRateLimiter(0, 1);
+    rateLimiter.pauseFor(10_000);
+    Assertions.assertThat(rateLimiter.tryAcquire()).isFalse();
+  }
+
+  private static long acquire(CRateLimiter rateLimiter, int calls) throws InterruptedException {
+    long start = System.nanoTime();
+    for (int i = 0; i < calls; i++) {
+      rateLimiter.acquire();
+    }
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+}
@@ -77,6 +77,24 @@ public class CKubeConfig {
     return CHocon.asString(Configs.CATOOLS_K8S_CONNECTION_KUBE_CONFIG_PATH);
   }
 
+  /**
+   * The maximum number of items to read in each page of list calls
+   *
+   * @return
+   */
+  public static int getListLimit() {
+    return CHocon.asInteger(Configs.CATOOLS_K8S_LIST_LIMIT);
+  }
+
+  /**
+   * The number of seconds to keep watch open before returning collected changes
+   *
+   * @return
+   */
+  public static int getWatchTimeoutSeconds() {
+    return CHocon.asInteger(Configs.CATOOLS_K8S_WATCH_TIMEOUT_SECONDS);
+  }
+
   @Getter
   @AllArgsConstructor
   private enum Configs implements CHoconPath {
@@ -86,7 +104,9 @@ public class CKubeConfig {
     CATOOLS_K8S_CONNECTION_USERNAME("catools.k8s.connection.username"),
     CATOOLS_K8S_CONNECTION_PASSWORD("catools.k8s.connection.password"),
     CATOOLS_K8S_CONNECTION_TOKEN("catools.k8s.connection.token"),
-    CATOOLS_K8S_CONNECTION_KUBE_CONFIG_PATH("catools.k8s.connection.kube_config_path");
+    CATOOLS_K8S_CONNECTION_KUBE_CONFIG_PATH("catools.k8s.connection.kube_config_path"),
+    CATOOLS_K8S_LIST_LIMIT("catools.k8s.list.limit"),
+    CATOOLS_K8S_WATCH_TIMEOUT_SECONDS("catools.k8s.watch.timeout_seconds");
 
     private final String path;
   }
@@ -12,6 +12,7 @@ public class CKubePod {
 
   private String name;
   private String uid;
+  private String resourceVersion;
   private CKubeContainers containers = new CKubeContainers();
   private CKubeContainers ephemeralContainers = new CKubeContainers();
   private CKubeContainers initContainers = new CKubeContainers();
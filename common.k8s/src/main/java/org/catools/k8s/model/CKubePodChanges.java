@@ -0,0 +1,21 @@
+package org.catools.k8s.model;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/** The pods which have been added, modified or deleted since the previous sync. */
+@Data
+@Accessors(chain = true)
+public class CKubePodChanges {
+  private CKubePods added = new CKubePods();
+  private CKubePods modified = new CKubePods();
+  private CKubePods deleted = new CKubePods();
+
+  public boolean isEmpty() {
+    return added.isEmpty() && modified.isEmpty() && deleted.isEmpty();
+  }
+
+  public int size() {
+    return added.size() + modified.size() + deleted.size();
+  }
+}
@@ -0,0 +1,245 @@
+package org.catools.k8s.utils;
+
+import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.util.Watch;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import org.catools.k8s.configs.CKubeConfig;
+import org.catools.k8s.exception.CKubeOperationException;
+import org.catools.k8s.model.CKubePod;
+import org.catools.k8s.model.CKubePodChanges;
+
+/**
+ * Keep a local cache of namespace pods in sync with the cluster and report the pods which have been
+ * changed since the previous sync.
+ *
+ * <p>The first sync lists all pods page by page and reports them as added. Next syncs watch pod
+ * events from the last seen resourceVersion for {@link CKubeConfig#getWatchTimeoutSeconds()} and
+ * only report pods which have been added, modified or deleted. If the resourceVersion is expired
+ * (410 Gone) the pods are listed again and compared with the cache.
+ *
+ * <p>The informer is not thread safe.
+ */
+@Slf4j
+public class CKubePodInformer {
+  private static final String ADDED = "ADDED";
+  private static final String MODIFIED = "MODIFIED";
+  private static final String DELETED = "DELETED";
+  private static final String BOOKMARK = "BOOKMARK";
+  private static final String ERROR = "ERROR";
+
+  private final CoreV1Api api;
+  private final String namespace;
+  private final String fieldSelector;
+  private final String labelSelector;
+  private final int listLimit;
+  private final int watchTimeoutSeconds;
+  private final Map<String, CKubePod> cache = new HashMap<>();
+  private final Map<String, CKubePod> deletedPods = new HashMap<>();
+
+  @Getter private String resourceVersion;
+
+  public CKubePodInformer(CoreV1Api api, String namespace) {
+    this(
+        api,
+        namespace,
+        null,
+        null,
+        CKubeConfig.getListLimit(),
+        CKubeConfig.getWatchTimeoutSeconds());
+  }
+
+  /**
+   * Create informer for namespace pods.
+   *
+   * @param namespace object name and auth scope, such as for teams and projects (required)
+   * @param fieldSelector A selector to restrict the list of returned objects by their fields.
+   *     Defaults to everything. (optional)
+   * @param labelSelector A selector to restrict the list of returned objects by their labels.
+   *     Defaults to everything. (optional)
+   * @param listLimit the maximum number of pods to read in each page of list calls
+   * @param watchTimeoutSeconds the number of seconds to watch for changes in each sync
+   */
+  public CKubePodInformer(
+      CoreV1Api api,
+      String namespace,
+      String fieldSelector,
+      String labelSelector,
+      int listLimit,
+      int watchTimeoutSeconds) {
+    this.api = api;
+    this.namespace = namespace;
+    this.fieldSelector = fieldSelector;
+    this.labelSelector = labelSelector;
+    this.listLimit = listLimit;
+    this.watchTimeoutSeconds = watchTimeoutSeconds;
+  }
+
+  /**
+   * The pods currently in the local cache
+   *
+   * @return the cached pods
+   */
+  public Map<String, CKubePod> getPods() {
+    return Map.copyOf(cache);
+  }
+
+  /**
+   * Bring the local cache up to date and return pods which have been changed since previous sync.
+   *
+   * @return the changed pods
+   */
+  public CKubePodChanges sync() {
+    Map<String, CKubePod> previous = new HashMap<>();
+    deletedPods.clear();
+    if (resourceVersion == null || !watch(previous)) {
+      relist(previous);
+    }
+
+    CKubePodChanges changes = getChanges(previous);
+    log.debug(
+        "Namespace {} synced at resourceVersion {}, {} added, {} modified, {} deleted pods.",
+        namespace,
+        resourceVersion,
+        changes.getAdded().size(),
+        changes.getModified().size(),
+        changes.getDeleted().size());
+    return changes;
+  }
+
+  private void relist(Map<String, CKubePod> previous) {
+    Map<String, CKubePod> pods = new HashMap<>();
+    resourceVersion =
+        CKubeUtil.listNamespacePods(
+            api,
+            namespace,
+            fieldSelector,
+            labelSelector,
+            listLimit,
+            pods::clear,
+            p -> pods.put(p.getUid(), p));
+
+    for (String uid : cache.keySet().stream().filter(uid -> !pods.containsKey(uid)).toList()) {
+      remove(previous, uid);
+    }
+    pods.values().forEach(p -> put(previous, p));
+  }
+
+  /**
+   * Apply watch events to cache.
+   *
+   * @return false if resourceVersion is expired and pods should be listed again
+   */
+  private boolean watch(Map<String, CKubePod> previous) {
+    try (Watch<V1Pod> watch = createWatch()) {
+      for (Watch.Response<V1Pod> event : watch) {
+        if (ERROR.equals(event.type)) {
+          if (isGone(event.status)) {
+            log.debug("Namespace {} resourceVersion {} expired.", namespace, resourceVersion);
+            return false;
+          }
+          throw new CKubeOperationException(
+              String.format(
+                  "Failed to watch namespace pods. namespace : '%s', status: '%s'",
+                  namespace, event.status),
+              null);
+        }
+
+        if (event.object == null || event.object.getMetadata() == null) continue;
+        resourceVersion = event.object.getMetadata().getResourceVersion();
+
+        switch (event.type) {
+          case ADDED, MODIFIED -> put(previous, CKubeUtil.readPod(event.object));
+          case DELETED -> {
+            CKubePod pod = CKubeUtil.readPod(event.object);
+            remove(previous, pod.getUid());
+            deletedPods.put(pod.getUid(), pod);
+          }
+          case BOOKMARK -> {}
+          default -> log.warn("Unknown watch event type {}.", event.type);
+        }
+      }
+      return true;
+    } catch (ApiException e) {
+      if (e.getCode() == HttpURLConnection.HTTP_GONE) {
+        return false;
+      }
+      throw new CKubeOperationException(
+          String.format("Failed to watch namespace pods. namespace : '%s'", namespace), e);
+    } catch (IOException e) {
+      throw new CKubeOperationException(
+          String.format("Failed to close namespace pods watch. namespace : '%s'", namespace), e);
+    } catch (RuntimeException e) {
+      // the watch iterator wraps read failures, keep what has been applied so far
+      if (e.getCause() instanceof IOException) {
+        log.warn("Watch for namespace {} pods interrupted, {}", namespace, e.getMessage());
+        return true;
+      }
+      throw e;
+    }
+  }
+
+  private Watch<V1Pod> createWatch() throws ApiException {
+    Call call =
+        api.listNamespacedPodCall(
+            namespace,
+            null,
+            true,
+            null,
+            fieldSelector,
+            labelSelector,
+            null,
+            resourceVersion,
+            null,
+            false,
+            watchTimeoutSeconds,
+            true,
+            null);
+    return Watch.createWatch(
+        api.getApiClient(), call, new TypeToken<Watch.Response<V1Pod>>() {}.getType());
+  }
+
+  private static boolean isGone(V1Status status) {
+    return status != null
+        && status.getCode() != null
+        && status.getCode() == HttpURLConnection.HTTP_GONE;
+  }
+
+  private void put(Map<String, CKubePod> previous, CKubePod pod) {
+    CKubePod old = cache.put(pod.getUid(), pod);
+    if (!previous.containsKey(pod.getUid())) previous.put(pod.getUid(), old);
+  }
+
+  private void remove(Map<String, CKubePod> previous, String uid) {
+    CKubePod old = cache.remove(uid);
+    if (!previous.containsKey(uid)) previous.put(uid, old);
+  }
+
+  private CKubePodChanges getChanges(Map<String, CKubePod> previous) {
+    CKubePodChanges changes = new CKubePodChanges();
+    previous.forEach(
+        (uid, old) -> {
+          CKubePod current = cache.get(uid);
+          if (old == null && current != null) {
+            changes.getAdded().add(current);
+          } else if (old != null && current == null) {
+            // prefer the final state from the delete event if we have it
+            changes.getDeleted().add(deletedPods.getOrDefault(uid, old));
+          } else if (old != null
+              && !Objects.equals(old.getResourceVersion(), current.getResourceVersion())) {
+            changes.getModified().add(current);
+          }
+        });
+    return changes;
+  }
+}
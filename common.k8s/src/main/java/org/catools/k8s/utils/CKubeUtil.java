@@ -3,11 +3,15 @@ package org.catools.k8s.utils;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.models.*;
+import java.net.HttpURLConnection;
 import java.sql.Date;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.catools.common.collections.CHashMap;
+import org.catools.k8s.configs.CKubeConfig;
 import org.catools.k8s.exception.CKubeOperationException;
 import org.catools.k8s.model.CKubeContainer;
 import org.catools.k8s.model.CKubeContainerStateInfo;
@@ -20,16 +24,100 @@ import org.catools.k8s.model.CKubePods;
 @Slf4j
 @UtilityClass
 public class CKubeUtil {
+  private static final int MAX_LIST_RESTARTS = 3;
 
   /**
-   * Get the namespace Pods
+   * Get the namespace Pods reading them in pages of {@link CKubeConfig#getListLimit()} items.
    *
    * @param namespace object name and auth scope, such as for teams and projects (required)
    * @return the namespace Pods
    */
   public static CKubePods getNamespacePods(CoreV1Api api, String namespace) {
-    return getNamespacePods(
-        api, namespace, null, null, null, null, null, null, null, null, null, null);
+    CKubePods pods = new CKubePods();
+    listNamespacePods(
+        api, namespace, null, null, CKubeConfig.getListLimit(), pods::clear, pods::add);
+    return pods;
+  }
+
+  /**
+   * Read the namespace Pods page by page, following the continue token returned by server until all
+   * pages are read, and pass each pod to the consumer.
+   *
+   * <p>If the continue token expires before all pages are read (410 Gone), the list is restarted
+   * from the first page without a token, so the consumer gets a consistent list. {@code onRestart}
+   * is called before the restart to drop the pods which have been passed to the consumer so far.
+   *
+   * @param namespace object name and auth scope, such as for teams and projects (required)
+   * @param fieldSelector A selector to restrict the list of returned objects by their fields.
+   *     Defaults to everything. (optional)
+   * @param labelSelector A selector to restrict the list of returned objects by their labels.
+   *     Defaults to everything. (optional)
+   * @param limit the maximum number of pods to read in each page
+   * @param onRestart called when the list is restarted from the first page
+   * @param consumer the consumer to pass pods to
+   * @return the resourceVersion of the list which can be used to start a watch from
+   */
+  public static String listNamespacePods(
+      CoreV1Api api,
+      String namespace,
+      String fieldSelector,
+      String labelSelector,
+      int limit,
+      Runnable onRestart,
+      Consumer<CKubePod> consumer) {
+    String resourceVersion = null;
+    String _continue = null;
+    int restarts = 0;
+
+    try {
+      while (true) {
+        V1PodList podList;
+        try {
+          podList =
+              api.listNamespacedPod(
+                  namespace,
+                  null,
+                  null,
+                  _continue,
+                  fieldSelector,
+                  labelSelector,
+                  limit,
+                  null,
+                  null,
+                  false,
+                  null,
+                  false);
+        } catch (ApiException e) {
+          if (_continue == null
+              || e.getCode() != HttpURLConnection.HTTP_GONE
+              || restarts++ >= MAX_LIST_RESTARTS) {
+            throw e;
+          }
+          log.info(
+              "Continue token of namespace {} pods list is expired, list pods from the first page.",
+              namespace);
+          onRestart.run();
+          _continue = null;
+          resourceVersion = null;
+          continue;
+        }
+        podList.getItems().forEach(pod -> consumer.accept(readPod(pod)));
+
+        V1ListMeta metadata = podList.getMetadata();
+        _continue = metadata == null ? null : metadata.getContinue();
+        if (metadata != null && metadata.getResourceVersion() != null)
+          resourceVersion = metadata.getResourceVersion();
+        if (StringUtils.isBlank(_continue)) {
+          return resourceVersion;
+        }
+      }
+    } catch (ApiException e) {
+      throw new CKubeOperationException(
+          String.format(
+              "Failed to list namespace pods. namespace : '%s', fieldSelector: '%s', labelSelector: '%s'",
+              namespace, fieldSelector, labelSelector),
+          e);
+    }
   }
 
   /**
@@ -134,7 +222,13 @@ public class CKubeUtil {
     }
   }
 
-  private static CKubePod readPod(V1Pod pod) {
+  /**
+   * Translate kubernetes api pod to {@link CKubePod}
+   *
+   * @param pod the pod to translate
+   * @return the translated pod
+   */
+  public static CKubePod readPod(V1Pod pod) {
     CKubePod kubePod = new CKubePod();
 
     if (pod == null) return kubePod;
@@ -142,6 +236,7 @@ public class CKubeUtil {
     if (pod.getMetadata() != null) {
       kubePod.setName(pod.getMetadata().getName());
       kubePod.setUid(pod.getMetadata().getUid());
+      kubePod.setResourceVersion(pod.getMetadata().getResourceVersion());
 
       if (pod.getMetadata().getCreationTimestamp() != null)
         kubePod.setCreatedAt(Date.from(pod.getMetadata().getCreationTimestamp().toInstant()));
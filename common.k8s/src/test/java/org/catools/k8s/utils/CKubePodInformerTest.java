@@ -0,0 +1,112 @@
+package org.catools.k8s.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.k8s.model.CKubePodChanges;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class CKubePodInformerTest {
+  private final Deque<String> responses = new ArrayDeque<>();
+  private HttpServer server;
+  private CoreV1Api api;
+
+  @BeforeClass
+  public void beforeClass() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/api/v1/namespaces/default/pods", this::respond);
+    server.start();
+    api =
+        new CoreV1Api(
+            new ApiClient().setBasePath("http://localhost:" + server.getAddress().getPort()));
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void afterClass() {
+    server.stop(0);
+  }
+
+  @Test
+  public void testSyncOnlyReportsChangedPods() {
+    CKubePodInformer informer = new CKubePodInformer(api, "default", null, null, 1, 5);
+
+    // initial list in two pages
+    responses.add(podList("\"continue\": \"next\",", pod("a", "1")));
+    responses.add(podList("", pod("b", "2")));
+    verifyChanges(informer.sync(), 2, 0, 0);
+    CVerify.String.equals(informer.getResourceVersion(), "2", "List resourceVersion is kept");
+
+    // watch from last resourceVersion
+    responses.add(
+        event("MODIFIED", pod("a", "3"))
+            + event("DELETED", pod("b", "4"))
+            + event("ADDED", pod("c", "5"))
+            + event("MODIFIED", pod("c", "6")));
+    CKubePodChanges changes = informer.sync();
+    verifyChanges(changes, 1, 1, 1);
+    CVerify.String.equals(changes.getAdded().get(0).getResourceVersion(), "6", "Last state");
+    CVerify.String.equals(informer.getResourceVersion(), "6", "Watch resourceVersion is kept");
+
+    // nothing changed
+    responses.add("");
+    verifyChanges(informer.sync(), 0, 0, 0);
+
+    // expired resourceVersion causes relist
+    responses.add(
+        "{\"type\": \"ERROR\", \"object\": {\"kind\": \"Status\", \"apiVersion\": \"v1\","
+            + " \"code\": 410, \"reason\": \"Expired\"}}\n");
+    responses.add(podList("", pod("a", "3"), pod("d", "7")));
+    verifyChanges(informer.sync(), 1, 0, 1);
+    CVerify.Int.equals(informer.getPods().size(), 2, "Cache contains listed pods");
+  }
+
+  private static void verifyChanges(CKubePodChanges changes, int added, int modified, int deleted) {
+    CVerify.Int.equals(changes.getAdded().size(), added, "Added pods are correct");
+    CVerify.Int.equals(changes.getModified().size(), modified, "Modified pods are correct");
+    CVerify.Int.equals(changes.getDeleted().size(), deleted, "Deleted pods are correct");
+  }
+
+  private void respond(HttpExchange exchange) throws IOException {
+    byte[] body = responses.removeFirst().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private static String podList(String continueToken, String... pods) {
+    String resourceVersion = "2";
+    return "{\"metadata\": {"
+        + continueToken
+        + " \"resourceVersion\": \""
+        + resourceVersion
+        + "\"}, \"items\": ["
+        + String.join(",", pods)
+        + "]}";
+  }
+
+  private static String event(String type, String pod) {
+    return "{\"type\": \"" + type + "\", \"object\": " + pod + "}\n";
+  }
+
+  private static String pod(String name, String resourceVersion) {
+    return "{\"metadata\": {\"name\": \""
+        + name
+        + "\", \"uid\": \"uid-"
+        + name
+        + "\", \"resourceVersion\": \""
+        + resourceVersion
+        + "\"}, \"spec\": {\"containers\": []}, \"status\": {}}";
+  }
+}
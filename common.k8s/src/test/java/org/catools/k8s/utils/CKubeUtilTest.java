@@ -1,12 +1,16 @@
 package org.catools.k8s.utils;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1PodList;
+import java.net.HttpURLConnection;
 import org.catools.common.extensions.verify.CVerify;
 import org.catools.common.utils.CJsonUtil;
 import org.catools.common.utils.CResourceUtil;
@@ -26,4 +30,67 @@ public class CKubeUtilTest {
     CKubePods pods = CKubeUtil.getNamespacePods(api, "default");
     CVerify.Int.equals(pods.size(), 1, "Pod size is correct");
   }
+
+  @Test
+  public void testGetNamespacePodsReadsAllPages() throws ApiException {
+    CoreV1Api api = mock(CoreV1Api.class);
+    String podListData = CResourceUtil.getString("podList.json", CKubeUtilTest.class);
+    V1PodList firstPage = CJsonUtil.read(podListData, V1PodList.class);
+    firstPage.setMetadata(new V1ListMeta()._continue("next").resourceVersion("10"));
+    V1PodList secondPage = CJsonUtil.read(podListData, V1PodList.class);
+    secondPage.setMetadata(new V1ListMeta().resourceVersion("10"));
+    when(api.listNamespacedPod(
+            any(), any(), any(), isNull(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(firstPage);
+    when(api.listNamespacedPod(
+            any(),
+            any(),
+            any(),
+            eq("next"),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any()))
+        .thenReturn(secondPage);
+    CKubePods pods = CKubeUtil.getNamespacePods(api, "default");
+    CVerify.Int.equals(pods.size(), 2, "Pods from all pages are read");
+    CVerify.String.equals(pods.get(0).getResourceVersion(), "2869", "Pod resourceVersion is read");
+  }
+
+  @Test
+  public void testGetNamespacePodsRestartsListWhenContinueTokenIsExpired() throws ApiException {
+    CoreV1Api api = mock(CoreV1Api.class);
+    String podListData = CResourceUtil.getString("podList.json", CKubeUtilTest.class);
+    V1PodList firstPage = CJsonUtil.read(podListData, V1PodList.class);
+    firstPage.setMetadata(new V1ListMeta()._continue("next").resourceVersion("10"));
+    V1PodList fullList = CJsonUtil.read(podListData, V1PodList.class);
+    fullList.setMetadata(new V1ListMeta().resourceVersion("20"));
+    when(api.listNamespacedPod(
+            any(), any(), any(), isNull(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(firstPage, fullList);
+    when(api.listNamespacedPod(
+            any(),
+            any(),
+            any(),
+            eq("next"),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any()))
+        .thenThrow(new ApiException(HttpURLConnection.HTTP_GONE, "continue token is expired"));
+
+    CKubePods pods = new CKubePods();
+    String resourceVersion =
+        CKubeUtil.listNamespacePods(api, "default", null, null, 1, pods::clear, pods::add);
+    CVerify.Int.equals(pods.size(), 1, "Pods read before the restart are dropped");
+    CVerify.String.equals(resourceVersion, "20", "ResourceVersion of restarted list is returned");
+  }
 }
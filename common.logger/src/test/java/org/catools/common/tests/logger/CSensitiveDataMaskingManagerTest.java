@@ -129,6 +129,21 @@ public class CSensitiveDataMaskingManagerTest extends CBaseUnitTest {
         CSensitiveDataMaskingManager.mask(inputToMask), expectedResult, "String masked correctly");
   }
 
+  @Test
+  public void testRemoveSecurityMasks() {
+    String mask1 = RandomStringUtils.randomAlphabetic(10);
+    String mask2 = RandomStringUtils.randomAlphabetic(10);
+    CSensitiveDataMaskingManager.addMask(mask1, mask2);
+    CSensitiveDataMaskingManager.removeMask(mask1);
+
+    String input1 = RandomStringUtils.randomAlphabetic(10);
+    String inputToMask = input1 + " " + mask1 + " " + mask2;
+    String expectedResult = input1 + " " + mask1 + " ******";
+
+    CVerify.String.equals(
+        CSensitiveDataMaskingManager.mask(inputToMask), expectedResult, "String masked correctly");
+  }
+
   @Test
   public void testEmptyMask() {
     String mask1 = " ";
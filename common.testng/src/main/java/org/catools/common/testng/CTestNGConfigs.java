@@ -1,5 +1,6 @@
 package org.catools.common.testng;
 
+import java.io.File;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.AllArgsConstructor;
@@ -7,6 +8,7 @@ import lombok.Getter;
 import lombok.experimental.UtilityClass;
 import org.catools.common.collections.CList;
 import org.catools.common.collections.CSet;
+import org.catools.common.configs.CPathConfigs;
 import org.catools.common.hocon.CHocon;
 import org.catools.common.hocon.model.CHoconPath;
 import org.testng.ITestNGListener;
@@ -240,6 +242,114 @@ public class CTestNGConfigs {
     return new CSet<>(CHocon.asStrings(Configs.CATOOLS_TESTNG_TEST_PACKAGES));
   }
 
+  /**
+   * Determines whether test classes should be read from the test index instead of scanning the
+   * classpath.
+   *
+   * <p>When enabled, the index which {@link org.catools.common.testng.index.CTestIndexProcessor}
+   * generates at build time is used to find test classes in the test packages. The classpath is
+   * still scanned when no index is available or the index is stale.
+   *
+   * @return true if the test index should be used when available, false otherwise
+   * @example
+   *     <pre>{@code
+   * // Configuration: catools.testng.use_test_index = true
+   * boolean useIndex = CTestNGConfigs.useTestIndex();
+   * // Returns: true
+   * }</pre>
+   */
+  public static boolean useTestIndex() {
+    return CHocon.asBoolean(Configs.CATOOLS_TESTNG_USE_TEST_INDEX);
+  }
+
+  /**
+   * Determines whether test methods should be ordered by their expected duration.
+   *
+   * <p>When enabled, {@link org.catools.common.testng.listeners.CIMethodInterceptor} starts the
+   * longest classes or methods first based on the durations recorded in earlier runs, so parallel
+   * runs do not end with one long class running alone.
+   *
+   * @return true if test methods should be scheduled longest first, false otherwise
+   * @example
+   *     <pre>{@code
+   * // Configuration: catools.testng.schedule_by_duration = true
+   * boolean schedule = CTestNGConfigs.scheduleByDuration();
+   * // Returns: true
+   * }</pre>
+   */
+  public static boolean scheduleByDuration() {
+    return CHocon.asBoolean(Configs.CATOOLS_TESTNG_SCHEDULE_BY_DURATION);
+  }
+
+  /**
+   * Retrieves the file where test method durations of earlier runs are kept.
+   *
+   * <p>The file name is resolved against the storage folder, so the history is kept between runs.
+   *
+   * @return the method duration history file
+   * @example
+   *     <pre>{@code
+   * // Configuration: catools.testng.method_duration_history = "method-durations.tsv"
+   * File file = CTestNGConfigs.getMethodDurationHistoryFile();
+   * // Returns: <storage folder>/method-durations.tsv
+   * }</pre>
+   */
+  public static File getMethodDurationHistoryFile() {
+    return new File(
+        CPathConfigs.getStorageFolder(),
+        CHocon.asString(Configs.CATOOLS_TESTNG_METHOD_DURATION_HISTORY));
+  }
+
+  /**
+   * Retrieves the number of shards the suites are split into.
+   *
+   * <p>When more than one shard is configured, {@link CTestNGProcessor#processXmlSuites} splits the
+   * test classes into balanced shards and runs each shard in its own JVM.
+   *
+   * @return the number of shards, 1 or less runs all suites in the current JVM
+   * @example
+   *     <pre>{@code
+   * // Configuration: catools.testng.shard.count = 4
+   * int shards = CTestNGConfigs.getShardCount();
+   * // Returns: 4
+   * }</pre>
+   */
+  public static int getShardCount() {
+    return CHocon.asInteger(Configs.CATOOLS_TESTNG_SHARD_COUNT);
+  }
+
+  /**
+   * Retrieves the number of shard JVMs which run at the same time.
+   *
+   * @return the number of shards which run at the same time, 0 or less uses the number of available
+   *     processors
+   * @example
+   *     <pre>{@code
+   * // Configuration: catools.testng.shard.parallel_count = 2
+   * int parallel = CTestNGConfigs.getShardParallelCount();
+   * // Returns: 2
+   * }</pre>
+   */
+  public static int getShardParallelCount() {
+    return CHocon.asInteger(Configs.CATOOLS_TESTNG_SHARD_PARALLEL_COUNT);
+  }
+
+  /**
+   * Retrieves additional JVM arguments for the shard processes, like heap size or system
+   * properties.
+   *
+   * @return the list of JVM arguments
+   * @example
+   *     <pre>{@code
+   * // Configuration: catools.testng.shard.jvm_args = ["-Xmx2g", "-Denv=qa"]
+   * CList<String> args = CTestNGConfigs.getShardJvmArgs();
+   * // Returns: ["-Xmx2g", "-Denv=qa"]
+   * }</pre>
+   */
+  public static CList<String> getShardJvmArgs() {
+    return new CList<>(CHocon.asStrings(Configs.CATOOLS_TESTNG_SHARD_JVM_ARGS));
+  }
+
   /**
    * Retrieves the parallel execution mode for test level parallelism.
    *
@@ -372,10 +482,35 @@ public class CTestNGConfigs {
     return CHocon.asString(Configs.CATOOLS_TESTNG_RESULT_XML_NAME);
   }
 
+  /**
+   * Determines whether the TestNG result XML file should be gzip compressed.
+   *
+   * <p>When enabled, the result file is compressed while it is written and {@code .gz} is appended
+   * to its name.
+   *
+   * @return true if the TestNG result XML file should be compressed, false otherwise
+   * @example
+   *     <pre>{@code
+   * // Configuration: catools.testng.result_xml_compress = true
+   * boolean compress = CTestNGConfigs.compressTestNgResult();
+   * // Returns: true
+   * // The result is written to "cat-testng-results.xml.gz"
+   * }</pre>
+   */
+  public static boolean compressTestNgResult() {
+    return CHocon.asBoolean(Configs.CATOOLS_TESTNG_RESULT_XML_COMPRESS);
+  }
+
   @Getter
   @AllArgsConstructor
   private enum Configs implements CHoconPath {
     CATOOLS_TESTNG_TEST_PACKAGES("catools.testng.test_packages"),
+    CATOOLS_TESTNG_USE_TEST_INDEX("catools.testng.use_test_index"),
+    CATOOLS_TESTNG_SCHEDULE_BY_DURATION("catools.testng.schedule_by_duration"),
+    CATOOLS_TESTNG_METHOD_DURATION_HISTORY("catools.testng.method_duration_history"),
+    CATOOLS_TESTNG_SHARD_COUNT("catools.testng.shard.count"),
+    CATOOLS_TESTNG_SHARD_PARALLEL_COUNT("catools.testng.shard.parallel_count"),
+    CATOOLS_TESTNG_SHARD_JVM_ARGS("catools.testng.shard.jvm_args"),
     CATOOLS_TESTNG_TEST_LEVEL_PARALLEL_MODE("catools.testng.test_level.parallel_mode"),
     CATOOLS_TESTNG_TEST_LEVEL_THREAD_COUNT("catools.testng.test_level.thread_count"),
     CATOOLS_TESTNG_SUITE_LEVEL_PARALLEL_MODE("catools.testng.suite_level.parallel_mode"),
@@ -393,7 +528,8 @@ public class CTestNGConfigs {
         "catools.testng.ignore_test_with_all_annotation"),
     CATOOLS_TESTNG_RUN_TEST_WITH_ALL_ANNOTATIONS("catools.testng.run_test_with_all_annotations"),
     CATOOLS_TESTNG_RUN_TEST_WITH_ANY_ANNOTATIONS("catools.testng.run_test_with_any_annotations"),
-    CATOOLS_TESTNG_RESULT_XML_NAME("catools.testng.result_xml_name");
+    CATOOLS_TESTNG_RESULT_XML_NAME("catools.testng.result_xml_name"),
+    CATOOLS_TESTNG_RESULT_XML_COMPRESS("catools.testng.result_xml_compress");
 
     private final String path;
   }
@@ -13,6 +13,7 @@ import org.catools.common.date.CDate;
 import org.catools.common.extensions.verify.CVerify;
 import org.catools.common.io.CFile;
 import org.catools.common.io.CResource;
+import org.catools.common.testng.listeners.CMethodDurationListener;
 import org.catools.common.testng.utils.CTestClassUtil;
 import org.catools.common.testng.utils.CXmlSuiteUtils;
 import org.testng.ITestNGListener;
@@ -348,7 +349,12 @@ public class CTestNGProcessor {
    *
    * <p>This method takes already constructed XmlSuite objects and executes them using TestNG. It
    * applies any configured listeners from CTestNGConfigs and saves the suite configuration to an
-   * output file for debugging purposes.
+   * output file for debugging purposes. When scheduling by duration is enabled, method durations
+   * are recorded for the next run as well.
+   *
+   * <p>When {@link CTestNGConfigs#getShardCount()} is more than 1, the suites are split into shards
+   * which run in separate JVMs using {@link CTestNGShardRunner}, and the status is failed if any
+   * shard fails.
    *
    * @param xmlSuites a collection of XmlSuite objects to execute
    * @return the TestNG execution status code (0 for success, non-zero for failure)
@@ -382,6 +388,19 @@ public class CTestNGProcessor {
    * }</pre>
    */
   public static int processXmlSuites(Collection<XmlSuite> xmlSuites) {
+    if (CTestNGConfigs.getShardCount() > 1) {
+      try {
+        return new CTestNGShardRunner().run(xmlSuites);
+      } catch (Throwable t) {
+        log.error("Could Not Processing Sharded Xml Suites", t);
+        return 1;
+      }
+    }
+    return processXmlSuites(xmlSuites, List.of());
+  }
+
+  static int processXmlSuites(
+      Collection<XmlSuite> xmlSuites, Collection<ITestNGListener> additionalListeners) {
     try {
       new CList<>(xmlSuites).forEach(x -> print("Processing Xml Suites \n" + x.toXml()));
       TestNG testNG = new TestNG();
@@ -390,6 +409,13 @@ public class CTestNGProcessor {
       for (ITestNGListener listener : CTestNGConfigs.getListeners()) {
         testNG.addListener(listener);
       }
+      for (ITestNGListener listener : additionalListeners) {
+        testNG.addListener(listener);
+      }
+      testNG.addListener(CTestNGResultGenerator.getResultAggregator());
+      if (CTestNGConfigs.scheduleByDuration()) {
+        testNG.addListener(new CMethodDurationListener());
+      }
 
       CFile.fromOutput(CDate.now().toTimeStampForFileName() + ".xml").write(xmlSuites.toString());
       testNG.run();
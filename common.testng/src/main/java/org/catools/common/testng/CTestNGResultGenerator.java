@@ -5,28 +5,24 @@ import java.text.SimpleDateFormat;
 import java.util.Collection;
 import java.util.Date;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Properties;
 import java.util.Set;
 import java.util.TimeZone;
 import lombok.experimental.UtilityClass;
 import org.apache.commons.lang3.Strings;
 import org.catools.common.collections.CList;
-import org.catools.common.io.CFile;
+import org.catools.common.exception.CFileOperationException;
 import org.catools.common.security.CSensitiveDataMaskingManager;
+import org.catools.common.testng.listeners.CTestResultAggregator;
 import org.catools.common.testng.utils.CTestReportUtil;
+import org.testng.IResultMap;
 import org.testng.ISuite;
 import org.testng.ISuiteResult;
 import org.testng.ITestContext;
 import org.testng.ITestNGMethod;
 import org.testng.Reporter;
-import org.testng.internal.Utils;
-import org.testng.reporters.XMLReporter;
 import org.testng.reporters.XMLReporterConfig;
-import org.testng.reporters.XMLStringBuffer;
-import org.testng.reporters.XMLSuiteResultWriter;
 
 /**
  * Utility class for generating TestNG XML result reports. This class provides functionality to
@@ -41,6 +37,7 @@ import org.testng.reporters.XMLSuiteResultWriter;
  *   <li>Duplicate test result removal
  *   <li>Configurable file fragmentation levels
  *   <li>Enhanced suite-level statistics
+ *   <li>Streaming output with optional gzip compression
  * </ul>
  *
  * <p><strong>Example usage:</strong>
@@ -66,9 +63,22 @@ import org.testng.reporters.XMLSuiteResultWriter;
 @UtilityClass
 public class CTestNGResultGenerator {
   private static final String XML_EXTENSION = ".xml";
+  private static final String GZIP_EXTENSION = ".gz";
   private static final String FILE_NAME = CTestNGConfigs.getTestNgResultName();
   private static final XMLReporterConfig config = new XMLReporterConfig();
-  private static XMLStringBuffer rootBuffer;
+  private static final CTestResultAggregator resultAggregator = new CTestResultAggregator();
+
+  /**
+   * The aggregator which collects the final result of each method invocation during the run. {@link
+   * CTestNGProcessor} registers it as a listener, and {@link #generateReport(CList, String)} only
+   * writes the results it keeps. When it did not collect any results, because the suites ran
+   * without it, the report is built from the results of the suites instead.
+   *
+   * @return the result aggregator of the report
+   */
+  public static CTestResultAggregator getResultAggregator() {
+    return resultAggregator;
+  }
 
   /**
    * Generates a comprehensive TestNG XML result report from the provided test suites.
@@ -82,8 +92,11 @@ public class CTestNGResultGenerator {
    * <ul>
    *   <li><strong>Statistics:</strong> Total passed, failed, and skipped test counts
    *   <li><strong>Data Safety:</strong> Automatic masking of sensitive information in output
-   *   <li><strong>Deduplication:</strong> Removes duplicate test results before processing
+   *   <li><strong>Deduplication:</strong> Only writes the final result of each method invocation
+   *       kept by {@link #getResultAggregator()}
    *   <li><strong>Flexible Output:</strong> Supports different file fragmentation levels
+   *   <li><strong>Streaming:</strong> Elements are written to the file as they are generated, and
+   *       gzipped when {@link CTestNGConfigs#compressTestNgResult()} is enabled
    * </ul>
    *
    * <p>The method is thread-safe and can be called concurrently from multiple threads.
@@ -135,15 +148,17 @@ public class CTestNGResultGenerator {
    *     be null or empty. The directory will be created if it doesn't exist. Use absolute paths for
    *     best reliability.
    * @throws IllegalArgumentException if suites is null or outputDirectory is null/empty
-   * @throws RuntimeException if there's an error writing the report file or creating directories
+   * @throws CFileOperationException if there's an error writing the report file or creating
+   *     directories
    * @see ISuite
    * @see CTestNGConfigs#getTestNgResultName()
-   * @see CTestReportUtil#removeDuplicateResults(CList)
+   * @see CTestResultAggregator
    * @see CSensitiveDataMaskingManager#mask(String)
    */
   public static synchronized void generateReport(CList<ISuite> suites, String outputDirectory) {
     config.setOutputDirectory(outputDirectory);
-    CTestReportUtil.removeDuplicateResults(suites);
+    CTestResultAggregator aggregator =
+        resultAggregator.size() > 0 ? resultAggregator : CTestReportUtil.aggregateResults(suites);
 
     // Calculate passed/failed/skipped
     int passed = 0;
@@ -152,110 +167,86 @@ public class CTestNGResultGenerator {
     for (ISuite s : suites) {
       for (ISuiteResult sr : s.getResults().values()) {
         ITestContext testContext = sr.getTestContext();
-        passed += testContext.getPassedTests().size();
-        failed += testContext.getFailedTests().size();
-        skipped += testContext.getSkippedTests().size();
+        passed += countKept(aggregator, testContext.getPassedTests());
+        failed += countKept(aggregator, testContext.getFailedTests());
+        skipped += countKept(aggregator, testContext.getSkippedTests());
       }
     }
 
-    rootBuffer = new XMLStringBuffer();
-    Properties p = new Properties();
-    p.put("passed", passed);
-    p.put("failed", failed);
-    p.put("skipped", skipped);
-    p.put("total", passed + failed + skipped);
-    rootBuffer.push(XMLReporterConfig.TAG_TESTNG_RESULTS, p);
-    writeReporterOutput(rootBuffer);
-    for (int i = 0; i < suites.size(); i++) {
-      writeSuite(suites.get(i));
+    File resultFile =
+        new File(
+            config.getOutputDirectory(),
+            getFileName(Strings.CS.removeEnd(FILE_NAME, XML_EXTENSION) + XML_EXTENSION));
+    try (CTestNGResultXmlWriter writer = createWriter(resultFile)) {
+      writer.startElement(
+          XMLReporterConfig.TAG_TESTNG_RESULTS,
+          "passed",
+          passed,
+          "failed",
+          failed,
+          "skipped",
+          skipped,
+          "total",
+          passed + failed + skipped);
+      writer.writeReporterOutput(Reporter.getOutput());
+      for (ISuite suite : suites) {
+        writeSuite(writer, suite, aggregator);
+      }
+      writer.endElement();
     }
-    rootBuffer.pop();
-    new File(config.getOutputDirectory()).mkdirs();
-    Utils.writeUtf8File(
-        config.getOutputDirectory(),
-        Strings.CS.removeEnd(FILE_NAME, XML_EXTENSION) + XML_EXTENSION,
-        rootBuffer,
-        null);
   }
 
-  private static void writeReporterOutput(XMLStringBuffer xmlBuffer) {
-    xmlBuffer.push(XMLReporterConfig.TAG_REPORTER_OUTPUT);
-    List<String> output = Reporter.getOutput();
-    for (String line : output) {
-      if (line != null) {
-        xmlBuffer.push(XMLReporterConfig.TAG_LINE);
-        xmlBuffer.addCDATA(CSensitiveDataMaskingManager.mask(line));
-        xmlBuffer.pop();
-      }
-    }
-    xmlBuffer.pop();
+  private static int countKept(CTestResultAggregator aggregator, IResultMap results) {
+    return (int) results.getAllResults().stream().filter(aggregator::isKept).count();
   }
 
-  private static void writeSuite(ISuite suite) {
+  private static void writeSuite(
+      CTestNGResultXmlWriter writer, ISuite suite, CTestResultAggregator aggregator) {
     switch (config.getFileFragmentationLevel()) {
-      case XMLReporterConfig.FF_LEVEL_NONE -> writeSuiteToBuffer(rootBuffer, suite);
+      case XMLReporterConfig.FF_LEVEL_NONE -> writeSuiteElement(writer, suite, aggregator);
       case XMLReporterConfig.FF_LEVEL_SUITE, XMLReporterConfig.FF_LEVEL_SUITE_RESULT -> {
-        File suiteFile = referenceSuite(rootBuffer, suite);
-        writeSuiteToFile(suiteFile, suite);
+        String relativePath = suite.getName() + File.separatorChar + getFileName(FILE_NAME);
+        writer.emptyElement(XMLReporterConfig.TAG_SUITE, XMLReporterConfig.ATTR_URL, relativePath);
+        try (CTestNGResultXmlWriter suiteWriter =
+            createWriter(new File(config.getOutputDirectory(), relativePath))) {
+          writeSuiteElement(suiteWriter, suite, aggregator);
+        }
       }
     }
   }
 
-  private static void writeSuiteToFile(File suiteFile, ISuite suite) {
-    XMLStringBuffer xmlBuffer = new XMLStringBuffer();
-    writeSuiteToBuffer(xmlBuffer, suite);
-    CFile parentDir = new CFile(suiteFile.getParentFile());
-    if (parentDir.exists() || suiteFile.getParentFile().mkdirs()) {
-      Utils.writeFile(parentDir.getCanonicalPath(), FILE_NAME, xmlBuffer.toXML());
+  private static void writeSuiteElement(
+      CTestNGResultXmlWriter writer, ISuite suite, CTestResultAggregator aggregator) {
+    writer.startElement(XMLReporterConfig.TAG_SUITE, getSuiteAttributes(suite));
+    writeSuiteGroups(writer, suite);
+    for (ISuiteResult result : suite.getResults().values()) {
+      writer.writeSuiteResult(result, aggregator::isKept);
     }
+    writer.endElement();
   }
 
-  private static File referenceSuite(XMLStringBuffer xmlBuffer, ISuite suite) {
-    String relativePath = suite.getName() + File.separatorChar + FILE_NAME;
-    File suiteFile = new File(config.getOutputDirectory(), relativePath);
-    Properties attrs = new Properties();
-    attrs.setProperty(XMLReporterConfig.ATTR_URL, relativePath);
-    xmlBuffer.addEmptyElement(XMLReporterConfig.TAG_SUITE, attrs);
-    return suiteFile;
-  }
-
-  private static void writeSuiteToBuffer(XMLStringBuffer xmlBuffer, ISuite suite) {
-    xmlBuffer.push(XMLReporterConfig.TAG_SUITE, getSuiteAttributes(suite));
-    writeSuiteGroups(xmlBuffer, suite);
-
-    Map<String, ISuiteResult> results = suite.getResults();
-    XMLSuiteResultWriter suiteResultWriter = new XMLSuiteResultWriter(config, new XMLReporter());
-    for (Map.Entry<String, ISuiteResult> result : results.entrySet()) {
-      suiteResultWriter.writeSuiteResult(xmlBuffer, result.getValue());
-    }
-
-    xmlBuffer.pop();
-  }
-
-  private static void writeSuiteGroups(XMLStringBuffer xmlBuffer, ISuite suite) {
-    xmlBuffer.push(XMLReporterConfig.TAG_GROUPS);
+  private static void writeSuiteGroups(CTestNGResultXmlWriter writer, ISuite suite) {
+    writer.startElement(XMLReporterConfig.TAG_GROUPS);
     Map<String, Collection<ITestNGMethod>> methodsByGroups = suite.getMethodsByGroups();
     for (Map.Entry<String, Collection<ITestNGMethod>> entry : methodsByGroups.entrySet()) {
-      Properties groupAttrs = new Properties();
-      groupAttrs.setProperty(XMLReporterConfig.ATTR_NAME, entry.getKey());
-      xmlBuffer.push(XMLReporterConfig.TAG_GROUP, groupAttrs);
+      writer.startElement(XMLReporterConfig.TAG_GROUP, XMLReporterConfig.ATTR_NAME, entry.getKey());
       Set<ITestNGMethod> groupMethods = getUniqueMethodSet(entry.getValue());
       for (ITestNGMethod groupMethod : groupMethods) {
-        Properties methodAttrs = new Properties();
-        methodAttrs.setProperty(XMLReporterConfig.ATTR_NAME, groupMethod.getMethodName());
-        methodAttrs.setProperty(XMLReporterConfig.ATTR_METHOD_SIG, groupMethod.toString());
-        methodAttrs.setProperty(XMLReporterConfig.ATTR_CLASS, groupMethod.getRealClass().getName());
-        xmlBuffer.addEmptyElement(XMLReporterConfig.TAG_METHOD, methodAttrs);
+        writer.emptyElement(
+            XMLReporterConfig.TAG_METHOD,
+            XMLReporterConfig.ATTR_NAME,
+            groupMethod.getMethodName(),
+            XMLReporterConfig.ATTR_METHOD_SIG,
+            groupMethod.toString(),
+            XMLReporterConfig.ATTR_CLASS,
+            groupMethod.getRealClass().getName());
       }
-      xmlBuffer.pop();
+      writer.endElement();
     }
-    xmlBuffer.pop();
+    writer.endElement();
   }
 
-  private static Properties getSuiteAttributes(ISuite suite) {
-    Properties props = new Properties();
-    props.setProperty(XMLReporterConfig.ATTR_NAME, suite.getName());
-
+  private static Object[] getSuiteAttributes(ISuite suite) {
     // Calculate the duration
     Map<String, ISuiteResult> results = suite.getResults();
     Date minStartDate = new Date();
@@ -276,25 +267,30 @@ public class CTestNGResultGenerator {
     if (maxEndDate == null) {
       maxEndDate = minStartDate;
     }
-    addDurationAttributes(props, minStartDate, maxEndDate);
-    return props;
-  }
-
-  private static void addDurationAttributes(
-      Properties attributes, Date minStartDate, Date maxEndDate) {
     Objects.requireNonNull(minStartDate);
     Objects.requireNonNull(maxEndDate);
 
     SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
     TimeZone utc = TimeZone.getTimeZone("UTC");
     format.setTimeZone(utc);
-    String startTime = format.format(minStartDate);
-    String endTime = format.format(maxEndDate);
-    long duration = maxEndDate.getTime() - minStartDate.getTime();
+    return new Object[] {
+      XMLReporterConfig.ATTR_NAME,
+      suite.getName(),
+      XMLReporterConfig.ATTR_STARTED_AT,
+      format.format(minStartDate),
+      XMLReporterConfig.ATTR_FINISHED_AT,
+      format.format(maxEndDate),
+      XMLReporterConfig.ATTR_DURATION_MS,
+      maxEndDate.getTime() - minStartDate.getTime()
+    };
+  }
+
+  private static CTestNGResultXmlWriter createWriter(File file) {
+    return new CTestNGResultXmlWriter(file, config, CTestNGConfigs.compressTestNgResult());
+  }
 
-    attributes.setProperty(XMLReporterConfig.ATTR_STARTED_AT, startTime);
-    attributes.setProperty(XMLReporterConfig.ATTR_FINISHED_AT, endTime);
-    attributes.setProperty(XMLReporterConfig.ATTR_DURATION_MS, Long.toString(duration));
+  private static String getFileName(String fileName) {
+    return CTestNGConfigs.compressTestNgResult() ? fileName + GZIP_EXTENSION : fileName;
   }
 
   private static Set<ITestNGMethod> getUniqueMethodSet(Collection<ITestNGMethod> methods) {
@@ -0,0 +1,453 @@
+package org.catools.common.testng;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.catools.common.exception.CFileOperationException;
+import org.catools.common.security.CSensitiveDataMaskingManager;
+import org.testng.IResultMap;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.CustomAttribute;
+import org.testng.internal.Utils;
+import org.testng.reporters.XMLReporterConfig;
+import org.testng.util.TimeUtils;
+
+/**
+ * Streaming writer for TestNG result XML files.
+ *
+ * <p>Elements are written with a StAX {@link XMLStreamWriter} straight to a buffered file stream,
+ * so the size of the report does not affect memory usage. Every text node is passed through {@link
+ * CSensitiveDataMaskingManager#mask(String)} when it is written. When compression is enabled the
+ * file is gzipped on the fly.
+ *
+ * <p>The test, class and test-method elements have the same layout as the ones TestNG's {@link
+ * org.testng.reporters.XMLReporter} writes.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * try (CTestNGResultXmlWriter writer =
+ *     new CTestNGResultXmlWriter(new File("testng-results.xml.gz"), config, true)) {
+ *   writer.startElement("testng-results");
+ *   writer.writeSuiteResult(suiteResult);
+ *   writer.endElement();
+ * }
+ * }</pre>
+ */
+public class CTestNGResultXmlWriter implements Closeable {
+  private static final String CDATA_END = "]]>";
+  private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+  private final File file;
+  private final XMLReporterConfig config;
+  private final OutputStream stream;
+  private final XMLStreamWriter writer;
+
+  /**
+   * Creates the file and writes the XML declaration.
+   *
+   * @param file the file to write, parent folders are created when needed
+   * @param config the TestNG reporter configuration
+   * @param compress true to gzip the output
+   * @throws CFileOperationException if the file cannot be created
+   */
+  public CTestNGResultXmlWriter(File file, XMLReporterConfig config, boolean compress) {
+    this.file = file;
+    this.config = config;
+    try {
+      File parent = file.getAbsoluteFile().getParentFile();
+      if (parent != null) {
+        parent.mkdirs();
+      }
+      OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+      this.stream = compress ? new GZIPOutputStream(out) : out;
+      this.writer = OUTPUT_FACTORY.createXMLStreamWriter(stream, StandardCharsets.UTF_8.name());
+      writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+      writer.writeCharacters(System.lineSeparator());
+    } catch (IOException | XMLStreamException e) {
+      throw new CFileOperationException(file, "Failed to create TestNG result file", e);
+    }
+  }
+
+  /**
+   * Starts an element.
+   *
+   * @param name element name
+   * @param attributes attribute names followed by their values, attributes with null value are not
+   *     written
+   */
+  public void startElement(String name, Object... attributes) {
+    try {
+      writer.writeStartElement(name);
+      writeAttributes(attributes);
+    } catch (XMLStreamException e) {
+      throw new CFileOperationException(file, "Failed to write element " + name, e);
+    }
+  }
+
+  /**
+   * Writes an element without content.
+   *
+   * @param name element name
+   * @param attributes attribute names followed by their values, attributes with null value are not
+   *     written
+   */
+  public void emptyElement(String name, Object... attributes) {
+    try {
+      writer.writeEmptyElement(name);
+      writeAttributes(attributes);
+    } catch (XMLStreamException e) {
+      throw new CFileOperationException(file, "Failed to write element " + name, e);
+    }
+  }
+
+  /** Ends the last started element. */
+  public void endElement() {
+    try {
+      writer.writeEndElement();
+    } catch (XMLStreamException e) {
+      throw new CFileOperationException(file, "Failed to end element", e);
+    }
+  }
+
+  /**
+   * Writes an element with the masked text as CDATA content.
+   *
+   * @param name element name
+   * @param text the text to mask and write
+   */
+  public void cdataElement(String name, String text) {
+    startElement(name);
+    writeCData(CSensitiveDataMaskingManager.mask(text));
+    endElement();
+  }
+
+  /**
+   * Writes the test element of the suite result with all its test and configuration results grouped
+   * by class.
+   *
+   * @param suiteResult the suite result to write
+   */
+  public void writeSuiteResult(ISuiteResult suiteResult) {
+    writeSuiteResult(suiteResult, result -> true);
+  }
+
+  /**
+   * Writes the test element of the suite result with the test and configuration results which match
+   * the filter grouped by class.
+   *
+   * @param suiteResult the suite result to write
+   * @param filter the results to write, like the ones a {@link
+   *     org.catools.common.testng.listeners.CTestResultAggregator} keeps
+   */
+  public void writeSuiteResult(ISuiteResult suiteResult, Predicate<ITestResult> filter) {
+    ITestContext testContext = suiteResult.getTestContext();
+    Date startDate = testContext.getStartDate();
+    Date endDate = testContext.getEndDate() == null ? startDate : testContext.getEndDate();
+    startElement(
+        XMLReporterConfig.TAG_TEST,
+        XMLReporterConfig.ATTR_NAME,
+        testContext.getName(),
+        XMLReporterConfig.ATTR_STARTED_AT,
+        formatTime(startDate.getTime()),
+        XMLReporterConfig.ATTR_FINISHED_AT,
+        formatTime(endDate.getTime()),
+        XMLReporterConfig.ATTR_DURATION_MS,
+        endDate.getTime() - startDate.getTime());
+
+    Set<ITestResult> results = new LinkedHashSet<>();
+    addResults(results, testContext.getPassedTests());
+    addResults(results, testContext.getFailedTests());
+    addResults(results, testContext.getSkippedTests());
+    addResults(results, testContext.getPassedConfigurations());
+    addResults(results, testContext.getSkippedConfigurations());
+    addResults(results, testContext.getFailedConfigurations());
+    addResults(results, testContext.getFailedButWithinSuccessPercentageTests());
+
+    Map<String, List<ITestResult>> resultsByClass = new LinkedHashMap<>();
+    for (ITestResult result : results) {
+      if (!filter.test(result)) {
+        continue;
+      }
+      resultsByClass
+          .computeIfAbsent(result.getTestClass().getName(), k -> new ArrayList<>())
+          .add(result);
+    }
+
+    for (Map.Entry<String, List<ITestResult>> entry : resultsByClass.entrySet()) {
+      writeClass(entry.getKey(), entry.getValue());
+    }
+    endElement();
+  }
+
+  /**
+   * Writes the reporter-output element with one masked line element for each output line.
+   *
+   * @param output the output lines, null lines are skipped
+   */
+  public void writeReporterOutput(Collection<String> output) {
+    startElement(XMLReporterConfig.TAG_REPORTER_OUTPUT);
+    for (String line : output) {
+      if (line != null) {
+        cdataElement(XMLReporterConfig.TAG_LINE, line);
+      }
+    }
+    endElement();
+  }
+
+  /** Ends all open elements and closes the file. */
+  @Override
+  public void close() {
+    try {
+      writer.writeEndDocument();
+      writer.close();
+      stream.close();
+    } catch (IOException | XMLStreamException e) {
+      throw new CFileOperationException(file, "Failed to close TestNG result file", e);
+    }
+  }
+
+  private void writeClass(String className, List<ITestResult> results) {
+    int lastDot = className.lastIndexOf('.');
+    if (config.isSplitClassAndPackageNames()) {
+      startElement(
+          XMLReporterConfig.TAG_CLASS,
+          XMLReporterConfig.ATTR_NAME,
+          lastDot < 0 ? className : className.substring(lastDot + 1),
+          XMLReporterConfig.ATTR_PACKAGE,
+          lastDot < 0 ? "[default]" : className.substring(0, lastDot));
+    } else {
+      startElement(XMLReporterConfig.TAG_CLASS, XMLReporterConfig.ATTR_NAME, className);
+    }
+
+    results.sort(Comparator.comparingLong(ITestResult::getStartMillis));
+    for (ITestResult result : results) {
+      writeTestResult(result);
+    }
+    endElement();
+  }
+
+  private void writeTestResult(ITestResult result) {
+    ITestNGMethod method = result.getMethod();
+    String dataProvider =
+        method.getDataProviderMethod() == null ? null : method.getDataProviderMethod().getName();
+    startElement(
+        XMLReporterConfig.TAG_TEST_METHOD,
+        XMLReporterConfig.ATTR_STATUS,
+        getStatus(result.getStatus()),
+        XMLReporterConfig.ATTR_IS_CONFIG,
+        method.isTest() ? null : "true",
+        XMLReporterConfig.ATTR_METHOD_SIG,
+        removeClassName(method.toString()),
+        XMLReporterConfig.ATTR_NAME,
+        method.getMethodName(),
+        XMLReporterConfig.ATTR_TEST_INSTANCE_NAME,
+        result.getTestName(),
+        XMLReporterConfig.ATTR_DESC,
+        emptyToNull(method.getDescription()),
+        XMLReporterConfig.ATTR_DURATION_MS,
+        result.getEndMillis() - result.getStartMillis(),
+        XMLReporterConfig.ATTR_STARTED_AT,
+        formatTime(result.getStartMillis()),
+        XMLReporterConfig.ATTR_FINISHED_AT,
+        formatTime(result.getEndMillis()),
+        XMLReporterConfig.ATTR_GROUPS,
+        config.isGenerateGroupsAttribute() ? joinNames(method.getGroups()) : null,
+        XMLReporterConfig.ATTR_DEPENDS_ON_METHODS,
+        config.isGenerateDependsOnMethods() ? joinNames(method.getMethodsDependedUpon()) : null,
+        XMLReporterConfig.ATTR_DEPENDS_ON_GROUPS,
+        config.isGenerateDependsOnGroups() ? joinNames(method.getGroupsDependedUpon()) : null,
+        XMLReporterConfig.ATTR_DATA_PROVIDER,
+        emptyToNull(dataProvider),
+        XMLReporterConfig.ATTR_RETRIED,
+        result.wasRetried() ? "true" : null);
+
+    writeParameters(result.getParameters());
+    writeException(result);
+    writeReporterOutput(Reporter.getOutput(result));
+    if (config.isGenerateTestResultAttributes()) {
+      writeAttributes(result);
+    }
+    writeCustomAttributes(method.getAttributes());
+    endElement();
+  }
+
+  private void writeParameters(Object[] parameters) {
+    if (parameters == null || parameters.length == 0) {
+      return;
+    }
+    startElement(XMLReporterConfig.TAG_PARAMS);
+    for (int i = 0; i < parameters.length; i++) {
+      startElement(XMLReporterConfig.TAG_PARAM, XMLReporterConfig.ATTR_INDEX, i);
+      writeValue(XMLReporterConfig.TAG_PARAM_VALUE, parameters[i]);
+      endElement();
+    }
+    endElement();
+  }
+
+  private void writeException(ITestResult result) {
+    Throwable throwable = result.getThrowable();
+    if (throwable == null) {
+      return;
+    }
+    startElement(
+        XMLReporterConfig.TAG_EXCEPTION,
+        XMLReporterConfig.ATTR_CLASS,
+        throwable.getClass().getName());
+    if (!Utils.isStringEmpty(throwable.getMessage())) {
+      cdataElement(XMLReporterConfig.TAG_MESSAGE, throwable.getMessage());
+    }
+
+    XMLReporterConfig.StackTraceLevels level =
+        result.isSuccess()
+            ? config.getStackTraceOutputLevelForPassedTests()
+            : config.getStackTraceOutput();
+    if (level == XMLReporterConfig.StackTraceLevels.SHORT
+        || level == XMLReporterConfig.StackTraceLevels.BOTH) {
+      cdataElement(XMLReporterConfig.TAG_SHORT_STACKTRACE, Utils.shortStackTrace(throwable, false));
+    }
+    if (level == XMLReporterConfig.StackTraceLevels.FULL
+        || level == XMLReporterConfig.StackTraceLevels.BOTH) {
+      cdataElement(XMLReporterConfig.TAG_FULL_STACKTRACE, Utils.longStackTrace(throwable, false));
+    }
+    endElement();
+  }
+
+  private void writeAttributes(ITestResult result) {
+    Set<String> names = result.getAttributeNames();
+    if (names == null || names.isEmpty()) {
+      return;
+    }
+    startElement(XMLReporterConfig.TAG_ATTRIBUTES);
+    for (String name : names) {
+      Object value = result.getAttribute(name);
+      if (value == null) {
+        emptyElement(
+            XMLReporterConfig.TAG_ATTRIBUTE,
+            XMLReporterConfig.ATTR_NAME,
+            name,
+            XMLReporterConfig.ATTR_IS_NULL,
+            "true");
+      } else {
+        startElement(XMLReporterConfig.TAG_ATTRIBUTE, XMLReporterConfig.ATTR_NAME, name);
+        writeCData(CSensitiveDataMaskingManager.mask(value.toString()));
+        endElement();
+      }
+    }
+    endElement();
+  }
+
+  private void writeCustomAttributes(CustomAttribute[] attributes) {
+    if (attributes == null || attributes.length == 0) {
+      return;
+    }
+    startElement(XMLReporterConfig.TAG_CUSTOM_ATTRIBUTES);
+    for (CustomAttribute attribute : attributes) {
+      startElement(XMLReporterConfig.TAG_CUSTOM_ATTRIBUTE);
+      // TestNG puts the name in a value attribute, the text keeps it readable as element content
+      startElement(
+          XMLReporterConfig.TAG_CUSTOM_ATTRIBUTE_NAME,
+          XMLReporterConfig.TAG_CUSTOM_ATTRIBUTE_VALUE,
+          attribute.name());
+      writeCData(CSensitiveDataMaskingManager.mask(attribute.name()));
+      endElement();
+      cdataElement(
+          XMLReporterConfig.TAG_CUSTOM_ATTRIBUTE_VALUE, Arrays.toString(attribute.values()));
+      endElement();
+    }
+    endElement();
+  }
+
+  private void writeValue(String name, Object value) {
+    if (value == null) {
+      emptyElement(name, XMLReporterConfig.ATTR_IS_NULL, "true");
+    } else {
+      cdataElement(name, value.toString());
+    }
+  }
+
+  private void writeCData(String text) {
+    try {
+      // a CDATA section cannot contain its own end marker, so split the text around it
+      int start = 0;
+      int end;
+      while ((end = text.indexOf(CDATA_END, start)) >= 0) {
+        writer.writeCData(text.substring(start, end + 2));
+        start = end + 2;
+      }
+      writer.writeCData(text.substring(start));
+    } catch (XMLStreamException e) {
+      throw new CFileOperationException(file, "Failed to write CDATA", e);
+    }
+  }
+
+  private void writeAttributes(Object[] attributes) throws XMLStreamException {
+    for (int i = 0; i + 1 < attributes.length; i += 2) {
+      if (attributes[i + 1] != null) {
+        writer.writeAttribute(String.valueOf(attributes[i]), String.valueOf(attributes[i + 1]));
+      }
+    }
+  }
+
+  private String formatTime(long millis) {
+    return TimeUtils.formatTimeInLocalOrSpecifiedTimeZone(millis, config.getTimestampFormat());
+  }
+
+  private static void addResults(Set<ITestResult> results, IResultMap resultMap) {
+    if (resultMap != null) {
+      resultMap.getAllResults().stream()
+          .sorted(Comparator.comparingLong(ITestResult::getStartMillis))
+          .forEach(results::add);
+    }
+  }
+
+  private static String getStatus(int status) {
+    return switch (status) {
+      case ITestResult.SUCCESS -> "PASS";
+      case ITestResult.FAILURE -> "FAIL";
+      case ITestResult.SKIP -> "SKIP";
+      case ITestResult.SUCCESS_PERCENTAGE_FAILURE -> "SUCCESS_PERCENTAGE_FAILURE";
+      default -> throw new IllegalArgumentException("Unexpected test status: " + status);
+    };
+  }
+
+  private static String removeClassName(String signature) {
+    int parameterStart = signature.indexOf('(');
+    if (parameterStart < 0) {
+      return signature;
+    }
+    int lastDot = signature.substring(0, parameterStart).lastIndexOf('.');
+    return signature.substring(lastDot + 1);
+  }
+
+  private static String joinNames(String[] names) {
+    return names == null ? null : emptyToNull(Utils.arrayToString(names));
+  }
+
+  private static String emptyToNull(String value) {
+    return Utils.isStringEmpty(value) ? null : value;
+  }
+}
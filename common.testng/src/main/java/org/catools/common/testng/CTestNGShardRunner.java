@@ -0,0 +1,264 @@
+package org.catools.common.testng;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToLongFunction;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.catools.common.collections.CList;
+import org.catools.common.exception.CRuntimeException;
+import org.catools.common.hocon.CHocon;
+import org.catools.common.io.CFile;
+import org.catools.common.testng.listeners.CExecutionResultListener;
+import org.catools.common.testng.model.CMethodDurationHistory;
+import org.catools.common.testng.model.CTestResults;
+import org.catools.common.testng.utils.CTestScheduleUtil;
+import org.catools.common.testng.utils.CXmlSuiteUtils;
+import org.catools.common.utils.CJsonUtil;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.internal.Parser;
+
+/**
+ * Runs TestNG suites in several JVMs at the same time and merges their results.
+ *
+ * <p>The suites are split into balanced shards by {@link CXmlSuiteUtils#splitIntoShards}. Classes
+ * are weighted by their duration in earlier runs from {@link CMethodDurationHistory}, classes which
+ * have not run before are expected to take the average duration of the known classes, and when
+ * there is no history at all classes are weighted by their number of test methods.
+ *
+ * <p>Each shard runs in a child JVM with the class path of the current process, and the number of
+ * shards which run at the same time is limited. Children inherit the environment variables and get
+ * the {@code catools.*} and {@code CONFIGS_TO_LOAD} system properties of the current process,
+ * followed by {@link CTestNGConfigs#getShardJvmArgs()}. The shard count and output folder are
+ * always set for each shard. When the run fails or is interrupted, the shards which are still
+ * running are destroyed. Every shard writes its output to {@code shards/shard-<index>} in the
+ * output folder, including the suite files and the console output of the JVM in {@code shard.log}.
+ * When all shards are done, their {@link CTestResults} are merged into {@code
+ * CTestResultCollection.json} in the output folder.
+ *
+ * <p>{@link CTestNGProcessor#processXmlSuites(Collection)} uses this runner when {@link
+ * CTestNGConfigs#getShardCount()} is more than 1.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * CTestNGShardRunner runner = new CTestNGShardRunner(4, 2);
+ * int status = runner.run(suites);
+ * CTestResults results = runner.getResults();
+ * }</pre>
+ *
+ * @see CTestNGConfigs#getShardCount()
+ * @see CTestNGConfigs#getShardParallelCount()
+ * @see CTestNGConfigs#getShardJvmArgs()
+ */
+@Slf4j
+public class CTestNGShardRunner {
+  private static final String RESULT_FILE_NAME = "CTestResultCollection.json";
+  private static final String PROPERTY_PREFIX = "catools.";
+  private static final String SHARD_COUNT_PROPERTY = "catools.testng.shard.count";
+  private static final String OUTPUT_DIRECTORY_PROPERTY = "catools.paths.output_directory";
+  private static final Set<String> SHARD_PROPERTIES =
+      Set.of(SHARD_COUNT_PROPERTY, OUTPUT_DIRECTORY_PROPERTY);
+
+  private final int shardCount;
+  private final int parallelCount;
+  @Getter private final CTestResults results = new CTestResults();
+  private final List<Process> processes = new CopyOnWriteArrayList<>();
+
+  /** Creates a runner with the shard settings of {@link CTestNGConfigs}. */
+  public CTestNGShardRunner() {
+    this(CTestNGConfigs.getShardCount(), CTestNGConfigs.getShardParallelCount());
+  }
+
+  /**
+   * Creates a runner.
+   *
+   * @param shardCount the number of shards to split the suites into
+   * @param parallelCount the number of shards which run at the same time, 0 or less uses the number
+   *     of available processors
+   */
+  public CTestNGShardRunner(int shardCount, int parallelCount) {
+    this.shardCount = Math.max(1, shardCount);
+    this.parallelCount =
+        parallelCount > 0 ? parallelCount : Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Splits the suites into shards, runs each shard in a child JVM and merges the results.
+   *
+   * @param xmlSuites the suites to run
+   * @return 0 if all shards passed, otherwise the combined status of the failed shards
+   */
+  public int run(Collection<XmlSuite> xmlSuites) {
+    CList<CList<XmlSuite>> shards =
+        CXmlSuiteUtils.splitIntoShards(xmlSuites, shardCount, getClassWeight());
+    log.info(
+        "Running {} shards with up to {} shards at the same time.", shards.size(), parallelCount);
+
+    ExecutorService executor =
+        Executors.newFixedThreadPool(Math.max(1, Math.min(parallelCount, shards.size())));
+    try {
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < shards.size(); i++) {
+        File folder = CFile.fromOutput("shards/shard-" + i);
+        CList<XmlSuite> shard = shards.get(i);
+        futures.add(executor.submit(() -> runShard(folder, shard)));
+      }
+
+      int status = 0;
+      for (int i = 0; i < futures.size(); i++) {
+        status |= futures.get(i).get();
+        status |= readResults(CFile.fromOutput("shards/shard-" + i + "/" + RESULT_FILE_NAME));
+      }
+
+      CJsonUtil.write(CFile.fromOutput("./" + RESULT_FILE_NAME), results);
+      return status;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CRuntimeException("Interrupted while waiting for shards to finish.", e);
+    } catch (ExecutionException e) {
+      throw new CRuntimeException("Failed to run shard.", e.getCause());
+    } finally {
+      executor.shutdownNow();
+      for (Process process : processes) {
+        if (process.isAlive()) {
+          log.warn("Destroying shard process {}.", process.pid());
+          process.destroy();
+        }
+      }
+    }
+  }
+
+  /**
+   * Entry point of the shard JVMs. Runs the given suite files and writes the collected results.
+   *
+   * @param args the result file followed by the suite files to run
+   */
+  public static void main(String[] args) {
+    if (args.length < 2) {
+      throw new IllegalArgumentException(
+          "Usage: CTestNGShardRunner <result file> <suite file> [<suite file>...]");
+    }
+
+    CExecutionResultListener resultListener = new CExecutionResultListener();
+    int status;
+    try {
+      List<XmlSuite> suites = new ArrayList<>();
+      for (int i = 1; i < args.length; i++) {
+        suites.addAll(new Parser(args[i]).parse());
+      }
+      status = CTestNGProcessor.processXmlSuites(suites, List.of(resultListener));
+    } catch (Throwable t) {
+      log.error("Could Not Processing Shard Suites", t);
+      status = 1;
+    }
+    CJsonUtil.write(new File(args[0]), resultListener.getExecutionResults());
+    System.exit(status);
+  }
+
+  int runShard(File folder, CList<XmlSuite> suites) throws IOException, InterruptedException {
+    folder.mkdirs();
+    File resultFile = new File(folder, RESULT_FILE_NAME);
+    resultFile.delete();
+
+    List<String> command = new ArrayList<>();
+    command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    command.addAll(getForwardedProperties());
+    command.addAll(CTestNGConfigs.getShardJvmArgs());
+    // system properties win over config files, so the shard cannot split its suites again
+    command.add("-D" + SHARD_COUNT_PROPERTY + "=1");
+    command.add("-D" + OUTPUT_DIRECTORY_PROPERTY + "=" + folder.getAbsolutePath() + "/");
+    command.add("-cp");
+    command.add(System.getProperty("java.class.path"));
+    command.add(CTestNGShardRunner.class.getName());
+    command.add(resultFile.getAbsolutePath());
+    for (int i = 0; i < suites.size(); i++) {
+      CFile suiteFile = new CFile(folder, "suite-" + i + ".xml");
+      suiteFile.write(suites.get(i).toXml());
+      command.add(suiteFile.getAbsolutePath());
+    }
+
+    ProcessBuilder builder = new ProcessBuilder(command);
+    builder.redirectErrorStream(true);
+    builder.redirectOutput(new File(folder, "shard.log"));
+
+    log.info("Starting shard {} with {} suites.", folder.getName(), suites.size());
+    Process process = builder.start();
+    processes.add(process);
+    try {
+      int exitCode = process.waitFor();
+      log.info("Shard {} finished with status {}.", folder.getName(), exitCode);
+      return exitCode;
+    } finally {
+      if (process.isAlive()) {
+        process.destroy();
+      }
+    }
+  }
+
+  int readResults(File resultFile) {
+    if (!resultFile.exists()) {
+      log.error("Shard results not found in {}.", resultFile);
+      return 1;
+    }
+    results.addAll(CJsonUtil.read(resultFile, CTestResults.class));
+    return 0;
+  }
+
+  private static List<String> getForwardedProperties() {
+    List<String> properties = new ArrayList<>();
+    System.getProperties()
+        .stringPropertyNames()
+        .forEach(
+            name -> {
+              if ((name.startsWith(PROPERTY_PREFIX) && !SHARD_PROPERTIES.contains(name))
+                  || name.equals(CHocon.CONFIGS_TO_LOAD)) {
+                properties.add("-D" + name + "=" + System.getProperty(name));
+              }
+            });
+    return properties;
+  }
+
+  private static ToLongFunction<XmlClass> getClassWeight() {
+    CMethodDurationHistory history = CTestScheduleUtil.getDurationHistory();
+    if (history.size() == 0) {
+      return CTestNGShardRunner::getTestMethodCount;
+    }
+    long defaultDuration = history.getAverageClassDuration();
+    return xmlClass -> {
+      Long duration = history.getClassDuration(xmlClass.getName());
+      return duration == null ? defaultDuration : duration;
+    };
+  }
+
+  private static long getTestMethodCount(XmlClass xmlClass) {
+    if (!xmlClass.getIncludedMethods().isEmpty()) {
+      return xmlClass.getIncludedMethods().size();
+    }
+    try {
+      long count = 0;
+      for (Method method : xmlClass.getSupportClass().getMethods()) {
+        if (method.isAnnotationPresent(Test.class)) {
+          count++;
+        }
+      }
+      return Math.max(1, count);
+    } catch (RuntimeException | LinkageError e) {
+      log.warn("Failed to count test methods of {}.", xmlClass.getName(), e);
+      return 1;
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package org.catools.common.testng.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.catools.common.collections.CList;
+import org.catools.common.collections.CSet;
+
+/**
+ * Reads and writes the test index which {@link CTestIndexProcessor} generates at build time.
+ *
+ * <p>The index lists every public test method of the compiled classes with its groups, test ids and
+ * annotations, one method per line. Reading it replaces scanning and loading every class in the
+ * test packages at startup.
+ *
+ * <p>Each classpath root, a jar, a class folder or a module, can have its own index, and {@link
+ * #load(ClassLoader)} reads all of them by root. Roots without an index, and roots with a stale
+ * index which lists a class that no longer exists, are not covered and the caller should scan them
+ * instead.
+ */
+@Slf4j
+@UtilityClass
+public class CTestIndex {
+  /** The location of the index on the classpath. */
+  public static final String INDEX_RESOURCE = "META-INF/catools/test-index";
+
+  private static final String HEADER = "# catools test index 1";
+  private static final String FIELD_SEPARATOR = "\t";
+  private static final String VALUE_SEPARATOR = ",";
+  private static final int FIELD_COUNT = 7;
+
+  /**
+   * Reads all test indexes available to the class loader.
+   *
+   * @param loader the class loader to read indexes and check classes with
+   * @return the entries of each index by the classpath root which contains it, see {@link
+   *     #getRoot(URL, String)}. Indexes which cannot be read or are stale are left out.
+   */
+  public static Map<String, CList<CTestIndexEntry>> load(ClassLoader loader) {
+    Map<String, CList<CTestIndexEntry>> indexes = new LinkedHashMap<>();
+    Enumeration<URL> resources;
+    try {
+      resources = loader.getResources(INDEX_RESOURCE);
+    } catch (IOException e) {
+      log.warn("Failed to find test indexes.", e);
+      return indexes;
+    }
+
+    while (resources.hasMoreElements()) {
+      URL url = resources.nextElement();
+      CList<CTestIndexEntry> entries;
+      try (Reader reader = new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)) {
+        entries = read(reader);
+      } catch (IOException | IllegalArgumentException e) {
+        log.warn("Failed to read test index {}.", url, e);
+        continue;
+      }
+
+      String missingClass =
+          entries
+              .mapToSet(CTestIndexEntry::getClassName)
+              .getFirstOrNull(c -> loader.getResource(c.replace('.', '/') + ".class") == null);
+      if (missingClass != null) {
+        log.info("Test index {} is stale, class {} does not exist anymore.", url, missingClass);
+        continue;
+      }
+      indexes.put(getRoot(url, INDEX_RESOURCE), entries);
+    }
+    return indexes;
+  }
+
+  /**
+   * The classpath root of a resource, used to match classes with the index of their root.
+   *
+   * @param url the url of the resource
+   * @param resourceName the name of the resource relative to its root, like {@code
+   *     org/catools/MyTest.class}
+   * @return the url of the root which contains the resource, like {@code jar:file:/tests.jar!/}
+   */
+  public static String getRoot(URL url, String resourceName) {
+    String location = url.toString();
+    return location.endsWith(resourceName)
+        ? location.substring(0, location.length() - resourceName.length())
+        : location;
+  }
+
+  /**
+   * Reads index entries.
+   *
+   * @param reader the index content
+   * @return the entries of the index
+   * @throws IOException if the index cannot be read
+   * @throws IllegalArgumentException if the index format is not supported
+   */
+  public static CList<CTestIndexEntry> read(Reader reader) throws IOException {
+    CList<CTestIndexEntry> entries = new CList<>();
+    BufferedReader lines = new BufferedReader(reader);
+    String header = lines.readLine();
+    if (header != null && !HEADER.equals(header)) {
+      throw new IllegalArgumentException("Unsupported test index format: " + header);
+    }
+
+    String line;
+    while ((line = lines.readLine()) != null) {
+      if (line.isBlank()) {
+        continue;
+      }
+      String[] fields = line.split(FIELD_SEPARATOR, -1);
+      if (fields.length != FIELD_COUNT) {
+        throw new IllegalArgumentException("Invalid test index entry: " + line);
+      }
+      entries.add(
+          new CTestIndexEntry(
+              fields[0],
+              fields[1],
+              decode(fields[2]),
+              decode(fields[3]),
+              new CSet<>(decode(fields[4])),
+              fields[5].isEmpty() ? null : Integer.valueOf(fields[5]),
+              fields[6].isEmpty() ? null : Integer.valueOf(fields[6])));
+    }
+    return entries;
+  }
+
+  /**
+   * Writes index entries.
+   *
+   * @param writer the writer to write the index to
+   * @param entries the entries to write
+   * @throws IOException if the index cannot be written
+   */
+  public static void write(Writer writer, Collection<CTestIndexEntry> entries) throws IOException {
+    writer.write(HEADER);
+    writer.write('\n');
+    for (CTestIndexEntry entry : entries) {
+      writer.write(
+          String.join(
+              FIELD_SEPARATOR,
+              entry.getClassName(),
+              entry.getMethodName(),
+              encode(entry.getGroups()),
+              encode(entry.getTestIds()),
+              encode(entry.getAnnotations()),
+              entry.getSeverityLevel() == null ? "" : entry.getSeverityLevel().toString(),
+              entry.getRegressionDepth() == null ? "" : entry.getRegressionDepth().toString()));
+      writer.write('\n');
+    }
+  }
+
+  private static String encode(Collection<String> values) {
+    return new CList<>(values)
+        .join(v -> URLEncoder.encode(v, StandardCharsets.UTF_8), VALUE_SEPARATOR);
+  }
+
+  private static CList<String> decode(String field) {
+    if (field.isEmpty()) {
+      return new CList<>();
+    }
+    return CList.of(field.split(VALUE_SEPARATOR, -1))
+        .mapToList(v -> URLDecoder.decode(v, StandardCharsets.UTF_8));
+  }
+}
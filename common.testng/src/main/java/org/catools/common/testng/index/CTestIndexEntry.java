@@ -0,0 +1,35 @@
+package org.catools.common.testng.index;
+
+import lombok.Data;
+import org.catools.common.collections.CList;
+import org.catools.common.collections.CSet;
+
+/**
+ * A single test method in the {@link CTestIndex}.
+ *
+ * <p>An entry holds everything {@link org.catools.common.testng.utils.CTestClassUtil} needs to
+ * decide whether the test should run, so the test class does not have to be loaded.
+ */
+@Data
+public class CTestIndexEntry {
+  /** The binary name of the top level class which declares or inherits the test method. */
+  private final String className;
+
+  /** The name of the test method. */
+  private final String methodName;
+
+  /** The groups of the {@link org.testng.annotations.Test} annotation on the method. */
+  private final CList<String> groups;
+
+  /** The ids of the {@link org.catools.common.annotations.CTestIds} annotation on the method. */
+  private final CList<String> testIds;
+
+  /** The binary names of all annotation types on the method. */
+  private final CSet<String> annotations;
+
+  /** The {@link org.catools.common.annotations.CSeverity} level, or null if not annotated. */
+  private final Integer severityLevel;
+
+  /** The {@link org.catools.common.annotations.CRegression} depth, or null if not annotated. */
+  private final Integer regressionDepth;
+}
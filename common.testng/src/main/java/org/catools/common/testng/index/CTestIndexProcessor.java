@@ -0,0 +1,220 @@
+package org.catools.common.testng.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import org.catools.common.annotations.CRegression;
+import org.catools.common.annotations.CSeverity;
+import org.catools.common.annotations.CTestIds;
+import org.catools.common.collections.CList;
+import org.catools.common.collections.CSet;
+import org.testng.annotations.Test;
+
+/**
+ * Annotation processor which writes the {@link CTestIndex} of compiled test classes to {@link
+ * CTestIndex#INDEX_RESOURCE} in the class output folder.
+ *
+ * <p>Every public method with {@link Test}, including methods inherited from super classes, of each
+ * compiled top level class is added to the index, the same methods which {@link
+ * org.catools.common.testng.utils.CTestClassUtil} finds by scanning the classpath. When only some
+ * classes are recompiled, entries of other classes are kept from the existing index as long as
+ * their class files still exist.
+ *
+ * <p>The processor is registered as a service, so javac runs it when common.testng is on the
+ * classpath and processors are discovered from the classpath. Builds which declare annotation
+ * processor paths, like every module which inherits catools.parent, disable that discovery and must
+ * add common.testng to the processor paths of the test compilation to get an index:
+ *
+ * <pre>{@code
+ * <annotationProcessorPaths>
+ *   <path>
+ *     <groupId>org.catools</groupId>
+ *     <artifactId>common.testng</artifactId>
+ *     <version>${revision}</version>
+ *   </path>
+ * </annotationProcessorPaths>
+ * }</pre>
+ *
+ * <p>Modules without an index are still found by scanning the classpath, see {@link
+ * CTestIndex#load(ClassLoader)}.
+ */
+@SupportedAnnotationTypes("*")
+public class CTestIndexProcessor extends AbstractProcessor {
+  private final CList<CTestIndexEntry> entries = new CList<>();
+  private final Set<String> processedClasses = new HashSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeIndex();
+      return false;
+    }
+
+    for (Element element : roundEnv.getRootElements()) {
+      if (element instanceof TypeElement type && type.getNestingKind() == NestingKind.TOP_LEVEL) {
+        indexClass(type);
+      }
+    }
+
+    // other processors should still see all annotations
+    return false;
+  }
+
+  private void indexClass(TypeElement type) {
+    String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+    processedClasses.add(className);
+
+    for (Element member : processingEnv.getElementUtils().getAllMembers(type)) {
+      if (member.getKind() != ElementKind.METHOD
+          || !member.getModifiers().contains(Modifier.PUBLIC)) {
+        continue;
+      }
+
+      AnnotationMirror test = getAnnotation(member, Test.class.getName());
+      if (test == null) {
+        continue;
+      }
+
+      AnnotationMirror testIds = getAnnotation(member, CTestIds.class.getName());
+      AnnotationMirror severity = getAnnotation(member, CSeverity.class.getName());
+      AnnotationMirror regression = getAnnotation(member, CRegression.class.getName());
+      entries.add(
+          new CTestIndexEntry(
+              className,
+              member.getSimpleName().toString(),
+              getStrings(test, "groups"),
+              testIds == null ? new CList<>() : getStrings(testIds, "ids"),
+              new CSet<>(member.getAnnotationMirrors())
+                  .getAll(this::isRuntimeAnnotation)
+                  .mapToSet(this::getBinaryName),
+              severity == null ? null : (Integer) getValue(severity, "level"),
+              regression == null ? null : (Integer) getValue(regression, "depth")));
+    }
+  }
+
+  private void writeIndex() {
+    CList<CTestIndexEntry> index = new CList<>(entries);
+    boolean hasIndex = false;
+    try {
+      FileObject existing =
+          processingEnv
+              .getFiler()
+              .getResource(StandardLocation.CLASS_OUTPUT, "", CTestIndex.INDEX_RESOURCE);
+      try (Reader reader = existing.openReader(true)) {
+        hasIndex = true;
+        index.addAll(
+            CTestIndex.read(reader)
+                .getAll(e -> !processedClasses.contains(e.getClassName()))
+                .getAll(e -> classFileExists(e.getClassName())));
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      // there is no index from an earlier build or it cannot be used
+    }
+
+    if (index.isEmpty() && !hasIndex) {
+      return;
+    }
+
+    index.sort(
+        Comparator.comparing(CTestIndexEntry::getClassName)
+            .thenComparing(CTestIndexEntry::getMethodName));
+    try {
+      FileObject file =
+          processingEnv
+              .getFiler()
+              .createResource(StandardLocation.CLASS_OUTPUT, "", CTestIndex.INDEX_RESOURCE);
+      try (Writer writer = file.openWriter()) {
+        CTestIndex.write(writer, index);
+      }
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(Diagnostic.Kind.WARNING, "Failed to write test index: " + e.getMessage());
+    }
+  }
+
+  private boolean classFileExists(String className) {
+    int lastDot = className.lastIndexOf('.');
+    String packageName = lastDot < 0 ? "" : className.substring(0, lastDot);
+    String fileName = className.substring(lastDot + 1) + ".class";
+    try (InputStream in =
+        processingEnv
+            .getFiler()
+            .getResource(StandardLocation.CLASS_OUTPUT, packageName, fileName)
+            .openInputStream()) {
+      return true;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private String getBinaryName(AnnotationMirror annotation) {
+    TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+    return processingEnv.getElementUtils().getBinaryName(type).toString();
+  }
+
+  private boolean isRuntimeAnnotation(AnnotationMirror annotation) {
+    // only annotations which are visible by reflection are seen when the class is scanned
+    Retention retention = annotation.getAnnotationType().asElement().getAnnotation(Retention.class);
+    return retention != null && retention.value() == RetentionPolicy.RUNTIME;
+  }
+
+  private AnnotationMirror getAnnotation(Element element, String annotationName) {
+    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      if (annotationName.equals(getBinaryName(annotation))) {
+        return annotation;
+      }
+    }
+    return null;
+  }
+
+  private Object getValue(AnnotationMirror annotation, String name) {
+    Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+        processingEnv.getElementUtils().getElementValuesWithDefaults(annotation);
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value :
+        values.entrySet()) {
+      if (value.getKey().getSimpleName().contentEquals(name)) {
+        return value.getValue().getValue();
+      }
+    }
+    return null;
+  }
+
+  private CList<String> getStrings(AnnotationMirror annotation, String name) {
+    CList<String> strings = new CList<>();
+    if (getValue(annotation, name) instanceof List<?> values) {
+      for (Object value : values) {
+        strings.add(String.valueOf(((AnnotationValue) value).getValue()).trim());
+      }
+    }
+    return strings;
+  }
+}
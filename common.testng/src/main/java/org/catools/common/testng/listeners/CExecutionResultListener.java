@@ -307,6 +307,24 @@ public class CExecutionResultListener implements CITestNGListener {
     CJsonUtil.write(CFile.fromOutput("./CTestResultCollection.json"), executionResults);
   }
 
+  /**
+   * Returns the test results collected so far.
+   *
+   * <p><strong>Example:</strong>
+   *
+   * <pre>{@code
+   * CExecutionResultListener listener = new CExecutionResultListener();
+   * testNG.addListener(listener);
+   * testNG.run();
+   * CTestResults results = listener.getExecutionResults();
+   * }</pre>
+   *
+   * @return the collected test results
+   */
+  public CTestResults getExecutionResults() {
+    return executionResults;
+  }
+
   private boolean addResult(ITestResult result) {
     return executionResults.add(new CTestResult(result));
   }
@@ -1,7 +1,9 @@
 package org.catools.common.testng.listeners;
 
-import lombok.Getter;
-import org.catools.common.collections.CHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.catools.common.testng.model.CDurationHistogram;
 import org.catools.common.testng.model.CExecutionStatus;
 import org.testng.ISuite;
 import org.testng.ISuiteListener;
@@ -19,7 +21,10 @@ import org.testng.internal.IResultListener;
  *
  * <p>The listener maintains a thread-safe collection of method signatures mapped to their current
  * execution status, providing static getter methods to access current statistics at any point
- * during test execution.
+ * during test execution. Each status change moves one test from the counter of its old status to
+ * the counter of its new status, so events cost the same regardless of suite size and getters never
+ * block. Durations of completed tests are recorded in a {@link CDurationHistogram} to report
+ * percentiles.
  *
  * <h3>Key Features:</h3>
  *
@@ -121,7 +126,13 @@ import org.testng.internal.IResultListener;
  * @see IResultListener
  */
 public class CExecutionStatisticListener implements ISuiteListener, IResultListener {
-  private static final CHashMap<String, CExecutionStatus> methodSignatures = new CHashMap<>();
+  private static final Map<String, CExecutionStatus> methodSignatures = new ConcurrentHashMap<>();
+  private static final AtomicInteger total = new AtomicInteger();
+  private static final AtomicInteger passed = new AtomicInteger();
+  private static final AtomicInteger failed = new AtomicInteger();
+  private static final AtomicInteger skipped = new AtomicInteger();
+  private static final AtomicInteger running = new AtomicInteger();
+  private static final CDurationHistogram durations = new CDurationHistogram();
 
   /**
    * The total number of test methods tracked by this listener.
@@ -146,7 +157,9 @@ public class CExecutionStatisticListener implements ISuiteListener, IResultListe
    *
    * @return the total number of test methods being tracked
    */
-  @Getter private static int total;
+  public static int getTotal() {
+    return total.get();
+  }
 
   /**
    * The number of test methods that have passed successfully.
@@ -175,7 +188,9 @@ public class CExecutionStatisticListener implements ISuiteListener, IResultListe
    *
    * @return the number of passed test methods
    */
-  @Getter private static int passed;
+  public static int getPassed() {
+    return passed.get();
+  }
 
   /**
    * The number of test methods that have failed.
@@ -207,7 +222,9 @@ public class CExecutionStatisticListener implements ISuiteListener, IResultListe
    *
    * @return the number of failed test methods
    */
-  @Getter private static int failed;
+  public static int getFailed() {
+    return failed.get();
+  }
 
   /**
    * The number of test methods that have been skipped.
@@ -243,7 +260,9 @@ public class CExecutionStatisticListener implements ISuiteListener, IResultListe
    *
    * @return the number of skipped test methods
    */
-  @Getter private static int skipped;
+  public static int getSkipped() {
+    return skipped.get();
+  }
 
   /**
    * The number of test methods that are currently running.
@@ -277,7 +296,9 @@ public class CExecutionStatisticListener implements ISuiteListener, IResultListe
    *
    * @return the number of currently running test methods
    */
-  @Getter private static int running;
+  public static int getRunning() {
+    return running.get();
+  }
 
   /**
    * The number of test methods that are waiting to be executed.
@@ -315,20 +336,64 @@ public class CExecutionStatisticListener implements ISuiteListener, IResultListe
    *
    * @return the number of test methods waiting to be executed
    */
-  @Getter private static int waiting;
+  public static int getWaiting() {
+    return Math.max(0, total.get() - passed.get() - failed.get() - skipped.get() - running.get());
+  }
+
+  /**
+   * Estimates the duration which the given percentage of completed test methods did not exceed.
+   *
+   * <p>Durations of passed and failed tests are recorded when they complete. Skipped tests are not
+   * included since they do not run. The estimate is accurate within 12.5% of the actual value.
+   *
+   * <h3>Usage Example:</h3>
+   *
+   * <pre>{@code
+   * long median = CExecutionStatisticListener.getDurationPercentile(50);
+   * long p95 = CExecutionStatisticListener.getDurationPercentile(95);
+   * System.out.printf("Test duration: median %d ms, p95 %d ms\n", median, p95);
+   * }</pre>
+   *
+   * @param percentile the percentile between 0 and 100, i.e. 50 for the median
+   * @return the estimated duration in milliseconds, or 0 if no test is completed yet
+   * @see CDurationHistogram#getPercentile(double)
+   */
+  public static long getDurationPercentile(double percentile) {
+    return durations.getPercentile(percentile);
+  }
+
+  private static void updateTestResult(ITestNGMethod method, CExecutionStatus status) {
+    CExecutionStatus previous = methodSignatures.put(getSignature(method), status);
+    if (previous == null) {
+      total.incrementAndGet();
+    } else {
+      updateCounter(previous, -1);
+    }
+    updateCounter(status, 1);
+  }
+
+  private static void updateTestResult(ITestResult result, CExecutionStatus status) {
+    updateTestResult(result.getMethod(), status);
+    if (result.getStartMillis() > 0 && result.getEndMillis() >= result.getStartMillis()) {
+      durations.record(result.getEndMillis() - result.getStartMillis());
+    }
+  }
 
-  private static void updateVariables() {
-    total = methodSignatures.size();
-    passed = methodSignatures.getAllKeys(CExecutionStatus::isPassed).size();
-    failed = methodSignatures.getAllKeys(CExecutionStatus::isFailed).size();
-    skipped = methodSignatures.getAllKeys(CExecutionStatus::isSkipped).size();
-    running = methodSignatures.getAllKeys(CExecutionStatus::isRunning).size();
-    waiting = total - passed - failed - skipped - running;
+  private static void updateCounter(CExecutionStatus status, int delta) {
+    if (status.isPassed()) {
+      passed.addAndGet(delta);
+    } else if (status.isFailed()) {
+      failed.addAndGet(delta);
+    } else if (status.isSkipped()) {
+      skipped.addAndGet(delta);
+    } else if (status.isRunning()) {
+      running.addAndGet(delta);
+    }
+    // any other status is counted as waiting
   }
 
-  private static synchronized void updateTestResult(ITestNGMethod method, CExecutionStatus status) {
-    methodSignatures.put(method.getTestClass().getName() + method.getMethodName(), status);
-    updateVariables();
+  private static String getSignature(ITestNGMethod method) {
+    return method.getTestClass().getName() + method.getMethodName();
   }
 
   /**
@@ -338,8 +403,8 @@ public class CExecutionStatisticListener implements ISuiteListener, IResultListe
    * which can be useful for conditional test execution scenarios or when tests need to be excluded
    * from reporting after registration.
    *
-   * <p>The method is thread-safe and will automatically recalculate all statistics after the
-   * removal operation.
+   * <p>The method is thread-safe and will automatically update all statistics after the removal
+   * operation.
    *
    * <h3>Usage Examples:</h3>
    *
@@ -415,9 +480,12 @@ public class CExecutionStatisticListener implements ISuiteListener, IResultListe
    * @see ITestNGMethod#getTestClass()
    * @see ITestNGMethod#getMethodName()
    */
-  public static synchronized void removeTestMethod(ITestNGMethod method) {
-    methodSignatures.remove(method.getTestClass().getName() + method.getMethodName());
-    updateVariables();
+  public static void removeTestMethod(ITestNGMethod method) {
+    CExecutionStatus previous = methodSignatures.remove(getSignature(method));
+    if (previous != null) {
+      total.decrementAndGet();
+      updateCounter(previous, -1);
+    }
   }
 
   /**
@@ -434,9 +502,9 @@ public class CExecutionStatisticListener implements ISuiteListener, IResultListe
    *
    * <ol>
    *   <li>Clears any existing method tracking data
+   *   <li>Resets all statistics counters and recorded durations
    *   <li>Iterates through all methods in the suite
    *   <li>Registers each method with CREATED status
-   *   <li>Updates all statistics counters
    * </ol>
    *
    * <h3>Usage Example:</h3>
@@ -465,6 +533,12 @@ public class CExecutionStatisticListener implements ISuiteListener, IResultListe
   @Override
   public void onStart(ISuite suite) {
     methodSignatures.clear();
+    total.set(0);
+    passed.set(0);
+    failed.set(0);
+    skipped.set(0);
+    running.set(0);
+    durations.reset();
     suite.getAllMethods().forEach(m -> updateTestResult(m, CExecutionStatus.CREATED));
   }
 
@@ -565,7 +639,7 @@ public class CExecutionStatisticListener implements ISuiteListener, IResultListe
    */
   @Override
   public void onTestSuccess(ITestResult result) {
-    updateTestResult(result.getMethod(), CExecutionStatus.SUCCESS);
+    updateTestResult(result, CExecutionStatus.SUCCESS);
   }
 
   /**
@@ -632,7 +706,7 @@ public class CExecutionStatisticListener implements ISuiteListener, IResultListe
    */
   @Override
   public void onTestFailure(ITestResult result) {
-    updateTestResult(result.getMethod(), CExecutionStatus.FAILURE);
+    updateTestResult(result, CExecutionStatus.FAILURE);
   }
 
   /**
@@ -772,6 +846,6 @@ public class CExecutionStatisticListener implements ISuiteListener, IResultListe
    */
   @Override
   public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
-    updateTestResult(result.getMethod(), CExecutionStatus.SUCCESS);
+    updateTestResult(result, CExecutionStatus.SUCCESS);
   }
 }
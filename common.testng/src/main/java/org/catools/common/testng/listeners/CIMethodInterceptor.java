@@ -2,6 +2,8 @@ package org.catools.common.testng.listeners;
 
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.catools.common.testng.CTestNGConfigs;
+import org.catools.common.testng.utils.CTestScheduleUtil;
 import org.catools.common.testng.utils.CTestSuiteUtil;
 import org.testng.IMethodInstance;
 import org.testng.IMethodInterceptor;
@@ -13,7 +15,9 @@ import org.testng.ITestContext;
  *
  * <p>This interceptor is responsible for analyzing and filtering the list of test methods that
  * TestNG intends to execute, allowing for selective test execution based on various criteria
- * defined in {@link CTestSuiteUtil#filterMethodInstanceToExecute(List)}.
+ * defined in {@link CTestSuiteUtil#filterMethodInstanceToExecute(List)}. When {@link
+ * CTestNGConfigs#scheduleByDuration()} is enabled, the remaining methods are ordered longest first
+ * by {@link CTestScheduleUtil#scheduleByDuration(List, ITestContext)}.
  *
  * <p><strong>Usage Examples:</strong>
  *
@@ -76,6 +80,7 @@ public class CIMethodInterceptor implements IMethodInterceptor {
    *   <li>Records the original size for logging purposes
    *   <li>Applies filtering logic via CTestSuiteUtil
    *   <li>Logs the filtering results (methods before/after filtering)
+   *   <li>Orders the methods longest first if scheduling by duration is enabled
    *   <li>Returns the filtered list to TestNG for execution
    * </ol>
    *
@@ -126,6 +131,10 @@ public class CIMethodInterceptor implements IMethodInterceptor {
           "{} out of {} tests will be executed after applying filter.",
           list.size(),
           sizeBeforeFilter);
+
+      if (CTestNGConfigs.scheduleByDuration()) {
+        list = CTestScheduleUtil.scheduleByDuration(list, iTestContext);
+      }
     }
     return list;
   }
@@ -0,0 +1,71 @@
+package org.catools.common.testng.listeners;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.catools.common.testng.model.CMethodDurationHistory;
+import org.catools.common.testng.utils.CTestScheduleUtil;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+/**
+ * Records how long each test method takes so later runs can schedule the longest methods first.
+ *
+ * <p>The durations of all invocations of a method, including data provider rows and retries, are
+ * added up during the run. When the execution finishes, the totals are added to the {@link
+ * CMethodDurationHistory} and the history is saved. Skipped tests are not recorded.
+ *
+ * <p>{@link org.catools.common.testng.CTestNGProcessor} registers this listener when {@link
+ * org.catools.common.testng.CTestNGConfigs#scheduleByDuration()} is enabled. Otherwise it can be
+ * registered like any other listener:
+ *
+ * <pre>{@code
+ * <listeners>
+ *   <listener class-name="org.catools.common.testng.listeners.CMethodDurationListener"/>
+ * </listeners>
+ * }</pre>
+ *
+ * @see CTestScheduleUtil
+ */
+public class CMethodDurationListener implements CITestNGListener {
+  private final Map<ITestNGMethod, LongAdder> durations = new ConcurrentHashMap<>();
+
+  @Override
+  public int priority() {
+    return 0;
+  }
+
+  @Override
+  public void onTestSuccess(ITestResult result) {
+    addDuration(result);
+  }
+
+  @Override
+  public void onTestFailure(ITestResult result) {
+    addDuration(result);
+  }
+
+  @Override
+  public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+    addDuration(result);
+  }
+
+  @Override
+  public void onExecutionFinish() {
+    CTestScheduleUtil.updateDurationHistory(
+        history -> {
+          for (Map.Entry<ITestNGMethod, LongAdder> entry : durations.entrySet()) {
+            ITestNGMethod method = entry.getKey();
+            history.record(
+                method.getRealClass().getName(), method.getMethodName(), entry.getValue().sum());
+          }
+        });
+    durations.clear();
+  }
+
+  private void addDuration(ITestResult result) {
+    durations
+        .computeIfAbsent(result.getMethod(), k -> new LongAdder())
+        .add(Math.max(0, result.getEndMillis() - result.getStartMillis()));
+  }
+}
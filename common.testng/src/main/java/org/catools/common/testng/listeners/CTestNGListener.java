@@ -1,10 +1,9 @@
 package org.catools.common.testng.listeners;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
-import lombok.Getter;
+import java.util.function.IntFunction;
 import org.catools.common.collections.CList;
 import org.catools.common.testng.utils.CTestSuiteUtil;
 import org.catools.common.tests.exception.CSkipAwaitingTestException;
@@ -40,6 +39,10 @@ import org.testng.xml.XmlSuite;
  *   <li>Supports test method interception and custom reporting
  * </ul>
  *
+ * <p>Registered listeners are grouped by listener type into a dispatch table which is rebuilt
+ * whenever {@link #addListeners(ITestNGListener...)} is called. Each event is then delivered by
+ * iterating over a pre-sorted array, without filtering or sorting the registered listeners again.
+ *
  * <p><strong>Usage Example:</strong>
  *
  * <pre>{@code
@@ -60,12 +63,17 @@ import org.testng.xml.XmlSuite;
  */
 public final class CTestNGListener implements CITestNGListener, IMethodInterceptor, IReporter {
   /**
-   * Thread-safe collection of registered TestNG listeners. This collection maintains all listeners
-   * that have been added to this composite listener.
-   *
-   * @return immutable list of registered listeners
+   * Collection of registered TestNG listeners in registration order. This collection maintains all
+   * listeners that have been added to this composite listener and is only modified while holding
+   * the class lock.
    */
-  @Getter private static final CList<ITestNGListener> listeners = new CList<>();
+  private static final CList<ITestNGListener> listeners = new CList<>();
+
+  /**
+   * Listeners grouped by type and sorted in dispatch order. The table is immutable and replaced as
+   * a whole when listeners are added, so events can be dispatched without locking.
+   */
+  private static volatile DispatchTable dispatchTable = new DispatchTable(List.of());
 
   /**
    * Creates a new instance of CTestNGListener. The listener starts with an empty collection of
@@ -110,8 +118,43 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    * @param listeners varargs array of TestNG listeners to add
    * @throws NullPointerException if the listeners array or any listener is null
    */
-  public static void addListeners(ITestNGListener... listeners) {
-    getListeners().addAll(new CList<>(listeners).getAll(l -> getListeners().notContains(l)));
+  public static synchronized void addListeners(ITestNGListener... listeners) {
+    for (ITestNGListener listener : listeners) {
+      if (CTestNGListener.listeners.notContains(listener)) {
+        CTestNGListener.listeners.add(listener);
+      }
+    }
+    dispatchTable = new DispatchTable(CTestNGListener.listeners);
+  }
+
+  /**
+   * Removes registered listeners, for tests which register listeners of their own.
+   *
+   * @param listeners the listeners to remove
+   */
+  static synchronized void removeListeners(ITestNGListener... listeners) {
+    for (ITestNGListener listener : listeners) {
+      CTestNGListener.listeners.removeIf(l -> l == listener);
+    }
+    dispatchTable = new DispatchTable(CTestNGListener.listeners);
+  }
+
+  /**
+   * Returns a copy of the registered TestNG listeners in registration order. Changes to the
+   * returned list do not affect registered listeners, use {@link #addListeners(ITestNGListener...)}
+   * to register a new listener.
+   *
+   * <p><strong>Example:</strong>
+   *
+   * <pre>{@code
+   * CList<ITestNGListener> listeners = CTestNGListener.getListeners();
+   * boolean registered = listeners.contains(myListener);
+   * }</pre>
+   *
+   * @return a copy of the registered listeners
+   */
+  public static synchronized CList<ITestNGListener> getListeners() {
+    return new CList<>(listeners);
   }
 
   /**
@@ -157,7 +200,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 1- IExecutionListener
   public void onExecutionStart() {
-    doIf(l -> l instanceof IExecutionListener, l -> ((IExecutionListener) l).onExecutionStart());
+    for (IExecutionListener listener : dispatchTable.executionListeners) {
+      listener.onExecutionStart();
+    }
   }
 
   /**
@@ -183,7 +228,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 2- ISuiteListener
   public void onStart(ISuite suite) {
-    doIf(l -> l instanceof ISuiteListener, l -> ((ISuiteListener) l).onStart(suite));
+    for (ISuiteListener listener : dispatchTable.suiteListeners) {
+      listener.onStart(suite);
+    }
   }
 
   /**
@@ -209,9 +256,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 3- IConfigurationListener2
   public void beforeConfiguration(ITestResult result) {
-    doIf(
-        l -> l instanceof IConfigurationListener,
-        l -> ((IConfigurationListener) l).beforeConfiguration(result));
+    for (IConfigurationListener listener : dispatchTable.configurationListeners) {
+      listener.beforeConfiguration(result);
+    }
   }
 
   /**
@@ -235,9 +282,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 4- IConfigurationListener
   public void onConfigurationSuccess(ITestResult result) {
-    doIf(
-        l -> l instanceof IConfigurationListener,
-        l -> ((IConfigurationListener) l).onConfigurationSuccess(result));
+    for (IConfigurationListener listener : dispatchTable.configurationListeners) {
+      listener.onConfigurationSuccess(result);
+    }
   }
 
   /**
@@ -262,9 +309,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 4- IConfigurationListener
   public void onConfigurationFailure(ITestResult result) {
-    doIf(
-        l -> l instanceof IConfigurationListener,
-        l -> ((IConfigurationListener) l).onConfigurationFailure(result));
+    for (IConfigurationListener listener : dispatchTable.configurationListeners) {
+      listener.onConfigurationFailure(result);
+    }
   }
 
   /**
@@ -288,9 +335,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 4- IConfigurationListener
   public void onConfigurationSkip(ITestResult result) {
-    doIf(
-        l -> l instanceof IConfigurationListener,
-        l -> ((IConfigurationListener) l).onConfigurationSkip(result));
+    for (IConfigurationListener listener : dispatchTable.configurationListeners) {
+      listener.onConfigurationSkip(result);
+    }
   }
 
   /**
@@ -315,7 +362,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 5- ITestListener
   public void onStart(ITestContext context) {
-    doIf(l -> l instanceof ITestListener, l -> ((ITestListener) l).onStart(context));
+    for (ITestListener listener : dispatchTable.testListeners) {
+      listener.onStart(context);
+    }
   }
 
   /**
@@ -339,7 +388,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 6- IClassListener
   public void onBeforeClass(ITestClass testClass) {
-    doIf(l -> l instanceof IClassListener, l -> ((IClassListener) l).onBeforeClass(testClass));
+    for (IClassListener listener : dispatchTable.classListeners) {
+      listener.onBeforeClass(testClass);
+    }
   }
 
   /**
@@ -363,7 +414,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 7- ITestListener
   public void onTestStart(ITestResult result) {
-    doIf(l -> l instanceof ITestListener, l -> ((ITestListener) l).onTestStart(result));
+    for (ITestListener listener : dispatchTable.testListeners) {
+      listener.onTestStart(result);
+    }
   }
 
   /**
@@ -389,9 +442,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
   // 8- IInvokedMethodListener
   @Override
   public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
-    doIf(
-        l -> l instanceof IInvokedMethodListener,
-        l -> ((IInvokedMethodListener) l).beforeInvocation(method, testResult));
+    for (IInvokedMethodListener listener : dispatchTable.invokedMethodListeners) {
+      listener.beforeInvocation(method, testResult);
+    }
   }
 
   /**
@@ -438,9 +491,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
         throw new CSkipAwaitingTestException("Skipping test by annotation rules!");
       }
     }
-    doIf(
-        l -> l instanceof IInvokedMethodListener,
-        l -> ((IInvokedMethodListener) l).beforeInvocation(method, testResult, context));
+    for (IInvokedMethodListener listener : dispatchTable.invokedMethodListeners) {
+      listener.beforeInvocation(method, testResult, context);
+    }
   }
 
   /**
@@ -467,9 +520,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
   // 9- IInvokedMethodListener
   @Override
   public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
-    doIf(
-        l -> l instanceof IInvokedMethodListener,
-        l -> ((IInvokedMethodListener) l).afterInvocation(method, testResult));
+    for (IInvokedMethodListener listener : dispatchTable.invokedMethodListeners) {
+      listener.afterInvocation(method, testResult);
+    }
   }
 
   /**
@@ -498,9 +551,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
   // 9- IInvokedMethodListener
   @Override
   public void afterInvocation(IInvokedMethod method, ITestResult testResult, ITestContext context) {
-    doIf(
-        l -> l instanceof IInvokedMethodListener,
-        l -> ((IInvokedMethodListener) l).afterInvocation(method, testResult, context));
+    for (IInvokedMethodListener listener : dispatchTable.invokedMethodListeners) {
+      listener.afterInvocation(method, testResult, context);
+    }
   }
 
   /**
@@ -525,7 +578,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 10- ITestListener
   public void onTestSuccess(ITestResult result) {
-    doIf(l -> l instanceof ITestListener, l -> ((ITestListener) l).onTestSuccess(result));
+    for (ITestListener listener : dispatchTable.testListeners) {
+      listener.onTestSuccess(result);
+    }
   }
 
   /**
@@ -550,7 +605,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 11- ITestListener
   public void onTestFailure(ITestResult result) {
-    doIf(l -> l instanceof ITestListener, l -> ((ITestListener) l).onTestFailure(result));
+    for (ITestListener listener : dispatchTable.testListeners) {
+      listener.onTestFailure(result);
+    }
   }
 
   /**
@@ -577,7 +634,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 12- ITestListener
   public void onTestSkipped(ITestResult result) {
-    doIf(l -> l instanceof ITestListener, l -> ((ITestListener) l).onTestSkipped(result));
+    for (ITestListener listener : dispatchTable.testListeners) {
+      listener.onTestSkipped(result);
+    }
   }
 
   /**
@@ -608,9 +667,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 13- ITestListener
   public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
-    doIf(
-        l -> l instanceof ITestListener,
-        l -> ((ITestListener) l).onTestFailedButWithinSuccessPercentage(result));
+    for (ITestListener listener : dispatchTable.testListeners) {
+      listener.onTestFailedButWithinSuccessPercentage(result);
+    }
   }
 
   /**
@@ -634,7 +693,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 14- IClassListener
   public void onAfterClass(ITestClass testClass) {
-    doIf(l -> l instanceof IClassListener, l -> ((IClassListener) l).onAfterClass(testClass));
+    for (IClassListener listener : dispatchTable.classListeners) {
+      listener.onAfterClass(testClass);
+    }
   }
 
   /**
@@ -661,7 +722,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 15- ITestListener
   public void onFinish(ITestContext context) {
-    doIf(l -> l instanceof ITestListener, l -> ((ITestListener) l).onFinish(context));
+    for (ITestListener listener : dispatchTable.testListeners) {
+      listener.onFinish(context);
+    }
   }
 
   /**
@@ -685,7 +748,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 16- ISuiteListener
   public void onFinish(ISuite suite) {
-    doIf(l -> l instanceof ISuiteListener, l -> ((ISuiteListener) l).onFinish(suite));
+    for (ISuiteListener listener : dispatchTable.suiteListeners) {
+      listener.onFinish(suite);
+    }
   }
 
   /**
@@ -708,7 +773,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override // 17- IExecutionListener
   public void onExecutionFinish() {
-    doIf(l -> l instanceof IExecutionListener, l -> ((IExecutionListener) l).onExecutionFinish());
+    for (IExecutionListener listener : dispatchTable.executionListeners) {
+      listener.onExecutionFinish();
+    }
   }
 
   /**
@@ -742,10 +809,9 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
    */
   @Override
   public List<IMethodInstance> intercept(List<IMethodInstance> list, ITestContext iTestContext) {
-    CList<ITestNGListener> methodInterceptor =
-        listeners.getAll(l -> l instanceof IMethodInterceptor);
-    if (!methodInterceptor.isEmpty()) {
-      return ((IMethodInterceptor) methodInterceptor.getFirst()).intercept(list, iTestContext);
+    IMethodInterceptor methodInterceptor = dispatchTable.methodInterceptor;
+    if (methodInterceptor != null) {
+      return methodInterceptor.intercept(list, iTestContext);
     }
     return list;
   }
@@ -779,25 +845,60 @@ public final class CTestNGListener implements CITestNGListener, IMethodIntercept
   @Override
   public void generateReport(
       List<XmlSuite> xmlSuites, List<ISuite> suites, String outputDirectory) {
-    doIf(
-        l -> l instanceof IReporter,
-        l -> ((IReporter) l).generateReport(xmlSuites, suites, outputDirectory));
+    for (IReporter listener : dispatchTable.reporters) {
+      listener.generateReport(xmlSuites, suites, outputDirectory);
+    }
   }
 
-  private <T extends ITestNGListener> void doIf(
-      Predicate<ITestNGListener> predicate, Consumer<T> action) {
-    CList<ITestNGListener> list = new CList<>(listeners.getAll(predicate));
-
-    if (list.isEmpty()) {
-      return;
+  /**
+   * Registered listeners grouped by the listener interfaces they implement. Within each group
+   * CITestNGListener implementations come first, sorted by {@link CITestNGListener#priority()},
+   * followed by other listeners in registration order. We are using some listeners to do suite
+   * manipulation, so CITestNGListener implementations get higher priority.
+   */
+  private static final class DispatchTable {
+    private final IExecutionListener[] executionListeners;
+    private final ISuiteListener[] suiteListeners;
+    private final IConfigurationListener[] configurationListeners;
+    private final ITestListener[] testListeners;
+    private final IClassListener[] classListeners;
+    private final IInvokedMethodListener[] invokedMethodListeners;
+    private final IReporter[] reporters;
+    private final IMethodInterceptor methodInterceptor;
+
+    private DispatchTable(List<ITestNGListener> listeners) {
+      List<ITestNGListener> cListeners = new ArrayList<>();
+      List<ITestNGListener> otherListeners = new ArrayList<>();
+      for (ITestNGListener listener : listeners) {
+        (listener instanceof CITestNGListener ? cListeners : otherListeners).add(listener);
+      }
+      cListeners.sort(Comparator.comparingInt(l -> ((CITestNGListener) l).priority()));
+
+      List<ITestNGListener> ordered = new ArrayList<>(cListeners);
+      ordered.addAll(otherListeners);
+
+      executionListeners = select(ordered, IExecutionListener.class, IExecutionListener[]::new);
+      suiteListeners = select(ordered, ISuiteListener.class, ISuiteListener[]::new);
+      configurationListeners =
+          select(ordered, IConfigurationListener.class, IConfigurationListener[]::new);
+      testListeners = select(ordered, ITestListener.class, ITestListener[]::new);
+      classListeners = select(ordered, IClassListener.class, IClassListener[]::new);
+      invokedMethodListeners =
+          select(ordered, IInvokedMethodListener.class, IInvokedMethodListener[]::new);
+      reporters = select(ordered, IReporter.class, IReporter[]::new);
+
+      // the first registered interceptor is used, regardless of priority
+      methodInterceptor =
+          listeners.stream()
+              .filter(l -> l instanceof IMethodInterceptor)
+              .map(l -> (IMethodInterceptor) l)
+              .findFirst()
+              .orElse(null);
     }
 
-    // We are using some listener to do Suite manipulation so we give CITestNGListener higher
-    // priority
-    CList<ITestNGListener> cListeners = list.getAll(l -> l instanceof CITestNGListener);
-    cListeners.sort(Comparator.comparingInt(f -> ((CITestNGListener) f).priority()));
-    cListeners.forEach(l -> action.accept((T) l));
-
-    list.getAll(l -> !(l instanceof CITestNGListener)).forEach(l -> action.accept((T) l));
+    private static <T> T[] select(
+        List<ITestNGListener> listeners, Class<T> type, IntFunction<T[]> generator) {
+      return listeners.stream().filter(type::isInstance).map(type::cast).toArray(generator);
+    }
   }
 }
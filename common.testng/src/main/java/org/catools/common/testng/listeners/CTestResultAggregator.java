@@ -0,0 +1,178 @@
+package org.catools.common.testng.listeners;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.testng.ITestResult;
+
+/**
+ * Keeps the final result of each test and configuration method while the suite runs.
+ *
+ * <p>Results are keyed by the test instance name, the method name, the parameter values and whether
+ * the method is a test or a configuration, so retries of the same invocation share a key while data
+ * provider rows do not. For each key the result with the best status is kept, passed before failed
+ * before skipped, and between results with the same status the one which ended last. Adding a
+ * result is a single hash map update, so the deduplicated view is ready at any time without
+ * comparing results with each other.
+ *
+ * <p>The aggregator can be registered as a listener to collect results during the run, or be fed
+ * with {@link #add(ITestResult)} directly. As a listener it removes the results of the previous
+ * execution when a new execution starts. {@link org.catools.common.testng.CTestNGProcessor}
+ * registers the aggregator of {@link org.catools.common.testng.CTestNGResultGenerator}, which
+ * writes the report from it.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * CTestResultAggregator aggregator = new CTestResultAggregator();
+ * CTestNGListener.addListeners(aggregator);
+ *
+ * // after or during the run
+ * Collection<ITestResult> finalResults = aggregator.getResults();
+ * }</pre>
+ */
+public class CTestResultAggregator implements CITestNGListener {
+  private final Map<ResultKey, ITestResult> results = new ConcurrentHashMap<>();
+
+  @Override
+  public int priority() {
+    return 0;
+  }
+
+  /**
+   * Adds a result, replacing the kept result of the same method invocation if this one has a better
+   * status or ended later with the same status. Adding the same result again has no effect.
+   *
+   * @param result the test or configuration result
+   */
+  public void add(ITestResult result) {
+    results.merge(new ResultKey(result), result, CTestResultAggregator::getFinalResult);
+  }
+
+  /**
+   * Whether the result is the one kept for its method invocation. Results of invocations which have
+   * not been added are considered kept.
+   *
+   * @param result the test or configuration result
+   * @return true if the result should be reported, false if it is a duplicate
+   */
+  public boolean isKept(ITestResult result) {
+    ITestResult kept = results.get(new ResultKey(result));
+    return kept == null || kept == result;
+  }
+
+  /**
+   * The kept result of each method invocation.
+   *
+   * @return unmodifiable view of the kept results
+   */
+  public Collection<ITestResult> getResults() {
+    return Collections.unmodifiableCollection(results.values());
+  }
+
+  /**
+   * The number of distinct method invocations.
+   *
+   * @return number of kept results
+   */
+  public int size() {
+    return results.size();
+  }
+
+  /** Removes all results. */
+  public void clear() {
+    results.clear();
+  }
+
+  @Override
+  public void onExecutionStart() {
+    clear();
+  }
+
+  @Override
+  public void onTestSuccess(ITestResult result) {
+    add(result);
+  }
+
+  @Override
+  public void onTestFailure(ITestResult result) {
+    add(result);
+  }
+
+  @Override
+  public void onTestSkipped(ITestResult result) {
+    add(result);
+  }
+
+  @Override
+  public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+    add(result);
+  }
+
+  @Override
+  public void onConfigurationSuccess(ITestResult result) {
+    add(result);
+  }
+
+  @Override
+  public void onConfigurationFailure(ITestResult result) {
+    add(result);
+  }
+
+  @Override
+  public void onConfigurationSkip(ITestResult result) {
+    add(result);
+  }
+
+  private static ITestResult getFinalResult(ITestResult kept, ITestResult result) {
+    int keptRank = getRank(kept);
+    int rank = getRank(result);
+    if (rank != keptRank) {
+      return rank > keptRank ? result : kept;
+    }
+    return result.getEndMillis() > kept.getEndMillis() ? result : kept;
+  }
+
+  private static int getRank(ITestResult result) {
+    return switch (result.getStatus()) {
+      case ITestResult.SUCCESS, ITestResult.SUCCESS_PERCENTAGE_FAILURE -> 3;
+      case ITestResult.FAILURE -> 2;
+      case ITestResult.SKIP -> 1;
+      default -> 0;
+    };
+  }
+
+  private static final class ResultKey {
+    private final String instanceName;
+    private final String methodName;
+    private final boolean test;
+    private final Object[] parameters;
+    private final int hashCode;
+
+    private ResultKey(ITestResult result) {
+      this.instanceName = result.getInstanceName();
+      this.methodName = result.getMethod().getMethodName();
+      this.test = result.getMethod().isTest();
+      this.parameters = result.getParameters();
+      this.hashCode =
+          Objects.hash(instanceName, methodName, test) * 31 + Arrays.deepHashCode(parameters);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof ResultKey other
+          && test == other.test
+          && Objects.equals(instanceName, other.instanceName)
+          && Objects.equals(methodName, other.methodName)
+          && Arrays.deepEquals(parameters, other.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package org.catools.common.testng.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in milliseconds which can estimate percentiles without keeping
+ * individual values.
+ *
+ * <p>Durations below 8 ms have their own bucket. Larger durations are grouped into 8 buckets per
+ * power of two, so a percentile is reported with at most 12.5% relative error. Recording a duration
+ * is a single atomic increment, and reading a percentile walks a fixed number of buckets regardless
+ * of how many durations have been recorded.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * CDurationHistogram histogram = new CDurationHistogram();
+ * histogram.record(120);
+ * histogram.record(450);
+ * long p95 = histogram.getPercentile(95);
+ * }</pre>
+ */
+public class CDurationHistogram {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records a duration. Negative durations are ignored.
+   *
+   * @param durationInMillis the duration in milliseconds
+   */
+  public void record(long durationInMillis) {
+    if (durationInMillis < 0) {
+      return;
+    }
+    buckets.incrementAndGet(indexOf(durationInMillis));
+    max.accumulateAndGet(durationInMillis, Math::max);
+    count.incrementAndGet();
+  }
+
+  /**
+   * The number of recorded durations.
+   *
+   * @return number of recorded durations
+   */
+  public long getCount() {
+    return count.get();
+  }
+
+  /**
+   * The longest recorded duration.
+   *
+   * @return the longest duration in milliseconds, or 0 if nothing is recorded
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Estimates the duration which the given percentage of recorded durations do not exceed.
+   *
+   * @param percentile the percentile between 0 and 100, i.e. 50 for the median
+   * @return the estimated duration in milliseconds, or 0 if nothing is recorded
+   */
+  public long getPercentile(double percentile) {
+    long total = count.get();
+    if (total == 0) {
+      return 0;
+    }
+
+    double ratio = Math.min(100, Math.max(0, percentile)) / 100;
+    long rank = Math.max(1, (long) Math.ceil(ratio * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += buckets.get(i);
+      if (seen >= rank) {
+        return Math.min(upperBoundOf(i), max.get());
+      }
+    }
+
+    // durations recorded while walking the buckets
+    return max.get();
+  }
+
+  /** Removes all recorded durations. */
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets.set(i, 0);
+    }
+    count.set(0);
+    max.set(0);
+  }
+
+  private static int indexOf(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >> shift) & (SUB_BUCKET_COUNT - 1);
+    return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  private static long upperBoundOf(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long subBucket = index % SUB_BUCKET_COUNT;
+    long upperBound = ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    return upperBound < 0 ? Long.MAX_VALUE : upperBound;
+  }
+}
@@ -0,0 +1,227 @@
+package org.catools.common.testng.model;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Expected duration of each test method based on earlier runs.
+ *
+ * <p>Durations are kept per class and method name as the total time of all invocations of the
+ * method in a run. When a new run is recorded, the expected duration becomes the average of the
+ * previous expectation and the new run, so a single slow run does not dominate the estimate and old
+ * runs fade out.
+ *
+ * <p>The history is stored as a tab separated file with one method per line.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * CMethodDurationHistory history = CMethodDurationHistory.load(file);
+ * history.record("org.catools.SampleTest", "testLogin", 1200);
+ * Long expected = history.getDuration("org.catools.SampleTest", "testLogin");
+ * history.save(file);
+ * }</pre>
+ */
+@Slf4j
+public class CMethodDurationHistory {
+  private static final String HEADER = "# catools method durations 1";
+  private static final String FIELD_SEPARATOR = "\t";
+
+  private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+  /**
+   * Reads the history from a file.
+   *
+   * @param file the history file
+   * @return the history, or an empty history if the file does not exist or cannot be read
+   */
+  public static CMethodDurationHistory load(File file) {
+    CMethodDurationHistory history = new CMethodDurationHistory();
+    if (file.exists()) {
+      try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+        history.read(reader);
+      } catch (IOException | IllegalArgumentException e) {
+        log.warn("Failed to read method duration history from {}.", file, e);
+        history.durations.clear();
+      }
+    }
+    return history;
+  }
+
+  /**
+   * Reads the history from a file, applies the changes and writes it back while holding a lock on
+   * the file, so processes which run at the same time, like the shards of a run, do not overwrite
+   * each other's durations.
+   *
+   * @param file the history file
+   * @param changes the changes to apply to the history
+   * @return the updated history
+   */
+  public static CMethodDurationHistory update(File file, Consumer<CMethodDurationHistory> changes) {
+    File lockFile = new File(file.getPath() + ".lock");
+    File parent = lockFile.getAbsoluteFile().getParentFile();
+    if (parent != null) {
+      parent.mkdirs();
+    }
+    try (FileChannel channel =
+            FileChannel.open(
+                lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock = channel.lock()) {
+      return loadAndSave(file, changes);
+    } catch (IOException e) {
+      log.warn("Failed to lock method duration history {}, update it without lock.", file, e);
+      return loadAndSave(file, changes);
+    }
+  }
+
+  /**
+   * Writes the history to a file, replacing its content.
+   *
+   * @param file the history file, parent folders are created when needed
+   */
+  public void save(File file) {
+    File parent = file.getAbsoluteFile().getParentFile();
+    if (parent != null) {
+      parent.mkdirs();
+    }
+    try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+      write(writer);
+    } catch (IOException e) {
+      log.warn("Failed to write method duration history to {}.", file, e);
+    }
+  }
+
+  /**
+   * Adds the duration of a method in the latest run.
+   *
+   * @param className the name of the test class
+   * @param methodName the name of the test method
+   * @param duration the total duration of all invocations in milliseconds
+   */
+  public void record(String className, String methodName, long duration) {
+    durations.merge(getKey(className, methodName), Math.max(0, duration), (a, b) -> (a + b) / 2);
+  }
+
+  /**
+   * The expected duration of a method.
+   *
+   * @param className the name of the test class
+   * @param methodName the name of the test method
+   * @return the expected duration in milliseconds, or null if the method has not run before
+   */
+  public Long getDuration(String className, String methodName) {
+    return durations.get(getKey(className, methodName));
+  }
+
+  /**
+   * The expected duration of all methods of a class.
+   *
+   * @param className the name of the test class
+   * @return the expected duration in milliseconds, or null if no method of the class has run before
+   */
+  public Long getClassDuration(String className) {
+    String prefix = className + FIELD_SEPARATOR;
+    Long total = null;
+    for (Map.Entry<String, Long> entry : durations.entrySet()) {
+      if (entry.getKey().startsWith(prefix)) {
+        total = (total == null ? 0 : total) + entry.getValue();
+      }
+    }
+    return total;
+  }
+
+  /**
+   * The average expected duration of the classes in the history.
+   *
+   * @return the average class duration in milliseconds, or 0 if the history is empty
+   */
+  public long getAverageClassDuration() {
+    Map<String, Long> classDurations = new HashMap<>();
+    for (Map.Entry<String, Long> entry : durations.entrySet()) {
+      String className = entry.getKey().substring(0, entry.getKey().indexOf(FIELD_SEPARATOR));
+      classDurations.merge(className, entry.getValue(), Long::sum);
+    }
+    return classDurations.isEmpty()
+        ? 0
+        : classDurations.values().stream().mapToLong(Long::longValue).sum() / classDurations.size();
+  }
+
+  /**
+   * The number of methods with an expected duration.
+   *
+   * @return number of methods
+   */
+  public int size() {
+    return durations.size();
+  }
+
+  /**
+   * Reads history entries and adds them to this history.
+   *
+   * @param reader the history content
+   * @throws IOException if the history cannot be read
+   * @throws IllegalArgumentException if the history format is not supported
+   */
+  public void read(Reader reader) throws IOException {
+    BufferedReader lines = new BufferedReader(reader);
+    String header = lines.readLine();
+    if (header != null && !HEADER.equals(header)) {
+      throw new IllegalArgumentException("Unsupported method duration history format: " + header);
+    }
+
+    String line;
+    while ((line = lines.readLine()) != null) {
+      if (line.isBlank()) {
+        continue;
+      }
+      String[] fields = line.split(FIELD_SEPARATOR, -1);
+      if (fields.length != 3) {
+        throw new IllegalArgumentException("Invalid method duration history entry: " + line);
+      }
+      durations.put(getKey(fields[0], fields[1]), Long.valueOf(fields[2]));
+    }
+  }
+
+  /**
+   * Writes all entries sorted by class and method name.
+   *
+   * @param writer the writer to write the history to
+   * @throws IOException if the history cannot be written
+   */
+  public void write(Writer writer) throws IOException {
+    writer.write(HEADER);
+    writer.write('\n');
+    for (Map.Entry<String, Long> entry : new TreeMap<>(durations).entrySet()) {
+      writer.write(entry.getKey());
+      writer.write(FIELD_SEPARATOR);
+      writer.write(entry.getValue().toString());
+      writer.write('\n');
+    }
+  }
+
+  private static CMethodDurationHistory loadAndSave(
+      File file, Consumer<CMethodDurationHistory> changes) {
+    CMethodDurationHistory history = load(file);
+    changes.accept(history);
+    history.save(file);
+    return history;
+  }
+
+  private static String getKey(String className, String methodName) {
+    return className + FIELD_SEPARATOR + methodName;
+  }
+}
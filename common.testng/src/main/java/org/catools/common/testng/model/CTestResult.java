@@ -2,6 +2,7 @@ package org.catools.common.testng.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.lang.reflect.Method;
 import java.util.Date;
 import java.util.List;
@@ -21,6 +22,7 @@ import org.catools.common.collections.CList;
 import org.catools.common.config.CTestManagementConfigs;
 import org.catools.common.date.CDate;
 import org.catools.common.exception.CExceptionInfo;
+import org.catools.common.testng.utils.CTestResultDateDeserializer;
 import org.catools.common.tests.CTest;
 import org.catools.common.tests.CTestMetadata;
 import org.testng.ITestResult;
@@ -110,28 +112,36 @@ public class CTestResult implements Comparable<CTestResult> {
   @JsonIgnore private ITestResult origin;
   private int testExecutionId;
 
-  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssZ")
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = CTestResultDateDeserializer.DATE_FORMAT)
+  @JsonDeserialize(using = CTestResultDateDeserializer.class)
   private CDate startTime;
 
-  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssZ")
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = CTestResultDateDeserializer.DATE_FORMAT)
+  @JsonDeserialize(using = CTestResultDateDeserializer.class)
   private CDate endTime;
 
-  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssZ")
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = CTestResultDateDeserializer.DATE_FORMAT)
+  @JsonDeserialize(using = CTestResultDateDeserializer.class)
   private CDate testStartTime;
 
-  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssZ")
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = CTestResultDateDeserializer.DATE_FORMAT)
+  @JsonDeserialize(using = CTestResultDateDeserializer.class)
   private CDate testEndTime;
 
-  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssZ")
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = CTestResultDateDeserializer.DATE_FORMAT)
+  @JsonDeserialize(using = CTestResultDateDeserializer.class)
   private CDate beforeClassStartTime;
 
-  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssZ")
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = CTestResultDateDeserializer.DATE_FORMAT)
+  @JsonDeserialize(using = CTestResultDateDeserializer.class)
   private CDate beforeMethodStartTime;
 
-  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssZ")
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = CTestResultDateDeserializer.DATE_FORMAT)
+  @JsonDeserialize(using = CTestResultDateDeserializer.class)
   private CDate beforeClassEndTime;
 
-  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssZ")
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = CTestResultDateDeserializer.DATE_FORMAT)
+  @JsonDeserialize(using = CTestResultDateDeserializer.class)
   private CDate beforeMethodEndTime;
 
   private String packageName;
@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.Data;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +15,8 @@ import org.catools.common.annotations.CTestIds;
 import org.catools.common.collections.CList;
 import org.catools.common.collections.CSet;
 import org.catools.common.testng.CTestNGConfigs;
+import org.catools.common.testng.index.CTestIndex;
+import org.catools.common.testng.index.CTestIndexEntry;
 import org.testng.IMethodInstance;
 import org.testng.ITestResult;
 import org.testng.annotations.Test;
@@ -104,7 +108,8 @@ public class CTestClassUtil {
    * issue IDs and skip flags. The result is cached for subsequent calls.
    *
    * <p>The method uses reflection to examine test methods and their annotations, particularly
-   * looking for {@link Test} and {@link CTestIds} annotations.
+   * looking for {@link Test} and {@link CTestIds} annotations. Classpath roots with a {@link
+   * CTestIndex} are read from the index instead, without loading their classes.
    *
    * @param filterTestsWhichWillSkipInRun {@code true} to exclude tests marked to be skipped, {@code
    *     false} to include all discovered tests
@@ -128,38 +133,10 @@ public class CTestClassUtil {
   public static CList<TestClassInfo> getClassNameMap(boolean filterTestsWhichWillSkipInRun) {
     if (keyClasses.isEmpty()) {
       final ClassLoader loader = Thread.currentThread().getContextClassLoader();
-      try {
-        ClassPath classpath = ClassPath.from(loader);
-        for (String testPackage : CTestNGConfigs.getTestPackages()) {
-          for (ClassPath.ClassInfo classInfo : classpath.getTopLevelClassesRecursive(testPackage)) {
-            new CList<>(classInfo.load().getMethods())
-                .forEach(
-                    m -> {
-                      CList<Annotation> annotations = CList.of(m.getAnnotations());
-                      if (annotations.has(a -> a instanceof Test)) {
-                        boolean shouldSkipByAnnotation =
-                            CTestSuiteUtil.shouldSkipByAnnotation(annotations);
-                        Annotation testIds = annotations.getFirstOrNull(a -> a instanceof CTestIds);
-                        if (testIds != null) {
-                          Arrays.asList(((CTestIds) testIds).ids())
-                              .forEach(
-                                  s -> {
-                                    s = s.trim();
-                                    keyClasses.add(
-                                        new TestClassInfo(
-                                            shouldSkipByAnnotation, s, classInfo.getName()));
-                                  });
-                        } else {
-                          keyClasses.add(
-                              new TestClassInfo(shouldSkipByAnnotation, null, classInfo.getName()));
-                        }
-                      }
-                    });
-          }
-        }
-      } catch (IOException e) {
-        log.error("Fail to build class name map", e);
-      }
+      Map<String, CList<CTestIndexEntry>> indexes =
+          CTestNGConfigs.useTestIndex() ? CTestIndex.load(loader) : Map.of();
+      indexes.values().forEach(CTestClassUtil::readTestIndex);
+      scanClassPath(loader, indexes.keySet());
       log.info(keyClasses.size() + " tests class found.");
     }
     return filterTestsWhichWillSkipInRun
@@ -167,6 +144,61 @@ public class CTestClassUtil {
         : keyClasses;
   }
 
+  private static void readTestIndex(CList<CTestIndexEntry> index) {
+    CSet<String> testPackages = CTestNGConfigs.getTestPackages();
+    for (CTestIndexEntry entry : index) {
+      if (testPackages.hasNot(p -> entry.getClassName().startsWith(p + "."))) {
+        continue;
+      }
+      boolean shouldSkipByAnnotation =
+          CTestSuiteUtil.shouldSkipByAnnotation(
+              entry.getAnnotations(), entry.getSeverityLevel(), entry.getRegressionDepth());
+      addTestClassInfo(shouldSkipByAnnotation, entry.getTestIds(), entry.getClassName());
+    }
+  }
+
+  private static void scanClassPath(ClassLoader loader, Set<String> indexedRoots) {
+    try {
+      ClassPath classpath = ClassPath.from(loader);
+      for (String testPackage : CTestNGConfigs.getTestPackages()) {
+        for (ClassPath.ClassInfo classInfo : classpath.getTopLevelClassesRecursive(testPackage)) {
+          // classes of roots with a test index are already added without loading them
+          if (!indexedRoots.isEmpty()
+              && indexedRoots.contains(
+                  CTestIndex.getRoot(classInfo.url(), classInfo.getResourceName()))) {
+            continue;
+          }
+          new CList<>(classInfo.load().getMethods())
+              .forEach(
+                  m -> {
+                    CList<Annotation> annotations = CList.of(m.getAnnotations());
+                    if (annotations.has(a -> a instanceof Test)) {
+                      boolean shouldSkipByAnnotation =
+                          CTestSuiteUtil.shouldSkipByAnnotation(annotations);
+                      Annotation testIds = annotations.getFirstOrNull(a -> a instanceof CTestIds);
+                      addTestClassInfo(
+                          shouldSkipByAnnotation,
+                          testIds == null ? List.of() : Arrays.asList(((CTestIds) testIds).ids()),
+                          classInfo.getName());
+                    }
+                  });
+        }
+      }
+    } catch (IOException e) {
+      log.error("Fail to build class name map", e);
+    }
+  }
+
+  private static void addTestClassInfo(
+      boolean shouldSkipByAnnotation, List<String> testIds, String className) {
+    if (testIds.isEmpty()) {
+      keyClasses.add(new TestClassInfo(shouldSkipByAnnotation, null, className));
+      return;
+    }
+    testIds.forEach(
+        s -> keyClasses.add(new TestClassInfo(shouldSkipByAnnotation, s.trim(), className)));
+  }
+
   /**
    * Generates a normalized test name from a test class.
    *
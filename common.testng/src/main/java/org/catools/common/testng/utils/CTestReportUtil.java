@@ -1,12 +1,11 @@
 package org.catools.common.testng.utils;
 
 import java.util.Comparator;
-import java.util.Map;
-import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import lombok.experimental.UtilityClass;
-import org.apache.commons.lang3.tuple.Pair;
 import org.catools.common.collections.CList;
-import org.catools.common.collections.CSet;
+import org.catools.common.testng.listeners.CTestResultAggregator;
+import org.testng.IResultMap;
 import org.testng.ISuite;
 import org.testng.ISuiteResult;
 import org.testng.ITestContext;
@@ -39,13 +38,15 @@ public class CTestReportUtil {
    *   <li>Configuration methods follow the same hierarchy as test methods
    * </ul>
    *
-   * <p>The method is thread-safe and performs the following operations:
+   * <p>Results are duplicates when they have the same instance name, method name and parameter
+   * values. Between duplicates with the same status the one which ended last is kept. The method is
+   * thread-safe and performs the following operations, each in a single pass over all results:
    *
    * <ol>
    *   <li>Sorts suites by name for consistent processing order
-   *   <li>Collects all test results from all suites
-   *   <li>Removes duplicates within each result category
-   *   <li>Applies hierarchy rules to remove lower-priority duplicates
+   *   <li>Adds all results to a {@link CTestResultAggregator} which keeps the final result of each
+   *       method invocation
+   *   <li>Removes every result which is not kept from its result map
    * </ol>
    *
    * <h3>Example Usage:</h3>
@@ -97,182 +98,39 @@ public class CTestReportUtil {
    * @see ITestContext
    */
   public static synchronized void removeDuplicateResults(CList<ISuite> suites) {
-    CList<Pair<ITestContext, CSet<ITestResult>>> totalPassed = new CList<>();
-    CList<Pair<ITestContext, CSet<ITestResult>>> totalFailed = new CList<>();
-    CList<Pair<ITestContext, CSet<ITestResult>>> totalSkipped = new CList<>();
-    CList<Pair<ITestContext, CSet<ITestResult>>> totalPassedConfig = new CList<>();
-    CList<Pair<ITestContext, CSet<ITestResult>>> totalFailedConfig = new CList<>();
-    CList<Pair<ITestContext, CSet<ITestResult>>> totalSkippedConfig = new CList<>();
-
     suites.sort(Comparator.comparing(ISuite::getName));
-    refreshList(
-        suites,
-        totalPassed,
-        totalFailed,
-        totalSkipped,
-        totalPassedConfig,
-        totalFailedConfig,
-        totalSkippedConfig);
-
-    removeDuplicate(
-        totalPassed, (context, result) -> context.getPassedTests().getAllResults().remove(result));
-    removeDuplicate(
-        totalPassed,
-        (context, result) ->
-            context.getFailedButWithinSuccessPercentageTests().getAllResults().remove(result));
-
-    removeDuplicate(
-        totalFailed, (context, result) -> context.getFailedTests().getAllResults().remove(result));
-    removeDuplicate(
-        totalFailed,
-        (context, result) ->
-            context.getFailedButWithinSuccessPercentageTests().getAllResults().remove(result));
-
-    removeDuplicate(
-        totalSkipped,
-        (context, result) -> context.getSkippedTests().getAllResults().remove(result));
-
-    removeDuplicate(
-        totalPassedConfig,
-        (context, result) -> context.getPassedConfigurations().getAllResults().remove(result));
-    removeDuplicate(
-        totalFailedConfig,
-        (context, result) -> context.getFailedConfigurations().getAllResults().remove(result));
-    removeDuplicate(
-        totalSkippedConfig,
-        (context, result) -> context.getSkippedConfigurations().getAllResults().remove(result));
-
-    refreshList(
-        suites,
-        totalPassed,
-        totalFailed,
-        totalSkipped,
-        totalPassedConfig,
-        totalFailedConfig,
-        totalSkippedConfig);
-
-    // Remove passed tests from other lists
-    removeMatches(
-        totalPassed,
-        totalFailed,
-        (context, result) -> context.getFailedTests().getAllResults().remove(result));
-    removeMatches(
-        totalPassed,
-        totalSkipped,
-        (context, result) -> context.getSkippedTests().getAllResults().remove(result));
-
-    // Remove failed tests from skipped lists
-    removeMatches(
-        totalFailed,
-        totalSkipped,
-        (context, result) -> context.getSkippedTests().getAllResults().remove(result));
-
-    // Remove passed configuration from other lists
-    removeMatches(
-        totalPassedConfig,
-        totalFailedConfig,
-        (context, result) -> context.getFailedConfigurations().getAllResults().remove(result));
-    removeMatches(
-        totalPassedConfig,
-        totalSkippedConfig,
-        (context, result) -> context.getSkippedConfigurations().getAllResults().remove(result));
-
-    // Remove failed configuration from skipped lists
-    removeMatches(
-        totalFailedConfig,
-        totalSkippedConfig,
-        (context, result) -> context.getSkippedConfigurations().getAllResults().remove(result));
+    CTestResultAggregator aggregator = aggregateResults(suites);
+    forEachResultMap(
+        suites, results -> results.getAllResults().removeIf(r -> !aggregator.isKept(r)));
   }
 
-  private static void removeMatches(
-      CList<Pair<ITestContext, CSet<ITestResult>>> mainList,
-      CList<Pair<ITestContext, CSet<ITestResult>>> toBeClean,
-      BiConsumer<ITestContext, ITestResult> remove) {
-    for (Pair<ITestContext, CSet<ITestResult>> m : mainList) {
-      for (Map.Entry<ITestContext, CSet<ITestResult>> t : toBeClean) {
-        removeDuplicate(m.getRight(), t, remove);
-      }
-    }
+  /**
+   * Adds all test and configuration results of the suites to a new {@link CTestResultAggregator},
+   * for reports of suites which did not run with a registered aggregator.
+   *
+   * @param suites the suites to read results from
+   * @return the aggregator with the final result of each method invocation
+   */
+  public static CTestResultAggregator aggregateResults(CList<ISuite> suites) {
+    CTestResultAggregator aggregator = new CTestResultAggregator();
+    forEachResultMap(suites, results -> results.getAllResults().forEach(aggregator::add));
+    return aggregator;
   }
 
-  private static void refreshList(
-      CList<ISuite> suites,
-      CList<Pair<ITestContext, CSet<ITestResult>>> totalPassed,
-      CList<Pair<ITestContext, CSet<ITestResult>>> totalFailed,
-      CList<Pair<ITestContext, CSet<ITestResult>>> totalSkipped,
-      CList<Pair<ITestContext, CSet<ITestResult>>> totalPassedConfig,
-      CList<Pair<ITestContext, CSet<ITestResult>>> totalFailedConfig,
-      CList<Pair<ITestContext, CSet<ITestResult>>> totalSkippedConfig) {
-    totalPassed.clear();
-    totalFailed.clear();
-    totalSkipped.clear();
-    totalPassedConfig.clear();
-    totalFailedConfig.clear();
-    totalSkippedConfig.clear();
-
+  private static void forEachResultMap(CList<ISuite> suites, Consumer<IResultMap> action) {
     for (ISuite suite : suites) {
       synchronized (suite) {
         for (ISuiteResult sr : suite.getResults().values()) {
           ITestContext testContext = sr.getTestContext();
-          Pair<ITestContext, CSet<ITestResult>> passed =
-              Pair.of(testContext, new CSet<>(testContext.getPassedTests().getAllResults()));
-          passed
-              .getValue()
-              .addAll(testContext.getFailedButWithinSuccessPercentageTests().getAllResults());
-
-          totalPassed.add(passed);
-          totalFailed.add(
-              Pair.of(testContext, new CSet<>(testContext.getFailedTests().getAllResults())));
-          totalSkipped.add(
-              Pair.of(testContext, new CSet<>(testContext.getSkippedTests().getAllResults())));
-          totalPassedConfig.add(
-              Pair.of(
-                  testContext, new CSet<>(testContext.getPassedConfigurations().getAllResults())));
-          totalFailedConfig.add(
-              Pair.of(
-                  testContext, new CSet<>(testContext.getFailedConfigurations().getAllResults())));
-          totalSkippedConfig.add(
-              Pair.of(
-                  testContext, new CSet<>(testContext.getSkippedConfigurations().getAllResults())));
+          action.accept(testContext.getPassedTests());
+          action.accept(testContext.getFailedButWithinSuccessPercentageTests());
+          action.accept(testContext.getFailedTests());
+          action.accept(testContext.getSkippedTests());
+          action.accept(testContext.getPassedConfigurations());
+          action.accept(testContext.getFailedConfigurations());
+          action.accept(testContext.getSkippedConfigurations());
         }
       }
     }
   }
-
-  private static void removeDuplicate(
-      CList<Pair<ITestContext, CSet<ITestResult>>> resultSet,
-      BiConsumer<ITestContext, ITestResult> remove) {
-    CSet<ITestResult> localCopy = new CSet<>();
-    for (Pair<ITestContext, CSet<ITestResult>> pair : resultSet) {
-      for (ITestResult r : pair.getValue()) {
-        ITestResult match = localCopy.getFirstOrNull(l -> isSameTestMethod(l, r));
-        if (match != null) {
-          remove.accept(pair.getKey(), r);
-        } else {
-          localCopy.add(r);
-        }
-      }
-    }
-  }
-
-  private static void removeDuplicate(
-      CSet<ITestResult> highPriorityResultSet,
-      Map.Entry<ITestContext, CSet<ITestResult>> lowPriorityResultSet,
-      BiConsumer<ITestContext, ITestResult> remove) {
-    highPriorityResultSet.forEach(
-        r -> {
-          ITestResult match =
-              lowPriorityResultSet.getValue().getFirstOrNull(l -> isSameTestMethod(l, r));
-          if (match != null) {
-            remove.accept(lowPriorityResultSet.getKey(), match);
-          }
-        });
-  }
-
-  private static boolean isSameTestMethod(ITestResult result1, ITestResult result2) {
-    return result1.getInstanceName().equals(result2.getInstanceName())
-        && result1.getMethod().getMethodName().equals(result2.getMethod().getMethodName())
-        && ((result1.getParameters() == null && result2.getParameters() == null)
-            || result1.getParameters().getClass().equals(result2.getParameters().getClass()));
-  }
 }
@@ -0,0 +1,42 @@
+package org.catools.common.testng.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import org.catools.common.date.CDate;
+
+/**
+ * Custom deserializer for the dates of {@link org.catools.common.testng.model.CTestResult}.
+ *
+ * <p>Test result dates are written as strings in the {@link #DATE_FORMAT} format, which Jackson
+ * cannot read back into a {@link CDate} on its own. This deserializer parses them, so results
+ * written by other processes, like the shards of a run, can be read and merged.
+ */
+public class CTestResultDateDeserializer extends StdDeserializer<CDate> {
+  /** The format of test result dates in JSON. */
+  public static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ssZ";
+
+  /** Default constructor. */
+  public CTestResultDateDeserializer() {
+    super(CDate.class);
+  }
+
+  /**
+   * Deserializes a JSON string or timestamp into a {@link CDate} object.
+   *
+   * @param jsonparser the JSON parser
+   * @param context the deserialization context
+   * @return the deserialized {@link CDate} object
+   * @throws IOException if an error occurs during deserialization
+   */
+  @Override
+  public CDate deserialize(JsonParser jsonparser, DeserializationContext context)
+      throws IOException {
+    if (jsonparser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+      return new CDate(jsonparser.getLongValue());
+    }
+    return CDate.valueOf(jsonparser.getText(), DATE_FORMAT);
+  }
+}
@@ -0,0 +1,241 @@
+package org.catools.common.testng.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.catools.common.testng.CTestNGConfigs;
+import org.catools.common.testng.model.CMethodDurationHistory;
+import org.testng.IMethodInstance;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+/**
+ * Utility class to order test methods by their expected duration so parallel runs finish as early
+ * as possible.
+ *
+ * <p>Methods are scheduled longest first (LPT): when the longest work starts first, the short work
+ * fills up the threads at the end instead of a single long class running alone after everything
+ * else is done. Expected durations come from the {@link CMethodDurationHistory} which {@link
+ * org.catools.common.testng.listeners.CMethodDurationListener} records, and methods which have not
+ * run before are expected to take the average duration of the known methods.
+ *
+ * <p>The unit of scheduling follows the parallel mode of the test: with {@code CLASSES} all methods
+ * of a class run on one thread so classes are ordered by their total duration, with {@code
+ * INSTANCES} the same applies to each instance, and with {@code METHODS} each method is ordered on
+ * its own, except that a class with methods which depend on other methods or groups is ordered as a
+ * whole and keeps its original order within it. Units are ordered by the lowest priority of their
+ * methods first, so priorities still decide which work starts before the rest.
+ *
+ * <p>Tests which do not run in parallel keep TestNG's order, because the order does not change how
+ * long they take.
+ *
+ * @author CATools Team
+ * @since 1.0
+ */
+@Slf4j
+@UtilityClass
+public class CTestScheduleUtil {
+  private static CMethodDurationHistory durationHistory;
+
+  /**
+   * The method duration history read from {@link CTestNGConfigs#getMethodDurationHistoryFile()}.
+   * The file is read once, and durations recorded during the run are added to the same instance.
+   *
+   * @return the method duration history
+   */
+  public static synchronized CMethodDurationHistory getDurationHistory() {
+    if (durationHistory == null) {
+      durationHistory = CMethodDurationHistory.load(CTestNGConfigs.getMethodDurationHistoryFile());
+    }
+    return durationHistory;
+  }
+
+  /**
+   * Applies changes to the method duration history and writes it to {@link
+   * CTestNGConfigs#getMethodDurationHistoryFile()}. The file is read again while it is locked, so
+   * durations which other processes saved in the meantime, like other shards of the same run, are
+   * kept.
+   *
+   * @param changes the changes to apply to the history
+   */
+  public static synchronized void updateDurationHistory(Consumer<CMethodDurationHistory> changes) {
+    durationHistory =
+        CMethodDurationHistory.update(CTestNGConfigs.getMethodDurationHistoryFile(), changes);
+  }
+
+  /**
+   * Orders method instances longest first using the parallel mode and thread count of the current
+   * test.
+   *
+   * <p><strong>Example usage:</strong>
+   *
+   * <pre>{@code
+   * public List<IMethodInstance> intercept(List<IMethodInstance> list, ITestContext context) {
+   *   return CTestScheduleUtil.scheduleByDuration(list, context);
+   * }
+   * }</pre>
+   *
+   * @param list the method instances to order
+   * @param context the test context, or null to use the test level settings of {@link
+   *     CTestNGConfigs}
+   * @return the method instances in the order they should start
+   */
+  public static List<IMethodInstance> scheduleByDuration(
+      List<IMethodInstance> list, ITestContext context) {
+    XmlTest xmlTest = context == null ? null : context.getCurrentXmlTest();
+    XmlSuite.ParallelMode parallel =
+        xmlTest == null ? CTestNGConfigs.getTestLevelParallel() : xmlTest.getParallel();
+    int threadCount =
+        xmlTest == null ? CTestNGConfigs.getTestLevelThreadCount() : xmlTest.getThreadCount();
+    return scheduleByDuration(list, parallel, threadCount, getDurationHistory());
+  }
+
+  /**
+   * Orders method instances longest first.
+   *
+   * @param list the method instances to order
+   * @param parallel the parallel mode of the test
+   * @param threadCount the number of threads of the test
+   * @param history the expected method durations
+   * @return the method instances in the order they should start, or the original list if the test
+   *     does not run in parallel or no method has an expected duration
+   */
+  public static List<IMethodInstance> scheduleByDuration(
+      List<IMethodInstance> list,
+      XmlSuite.ParallelMode parallel,
+      int threadCount,
+      CMethodDurationHistory history) {
+    if (list.size() < 2 || threadCount < 2 || !isParallel(parallel)) {
+      return list;
+    }
+
+    long knownTotal = 0;
+    int knownCount = 0;
+    for (IMethodInstance instance : list) {
+      Long duration = getDuration(history, instance.getMethod());
+      if (duration != null) {
+        knownTotal += duration;
+        knownCount++;
+      }
+    }
+    if (knownCount == 0) {
+      return list;
+    }
+    long defaultDuration = knownTotal / knownCount;
+
+    Set<Class<?>> classesWithDependencies = new HashSet<>();
+    for (IMethodInstance instance : list) {
+      if (hasDependencies(instance.getMethod())) {
+        classesWithDependencies.add(instance.getMethod().getRealClass());
+      }
+    }
+
+    Map<Object, ScheduleUnit> units = new LinkedHashMap<>();
+    for (IMethodInstance instance : list) {
+      Object key = getUnitKey(instance, parallel, classesWithDependencies);
+      ScheduleUnit unit = units.computeIfAbsent(key, k -> new ScheduleUnit(units.size()));
+      Long duration = getDuration(history, instance.getMethod());
+      unit.add(instance, duration == null ? defaultDuration : duration);
+    }
+
+    List<ScheduleUnit> ordered = new ArrayList<>(units.values());
+    ordered.sort(
+        Comparator.comparingInt((ScheduleUnit u) -> u.priority)
+            .thenComparing(Comparator.comparingLong((ScheduleUnit u) -> u.duration).reversed())
+            .thenComparingInt(u -> u.index));
+
+    List<IMethodInstance> output = new ArrayList<>(list.size());
+    PriorityQueue<Long> threads = new PriorityQueue<>();
+    for (int i = 0; i < threadCount; i++) {
+      threads.add(0L);
+    }
+    long makespan = 0;
+    for (ScheduleUnit unit : ordered) {
+      output.addAll(unit.methods);
+      long finish = threads.poll() + unit.duration;
+      threads.add(finish);
+      makespan = Math.max(makespan, finish);
+    }
+
+    log.info(
+        "{} methods in {} {} scheduled longest first on {} threads, expected duration {} ms.",
+        output.size(),
+        ordered.size(),
+        parallel == XmlSuite.ParallelMode.METHODS ? "units" : parallel.name().toLowerCase(),
+        threadCount,
+        makespan);
+    return output;
+  }
+
+  private static boolean isParallel(XmlSuite.ParallelMode parallel) {
+    return parallel == XmlSuite.ParallelMode.METHODS
+        || parallel == XmlSuite.ParallelMode.CLASSES
+        || parallel == XmlSuite.ParallelMode.INSTANCES;
+  }
+
+  private static Object getUnitKey(
+      IMethodInstance instance,
+      XmlSuite.ParallelMode parallel,
+      Set<Class<?>> classesWithDependencies) {
+    Class<?> realClass = instance.getMethod().getRealClass();
+    if (parallel == XmlSuite.ParallelMode.INSTANCES && instance.getInstance() != null) {
+      return new InstanceKey(instance.getInstance());
+    }
+    if (parallel == XmlSuite.ParallelMode.CLASSES || classesWithDependencies.contains(realClass)) {
+      return realClass;
+    }
+    return instance;
+  }
+
+  private static boolean hasDependencies(ITestNGMethod method) {
+    return isNotEmpty(method.getMethodsDependedUpon())
+        || isNotEmpty(method.getGroupsDependedUpon());
+  }
+
+  private static boolean isNotEmpty(String[] values) {
+    return values != null && values.length > 0;
+  }
+
+  private static Long getDuration(CMethodDurationHistory history, ITestNGMethod method) {
+    return history.getDuration(method.getRealClass().getName(), method.getMethodName());
+  }
+
+  private static final class ScheduleUnit {
+    private final int index;
+    private final List<IMethodInstance> methods = new ArrayList<>();
+    private int priority = Integer.MAX_VALUE;
+    private long duration;
+
+    private ScheduleUnit(int index) {
+      this.index = index;
+    }
+
+    private void add(IMethodInstance instance, long methodDuration) {
+      methods.add(instance);
+      priority = Math.min(priority, instance.getMethod().getPriority());
+      duration += methodDuration;
+    }
+  }
+
+  private record InstanceKey(Object instance) {
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof InstanceKey other && instance == other.instance;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(instance);
+    }
+  }
+}
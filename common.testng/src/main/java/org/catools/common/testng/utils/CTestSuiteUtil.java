@@ -148,11 +148,42 @@ public class CTestSuiteUtil {
    *     otherwise
    */
   public static boolean shouldSkipByAnnotation(CList<Annotation> annotations) {
-    return shouldSkipByAnnotationsConfigRules(annotations)
-        || shouldSkipByRegressionAndSeverityRules(annotations);
+    CSeverity severity = (CSeverity) annotations.getFirstOrNull(a -> a instanceof CSeverity);
+    CRegression regression =
+        (CRegression) annotations.getFirstOrNull(a -> a instanceof CRegression);
+    return shouldSkipByAnnotation(
+        annotations.mapToSet(a -> a.annotationType().getName()),
+        severity == null ? null : severity.level(),
+        regression == null ? null : regression.depth());
   }
 
-  private static boolean shouldSkipByRegressionAndSeverityRules(CList<Annotation> annotations) {
+  /**
+   * Determines whether a test should be skipped based on the names and values of its annotations,
+   * applying the same rules as {@link #shouldSkipByAnnotation(CList)} without loading the test
+   * class. This is used for tests read from the {@link org.catools.common.testng.index.CTestIndex}.
+   *
+   * <p><strong>Example usage:</strong>
+   *
+   * <pre>{@code
+   * CSet<String> annotations =
+   *     new CSet<>(Test.class.getName(), CSeverity.class.getName(), CRegression.class.getName());
+   * boolean shouldSkip = CTestSuiteUtil.shouldSkipByAnnotation(annotations, 2, 1);
+   * }</pre>
+   *
+   * @param annotationTypeNames the binary names of all annotation types on the test method
+   * @param severityLevel the {@link CSeverity} level, or null if the method has no severity
+   * @param regressionDepth the {@link CRegression} depth, or null if the method has no regression
+   * @return {@code true} if the test should be skipped based on the annotations, {@code false}
+   *     otherwise
+   */
+  public static boolean shouldSkipByAnnotation(
+      CSet<String> annotationTypeNames, Integer severityLevel, Integer regressionDepth) {
+    return shouldSkipByAnnotationsConfigRules(annotationTypeNames)
+        || shouldSkipByRegressionAndSeverityRules(severityLevel, regressionDepth);
+  }
+
+  private static boolean shouldSkipByRegressionAndSeverityRules(
+      Integer testSeverityLevel, Integer testRegressionDepth) {
     int severityLevel = CTestNGConfigs.getSeverityLevel();
     int regressionDepth = CTestNGConfigs.getRegressionDepth();
 
@@ -164,19 +195,20 @@ public class CTestSuiteUtil {
     // If we have both severity level abd regression depth then we should have both match otherwise
     // we should skip
     if (severityLevel > -1 && regressionDepth > -1) {
-      return shouldSkipBySeverityLevel(annotations) || shouldSkipByRegressionLevel(annotations);
+      return shouldSkipBySeverityLevel(testSeverityLevel)
+          || shouldSkipByRegressionLevel(testRegressionDepth);
     } else if (severityLevel > -1) {
-      return shouldSkipBySeverityLevel(annotations);
+      return shouldSkipBySeverityLevel(testSeverityLevel);
     } else if (regressionDepth > -1) {
-      return shouldSkipByRegressionLevel(annotations);
+      return shouldSkipByRegressionLevel(testRegressionDepth);
     }
 
     return false;
   }
 
-  private static boolean shouldSkipByAnnotationsConfigRules(CList<Annotation> annotations) {
-    if (shouldBeSkippedByAwaitingAnnotation(annotations)
-        || shouldBeSkippedByIgnoredAnnotation(annotations)) {
+  private static boolean shouldSkipByAnnotationsConfigRules(CSet<String> annotationTypeNames) {
+    if (shouldBeSkippedByAwaitingAnnotation(annotationTypeNames)
+        || shouldBeSkippedByIgnoredAnnotation(annotationTypeNames)) {
       return true;
     }
 
@@ -197,7 +229,7 @@ public class CTestSuiteUtil {
       return false;
     }
 
-    CSet<String> annotationNames = annotations.mapToSet(a -> a.annotationType().getSimpleName());
+    CSet<String> annotationNames = annotationTypeNames.mapToSet(CTestSuiteUtil::getSimpleName);
 
     // If any configuration set to handle label and test does not hve a label then we skip it
     if (annotationNames.isEmpty()) {
@@ -226,30 +258,27 @@ public class CTestSuiteUtil {
     return annotationsToRunTestIfAnyMatch.isNotEmpty();
   }
 
-  private static boolean shouldSkipBySeverityLevel(CList<Annotation> annotations) {
-    return annotations.hasNot(a -> a instanceof CSeverity)
-        || annotations.has(
-            a ->
-                a instanceof CSeverity
-                    && (((CSeverity) a).level() > CTestNGConfigs.getSeverityLevel()));
+  private static boolean shouldSkipBySeverityLevel(Integer testSeverityLevel) {
+    return testSeverityLevel == null || testSeverityLevel > CTestNGConfigs.getSeverityLevel();
   }
 
-  private static boolean shouldSkipByRegressionLevel(CList<Annotation> annotations) {
-    return annotations.hasNot(a -> a instanceof CRegression)
-        || annotations.has(
-            a ->
-                a instanceof CRegression
-                    && (((CRegression) a).depth() > CTestNGConfigs.getRegressionDepth()));
+  private static boolean shouldSkipByRegressionLevel(Integer testRegressionDepth) {
+    return testRegressionDepth == null || testRegressionDepth > CTestNGConfigs.getRegressionDepth();
   }
 
-  private static boolean shouldBeSkippedByAwaitingAnnotation(CList<Annotation> annotations) {
+  private static boolean shouldBeSkippedByAwaitingAnnotation(CSet<String> annotationTypeNames) {
     return CTestNGConfigs.skipClassWithAwaitingTest()
-        && annotations.has(an -> an instanceof CAwaiting);
+        && annotationTypeNames.contains(CAwaiting.class.getName());
   }
 
-  private static boolean shouldBeSkippedByIgnoredAnnotation(CList<Annotation> annotations) {
+  private static boolean shouldBeSkippedByIgnoredAnnotation(CSet<String> annotationTypeNames) {
     return CTestNGConfigs.skipClassWithIgnoredTest()
-        && annotations.has(an -> an instanceof CIgnored);
+        && annotationTypeNames.contains(CIgnored.class.getName());
+  }
+
+  private static String getSimpleName(String binaryName) {
+    return binaryName.substring(
+        Math.max(binaryName.lastIndexOf('.'), binaryName.lastIndexOf('$')) + 1);
   }
 
   private static CList<Annotation> getAnnotations(ITestNGMethod method) {
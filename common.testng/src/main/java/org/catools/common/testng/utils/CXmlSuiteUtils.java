@@ -1,12 +1,25 @@
 package org.catools.common.testng.utils;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.regex.PatternSyntaxException;
 import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
 import org.catools.common.collections.CHashMap;
 import org.catools.common.collections.CList;
 import org.catools.common.collections.CSet;
 import org.catools.common.testng.CTestNGConfigs;
 import org.catools.common.utils.CObjectUtil;
+import org.testng.annotations.Test;
 import org.testng.xml.XmlClass;
 import org.testng.xml.XmlSuite;
 import org.testng.xml.XmlTest;
@@ -26,6 +39,7 @@ import org.testng.xml.XmlTest;
  *   <li>Creating test suites from collections of test classes
  *   <li>Configuring parallel execution at suite and test levels
  *   <li>Copying and modifying existing test suites
+ *   <li>Splitting test suites into balanced shards
  * </ul>
  *
  * <p>Example usage:
@@ -49,6 +63,7 @@ import org.testng.xml.XmlTest;
  *
  * @since 1.0
  */
+@Slf4j
 @UtilityClass
 public class CXmlSuiteUtils {
   /**
@@ -343,4 +358,240 @@ public class CXmlSuiteUtils {
     suite.setName(suite.getName() + suiteNamePostfix);
     return suite;
   }
+
+  /**
+   * Splits test suites into balanced shards which can run independently, for example in separate
+   * JVMs.
+   *
+   * <p>Test classes are the unit of sharding, so configuration methods, dependencies and class
+   * level parallel execution keep working within a shard. Classes of a test which are linked by
+   * {@code dependsOnGroups} or {@code dependsOnMethods} of their {@link
+   * org.testng.annotations.Test} annotations are kept in the same shard. Classes, or linked
+   * classes, are assigned heaviest first to the shard with the lowest total weight, which keeps the
+   * shards close to each other even when a few classes are much heavier than the rest.
+   *
+   * <p>Dependencies declared in the suite xml, and dependencies on groups of classes which are in a
+   * different test or cannot be loaded, are not known at this point and can still be split apart.
+   *
+   * <p>Each shard contains a copy of every suite which has at least one of its classes, with the
+   * same configuration, parameters and listeners, but only the tests and classes assigned to that
+   * shard. Child suites are flattened into the returned list. Tests which select packages instead
+   * of classes cannot be split and are kept as a whole in the first shard.
+   *
+   * @param xmlSuites the suites to split
+   * @param shardCount the number of shards, values below 1 are treated as 1
+   * @param classWeight the expected cost of a class, like its duration in earlier runs or the
+   *     number of test methods
+   * @return the suites of each shard, shards without any class are not returned
+   * @example
+   *     <pre>{@code
+   * // Every class has the same weight
+   * CList<CList<XmlSuite>> shards = CXmlSuiteUtils.splitIntoShards(suites, 4, xmlClass -> 1);
+   *
+   * // Each shard holds about a quarter of the classes
+   * shards.forEach(shard -> shard.forEach(suite -> System.out.println(suite.toXml())));
+   * }</pre>
+   *
+   * @see #copy(XmlSuite, String)
+   */
+  public static CList<CList<XmlSuite>> splitIntoShards(
+      Collection<XmlSuite> xmlSuites, int shardCount, ToLongFunction<XmlClass> classWeight) {
+    int count = Math.max(1, shardCount);
+    CList<XmlSuite> suites = new CList<>();
+    xmlSuites.forEach(suite -> addWithChildSuites(suites, suite));
+
+    // shard of each class by suite, test and class index
+    int[][][] assignments = new int[suites.size()][][];
+    List<ShardUnit> units = new ArrayList<>();
+    for (int s = 0; s < suites.size(); s++) {
+      List<XmlTest> tests = suites.get(s).getTests();
+      assignments[s] = new int[tests.size()][];
+      for (int t = 0; t < tests.size(); t++) {
+        List<XmlClass> classes = tests.get(t).getXmlClasses();
+        assignments[s][t] = new int[classes.size()];
+
+        // classes which depend on each other are assigned together
+        Map<Integer, List<Integer>> linkedClasses = new LinkedHashMap<>();
+        int[] roots = linkDependentClasses(classes);
+        for (int c = 0; c < classes.size(); c++) {
+          linkedClasses.computeIfAbsent(roots[c], k -> new ArrayList<>()).add(c);
+        }
+        for (List<Integer> linked : linkedClasses.values()) {
+          long weight = 0;
+          for (int c : linked) {
+            weight += Math.max(0, classWeight.applyAsLong(classes.get(c)));
+          }
+          units.add(new ShardUnit(s, t, linked, units.size(), weight));
+        }
+      }
+    }
+
+    units.sort(
+        Comparator.comparingLong(ShardUnit::weight).reversed().thenComparingInt(ShardUnit::order));
+    long[] loads = new long[count];
+    for (ShardUnit unit : units) {
+      int shard = 0;
+      for (int i = 1; i < count; i++) {
+        if (loads[i] < loads[shard]) {
+          shard = i;
+        }
+      }
+      loads[shard] += unit.weight();
+      for (int c : unit.classes()) {
+        assignments[unit.suite()][unit.test()][c] = shard;
+      }
+    }
+
+    CList<CList<XmlSuite>> shards = new CList<>();
+    for (int shard = 0; shard < count; shard++) {
+      CList<XmlSuite> shardSuites = new CList<>();
+      for (int s = 0; s < suites.size(); s++) {
+        XmlSuite suite = getShardSuite(suites.get(s), assignments[s], shard);
+        if (suite != null) {
+          shardSuites.add(suite);
+        }
+      }
+      if (shardSuites.isNotEmpty()) {
+        shards.add(shardSuites);
+      }
+    }
+    return shards;
+  }
+
+  private static void addWithChildSuites(CList<XmlSuite> suites, XmlSuite suite) {
+    if (suites.stream().anyMatch(s -> s == suite)) {
+      return;
+    }
+    suites.add(suite);
+    suite.getChildSuites().forEach(child -> addWithChildSuites(suites, child));
+  }
+
+  private static XmlSuite getShardSuite(XmlSuite xmlSuite, int[][] assignments, int shard) {
+    XmlSuite suite = CObjectUtil.clone(xmlSuite);
+    suite.setParentSuite(null);
+    suite.getChildSuites().clear();
+    suite.getSuiteFiles().clear();
+
+    List<XmlTest> tests = new ArrayList<>();
+    for (int t = 0; t < suite.getTests().size(); t++) {
+      XmlTest test = suite.getTests().get(t);
+      if (test.getXmlClasses().isEmpty()) {
+        if (shard == 0) {
+          tests.add(test);
+        }
+        continue;
+      }
+
+      List<XmlClass> classes = new ArrayList<>();
+      for (int c = 0; c < test.getXmlClasses().size(); c++) {
+        if (assignments[t][c] == shard) {
+          classes.add(test.getXmlClasses().get(c));
+        }
+      }
+      if (!classes.isEmpty()) {
+        test.setXmlClasses(classes);
+        tests.add(test);
+      }
+    }
+
+    if (tests.isEmpty()) {
+      return null;
+    }
+    suite.setTests(tests);
+    return suite;
+  }
+
+  private static int[] linkDependentClasses(List<XmlClass> classes) {
+    List<ClassDependencies> dependencies =
+        classes.stream().map(CXmlSuiteUtils::readDependencies).toList();
+    int[] roots = new int[classes.size()];
+    for (int i = 0; i < roots.length; i++) {
+      roots[i] = i;
+    }
+
+    for (int i = 0; i < roots.length; i++) {
+      for (int j = 0; j < roots.length; j++) {
+        if (i != j && dependencies.get(i).dependsOn(dependencies.get(j))) {
+          roots[getRoot(roots, i)] = getRoot(roots, j);
+        }
+      }
+    }
+
+    for (int i = 0; i < roots.length; i++) {
+      roots[i] = getRoot(roots, i);
+    }
+    return roots;
+  }
+
+  private static int getRoot(int[] roots, int index) {
+    while (roots[index] != index) {
+      index = roots[index];
+    }
+    return index;
+  }
+
+  private static ClassDependencies readDependencies(XmlClass xmlClass) {
+    Set<String> groups = new HashSet<>();
+    Set<String> dependsOnGroups = new HashSet<>();
+    Set<String> dependsOnMethods = new HashSet<>();
+    try {
+      Class<?> testClass = xmlClass.getSupportClass();
+      List<Test> annotations = new ArrayList<>();
+      for (Class<?> c = testClass; c != null && c != Object.class; c = c.getSuperclass()) {
+        if (c.getAnnotation(Test.class) != null) {
+          annotations.add(c.getAnnotation(Test.class));
+        }
+      }
+      for (Method method : testClass.getMethods()) {
+        if (method.getAnnotation(Test.class) != null) {
+          annotations.add(method.getAnnotation(Test.class));
+        }
+      }
+
+      for (Test annotation : annotations) {
+        groups.addAll(List.of(annotation.groups()));
+        dependsOnGroups.addAll(List.of(annotation.dependsOnGroups()));
+        dependsOnMethods.addAll(List.of(annotation.dependsOnMethods()));
+      }
+    } catch (Throwable t) {
+      log.warn("Failed to read dependencies of {}, it is sharded on its own.", xmlClass, t);
+    }
+    return new ClassDependencies(xmlClass.getName(), groups, dependsOnGroups, dependsOnMethods);
+  }
+
+  private record ClassDependencies(
+      String className,
+      Set<String> groups,
+      Set<String> dependsOnGroups,
+      Set<String> dependsOnMethods) {
+
+    private boolean dependsOn(ClassDependencies other) {
+      for (String method : dependsOnMethods) {
+        int index = method.lastIndexOf('.');
+        if (index > 0 && method.substring(0, index).equals(other.className())) {
+          return true;
+        }
+      }
+
+      // dependsOnGroups can be regular expressions
+      for (String group : dependsOnGroups) {
+        for (String otherGroup : other.groups()) {
+          if (group.equals(otherGroup) || matches(otherGroup, group)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+    private static boolean matches(String value, String regex) {
+      try {
+        return value.matches(regex);
+      } catch (PatternSyntaxException e) {
+        return false;
+      }
+    }
+  }
+
+  private record ShardUnit(int suite, int test, List<Integer> classes, int order, long weight) {}
 }
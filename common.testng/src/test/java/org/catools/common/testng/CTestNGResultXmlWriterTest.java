@@ -0,0 +1,222 @@
+package org.catools.common.testng;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.catools.common.annotations.CRegression;
+import org.catools.common.annotations.CSeverity;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.security.CSensitiveDataMaskingManager;
+import org.catools.common.testng.annotatoins.RALL1;
+import org.catools.common.testng.annotatoins.RALL2;
+import org.catools.common.testng.annotatoins.RALL3;
+import org.catools.common.testng.annotatoins.RANY1;
+import org.testng.IResultMap;
+import org.testng.ISuiteResult;
+import org.testng.ITestClass;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.CustomAttribute;
+import org.testng.annotations.Test;
+import org.testng.reporters.XMLReporterConfig;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+public class CTestNGResultXmlWriterTest extends CBaseUnitTest {
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testMaskTextNodes() throws Exception {
+    File file = Files.createTempFile("testng-results", ".xml").toFile();
+    CSensitiveDataMaskingManager.addMask("result-writer-secret");
+    try {
+      writeReport(file, false);
+
+      String xml = Files.readString(file.toPath());
+      CVerify.Bool.isFalse(xml.contains("result-writer-secret"), "Sensitive data is masked");
+
+      Element root = parse(file, false);
+      CVerify.String.equals(root.getAttribute("total"), "2", "Attributes are written");
+      CVerify.String.equals(
+          root.getElementsByTagName(XMLReporterConfig.TAG_LINE).item(0).getTextContent(),
+          "token ******",
+          "Line is masked");
+    } finally {
+      CSensitiveDataMaskingManager.removeMask("result-writer-secret");
+      Files.deleteIfExists(file.toPath());
+    }
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testWriteCDataEndMarker() throws Exception {
+    File file = Files.createTempFile("testng-results", ".xml").toFile();
+    try {
+      writeReport(file, false);
+
+      Element root = parse(file, false);
+      CVerify.String.equals(
+          root.getElementsByTagName(XMLReporterConfig.TAG_LINE).item(1).getTextContent(),
+          "a]]>b",
+          "CDATA end marker is kept");
+    } finally {
+      Files.deleteIfExists(file.toPath());
+    }
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testCompressOutput() throws Exception {
+    File file = Files.createTempFile("testng-results", ".xml.gz").toFile();
+    try {
+      writeReport(file, true);
+
+      Element root = parse(file, true);
+      CVerify.String.equals(
+          root.getTagName(), XMLReporterConfig.TAG_TESTNG_RESULTS, "Compressed file is readable");
+      CVerify.Int.equals(
+          root.getElementsByTagName(XMLReporterConfig.TAG_LINE).getLength(),
+          2,
+          "Lines are written");
+    } finally {
+      Files.deleteIfExists(file.toPath());
+    }
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testWriteCustomAttributes() throws Exception {
+    CustomAttribute attribute =
+        stub(CustomAttribute.class, Map.of("name", "owner", "values", new String[] {"a", "b"}));
+    ITestNGMethod method =
+        stub(
+            ITestNGMethod.class,
+            Map.of(
+                "getMethodName",
+                "sample",
+                "toString",
+                "sample()",
+                "isTest",
+                true,
+                "getAttributes",
+                new CustomAttribute[] {attribute}));
+    ITestResult result =
+        stub(
+            ITestResult.class,
+            Map.of(
+                "getMethod",
+                method,
+                "getTestClass",
+                stub(ITestClass.class, Map.of("getName", "sample.SampleTest")),
+                "getStatus",
+                ITestResult.SUCCESS,
+                "getStartMillis",
+                1L,
+                "getEndMillis",
+                2L,
+                "wasRetried",
+                false,
+                "id",
+                "sample"));
+    IResultMap passed = stub(IResultMap.class, Map.of("getAllResults", Set.of(result)));
+    ITestContext context =
+        stub(
+            ITestContext.class,
+            Map.of("getName", "Sample", "getStartDate", new Date(), "getPassedTests", passed));
+    ISuiteResult suiteResult = stub(ISuiteResult.class, Map.of("getTestContext", context));
+
+    File file = Files.createTempFile("testng-results", ".xml").toFile();
+    try {
+      try (CTestNGResultXmlWriter writer =
+          new CTestNGResultXmlWriter(file, new XMLReporterConfig(), false)) {
+        writer.writeSuiteResult(suiteResult);
+      }
+
+      Element customAttribute =
+          (Element)
+              parse(file, false)
+                  .getElementsByTagName(XMLReporterConfig.TAG_CUSTOM_ATTRIBUTE)
+                  .item(0);
+      Element name =
+          (Element)
+              customAttribute
+                  .getElementsByTagName(XMLReporterConfig.TAG_CUSTOM_ATTRIBUTE_NAME)
+                  .item(0);
+      CVerify.String.equals(name.getTextContent(), "owner", "Name is written as element text");
+      CVerify.String.equals(
+          name.getAttribute(XMLReporterConfig.TAG_CUSTOM_ATTRIBUTE_VALUE),
+          "owner",
+          "Name is written as TestNG value attribute");
+      CVerify.String.equals(
+          customAttribute
+              .getElementsByTagName(XMLReporterConfig.TAG_CUSTOM_ATTRIBUTE_VALUE)
+              .item(0)
+              .getTextContent(),
+          "[a, b]",
+          "Values are written");
+    } finally {
+      Files.deleteIfExists(file.toPath());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T stub(Class<T> type, Map<String, Object> values) {
+    return (T)
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, m, args) ->
+                switch (m.getName()) {
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  case "toString" -> values.getOrDefault("toString", type.getSimpleName());
+                  default -> values.get(m.getName());
+                });
+  }
+
+  private static void writeReport(File file, boolean compress) {
+    try (CTestNGResultXmlWriter writer =
+        new CTestNGResultXmlWriter(file, new XMLReporterConfig(), compress)) {
+      writer.startElement(XMLReporterConfig.TAG_TESTNG_RESULTS, "total", 2, "skipped", null);
+      writer.writeReporterOutput(Arrays.asList("token result-writer-secret", null, "a]]>b"));
+      writer.endElement();
+    }
+  }
+
+  private static Element parse(File file, boolean compressed) throws Exception {
+    try (InputStream in =
+        compressed ? new GZIPInputStream(new FileInputStream(file)) : new FileInputStream(file)) {
+      Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(in);
+      return document.getDocumentElement();
+    }
+  }
+}
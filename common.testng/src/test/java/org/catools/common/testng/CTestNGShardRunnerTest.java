@@ -0,0 +1,91 @@
+package org.catools.common.testng;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.catools.common.annotations.CRegression;
+import org.catools.common.annotations.CSeverity;
+import org.catools.common.collections.CList;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.testng.annotatoins.RALL1;
+import org.catools.common.testng.annotatoins.RALL2;
+import org.catools.common.testng.annotatoins.RALL3;
+import org.catools.common.testng.annotatoins.RANY1;
+import org.catools.common.testng.model.CExecutionStatus;
+import org.catools.common.testng.model.CTestResult;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+public class CTestNGShardRunnerTest extends CBaseUnitTest {
+  static final String FORWARDED_PROPERTY = "catools.testng.shard_runner_test";
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testRunShardAndMergeResults() throws Exception {
+    Path folder = Files.createTempDirectory("shard");
+    System.setProperty(FORWARDED_PROPERTY, "forwarded");
+    try {
+      CTestNGShardRunner runner = new CTestNGShardRunner(1, 1);
+      int status = runner.runShard(folder.toFile(), CList.of(suite(CTestNGShardSample.class)));
+      CVerify.Int.equals(status, 0, "Shard passes with the forwarded property");
+
+      File resultFile = folder.resolve("CTestResultCollection.json").toFile();
+      CVerify.Int.equals(runner.readResults(resultFile), 0, "Shard results are read");
+      CVerify.Int.equals(runner.getResults().size(), 1, "Shard results are merged");
+
+      CTestResult result = runner.getResults().get(0);
+      CVerify.String.equals(result.getMethodName(), "readForwardedProperty", "Method is merged");
+      CVerify.Object.equals(result.getStatus(), CExecutionStatus.SUCCESS, "Status is merged");
+    } finally {
+      System.clearProperty(FORWARDED_PROPERTY);
+      delete(folder);
+    }
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testFailWithoutShardResults() throws Exception {
+    Path folder = Files.createTempDirectory("shard");
+    try {
+      CTestNGShardRunner runner = new CTestNGShardRunner(1, 1);
+      File resultFile = folder.resolve("CTestResultCollection.json").toFile();
+      CVerify.Int.equals(runner.readResults(resultFile), 1, "Missing results fail the run");
+      CVerify.Int.equals(runner.getResults().size(), 0, "Nothing is merged");
+    } finally {
+      delete(folder);
+    }
+  }
+
+  private static XmlSuite suite(Class<?> testClass) {
+    XmlSuite suite = new XmlSuite();
+    suite.setName("Shard Runner Suite");
+    XmlTest test = new XmlTest(suite);
+    test.setName("Shard Runner Test");
+    test.setXmlClasses(List.of(new XmlClass(testClass.getName())));
+    return suite;
+  }
+
+  private static void delete(Path folder) throws IOException {
+    try (Stream<Path> paths = Files.walk(folder)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+}
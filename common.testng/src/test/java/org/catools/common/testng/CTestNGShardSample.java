@@ -0,0 +1,27 @@
+package org.catools.common.testng;
+
+import org.catools.common.annotations.CRegression;
+import org.catools.common.annotations.CSeverity;
+import org.catools.common.testng.annotatoins.RALL1;
+import org.catools.common.testng.annotatoins.RALL2;
+import org.catools.common.testng.annotatoins.RALL3;
+import org.catools.common.testng.annotatoins.RANY1;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Runs in the shard JVM of {@link CTestNGShardRunnerTest} and passes only when the system property
+ * of the parent process is forwarded.
+ */
+public class CTestNGShardSample {
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void readForwardedProperty() {
+    Assert.assertEquals(System.getProperty(CTestNGShardRunnerTest.FORWARDED_PROPERTY), "forwarded");
+  }
+}
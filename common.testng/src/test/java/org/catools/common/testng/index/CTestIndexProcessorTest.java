@@ -0,0 +1,182 @@
+package org.catools.common.testng.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.catools.common.annotations.CRegression;
+import org.catools.common.annotations.CSeverity;
+import org.catools.common.collections.CList;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.testng.CBaseUnitTest;
+import org.catools.common.testng.annotatoins.RALL1;
+import org.catools.common.testng.annotatoins.RALL2;
+import org.catools.common.testng.annotatoins.RALL3;
+import org.catools.common.testng.annotatoins.RANY1;
+import org.testng.annotations.Test;
+
+public class CTestIndexProcessorTest extends CBaseUnitTest {
+  private static final String BASE_TEST =
+      "package sample;\n"
+          + "public abstract class BaseTest {\n"
+          + "  @org.testng.annotations.Test\n"
+          + "  @org.catools.common.annotations.CRegression(depth = 3)\n"
+          + "  public void inherited() {}\n"
+          + "}\n";
+
+  private static final String SAMPLE_TEST =
+      "package sample;\n"
+          + "public class SampleTest extends BaseTest {\n"
+          + "  @org.testng.annotations.Test(groups = {\"smoke\", \"a,b\"})\n"
+          + "  @org.catools.common.annotations.CTestIds(ids = {\" ID-1 \", \"ID-2\"})\n"
+          + "  @org.catools.common.annotations.CSeverity(level = 2)\n"
+          + "  @SuppressWarnings(\"unused\")\n"
+          + "  @ClassRetained\n"
+          + "  public void first() {}\n"
+          + "  public void helper() {}\n"
+          + "  @org.testng.annotations.Test\n"
+          + "  void notPublic() {}\n"
+          + "}\n"
+          + "@interface ClassRetained {}\n";
+
+  private static final String OTHER_TEST =
+      "package sample.other;\n"
+          + "public class OtherTest {\n"
+          + "  @org.testng.annotations.Test\n"
+          + "  public void other() {}\n"
+          + "}\n";
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testIndexPublicTestMethods() throws IOException {
+    Path root = Files.createTempDirectory("test_index");
+    compile(root, "sample/BaseTest.java", BASE_TEST, "sample/SampleTest.java", SAMPLE_TEST);
+
+    CList<CTestIndexEntry> entries = readIndex(root);
+    CVerify.Object.equals(
+        entries.mapToList(e -> e.getClassName() + "." + e.getMethodName()),
+        List.of(
+            "sample.BaseTest.inherited", "sample.SampleTest.first", "sample.SampleTest.inherited"),
+        "Public test methods are indexed");
+
+    CTestIndexEntry first = entries.get(1);
+    CVerify.Object.equals(first.getGroups(), List.of("smoke", "a,b"), "Groups are indexed");
+    CVerify.Object.equals(first.getTestIds(), List.of("ID-1", "ID-2"), "Test ids are indexed");
+    CVerify.Int.equals(first.getSeverityLevel(), 2, "Severity level is indexed");
+    CVerify.Bool.isTrue(first.getRegressionDepth() == null, "Regression depth is not set");
+    CVerify.Bool.isTrue(
+        first.getAnnotations().contains("org.catools.common.annotations.CTestIds"),
+        "Annotations are indexed");
+    CVerify.Bool.isFalse(
+        first.getAnnotations().has(a -> a.startsWith("java.lang.") || a.startsWith("sample.")),
+        "Annotations which are not retained at runtime are not indexed");
+    CVerify.Int.equals(entries.get(2).getRegressionDepth(), 3, "Inherited method is indexed");
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testKeepEntriesOfClassesNotRecompiled() throws IOException {
+    Path root = Files.createTempDirectory("test_index");
+    compile(root, "sample/BaseTest.java", BASE_TEST, "sample/SampleTest.java", SAMPLE_TEST);
+    compile(root, "sample/other/OtherTest.java", OTHER_TEST);
+    CVerify.Int.equals(readIndex(root).size(), 4, "Entries of earlier compilation are kept");
+
+    Files.delete(root.resolve("classes/sample/SampleTest.class"));
+    compile(root, "sample/other/OtherTest.java", OTHER_TEST);
+    CVerify.Object.equals(
+        readIndex(root).mapToList(CTestIndexEntry::getClassName),
+        List.of("sample.BaseTest", "sample.other.OtherTest"),
+        "Entries of deleted classes are removed");
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testLoadIndexOfEachRootUntilItIsStale() throws IOException {
+    Path indexed = Files.createTempDirectory("test_index");
+    compile(indexed, "sample/BaseTest.java", BASE_TEST, "sample/SampleTest.java", SAMPLE_TEST);
+    Path notIndexed = Files.createTempDirectory("test_index");
+    compile(notIndexed, "sample/other/OtherTest.java", OTHER_TEST);
+    Files.delete(notIndexed.resolve("classes").resolve(CTestIndex.INDEX_RESOURCE));
+
+    URL indexedRoot = indexed.resolve("classes").toUri().toURL();
+    URL[] urls = {indexedRoot, notIndexed.resolve("classes").toUri().toURL()};
+    try (URLClassLoader loader = new URLClassLoader(urls, null)) {
+      Map<String, CList<CTestIndexEntry>> indexes = CTestIndex.load(loader);
+      CVerify.Object.equals(
+          indexes.keySet(), Set.of(indexedRoot.toString()), "Only the indexed root is loaded");
+      CVerify.Int.equals(indexes.get(indexedRoot.toString()).size(), 3, "Index is loaded");
+      CVerify.String.equals(
+          CTestIndex.getRoot(
+              loader.getResource("sample/SampleTest.class"), "sample/SampleTest.class"),
+          indexedRoot.toString(),
+          "Classes are matched with the root of their index");
+    }
+
+    Files.delete(indexed.resolve("classes/sample/SampleTest.class"));
+    try (URLClassLoader loader = new URLClassLoader(urls, null)) {
+      CVerify.Bool.isTrue(CTestIndex.load(loader).isEmpty(), "Stale index is not loaded");
+    }
+  }
+
+  private static void compile(Path root, String... pathAndSources) throws IOException {
+    Path classes = Files.createDirectories(root.resolve("classes"));
+    CList<File> files = new CList<>();
+    for (int i = 0; i < pathAndSources.length; i += 2) {
+      Path source = root.resolve("src").resolve(pathAndSources[i]);
+      Files.createDirectories(source.getParent());
+      Files.writeString(source, pathAndSources[i + 1]);
+      files.add(source.toFile());
+    }
+
+    String classpath =
+        System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"))
+            + File.pathSeparator
+            + classes;
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              null,
+              fileManager,
+              null,
+              List.of("-classpath", classpath, "-d", classes.toString()),
+              null,
+              fileManager.getJavaFileObjectsFromFiles(files));
+      task.setProcessors(List.of(new CTestIndexProcessor()));
+      CVerify.Bool.isTrue(task.call(), "Sources are compiled");
+    }
+  }
+
+  private static CList<CTestIndexEntry> readIndex(Path root) throws IOException {
+    try (Reader reader =
+        Files.newBufferedReader(root.resolve("classes").resolve(CTestIndex.INDEX_RESOURCE))) {
+      return CTestIndex.read(reader);
+    }
+  }
+}
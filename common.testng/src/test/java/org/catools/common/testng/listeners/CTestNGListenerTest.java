@@ -0,0 +1,108 @@
+package org.catools.common.testng.listeners;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.catools.common.annotations.CRegression;
+import org.catools.common.annotations.CSeverity;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.testng.CBaseUnitTest;
+import org.catools.common.testng.annotatoins.RALL1;
+import org.catools.common.testng.annotatoins.RALL2;
+import org.catools.common.testng.annotatoins.RALL3;
+import org.catools.common.testng.annotatoins.RANY1;
+import org.testng.IReporter;
+import org.testng.ISuite;
+import org.testng.ITestNGListener;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlSuite;
+
+public class CTestNGListenerTest extends CBaseUnitTest {
+  private static final List<String> calls = new ArrayList<>();
+  private final List<ITestNGListener> registered = new ArrayList<>();
+
+  @AfterClass(alwaysRun = true)
+  public void removeRegisteredListeners() {
+    // listeners are registered globally and would be called by the rest of the test run
+    CTestNGListener.removeListeners(registered.toArray(new ITestNGListener[0]));
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testDispatchInPriorityThenRegistrationOrder() {
+    addListeners(
+        new Reporter("plain1"),
+        new PriorityReporter("priority5", 5),
+        new Reporter("plain2"),
+        new PriorityReporter("priority1", 1));
+
+    synchronized (calls) {
+      calls.clear();
+      new CTestNGListener().generateReport(List.of(), List.of(), "");
+      CVerify.Object.equals(
+          new ArrayList<>(calls),
+          List.of("priority1", "priority5", "plain1", "plain2"),
+          "Listeners are called in dispatch order");
+    }
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testDoNotRegisterSameListenerTwice() {
+    ITestNGListener listener = new ITestNGListener() {};
+    addListeners(listener, listener);
+    addListeners(listener);
+
+    CVerify.Int.equals(
+        (int) CTestNGListener.getListeners().stream().filter(l -> l == listener).count(),
+        1,
+        "Listener is registered once");
+  }
+
+  private void addListeners(ITestNGListener... listeners) {
+    synchronized (registered) {
+      registered.addAll(List.of(listeners));
+    }
+    CTestNGListener.addListeners(listeners);
+  }
+
+  private static class Reporter implements IReporter {
+    private final String name;
+
+    private Reporter(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void generateReport(
+        List<XmlSuite> xmlSuites, List<ISuite> suites, String outputDirectory) {
+      synchronized (calls) {
+        calls.add(name);
+      }
+    }
+  }
+
+  private static class PriorityReporter extends Reporter implements CITestNGListener {
+    private final int priority;
+
+    private PriorityReporter(String name, int priority) {
+      super(name);
+      this.priority = priority;
+    }
+
+    @Override
+    public int priority() {
+      return priority;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package org.catools.common.testng.listeners;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import org.catools.common.annotations.CRegression;
+import org.catools.common.annotations.CSeverity;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.testng.CBaseUnitTest;
+import org.catools.common.testng.annotatoins.RALL1;
+import org.catools.common.testng.annotatoins.RALL2;
+import org.catools.common.testng.annotatoins.RALL3;
+import org.catools.common.testng.annotatoins.RANY1;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.Test;
+
+public class CTestResultAggregatorTest extends CBaseUnitTest {
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testKeepFinalAttemptOfEachInvocation() {
+    CTestResultAggregator aggregator = new CTestResultAggregator();
+    ITestResult failed = result("test1", true, ITestResult.FAILURE, 10, "row1");
+    ITestResult retried = result("test1", true, ITestResult.FAILURE, 20, "row1");
+    ITestResult passed = result("test1", true, ITestResult.SUCCESS, 5, "row2");
+    ITestResult skipped = result("test1", true, ITestResult.SKIP, 30, "row2");
+    ITestResult config = result("test1", false, ITestResult.SUCCESS, 1, "row1");
+    List.of(failed, retried, passed, skipped, config).forEach(aggregator::add);
+    aggregator.add(retried);
+
+    CVerify.Int.equals(aggregator.size(), 3, "One result is kept per invocation");
+    CVerify.Bool.isTrue(!aggregator.isKept(failed), "Earlier attempt is removed");
+    CVerify.Bool.isTrue(aggregator.isKept(retried), "Last attempt is kept");
+    CVerify.Bool.isTrue(aggregator.isKept(passed), "Passed result is kept");
+    CVerify.Bool.isTrue(!aggregator.isKept(skipped), "Skipped result after pass is removed");
+    CVerify.Bool.isTrue(aggregator.isKept(config), "Configuration is kept separately");
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testRemoveResultsOfPreviousExecution() {
+    CTestResultAggregator aggregator = new CTestResultAggregator();
+    ITestResult previous = result("test1", true, ITestResult.SUCCESS, 10, "row1");
+    ITestResult current = result("test1", true, ITestResult.FAILURE, 5, "row1");
+    aggregator.onTestSuccess(previous);
+
+    aggregator.onExecutionStart();
+    aggregator.onTestFailure(current);
+    CVerify.Int.equals(aggregator.size(), 1, "Only the current execution is kept");
+    CVerify.Bool.isTrue(aggregator.isKept(current), "Result of current execution is kept");
+  }
+
+  private static ITestResult result(
+      String methodName, boolean isTest, int status, long endMillis, Object... parameters) {
+    ITestNGMethod method =
+        (ITestNGMethod)
+            Proxy.newProxyInstance(
+                ITestNGMethod.class.getClassLoader(),
+                new Class<?>[] {ITestNGMethod.class},
+                (proxy, m, args) ->
+                    switch (m.getName()) {
+                      case "getMethodName" -> methodName;
+                      case "isTest" -> isTest;
+                      default -> null;
+                    });
+    return (ITestResult)
+        Proxy.newProxyInstance(
+            ITestResult.class.getClassLoader(),
+            new Class<?>[] {ITestResult.class},
+            (proxy, m, args) ->
+                switch (m.getName()) {
+                  case "getInstanceName" -> "org.catools.SampleTest";
+                  case "getMethod" -> method;
+                  case "getStatus" -> status;
+                  case "getEndMillis" -> endMillis;
+                  case "getParameters" -> parameters;
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  default -> null;
+                });
+  }
+}
@@ -0,0 +1,66 @@
+package org.catools.common.testng.model;
+
+import org.catools.common.annotations.CRegression;
+import org.catools.common.annotations.CSeverity;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.testng.CBaseUnitTest;
+import org.catools.common.testng.annotatoins.RALL1;
+import org.catools.common.testng.annotatoins.RALL2;
+import org.catools.common.testng.annotatoins.RALL3;
+import org.catools.common.testng.annotatoins.RANY1;
+import org.testng.annotations.Test;
+
+public class CDurationHistogramTest extends CBaseUnitTest {
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testPercentilesAreWithinRelativeError() {
+    CDurationHistogram histogram = new CDurationHistogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i);
+    }
+
+    CVerify.Long.equals(histogram.getCount(), 1000L, "All durations are recorded");
+    CVerify.Long.equals(histogram.getMax(), 1000L, "Max duration is recorded");
+    verifyWithinRelativeError(histogram.getPercentile(50), 500);
+    verifyWithinRelativeError(histogram.getPercentile(95), 950);
+    verifyWithinRelativeError(histogram.getPercentile(99), 990);
+    CVerify.Long.equals(histogram.getPercentile(100), 1000L, "P100 is the max duration");
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testSmallDurationsAreExact() {
+    CDurationHistogram histogram = new CDurationHistogram();
+    histogram.record(0);
+    histogram.record(3);
+    histogram.record(7);
+    histogram.record(-1);
+
+    CVerify.Long.equals(histogram.getCount(), 3L, "Negative duration is ignored");
+    CVerify.Long.equals(histogram.getPercentile(50), 3L, "Median is exact");
+
+    histogram.reset();
+    CVerify.Long.equals(histogram.getPercentile(50), 0L, "Nothing is recorded after reset");
+  }
+
+  private static void verifyWithinRelativeError(long actual, long expected) {
+    CVerify.Long.betweenInclusive(
+        actual,
+        expected,
+        (long) Math.ceil(expected * 1.125),
+        "Percentile %d is within 12.5%% of %d",
+        actual,
+        expected);
+  }
+}
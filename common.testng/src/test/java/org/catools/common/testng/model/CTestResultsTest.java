@@ -0,0 +1,38 @@
+package org.catools.common.testng.model;
+
+import org.catools.common.annotations.CRegression;
+import org.catools.common.annotations.CSeverity;
+import org.catools.common.date.CDate;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.testng.CBaseUnitTest;
+import org.catools.common.testng.annotatoins.RALL1;
+import org.catools.common.testng.annotatoins.RALL2;
+import org.catools.common.testng.annotatoins.RALL3;
+import org.catools.common.testng.annotatoins.RANY1;
+import org.catools.common.utils.CJsonUtil;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+
+public class CTestResultsTest extends CBaseUnitTest {
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testReadWrittenResults() {
+    CTestResult result = new CTestResult(Reporter.getCurrentTestResult());
+    result.setStartTime(new CDate(1_700_000_000_000L));
+
+    String json = CJsonUtil.toString(new CTestResults(result));
+    CTestResults loaded = CJsonUtil.read(json, CTestResults.class);
+
+    CVerify.Int.equals(loaded.size(), 1, "Results are read");
+    CVerify.String.equals(
+        loaded.get(0).getMethodName(), "testReadWrittenResults", "Method name is read");
+    CVerify.Long.equals(
+        loaded.get(0).getStartTime().getTime(), 1_700_000_000_000L, "Start time is read");
+  }
+}
@@ -0,0 +1,167 @@
+package org.catools.common.testng.utils;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import org.catools.common.annotations.CRegression;
+import org.catools.common.annotations.CSeverity;
+import org.catools.common.collections.CList;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.testng.CBaseUnitTest;
+import org.catools.common.testng.annotatoins.RALL1;
+import org.catools.common.testng.annotatoins.RALL2;
+import org.catools.common.testng.annotatoins.RALL3;
+import org.catools.common.testng.annotatoins.RANY1;
+import org.catools.common.testng.model.CMethodDurationHistory;
+import org.testng.IMethodInstance;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlSuite;
+
+public class CTestScheduleUtilTest extends CBaseUnitTest {
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testScheduleLongestClassFirst() {
+    CMethodDurationHistory history = new CMethodDurationHistory();
+    history.record(String.class.getName(), "a1", 100);
+    history.record(String.class.getName(), "a2", 100);
+    history.record(Integer.class.getName(), "b1", 1000);
+
+    List<IMethodInstance> list =
+        List.of(
+            instance(String.class, "a1", 0),
+            instance(Integer.class, "b1", 0),
+            instance(Long.class, "c1", 0),
+            instance(String.class, "a2", 0));
+
+    List<IMethodInstance> scheduled =
+        CTestScheduleUtil.scheduleByDuration(list, XmlSuite.ParallelMode.CLASSES, 2, history);
+
+    // methods without history are expected to take the average duration, 400 ms
+    CVerify.String.equals(names(scheduled), "b1,c1,a1,a2", "Classes start longest first");
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testKeepPriorityAndDependencies() {
+    CMethodDurationHistory history = new CMethodDurationHistory();
+    history.record(Short.class.getName(), "first", 10);
+    history.record(String.class.getName(), "login", 50);
+    history.record(String.class.getName(), "logout", 50);
+    history.record(Integer.class.getName(), "report", 80);
+    history.record(Long.class.getName(), "upload", 500);
+
+    List<IMethodInstance> list =
+        List.of(
+            instance(Short.class, "first", -1),
+            instance(String.class, "login", 0),
+            instance(Integer.class, "report", 0),
+            instance(String.class, "logout", 0, "login"),
+            instance(Long.class, "upload", 0));
+
+    List<IMethodInstance> scheduled =
+        CTestScheduleUtil.scheduleByDuration(list, XmlSuite.ParallelMode.METHODS, 4, history);
+
+    CVerify.String.equals(
+        names(scheduled),
+        "first,upload,login,logout,report",
+        "Methods start by priority then longest first, dependent methods stay together");
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testKeepOrderWhenNotParallel() {
+    CMethodDurationHistory history = new CMethodDurationHistory();
+    history.record(Integer.class.getName(), "b1", 1000);
+    List<IMethodInstance> list =
+        List.of(instance(String.class, "a1", 0), instance(Integer.class, "b1", 0));
+
+    CVerify.String.equals(
+        names(CTestScheduleUtil.scheduleByDuration(list, XmlSuite.ParallelMode.NONE, 4, history)),
+        "a1,b1",
+        "Order is kept without parallel execution");
+    CVerify.String.equals(
+        names(
+            CTestScheduleUtil.scheduleByDuration(list, XmlSuite.ParallelMode.METHODS, 1, history)),
+        "a1,b1",
+        "Order is kept with a single thread");
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testReadAndWriteHistory() throws Exception {
+    CMethodDurationHistory history = new CMethodDurationHistory();
+    history.record("org.catools.SampleTest", "testLogin", 1000);
+    history.record("org.catools.SampleTest", "testLogin", 2000);
+
+    StringWriter writer = new StringWriter();
+    history.write(writer);
+    CMethodDurationHistory loaded = new CMethodDurationHistory();
+    loaded.read(new StringReader(writer.toString()));
+
+    CVerify.Long.equals(
+        loaded.getDuration("org.catools.SampleTest", "testLogin"),
+        1500L,
+        "Expected duration is the average of the runs");
+    CVerify.Bool.isTrue(
+        loaded.getDuration("org.catools.SampleTest", "testLogout") == null,
+        "Unknown method has no duration");
+  }
+
+  private static String names(List<IMethodInstance> list) {
+    return new CList<>(list).join(m -> m.getMethod().getMethodName(), ",");
+  }
+
+  private static IMethodInstance instance(
+      Class<?> realClass, String methodName, int priority, String... dependsOn) {
+    ITestNGMethod method =
+        (ITestNGMethod)
+            Proxy.newProxyInstance(
+                ITestNGMethod.class.getClassLoader(),
+                new Class<?>[] {ITestNGMethod.class},
+                (proxy, m, args) ->
+                    switch (m.getName()) {
+                      case "getRealClass" -> realClass;
+                      case "getMethodName" -> methodName;
+                      case "getPriority" -> priority;
+                      case "getMethodsDependedUpon" -> dependsOn;
+                      case "getGroupsDependedUpon" -> new String[0];
+                      case "hashCode" -> System.identityHashCode(proxy);
+                      case "equals" -> proxy == args[0];
+                      default -> null;
+                    });
+    return (IMethodInstance)
+        Proxy.newProxyInstance(
+            IMethodInstance.class.getClassLoader(),
+            new Class<?>[] {IMethodInstance.class},
+            (proxy, m, args) ->
+                switch (m.getName()) {
+                  case "getMethod" -> method;
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  default -> null;
+                });
+  }
+}
@@ -0,0 +1,33 @@
+package org.catools.common.testng.utils;
+
+import org.testng.annotations.Test;
+
+/** Classes with dependencies between each other for {@link CXmlSuiteUtilsTest}, never run. */
+public class CXmlSuiteShardSamples {
+  public static class GroupProvider {
+    @Test(groups = "shard.setup")
+    public void provide() {}
+  }
+
+  @Test(dependsOnGroups = "shard\\..*")
+  public static class GroupConsumer {
+    public void consume() {}
+  }
+
+  public static class MethodProvider {
+    @Test
+    public void provide() {}
+  }
+
+  public static class MethodConsumer {
+    @Test(
+        dependsOnMethods =
+            "org.catools.common.testng.utils.CXmlSuiteShardSamples$MethodProvider.provide")
+    public void consume() {}
+  }
+
+  public static class Independent {
+    @Test
+    public void run() {}
+  }
+}
@@ -1,9 +1,17 @@
 package org.catools.common.testng.utils;
 
+import java.util.List;
+import java.util.Map;
+import org.catools.common.annotations.CRegression;
+import org.catools.common.annotations.CSeverity;
 import org.catools.common.collections.CHashMap;
+import org.catools.common.collections.CList;
 import org.catools.common.collections.CSet;
 import org.catools.common.extensions.verify.CVerify;
 import org.catools.common.io.CResource;
+import org.catools.common.testng.annotatoins.RALL1;
+import org.catools.common.testng.annotatoins.RALL2;
+import org.catools.common.testng.annotatoins.RALL3;
 import org.catools.common.testng.annotatoins.RANY1;
 import org.catools.common.tests.CTest;
 import org.testng.annotations.Test;
@@ -41,4 +49,83 @@ public class CXmlSuiteUtilsTest extends CTest {
     CVerify.String.equalsIgnoreWhiteSpaces(
         actual, expected, "TestNg auto generated xml files matched");
   }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testSplitIntoShards() {
+    CHashMap<String, CSet<String>> testClasses = new CHashMap<>();
+    testClasses.put("Api", new CSet<>("java.lang.String", "java.lang.Integer", "java.lang.Long"));
+    testClasses.put("Ui", new CSet<>("java.lang.Short", "java.lang.Byte"));
+    XmlSuite suite = CXmlSuiteUtils.buildTestSuiteForClasses(testClasses, "Sharded Suite", null);
+    Map<String, Long> weights =
+        Map.of(
+            "java.lang.String", 50L,
+            "java.lang.Integer", 30L,
+            "java.lang.Long", 20L,
+            "java.lang.Short", 40L,
+            "java.lang.Byte", 10L);
+
+    CList<CList<XmlSuite>> shards =
+        CXmlSuiteUtils.splitIntoShards(List.of(suite), 2, c -> weights.get(c.getName()));
+
+    // heaviest first to the lightest shard: String, Short, Integer, Long and Byte on equal load
+    CVerify.Int.equals(shards.size(), 2, "Suite is split into 2 shards");
+    CVerify.String.equals(
+        classNames(shards.get(0)), "java.lang.Byte,java.lang.Long,java.lang.String", "Shard 1");
+    CVerify.String.equals(
+        classNames(shards.get(1)), "java.lang.Integer,java.lang.Short", "Shard 2");
+    CVerify.String.equals(
+        shards.get(1).get(0).getName(), "Sharded Suite", "Suite settings are copied");
+    CVerify.Int.equals(suite.getTests().size(), 2, "Original suite is not changed");
+    CVerify.Int.equals(
+        CXmlSuiteUtils.splitIntoShards(List.of(suite), 10, c -> 1).size(),
+        5,
+        "Empty shards are dropped");
+  }
+
+  @Test
+  @RALL1
+  @RALL2
+  @RALL3
+  @RANY1
+  @CRegression(depth = 1)
+  @CSeverity(level = 1)
+  public void testSplitIntoShardsKeepsDependentClassesTogether() {
+    String prefix = CXmlSuiteShardSamples.class.getName() + "$";
+    CHashMap<String, CSet<String>> testClasses = new CHashMap<>();
+    testClasses.put(
+        "Dependencies",
+        new CSet<>(
+            prefix + "GroupProvider",
+            prefix + "GroupConsumer",
+            prefix + "MethodProvider",
+            prefix + "MethodConsumer",
+            prefix + "Independent"));
+    XmlSuite suite = CXmlSuiteUtils.buildTestSuiteForClasses(testClasses, "Linked Suite", null);
+
+    CList<CList<XmlSuite>> shards = CXmlSuiteUtils.splitIntoShards(List.of(suite), 5, c -> 1);
+
+    CVerify.Int.equals(shards.size(), 3, "Linked classes share a shard");
+    CList<String> shardClasses = shards.mapToList(CXmlSuiteUtilsTest::classNames);
+    CVerify.Collection.containsAll(
+        shardClasses,
+        List.of(
+            prefix + "GroupConsumer," + prefix + "GroupProvider",
+            prefix + "MethodConsumer," + prefix + "MethodProvider",
+            prefix + "Independent"),
+        "Classes linked by groups or methods are in the same shard");
+  }
+
+  private static String classNames(CList<XmlSuite> suites) {
+    CList<String> names = new CList<>();
+    suites.forEach(
+        s -> s.getTests().forEach(t -> t.getXmlClasses().forEach(c -> names.add(c.getName()))));
+    names.sort(String::compareTo);
+    return names.join(",");
+  }
 }
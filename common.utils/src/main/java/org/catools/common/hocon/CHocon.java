@@ -39,7 +39,7 @@ public class CHocon {
     return CONFIG.entrySet().stream().filter(entry -> entry.getValue().origin().resource() != null);
   }
 
-  public static Config getConfig() {
+  public static synchronized Config getConfig() {
     if (CONFIG == null) {
       try {
         reload();
@@ -38,6 +38,16 @@ public class CSensitiveDataMaskingManager {
         });
   }
 
+  public static void removeMask(final String... masks) {
+    doAction(
+        (maskList, ignoreList) -> {
+          for (String mask : masks) {
+            maskList.remove(mask);
+          }
+          return true;
+        });
+  }
+
   public static void ignore(final String... inputs) {
     doAction(
         (maskList, ignoreList) -> {
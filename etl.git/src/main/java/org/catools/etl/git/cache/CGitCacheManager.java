@@ -1,6 +1,11 @@
 package org.catools.etl.git.cache;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 import org.catools.common.collections.CHashMap;
 import org.catools.common.collections.interfaces.CMap;
@@ -72,6 +77,50 @@ public class CGitCacheManager {
         });
   }
 
+  public static synchronized void loadUsers(Collection<String> names) {
+    Set<String> missing = getMissingKeys(USERS, names);
+    if (missing.isEmpty()) {
+      return;
+    }
+
+    CGitUserDao.getByNames(missing).forEach(user -> USERS.put(user.getName(), user));
+    List<CGitUser> newUsers =
+        getMissingKeys(USERS, missing).stream().map(CGitUser::new).collect(Collectors.toList());
+    CGitUserDao.mergeAll(newUsers).forEach(user -> USERS.put(user.getName(), user));
+  }
+
+  public static synchronized void loadBranches(Map<String, String> namesByHash) {
+    Set<String> missing = getMissingKeys(BRANCHES, namesByHash.keySet());
+    if (missing.isEmpty()) {
+      return;
+    }
+
+    CGitBranchDao.getByHashes(missing).forEach(branch -> BRANCHES.put(branch.getHash(), branch));
+    List<CGitBranch> newBranches =
+        getMissingKeys(BRANCHES, missing).stream()
+            .map(hash -> new CGitBranch(hash, namesByHash.get(hash)))
+            .collect(Collectors.toList());
+    CGitBranchDao.mergeAll(newBranches).forEach(branch -> BRANCHES.put(branch.getHash(), branch));
+  }
+
+  public static synchronized void loadTags(Map<String, String> namesByHash) {
+    Set<String> missing = getMissingKeys(TAGS, namesByHash.keySet());
+    if (missing.isEmpty()) {
+      return;
+    }
+
+    CGitTagDao.getByHashes(missing).forEach(tag -> TAGS.put(tag.getHash(), tag));
+    List<CGitTag> newTags =
+        getMissingKeys(TAGS, missing).stream()
+            .map(hash -> new CGitTag(hash, namesByHash.get(hash)))
+            .collect(Collectors.toList());
+    CGitTagDao.mergeAll(newTags).forEach(tag -> TAGS.put(tag.getHash(), tag));
+  }
+
+  private static <T> Set<String> getMissingKeys(CMap<String, T> storage, Collection<String> keys) {
+    return keys.stream().filter(key -> !storage.containsKey(key)).collect(Collectors.toSet());
+  }
+
   private static synchronized <T> T read(
       CMap<String, T> storage, String key, Supplier<T> getValue) {
     return storage.computeIfAbsent(key, k -> getValue.get());
@@ -15,10 +15,30 @@ public class CGitConfigs {
     return CHocon.asList(Configs.CATOOLS_GIT_REPOS, CGitConfigRepo.class);
   }
 
+  public static int getDiffRenameLimit() {
+    return CHocon.asInteger(Configs.CATOOLS_GIT_DIFF_RENAME_LIMIT);
+  }
+
+  public static int getDiffBigFileThreshold() {
+    return CHocon.asInteger(Configs.CATOOLS_GIT_DIFF_BIG_FILE_THRESHOLD);
+  }
+
+  public static int getCommitQueueSize() {
+    return CHocon.asInteger(Configs.CATOOLS_GIT_COMMIT_QUEUE_SIZE);
+  }
+
+  public static int getCommitBatchSize() {
+    return CHocon.asInteger(Configs.CATOOLS_GIT_COMMIT_BATCH_SIZE);
+  }
+
   @Getter
   @AllArgsConstructor
   private enum Configs implements CHoconPath {
-    CATOOLS_GIT_REPOS("catools.git.repos");
+    CATOOLS_GIT_REPOS("catools.git.repos"),
+    CATOOLS_GIT_DIFF_RENAME_LIMIT("catools.git.diff.rename_limit"),
+    CATOOLS_GIT_DIFF_BIG_FILE_THRESHOLD("catools.git.diff.big_file_threshold"),
+    CATOOLS_GIT_COMMIT_QUEUE_SIZE("catools.git.commit_queue_size"),
+    CATOOLS_GIT_COMMIT_BATCH_SIZE("catools.git.commit_batch_size");
 
     private final String path;
   }
@@ -1,6 +1,9 @@
 package org.catools.etl.git.dao;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.EntityTransaction;
@@ -24,6 +27,11 @@ public class CGitBaseDao {
     return doTransaction(session -> session.merge(record));
   }
 
+  public static <T> List<T> mergeAll(Collection<T> records) {
+    return doTransaction(
+        session -> records.stream().map(session::merge).collect(Collectors.toList()));
+  }
+
   public static <T> T doTransaction(Function<EntityManager, T> action) {
     EntityManager session = getEntityManager();
     EntityTransaction tx = null;
@@ -1,5 +1,7 @@
 package org.catools.etl.git.dao;
 
+import java.util.Collection;
+import java.util.List;
 import org.catools.etl.git.model.CGitBranch;
 import org.hibernate.annotations.QueryHints;
 
@@ -15,4 +17,13 @@ public class CGitBranchDao extends CGitBaseDao {
                 .findFirst()
                 .orElse(null));
   }
+
+  public static List<CGitBranch> getByHashes(Collection<String> hashes) {
+    return doTransaction(
+        entityManager ->
+            entityManager
+                .createQuery("FROM CGitBranch where hash in :hashes", CGitBranch.class)
+                .setParameter("hashes", hashes)
+                .getResultList());
+  }
 }
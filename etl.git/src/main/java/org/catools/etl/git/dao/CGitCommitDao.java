@@ -1,8 +1,40 @@
 package org.catools.etl.git.dao;
 
+import static org.catools.etl.git.configs.CGitConfigs.GIT_SCHEMA;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.catools.etl.git.exception.CGitApiException;
+import org.catools.etl.git.model.CGitBranch;
 import org.catools.etl.git.model.CGitCommit;
+import org.catools.etl.git.model.CGitFileChange;
+import org.catools.etl.git.model.CGitTag;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
 
 public class CGitCommitDao extends CGitBaseDao {
+  private static final String INSERT_COMMIT =
+      "insert into "
+          + GIT_SCHEMA
+          + ".commit (hash, short_message, full_message, commit_time, author_id, committer_id,"
+          + " repository_id) values (?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_FILE_CHANGE =
+      "insert into "
+          + GIT_SCHEMA
+          + ".file_change (commit_id, path, new_path, inserted, deleted) values (?, ?, ?, ?, ?)";
+  private static final String INSERT_COMMIT_BRANCH =
+      "insert into " + GIT_SCHEMA + ".commit_branch_mid (commit_id, branch_id) values (?, ?)";
+  private static final String INSERT_COMMIT_TAG =
+      "insert into " + GIT_SCHEMA + ".commit_tag_mid (commit_id, tag_id) values (?, ?)";
+  private static final int DEFAULT_BATCH_SIZE = 100;
+
   public static CGitCommit getByHash(String hash) {
     return doTransaction(
         entityManager ->
@@ -13,4 +45,147 @@ public class CGitCommitDao extends CGitBaseDao {
                 .findFirst()
                 .orElse(null));
   }
+
+  /**
+   * Insert commits with their file changes, branches and tags in one transaction using JDBC batches
+   * of {@code hibernate.jdbc.batch_size} statements. Author, committer, repository, branches and
+   * tags should already be persisted.
+   *
+   * @param commits the commits to insert
+   */
+  public static void insertAll(Collection<CGitCommit> commits) {
+    if (commits.isEmpty()) {
+      return;
+    }
+
+    doTransaction(
+        entityManager -> {
+          int batchSize = getBatchSize(entityManager);
+          entityManager
+              .unwrap(Session.class)
+              .doWork(
+                  connection -> {
+                    insertCommits(connection, commits, batchSize);
+                    insertFileChanges(connection, commits, batchSize);
+                    insertBranches(connection, commits, batchSize);
+                    insertTags(connection, commits, batchSize);
+                  });
+          return true;
+        });
+  }
+
+  private static void insertCommits(
+      Connection connection, Collection<CGitCommit> commits, int batchSize) throws SQLException {
+    try (PreparedStatement statement =
+        connection.prepareStatement(INSERT_COMMIT, new String[] {"id"})) {
+      List<CGitCommit> batch = new ArrayList<>();
+      for (CGitCommit commit : commits) {
+        statement.setString(1, commit.getHash());
+        statement.setString(2, commit.getShortMessage());
+        statement.setString(3, commit.getFullMessage());
+        statement.setTimestamp(4, new Timestamp(commit.getCommitTime().getTime()));
+        statement.setInt(5, commit.getAuthor().getId());
+        statement.setInt(6, commit.getCommitter().getId());
+        statement.setInt(7, commit.getRepository().getId());
+        statement.addBatch();
+        batch.add(commit);
+
+        if (batch.size() == batchSize) {
+          executeAndReadIds(statement, batch);
+        }
+      }
+      executeAndReadIds(statement, batch);
+    }
+  }
+
+  private static void executeAndReadIds(PreparedStatement statement, List<CGitCommit> batch)
+      throws SQLException {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    statement.executeBatch();
+    try (ResultSet keys = statement.getGeneratedKeys()) {
+      for (CGitCommit commit : batch) {
+        if (!keys.next()) {
+          throw new CGitApiException("Failed to read generated id for commit " + commit.getHash());
+        }
+        commit.setId(keys.getInt(1));
+      }
+    }
+    batch.clear();
+  }
+
+  private static void insertFileChanges(
+      Connection connection, Collection<CGitCommit> commits, int batchSize) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(INSERT_FILE_CHANGE)) {
+      int pending = 0;
+      for (CGitCommit commit : commits) {
+        for (CGitFileChange fileChange : commit.getFileChanges()) {
+          statement.setInt(1, commit.getId());
+          statement.setString(2, fileChange.getPath());
+          statement.setString(3, fileChange.getNewPath());
+          statement.setInt(4, fileChange.getInserted());
+          statement.setInt(5, fileChange.getDeleted());
+          pending = addBatch(statement, pending, batchSize);
+        }
+      }
+      executeBatch(statement, pending);
+    }
+  }
+
+  private static void insertBranches(
+      Connection connection, Collection<CGitCommit> commits, int batchSize) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(INSERT_COMMIT_BRANCH)) {
+      int pending = 0;
+      for (CGitCommit commit : commits) {
+        for (CGitBranch branch : commit.getBranches()) {
+          statement.setInt(1, commit.getId());
+          statement.setInt(2, branch.getId());
+          pending = addBatch(statement, pending, batchSize);
+        }
+      }
+      executeBatch(statement, pending);
+    }
+  }
+
+  private static void insertTags(
+      Connection connection, Collection<CGitCommit> commits, int batchSize) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(INSERT_COMMIT_TAG)) {
+      int pending = 0;
+      for (CGitCommit commit : commits) {
+        for (CGitTag tag : commit.getTags()) {
+          statement.setInt(1, commit.getId());
+          statement.setInt(2, tag.getId());
+          pending = addBatch(statement, pending, batchSize);
+        }
+      }
+      executeBatch(statement, pending);
+    }
+  }
+
+  private static int addBatch(PreparedStatement statement, int pending, int batchSize)
+      throws SQLException {
+    statement.addBatch();
+    if (++pending < batchSize) {
+      return pending;
+    }
+    statement.executeBatch();
+    return 0;
+  }
+
+  private static void executeBatch(PreparedStatement statement, int pending) throws SQLException {
+    if (pending > 0) {
+      statement.executeBatch();
+    }
+  }
+
+  private static int getBatchSize(EntityManager entityManager) {
+    Object batchSize =
+        entityManager
+            .getEntityManagerFactory()
+            .getProperties()
+            .get(AvailableSettings.STATEMENT_BATCH_SIZE);
+    return batchSize == null ? DEFAULT_BATCH_SIZE : Integer.parseInt(batchSize.toString());
+  }
 }
@@ -1,5 +1,7 @@
 package org.catools.etl.git.dao;
 
+import java.util.Collection;
+import java.util.List;
 import org.catools.etl.git.model.CGitTag;
 import org.hibernate.annotations.QueryHints;
 
@@ -15,4 +17,13 @@ public class CGitTagDao extends CGitBaseDao {
                 .findFirst()
                 .orElse(null));
   }
+
+  public static List<CGitTag> getByHashes(Collection<String> hashes) {
+    return doTransaction(
+        entityManager ->
+            entityManager
+                .createQuery("FROM CGitTag where hash in :hashes", CGitTag.class)
+                .setParameter("hashes", hashes)
+                .getResultList());
+  }
 }
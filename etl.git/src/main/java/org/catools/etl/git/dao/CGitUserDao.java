@@ -1,5 +1,7 @@
 package org.catools.etl.git.dao;
 
+import java.util.Collection;
+import java.util.List;
 import org.catools.etl.git.model.CGitUser;
 import org.hibernate.annotations.QueryHints;
 
@@ -15,4 +17,13 @@ public class CGitUserDao extends CGitBaseDao {
                 .findFirst()
                 .orElse(null));
   }
+
+  public static List<CGitUser> getByNames(Collection<String> names) {
+    return doTransaction(
+        entityManager ->
+            entityManager
+                .createQuery("FROM CGitUser where name in :names", CGitUser.class)
+                .setParameter("names", names)
+                .getResultList());
+  }
 }
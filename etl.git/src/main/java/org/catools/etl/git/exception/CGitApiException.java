@@ -4,6 +4,10 @@ import org.catools.common.exception.CRuntimeException;
 
 public class CGitApiException extends CRuntimeException {
 
+  public CGitApiException(String message) {
+    super(message);
+  }
+
   public CGitApiException(String message, Throwable t) {
     super(message, t);
   }
@@ -4,6 +4,10 @@ import org.catools.common.exception.CRuntimeException;
 
 public class CGitClientException extends CRuntimeException {
 
+  public CGitClientException(String message) {
+    super(message);
+  }
+
   public CGitClientException(String message, Throwable t) {
     super(message, t);
   }
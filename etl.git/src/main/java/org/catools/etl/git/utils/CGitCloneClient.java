@@ -2,33 +2,26 @@ package org.catools.etl.git.utils;
 
 import java.util.Date;
 import lombok.experimental.UtilityClass;
-import lombok.extern.slf4j.Slf4j;
-import org.catools.common.configs.CPathConfigs;
-import org.catools.common.extensions.verify.CVerify;
-import org.catools.common.io.CFile;
-import org.catools.etl.git.exception.CGitClientException;
-import org.eclipse.jgit.api.CloneCommand;
 import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.errors.GitAPIException;
-import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 
-@Slf4j
 @UtilityClass
 public class CGitCloneClient {
 
   /**
-   * Clone repository from specified url to the directory in storage with repository name.
+   * Clone repository from specified url to the mirror directory in storage with repository name. If
+   * the mirror already exists only the new objects are fetched.
    *
    * @param name repository/directory name
    * @param url the source repository to clone
    * @return JGit client to work with
    */
   public static Git clone(String name, String url) {
-    return clone(name, url, Git.cloneRepository().setURI(url));
+    return clone(name, url, new CGitMirrorOptions());
   }
 
   /**
-   * Clone repository from specified url to the directory in storage with repository name.
+   * Clone repository from specified url to the mirror directory in storage with repository name. If
+   * the mirror already exists only the new objects are fetched.
    *
    * @param name repository/directory name
    * @param url the source repository to clone
@@ -37,16 +30,12 @@ public class CGitCloneClient {
    * @return JGit client to work with
    */
   public static Git clone(String name, String url, String username, String password) {
-    CloneCommand command =
-        Git.cloneRepository()
-            .setURI(url)
-            .setCredentialsProvider(new UsernamePasswordCredentialsProvider(username, password));
-    return clone(name, url, command);
+    return clone(name, url, new CGitMirrorOptions(username, password));
   }
 
   /**
-   * Shallow clone repository after specified date, from specified url to the directory in storage
-   * with repository name.
+   * Shallow clone repository after specified date, from specified url to the mirror directory in
+   * storage with repository name. If the mirror already exists only the new objects are fetched.
    *
    * @param name repository/directory name
    * @param url the source repository to clone
@@ -54,13 +43,14 @@ public class CGitCloneClient {
    * @return JGit client to work with
    */
   public static Git shallowClone(String name, String url, Date since) {
-    CloneCommand command = Git.cloneRepository().setShallowSince(since.toInstant()).setURI(url);
-    return clone(name, url, command);
+    CGitMirrorOptions options = new CGitMirrorOptions();
+    options.setShallowSince(since);
+    return clone(name, url, options);
   }
 
   /**
-   * Shallow clone repository after specified date, from specified url to the directory in storage
-   * with repository name.
+   * Shallow clone repository after specified date, from specified url to the mirror directory in
+   * storage with repository name. If the mirror already exists only the new objects are fetched.
    *
    * @param name repository/directory name
    * @param url the source repository to clone
@@ -71,36 +61,21 @@ public class CGitCloneClient {
    */
   public static Git shallowClone(
       String name, String url, String username, String password, Date since) {
-    CloneCommand command =
-        Git.cloneRepository()
-            .setURI(url)
-            .setShallowSince(since.toInstant())
-            .setCredentialsProvider(new UsernamePasswordCredentialsProvider(username, password));
-    return clone(name, url, command);
+    CGitMirrorOptions options = new CGitMirrorOptions(username, password);
+    options.setShallowSince(since);
+    return clone(name, url, options);
   }
 
-  private static synchronized Git clone(String name, String url, CloneCommand command) {
-    CFile gitDir = cleanupLocalFolder(name);
-
-    try {
-      log.info("Start cloning {} repository from {}.", name, url);
-      return command.setDirectory(gitDir).call();
-    } catch (GitAPIException e) {
-      throw new CGitClientException("Failed to clone the git repository", e);
-    } finally {
-      log.info("Finish cloning {} repository from {}.", name, url);
-    }
-  }
-
-  private static CFile cleanupLocalFolder(String name) {
-    CFile gitDir = CFile.of(CPathConfigs.fromStorage(name));
-
-    if (gitDir.exists()) {
-      CVerify.Bool.isTrue(
-          gitDir.forceDelete(),
-          "Local repository removed successfully. location: {}",
-          gitDir.getCanonicalPath());
-    }
-    return gitDir;
+  /**
+   * Clone repository from specified url to the mirror directory in storage with repository name. If
+   * the mirror already exists only the new objects are fetched.
+   *
+   * @param name repository/directory name
+   * @param url the source repository to clone
+   * @param options the mirror options
+   * @return JGit client to work with
+   */
+  public static Git clone(String name, String url, CGitMirrorOptions options) {
+    return CGitMirrorManager.sync(name, url, options);
   }
 }
@@ -0,0 +1,103 @@
+package org.catools.etl.git.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.catools.etl.git.cache.CGitCacheManager;
+import org.catools.etl.git.dao.CGitCommitDao;
+import org.catools.etl.git.model.CGitCommit;
+
+/**
+ * Accumulate commits and save them in batches.
+ *
+ * <p>Authors, committers, branches and tags of the added commits can be transient entities, they
+ * are resolved for the whole batch through {@link CGitCacheManager} before the batch is inserted by
+ * {@link CGitCommitDao#insertAll}.
+ *
+ * <p>The writer is not thread safe, each worker thread should have its own instance.
+ */
+@Slf4j
+public class CGitCommitWriter {
+  private final int batchSize;
+  private final List<CGitCommit> batch = new ArrayList<>();
+  private final long startTime = System.nanoTime();
+
+  @Getter private long totalCommits;
+
+  public CGitCommitWriter(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Add commit to the current batch and save the batch if it is full.
+   *
+   * @param commit the commit to save
+   */
+  public void add(CGitCommit commit) {
+    batch.add(commit);
+    if (batch.size() >= batchSize) {
+      flush();
+    }
+  }
+
+  /** Save all commits in the current batch. */
+  public void flush() {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    resolveRelations();
+    CGitCommitDao.insertAll(batch);
+    totalCommits += batch.size();
+    batch.clear();
+
+    log.info("{} commits saved, {} commits per second.", totalCommits, getCommitsPerSecond());
+  }
+
+  /**
+   * The average number of saved commits per second since the writer has been created.
+   *
+   * @return commits per second
+   */
+  public long getCommitsPerSecond() {
+    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    return elapsed == 0 ? totalCommits : totalCommits * 1000 / elapsed;
+  }
+
+  private void resolveRelations() {
+    Set<String> users = new HashSet<>();
+    Map<String, String> branches = new HashMap<>();
+    Map<String, String> tags = new HashMap<>();
+
+    for (CGitCommit commit : batch) {
+      users.add(commit.getAuthor().getName());
+      users.add(commit.getCommitter().getName());
+      commit.getBranches().forEach(b -> branches.putIfAbsent(b.getHash(), b.getName()));
+      commit.getTags().forEach(t -> tags.putIfAbsent(t.getHash(), t.getName()));
+    }
+
+    CGitCacheManager.loadUsers(users);
+    CGitCacheManager.loadBranches(branches);
+    CGitCacheManager.loadTags(tags);
+
+    for (CGitCommit commit : batch) {
+      commit.setAuthor(CGitCacheManager.getUser(commit.getAuthor().getName()));
+      commit.setCommitter(CGitCacheManager.getUser(commit.getCommitter().getName()));
+      commit.setBranches(
+          commit.getBranches().stream()
+              .map(b -> CGitCacheManager.getBranch(b.getHash(), b.getName()))
+              .collect(Collectors.toList()));
+      commit.setTags(
+          commit.getTags().stream()
+              .map(t -> CGitCacheManager.getTag(t.getHash(), t.getName()))
+              .collect(Collectors.toList()));
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package org.catools.etl.git.utils;
+
+import java.io.IOException;
+import org.catools.etl.git.model.CGitCommit;
+import org.catools.etl.git.model.CGitFileChange;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.diff.Edit;
+import org.eclipse.jgit.diff.RawTextComparator;
+import org.eclipse.jgit.diff.RenameDetector;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevTree;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.CanonicalTreeParser;
+import org.eclipse.jgit.util.io.NullOutputStream;
+
+/**
+ * Read file changes of commits using one {@link ObjectReader}, {@link DiffFormatter} and {@link
+ * RenameDetector} for all commits.
+ *
+ * <p>The extractor is not thread safe, each worker thread should have its own instance and close it
+ * when it is done.
+ */
+public class CGitDiffExtractor implements AutoCloseable {
+  private final ObjectReader reader;
+  private final RevWalk walk;
+  private final DiffFormatter diffFormatter;
+  private final CanonicalTreeParser parentTree = new CanonicalTreeParser();
+  private final CanonicalTreeParser commitTree = new CanonicalTreeParser();
+
+  /**
+   * Create diff extractor for the repository.
+   *
+   * @param repo the repository to read diffs from
+   * @param renameLimit the maximum number of added/deleted file pairs to compare for renames
+   * @param bigFileThreshold files bigger than this size in bytes are treated as binary
+   */
+  public CGitDiffExtractor(Repository repo, int renameLimit, int bigFileThreshold) {
+    this.reader = repo.newObjectReader();
+    this.walk = new RevWalk(reader);
+    this.diffFormatter = new DiffFormatter(NullOutputStream.INSTANCE);
+    diffFormatter.setReader(reader, repo.getConfig());
+    diffFormatter.setDiffComparator(RawTextComparator.WS_IGNORE_ALL);
+    diffFormatter.setBinaryFileThreshold(bigFileThreshold);
+    diffFormatter.setDetectRenames(true);
+
+    RenameDetector renameDetector = diffFormatter.getRenameDetector();
+    renameDetector.setRenameLimit(renameLimit);
+    renameDetector.setBigFileThreshold(bigFileThreshold);
+    renameDetector.setSkipContentRenamesForBinaryFiles(true);
+  }
+
+  /**
+   * Add the file changes between commit and each of its parents to the git commit.
+   *
+   * @param gitCommit the commit to add file changes to
+   * @param commit the commit to read diffs for
+   * @throws IOException if objects cannot be read from repository
+   */
+  public void addFileChanges(CGitCommit gitCommit, RevCommit commit) throws IOException {
+    for (RevCommit parent : commit.getParents()) {
+      parentTree.reset(reader, getTree(parent));
+      commitTree.reset(reader, getTree(commit));
+
+      for (DiffEntry entry : diffFormatter.scan(parentTree, commitTree)) {
+        CGitFileChange gitFileChange = new CGitFileChange();
+        gitFileChange.setPath(entry.getOldPath());
+        gitFileChange.setNewPath(entry.getNewPath());
+        gitFileChange.setCommit(gitCommit);
+
+        for (Edit edit : diffFormatter.toFileHeader(entry).toEditList()) {
+          gitFileChange.setDeleted(gitFileChange.getDeleted() + edit.getLengthA());
+          gitFileChange.setInserted(gitFileChange.getInserted() + edit.getLengthB());
+        }
+        gitCommit.addFileChange(gitFileChange);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    diffFormatter.close();
+    walk.close();
+    reader.close();
+  }
+
+  private RevTree getTree(RevCommit commit) throws IOException {
+    // parents are not always parsed by the walk which produced the commit
+    return commit.getTree() != null ? commit.getTree() : walk.parseCommit(commit).getTree();
+  }
+}
@@ -1,42 +1,37 @@
 package org.catools.etl.git.utils;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.catools.common.concurrent.CParallelRunner;
+import org.catools.common.concurrent.CThreadRunner;
 import org.catools.common.date.CDate;
 import org.catools.etl.git.cache.CGitCacheManager;
-import org.catools.etl.git.dao.CGitCommitDao;
+import org.catools.etl.git.configs.CGitConfigs;
 import org.catools.etl.git.dao.CGitRepositoryDao;
 import org.catools.etl.git.exception.CGitApiException;
+import org.catools.etl.git.model.CGitBranch;
 import org.catools.etl.git.model.CGitCommit;
-import org.catools.etl.git.model.CGitFileChange;
 import org.catools.etl.git.model.CGitRepository;
+import org.catools.etl.git.model.CGitTag;
 import org.catools.etl.git.model.CGitUser;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
-import org.eclipse.jgit.diff.DiffEntry;
-import org.eclipse.jgit.diff.DiffFormatter;
-import org.eclipse.jgit.diff.Edit;
-import org.eclipse.jgit.diff.EditList;
-import org.eclipse.jgit.diff.RawTextComparator;
-import org.eclipse.jgit.lib.Constants;
-import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.PersonIdent;
-import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
-import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.revwalk.filter.CommitTimeRevFilter;
 import org.eclipse.jgit.revwalk.filter.RevFilter;
-import org.eclipse.jgit.treewalk.AbstractTreeIterator;
-import org.eclipse.jgit.treewalk.CanonicalTreeParser;
-import org.eclipse.jgit.treewalk.EmptyTreeIterator;
-import org.eclipse.jgit.util.io.NullOutputStream;
 
 @Slf4j
 @UtilityClass
@@ -102,7 +97,9 @@ public class CGitLoader {
       // Update last updated to the processing start point to avoid losing data
       CGitRepositoryDao.updateEndDate(gitRepository.getUrl(), CDate.now().getTimeStamp());
 
-      readCommits(git, gitRepository, repo, filter, totalParallelProcessors);
+      CGitReachabilityIndex index = CGitReachabilityIndex.load(repo);
+      readCommits(git, gitRepository, repo, index, filter, totalParallelProcessors);
+      index.save();
     } catch (Exception e) {
       throw new CGitApiException("Failed to read commits from repository", e);
     }
@@ -112,39 +109,105 @@ public class CGitLoader {
       Git git,
       CGitRepository gitRepository,
       Repository repo,
+      CGitReachabilityIndex index,
       RevFilter filter,
       int totalParallelProcessors)
       throws IOException, GitAPIException {
     Iterator<RevCommit> commits = git.log().setRevFilter(filter).all().call().iterator();
+    BlockingQueue<CGitCommit> queue = new ArrayBlockingQueue<>(CGitConfigs.getCommitQueueSize());
+    AtomicInteger activeReaders = new AtomicInteger(totalParallelProcessors);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
 
-    CParallelRunner<Boolean> runner =
+    // Diffs are extracted and saved by separate workers so neither side waits for the other
+    CParallelRunner<Boolean> reader =
         new CParallelRunner<>(
             "Git Commit Reader",
             totalParallelProcessors,
             () -> {
-              while (true) {
-                RevCommit commit = null;
-                synchronized (commits) {
-                  if (!commits.hasNext()) break;
-                  commit = commits.next();
+              try (CGitDiffExtractor extractor =
+                  new CGitDiffExtractor(
+                      repo,
+                      CGitConfigs.getDiffRenameLimit(),
+                      CGitConfigs.getDiffBigFileThreshold())) {
+                while (failure.get() == null) {
+                  RevCommit commit = null;
+                  synchronized (commits) {
+                    if (!commits.hasNext()) break;
+                    commit = commits.next();
+                  }
+                  CGitCommit gitCommit = readCommit(gitRepository, extractor, index, commit);
+                  while (!queue.offer(gitCommit, 100, TimeUnit.MILLISECONDS)) {
+                    if (failure.get() != null) {
+                      return false;
+                    }
+                  }
                 }
-                if (commit != null) {
-                  loadCommit(git, gitRepository, repo, commit);
+              } finally {
+                activeReaders.decrementAndGet();
+              }
+              return true;
+            });
+
+    List<CGitCommitWriter> writers = Collections.synchronizedList(new ArrayList<>());
+    CParallelRunner<Boolean> writer =
+        new CParallelRunner<>(
+            "Git Commit Writer",
+            totalParallelProcessors,
+            () -> {
+              CGitCommitWriter commitWriter =
+                  new CGitCommitWriter(CGitConfigs.getCommitBatchSize());
+              writers.add(commitWriter);
+              while (failure.get() == null && (activeReaders.get() > 0 || !queue.isEmpty())) {
+                CGitCommit gitCommit = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (gitCommit != null) {
+                  commitWriter.add(gitCommit);
                 }
               }
+              if (failure.get() == null) {
+                commitWriter.flush();
+              }
               return true;
             });
 
+    Thread readerThread =
+        CThreadRunner.run(
+            () -> {
+              try {
+                reader.invokeAll();
+              } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+              }
+            });
+
     try {
-      runner.invokeAll();
-    } catch (Throwable e) {
-      throw new CGitApiException("Failed to read commits", e);
+      writer.invokeAll();
+    } catch (Throwable t) {
+      failure.compareAndSet(null, t);
+    }
+
+    try {
+      readerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failure.compareAndSet(null, e);
+    }
+
+    if (failure.get() != null) {
+      throw new CGitApiException("Failed to read commits", failure.get());
     }
+
+    log.info(
+        "{} commits saved, {} commits per second.",
+        writers.stream().mapToLong(CGitCommitWriter::getTotalCommits).sum(),
+        writers.stream().mapToLong(CGitCommitWriter::getCommitsPerSecond).sum());
   }
 
-  private static void loadCommit(
-      Git git, CGitRepository gitRepository, Repository repo, RevCommit commit)
-      throws IOException, GitAPIException {
+  private static CGitCommit readCommit(
+      CGitRepository gitRepository,
+      CGitDiffExtractor extractor,
+      CGitReachabilityIndex index,
+      RevCommit commit)
+      throws IOException {
     CGitCommit gitCommit = new CGitCommit();
     gitCommit.setHash(commit.getName());
     gitCommit.setRepository(gitRepository);
@@ -155,88 +218,28 @@ public class CGitLoader {
     gitCommit.setFullMessage(commit.getFullMessage());
     gitCommit.setCommitter(getUser(commit.getCommitterIdent()));
 
-    addFileDiff(gitCommit, commit, repo);
-    addRelatedBranches(repo, gitCommit, commit);
-    addRelatedTags(git, gitCommit, commit);
-
-    CGitCommitDao.merge(gitCommit);
-  }
-
-  private static void addFileDiff(CGitCommit gitCommit, RevCommit commit, Repository repo)
-      throws IOException {
-    if (commit.getParentCount() == 0) return;
-
-    if (commit.getParentCount() == 0) {
-      readDiffsWithParent(repo, gitCommit, commit, null);
-    } else {
-      for (RevCommit parent : commit.getParents()) {
-        readDiffsWithParent(repo, gitCommit, commit, parent);
-      }
-    }
-  }
-
-  private static void readDiffsWithParent(
-      Repository repo, CGitCommit gitCommit, RevCommit commit, RevCommit parent)
-      throws IOException {
-    AbstractTreeIterator parentTree = getParser(repo, parent);
-    AbstractTreeIterator commitTree = getParser(repo, commit);
-
-    DiffFormatter diffFormatter = new DiffFormatter(NullOutputStream.INSTANCE);
-    diffFormatter.setDiffComparator(RawTextComparator.WS_IGNORE_ALL);
-    diffFormatter.setRepository(repo);
-    diffFormatter.setDetectRenames(true);
-
-    List<DiffEntry> entries = diffFormatter.scan(parentTree, commitTree);
-
-    for (DiffEntry entry : entries) {
-      CGitFileChange gitFileChange = new CGitFileChange();
-      gitFileChange.setPath(entry.getOldPath());
-      gitFileChange.setNewPath(entry.getNewPath());
-      gitFileChange.setCommit(gitCommit);
-
-      EditList edits = diffFormatter.toFileHeader(entry).toEditList();
-
-      for (Edit edit : edits) {
-        gitFileChange.setDeleted(gitFileChange.getDeleted() + edit.getLengthA());
-        gitFileChange.setInserted(gitFileChange.getInserted() + edit.getLengthB());
-      }
-      gitCommit.addFileChange(gitFileChange);
-    }
-  }
-
-  private static AbstractTreeIterator getParser(Repository repo, RevCommit commi)
-      throws IOException {
-    if (commi == null) return new EmptyTreeIterator();
-
-    CanonicalTreeParser parentTree = new CanonicalTreeParser();
-    parentTree.reset(repo.newObjectReader(), commi.getTree());
-    return parentTree;
+    extractor.addFileChanges(gitCommit, commit);
+    addRelatedBranches(index, gitCommit, commit);
+    addRelatedTags(index, gitCommit, commit);
+    return gitCommit;
   }
 
-  private static void addRelatedTags(Git git, CGitCommit gitCommit, RevCommit commit)
-      throws IOException, GitAPIException {
-    List<Ref> list = git.tagList().setContains(commit.getId()).call();
-    for (Ref tag : list) {
-      ObjectId objectId = Objects.requireNonNull(tag.getObjectId());
-      gitCommit.addTag(CGitCacheManager.getTag(objectId.getName(), tag.getName()));
+  private static void addRelatedTags(
+      CGitReachabilityIndex index, CGitCommit gitCommit, RevCommit commit) {
+    for (CGitReachabilityIndex.IndexedRef tag : index.getTags(commit)) {
+      gitCommit.addTag(new CGitTag(tag.getObjectId().getName(), tag.getName()));
     }
   }
 
-  private static void addRelatedBranches(Repository repo, CGitCommit gitCommit, RevCommit commit)
-      throws IOException {
-    RevWalk walk = new RevWalk(repo);
-    RevCommit targetCommit = walk.parseCommit(repo.resolve(commit.getName()));
-    for (Ref ref : repo.getRefDatabase().getRefs()) {
-      if (ref.getName().startsWith(Constants.R_HEADS)) {
-        ObjectId objectId = Objects.requireNonNull(ref.getObjectId());
-        if (walk.isMergedInto(targetCommit, walk.parseCommit(objectId))) {
-          gitCommit.addBranch(CGitCacheManager.getBranch(objectId.getName(), ref.getName()));
-        }
-      }
+  private static void addRelatedBranches(
+      CGitReachabilityIndex index, CGitCommit gitCommit, RevCommit commit) {
+    for (CGitReachabilityIndex.IndexedRef branch : index.getBranches(commit)) {
+      gitCommit.addBranch(new CGitBranch(branch.getObjectId().getName(), branch.getName()));
     }
   }
 
   private static CGitUser getUser(PersonIdent personIdent) {
-    return CGitCacheManager.getUser(personIdent.getName());
+    // resolved in batch by CGitCommitWriter
+    return new CGitUser(personIdent.getName());
   }
 }
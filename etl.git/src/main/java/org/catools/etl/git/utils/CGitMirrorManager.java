@@ -0,0 +1,255 @@
+package org.catools.etl.git.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.catools.common.configs.CPathConfigs;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.io.CFile;
+import org.catools.etl.git.exception.CGitClientException;
+import org.eclipse.jgit.api.FetchCommand;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.api.errors.JGitInternalException;
+import org.eclipse.jgit.errors.CorruptObjectException;
+import org.eclipse.jgit.errors.CorruptPackIndexException;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.errors.PackInvalidException;
+import org.eclipse.jgit.errors.PackMismatchException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectDatabase;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.transport.FetchResult;
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.transport.RemoteConfig;
+import org.eclipse.jgit.transport.URIish;
+
+/**
+ * Keep bare mirrors of remote repositories in the storage folder and update them incrementally.
+ *
+ * <p>The first call for a repository creates the mirror and fetches the whole history (or the
+ * shallow part of it based on {@link CGitMirrorOptions}). The following calls only fetch new
+ * objects. A mirror which cannot be opened, points to a different url or has corrupted packs or
+ * refs pointing to missing objects is removed and fetched again from scratch. Other failures, like
+ * network errors, are thrown and leave the mirror in place.
+ *
+ * <p>Calls for the same repository are serialized while different repositories are processed
+ * concurrently. Locks are released when no call is using the repository.
+ */
+@Slf4j
+@UtilityClass
+public class CGitMirrorManager {
+  private static final Map<String, MirrorLock> LOCKS = new ConcurrentHashMap<>();
+
+  /**
+   * Create or update the local mirror for the repository with the default options.
+   *
+   * @param name repository/directory name
+   * @param url the source repository to mirror
+   * @return JGit client to work with
+   */
+  public static Git sync(String name, String url) {
+    return sync(name, url, new CGitMirrorOptions());
+  }
+
+  /**
+   * Create or update the local mirror for the repository.
+   *
+   * @param name repository/directory name
+   * @param url the source repository to mirror
+   * @param options the mirror options
+   * @return JGit client to work with
+   */
+  public static Git sync(String name, String url, CGitMirrorOptions options) {
+    return sync(getMirrorFolder(name), url, options);
+  }
+
+  /**
+   * Create or update the local mirror for the repository in the given folder.
+   *
+   * <p>The mirror is only recreated when it is missing, points to a different url or is corrupted.
+   * Failures to reach the remote repository are thrown, so a temporary network problem does not
+   * remove a mirror which can still be updated on the next call.
+   *
+   * @param mirrorDir the folder of the bare mirror
+   * @param url the source repository to mirror
+   * @param options the mirror options
+   * @return JGit client to work with
+   */
+  public static Git sync(File mirrorDir, String url, CGitMirrorOptions options) {
+    String name = mirrorDir.getName();
+    String key = mirrorDir.getAbsolutePath();
+    MirrorLock lock = LOCKS.compute(key, (k, v) -> (v == null ? new MirrorLock() : v).acquire());
+    try {
+      synchronized (lock) {
+        Git git = openMirror(mirrorDir, url);
+        if (git != null) {
+          try {
+            log.info("Start fetching {} repository from {}.", name, url);
+            FetchResult result = fetch(git, options);
+            verifyIntegrity(git.getRepository());
+            log.info("{} refs updated in {} mirror.", result.getTrackingRefUpdates().size(), name);
+            log.info("Finish fetching {} repository from {}.", name, url);
+            return git;
+          } catch (GitAPIException | IOException | JGitInternalException e) {
+            git.close();
+            if (!isCorrupted(e)) {
+              throw new CGitClientException("Failed to fetch " + name + " repository", e);
+            }
+            log.warn("{} mirror is corrupted, the mirror will be recreated.", name, e);
+          }
+        }
+        return createMirror(name, url, mirrorDir, options);
+      }
+    } finally {
+      LOCKS.computeIfPresent(key, (k, v) -> v.release());
+    }
+  }
+
+  /**
+   * The folder in storage where the bare mirror of the repository is kept.
+   *
+   * @param name repository/directory name
+   * @return the mirror folder
+   */
+  public static File getMirrorFolder(String name) {
+    return CPathConfigs.fromStorage(name + Constants.DOT_GIT_EXT);
+  }
+
+  private static Git createMirror(
+      String name, String url, File mirrorDir, CGitMirrorOptions options) {
+    cleanupLocalFolder(mirrorDir);
+
+    Git git = null;
+    try {
+      log.info("Start cloning {} repository from {}.", name, url);
+      git = Git.init().setBare(true).setDirectory(mirrorDir).call();
+      addRemote(git.getRepository(), url, options);
+      fetch(git, options);
+      verifyIntegrity(git.getRepository());
+      return git;
+    } catch (GitAPIException | IOException | URISyntaxException e) {
+      if (git != null) {
+        git.close();
+      }
+      throw new CGitClientException("Failed to clone the git repository", e);
+    } finally {
+      log.info("Finish cloning {} repository from {}.", name, url);
+    }
+  }
+
+  private static Git openMirror(File mirrorDir, String url) {
+    if (!mirrorDir.exists()) {
+      return null;
+    }
+
+    Git git = null;
+    try {
+      git = Git.open(mirrorDir);
+      Repository repo = git.getRepository();
+      RemoteConfig remote = new RemoteConfig(repo.getConfig(), Constants.DEFAULT_REMOTE_NAME);
+      if (repo.isBare() && remote.getURIs().contains(new URIish(url))) {
+        return git;
+      }
+      log.info("Local folder {} is not a mirror of {}.", mirrorDir, url);
+    } catch (IOException | URISyntaxException e) {
+      log.warn("Failed to open local mirror {}.", mirrorDir, e);
+    }
+
+    if (git != null) {
+      git.close();
+    }
+    return null;
+  }
+
+  private static void addRemote(Repository repo, String url, CGitMirrorOptions options)
+      throws URISyntaxException, IOException {
+    StoredConfig config = repo.getConfig();
+    RemoteConfig remote = new RemoteConfig(config, Constants.DEFAULT_REMOTE_NAME);
+    remote.addURI(new URIish(url));
+    remote.setFetchRefSpecs(toRefSpecs(options));
+    remote.setMirror(true);
+    remote.update(config);
+    config.save();
+  }
+
+  private static FetchResult fetch(Git git, CGitMirrorOptions options) throws GitAPIException {
+    FetchCommand command =
+        git.fetch()
+            .setRemote(Constants.DEFAULT_REMOTE_NAME)
+            .setRefSpecs(toRefSpecs(options))
+            .setRemoveDeletedRefs(true)
+            .setCheckFetchedObjects(options.isCheckFetchedObjects())
+            .setCredentialsProvider(options.getCredentialsProvider());
+
+    if (options.getShallowSince() != null) {
+      command.setShallowSince(options.getShallowSince().toInstant());
+    }
+
+    if (options.getDepth() > 0) {
+      command.setDepth(options.getDepth());
+    }
+
+    return command.call();
+  }
+
+  private static void verifyIntegrity(Repository repo) throws IOException {
+    ObjectDatabase objectDatabase = repo.getObjectDatabase();
+    for (Ref ref : repo.getRefDatabase().getRefs()) {
+      ObjectId objectId = ref.getObjectId();
+      if (objectId != null && !objectDatabase.has(objectId)) {
+        throw new MissingObjectException(objectId.copy(), "object of " + ref.getName());
+      }
+    }
+  }
+
+  private static boolean isCorrupted(Throwable e) {
+    for (Throwable t = e; t != null; t = t.getCause()) {
+      if (t instanceof MissingObjectException
+          || t instanceof CorruptObjectException
+          || t instanceof CorruptPackIndexException
+          || t instanceof PackInvalidException
+          || t instanceof PackMismatchException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static List<RefSpec> toRefSpecs(CGitMirrorOptions options) {
+    return options.getRefSpecs().stream().map(RefSpec::new).collect(Collectors.toList());
+  }
+
+  private static void cleanupLocalFolder(File mirrorDir) {
+    CFile gitDir = CFile.of(mirrorDir);
+
+    if (gitDir.exists()) {
+      CVerify.Bool.isTrue(
+          gitDir.forceDelete(),
+          "Local repository removed successfully. location: {}",
+          gitDir.getCanonicalPath());
+    }
+  }
+
+  private static final class MirrorLock {
+    private int users;
+
+    private MirrorLock acquire() {
+      users++;
+      return this;
+    }
+
+    private MirrorLock release() {
+      return --users == 0 ? null : this;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package org.catools.etl.git.utils;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import lombok.Data;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+
+/**
+ * Options used by {@link CGitMirrorManager} to create or update a local bare mirror.
+ *
+ * <p>By default only branches and tags are mirrored, which keeps review refs (i.e. {@code
+ * refs/pull/*} or {@code refs/merge-requests/*}) out of the local mirror. JGit does not support
+ * object filters ({@code --filter=blob:none}) on the client side, so {@link #refSpecs}, {@link
+ * #depth} and {@link #shallowSince} are the way to reduce the size of large repositories.
+ */
+@Data
+public class CGitMirrorOptions {
+  public static final String HEADS_REF_SPEC = "+refs/heads/*:refs/heads/*";
+  public static final String TAGS_REF_SPEC = "+refs/tags/*:refs/tags/*";
+
+  private String username;
+  private String password;
+
+  /** Only fetch commits created after this date. */
+  private Date shallowSince;
+
+  /** Only fetch this many commits from each ref tip, zero means full history. */
+  private int depth;
+
+  /** The refs to mirror, by default all branches and tags. */
+  private List<String> refSpecs = new ArrayList<>(List.of(HEADS_REF_SPEC, TAGS_REF_SPEC));
+
+  /** Verify connectivity of the received objects during fetch. */
+  private boolean checkFetchedObjects = true;
+
+  public CGitMirrorOptions() {}
+
+  public CGitMirrorOptions(String username, String password) {
+    this.username = username;
+    this.password = password;
+  }
+
+  public boolean isShallow() {
+    return shallowSince != null || depth > 0;
+  }
+
+  public CredentialsProvider getCredentialsProvider() {
+    return StringUtils.isBlank(username)
+        ? null
+        : new UsernamePasswordCredentialsProvider(username, password);
+  }
+}
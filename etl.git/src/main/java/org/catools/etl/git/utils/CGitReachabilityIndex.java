@@ -0,0 +1,375 @@
+package org.catools.etl.git.utils;
+
+import com.googlecode.javaewah.EWAHCompressedBitmap;
+import com.googlecode.javaewah.IntIterator;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.catools.etl.git.exception.CGitApiException;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevObject;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+/**
+ * Map each commit to the branches and tags it is reachable from.
+ *
+ * <p>Every branch and tag gets a slot, and each commit keeps a compressed bitmap of the slots which
+ * can reach it. The full index is built with a single topological walk from all ref tips, where
+ * each commit passes its bitmap to its parents. Commits on a linear history share the same bitmap
+ * instance, so bitmaps are never modified in place.
+ *
+ * <p>The index can be saved in the repository folder and extended on the next run. Unchanged refs
+ * keep their bits, fast-forwarded refs only mark the new commits and new or rewritten refs are
+ * marked from their tip. When too many refs need a full walk the index is rebuilt instead.
+ */
+@Slf4j
+public class CGitReachabilityIndex {
+  public static final String INDEX_FILE_NAME = "catools-reachability.idx";
+  private static final int VERSION = 1;
+  private static final int MAX_REFS_TO_WALK = 16;
+
+  private final Repository repo;
+  private final List<IndexedRef> slots = new ArrayList<>();
+  private final Map<ObjectId, EWAHCompressedBitmap> bitmaps = new HashMap<>();
+
+  private CGitReachabilityIndex(Repository repo) {
+    this.repo = repo;
+  }
+
+  /**
+   * Build the index from scratch for all branches and tags in repository.
+   *
+   * @param repo the repository to index
+   * @return the reachability index
+   */
+  public static CGitReachabilityIndex build(Repository repo) {
+    CGitReachabilityIndex index = new CGitReachabilityIndex(repo);
+    try {
+      index.rebuild(readRefs(repo));
+    } catch (IOException e) {
+      throw new CGitApiException("Failed to build reachability index", e);
+    }
+    return index;
+  }
+
+  /**
+   * Load the index saved in repository folder and update it with the current refs, or build it from
+   * scratch if there is no saved index or it cannot be read.
+   *
+   * @param repo the repository to index
+   * @return the reachability index
+   */
+  public static CGitReachabilityIndex load(Repository repo) {
+    File file = getIndexFile(repo);
+    if (!file.exists()) {
+      return build(repo);
+    }
+
+    CGitReachabilityIndex index = new CGitReachabilityIndex(repo);
+    try {
+      index.read(file);
+      index.update(readRefs(repo));
+      return index;
+    } catch (IOException e) {
+      log.warn("Failed to read reachability index {}, the index will be rebuilt.", file, e);
+      return build(repo);
+    }
+  }
+
+  /** Save the index into the repository folder so the next run can extend it. */
+  public void save() {
+    File file = getIndexFile(repo);
+    try (DataOutputStream out =
+        new DataOutputStream(
+            new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(file))))) {
+      out.writeInt(VERSION);
+      out.writeInt(slots.size());
+      for (IndexedRef ref : slots) {
+        out.writeBoolean(ref != null);
+        if (ref != null) {
+          out.writeUTF(ref.getName());
+          ref.getObjectId().copyRawTo(out);
+          ref.getCommitId().copyRawTo(out);
+        }
+      }
+
+      Map<EWAHCompressedBitmap, Integer> written = new IdentityHashMap<>();
+      out.writeInt(bitmaps.size());
+      for (Map.Entry<ObjectId, EWAHCompressedBitmap> entry : bitmaps.entrySet()) {
+        entry.getKey().copyRawTo(out);
+        Integer position = written.get(entry.getValue());
+        out.writeInt(position == null ? -1 : position);
+        if (position == null) {
+          written.put(entry.getValue(), written.size());
+          entry.getValue().serialize(out);
+        }
+      }
+    } catch (IOException e) {
+      throw new CGitApiException("Failed to save reachability index", e);
+    }
+  }
+
+  /**
+   * Branches which contain the commit.
+   *
+   * @param commitId the commit id
+   * @return the branches
+   */
+  public List<IndexedRef> getBranches(ObjectId commitId) {
+    return getRefs(commitId, true);
+  }
+
+  /**
+   * Tags which contain the commit.
+   *
+   * @param commitId the commit id
+   * @return the tags
+   */
+  public List<IndexedRef> getTags(ObjectId commitId) {
+    return getRefs(commitId, false);
+  }
+
+  private List<IndexedRef> getRefs(ObjectId commitId, boolean branches) {
+    EWAHCompressedBitmap bitmap = bitmaps.get(commitId);
+    if (bitmap == null) {
+      return Collections.emptyList();
+    }
+
+    List<IndexedRef> refs = new ArrayList<>();
+    IntIterator iterator = bitmap.intIterator();
+    while (iterator.hasNext()) {
+      IndexedRef ref = slots.get(iterator.next());
+      if (ref != null && ref.isBranch() == branches) {
+        refs.add(ref);
+      }
+    }
+    return refs;
+  }
+
+  private void rebuild(List<IndexedRef> refs) throws IOException {
+    slots.clear();
+    bitmaps.clear();
+
+    try (RevWalk walk = new RevWalk(repo)) {
+      walk.setRetainBody(false);
+      walk.sort(RevSort.TOPO);
+
+      for (IndexedRef ref : refs) {
+        int slot = slots.size();
+        slots.add(ref);
+        walk.markStart(walk.parseCommit(ref.getCommitId()));
+        bitmaps.merge(ref.getCommitId(), EWAHCompressedBitmap.bitmapOf(slot), (a, b) -> a.or(b));
+      }
+
+      // TOPO sort guarantees all children are processed before their parents
+      for (RevCommit commit : walk) {
+        EWAHCompressedBitmap bitmap = bitmaps.get(commit);
+        for (RevCommit parent : commit.getParents()) {
+          bitmaps.merge(parent.copy(), bitmap, (a, b) -> a.or(b));
+        }
+      }
+    }
+    log.info("Reachability index built for {} refs and {} commits.", refs.size(), bitmaps.size());
+  }
+
+  private void update(List<IndexedRef> refs) throws IOException {
+    Map<String, Integer> slotsByName = new HashMap<>();
+    for (int i = 0; i < slots.size(); i++) {
+      if (slots.get(i) != null) {
+        slotsByName.put(slots.get(i).getName(), i);
+      }
+    }
+
+    Set<Integer> removedSlots = new HashSet<>(slotsByName.values());
+    Map<Integer, ObjectId> slotsToMark = new HashMap<>();
+    int refsToWalk = 0;
+
+    try (RevWalk walk = new RevWalk(repo)) {
+      for (IndexedRef ref : refs) {
+        Integer slot = slotsByName.get(ref.getName());
+        if (slot == null) {
+          slot = slots.size();
+          slots.add(ref);
+          refsToWalk++;
+        } else {
+          removedSlots.remove(slot);
+          IndexedRef oldRef = slots.get(slot);
+          slots.set(slot, ref);
+          if (oldRef.getCommitId().equals(ref.getCommitId())) {
+            continue;
+          }
+          if (!isFastForward(walk, oldRef.getCommitId(), ref.getCommitId())) {
+            clearSlot(slot);
+            refsToWalk++;
+          }
+        }
+        slotsToMark.put(slot, ref.getCommitId());
+      }
+    }
+
+    if (refsToWalk > MAX_REFS_TO_WALK) {
+      log.info("{} refs are new or rewritten, rebuilding the reachability index.", refsToWalk);
+      rebuild(refs);
+      return;
+    }
+
+    for (Integer slot : removedSlots) {
+      clearSlot(slot);
+      slots.set(slot, null);
+    }
+
+    try (RevWalk walk = new RevWalk(repo)) {
+      walk.setRetainBody(false);
+      for (Map.Entry<Integer, ObjectId> entry : slotsToMark.entrySet()) {
+        markSlot(walk, entry.getKey(), entry.getValue());
+      }
+    }
+    log.info(
+        "Reachability index updated for {} refs, {} refs removed.",
+        slotsToMark.size(),
+        removedSlots.size());
+  }
+
+  private void markSlot(RevWalk walk, int slot, ObjectId tip) throws IOException {
+    EWAHCompressedBitmap slotBitmap = EWAHCompressedBitmap.bitmapOf(slot);
+    Map<EWAHCompressedBitmap, EWAHCompressedBitmap> updated = new IdentityHashMap<>();
+    Deque<ObjectId> stack = new ArrayDeque<>();
+    stack.push(tip);
+
+    // A commit which already has the bit means all its parents have it too
+    while (!stack.isEmpty()) {
+      RevCommit commit = walk.parseCommit(stack.pop());
+      EWAHCompressedBitmap bitmap = bitmaps.get(commit);
+      if (bitmap != null && bitmap.get(slot)) {
+        continue;
+      }
+
+      bitmaps.put(
+          commit.copy(),
+          bitmap == null ? slotBitmap : updated.computeIfAbsent(bitmap, b -> b.or(slotBitmap)));
+      for (RevCommit parent : commit.getParents()) {
+        stack.push(parent);
+      }
+    }
+  }
+
+  private void clearSlot(int slot) {
+    EWAHCompressedBitmap slotBitmap = EWAHCompressedBitmap.bitmapOf(slot);
+    Map<EWAHCompressedBitmap, EWAHCompressedBitmap> updated = new IdentityHashMap<>();
+    bitmaps.replaceAll(
+        (id, bitmap) ->
+            bitmap.get(slot) ? updated.computeIfAbsent(bitmap, b -> b.andNot(slotBitmap)) : bitmap);
+  }
+
+  private void read(File file) throws IOException {
+    try (DataInputStream in =
+        new DataInputStream(
+            new BufferedInputStream(new GZIPInputStream(new FileInputStream(file))))) {
+      if (in.readInt() != VERSION) {
+        throw new IOException("Unsupported reachability index version");
+      }
+
+      int slotCount = in.readInt();
+      for (int i = 0; i < slotCount; i++) {
+        slots.add(
+            in.readBoolean()
+                ? new IndexedRef(in.readUTF(), readObjectId(in), readObjectId(in))
+                : null);
+      }
+
+      List<EWAHCompressedBitmap> read = new ArrayList<>();
+      int commitCount = in.readInt();
+      for (int i = 0; i < commitCount; i++) {
+        ObjectId commitId = readObjectId(in);
+        int position = in.readInt();
+        if (position < 0) {
+          EWAHCompressedBitmap bitmap = new EWAHCompressedBitmap();
+          bitmap.deserialize(in);
+          read.add(bitmap);
+          bitmaps.put(commitId, bitmap);
+        } else {
+          bitmaps.put(commitId, read.get(position));
+        }
+      }
+    }
+  }
+
+  private static boolean isFastForward(RevWalk walk, ObjectId oldTip, ObjectId newTip)
+      throws IOException {
+    try {
+      return walk.isMergedInto(walk.parseCommit(oldTip), walk.parseCommit(newTip));
+    } catch (MissingObjectException e) {
+      return false;
+    }
+  }
+
+  private static List<IndexedRef> readRefs(Repository repo) throws IOException {
+    List<IndexedRef> refs = new ArrayList<>();
+    try (RevWalk walk = new RevWalk(repo)) {
+      for (Ref ref : repo.getRefDatabase().getRefsByPrefix(Constants.R_HEADS, Constants.R_TAGS)) {
+        ObjectId objectId = ref.getObjectId();
+        if (objectId == null) {
+          continue;
+        }
+
+        RevObject target = walk.peel(walk.parseAny(objectId));
+        if (target instanceof RevCommit) {
+          refs.add(new IndexedRef(ref.getName(), objectId.copy(), target.copy()));
+        }
+      }
+    }
+    return refs;
+  }
+
+  private static ObjectId readObjectId(DataInputStream in) throws IOException {
+    byte[] raw = new byte[Constants.OBJECT_ID_LENGTH];
+    in.readFully(raw);
+    return ObjectId.fromRaw(raw);
+  }
+
+  private static File getIndexFile(Repository repo) {
+    return new File(repo.getDirectory(), INDEX_FILE_NAME);
+  }
+
+  /** A branch or tag in the index. */
+  @Value
+  public static class IndexedRef {
+    /** The full ref name, i.e. refs/heads/main */
+    String name;
+
+    /** The object the ref points to, which is the tag object for annotated tags */
+    ObjectId objectId;
+
+    /** The commit the ref resolves to */
+    ObjectId commitId;
+
+    public boolean isBranch() {
+      return name.startsWith(Constants.R_HEADS);
+    }
+  }
+}
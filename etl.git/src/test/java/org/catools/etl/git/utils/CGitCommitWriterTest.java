@@ -0,0 +1,124 @@
+package org.catools.etl.git.utils;
+
+import static org.catools.etl.git.configs.CGitConfigs.GIT_SCHEMA;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.etl.git.cache.CGitCacheManager;
+import org.catools.etl.git.dao.CGitCommitDao;
+import org.catools.etl.git.model.CGitBranch;
+import org.catools.etl.git.model.CGitCommit;
+import org.catools.etl.git.model.CGitFileChange;
+import org.catools.etl.git.model.CGitRepository;
+import org.catools.etl.git.model.CGitTag;
+import org.catools.etl.git.model.CGitUser;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+@Test(singleThreaded = true)
+public class CGitCommitWriterTest {
+  // hibernate.jdbc.batch_size is 100, so the first writer batch ends with a partial jdbc batch
+  private static final int WRITER_BATCH_SIZE = 150;
+  private static final int COMMIT_COUNT = 230;
+
+  private final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17");
+
+  @BeforeClass
+  public void beforeClass() {
+    postgres.start();
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void afterClass() {
+    postgres.stop();
+  }
+
+  @Test
+  public void testInsertCommitsInBatches() {
+    CGitRepository repository =
+        CGitCacheManager.getRepository(
+            new CGitRepository()
+                .setName("writer")
+                .setUrl("https://example.com/writer.git")
+                .setLastUpdate(new Date()));
+
+    CGitCommitWriter writer = new CGitCommitWriter(WRITER_BATCH_SIZE);
+    List<CGitCommit> commits = new ArrayList<>();
+    for (int i = 0; i < COMMIT_COUNT; i++) {
+      CGitCommit commit = commit(repository, i);
+      commits.add(commit);
+      writer.add(commit);
+    }
+    CVerify.Long.equals(
+        writer.getTotalCommits(), (long) WRITER_BATCH_SIZE, "Full batch is saved when it is added");
+
+    writer.flush();
+    CVerify.Long.equals(
+        writer.getTotalCommits(), (long) COMMIT_COUNT, "Partial final batch is saved on flush");
+
+    Set<Integer> ids = new HashSet<>();
+    for (CGitCommit commit : commits) {
+      ids.add(commit.getId());
+      CGitCommit saved = CGitCommitDao.getByHash(commit.getHash());
+      CVerify.Int.equals(
+          saved.getId(), commit.getId(), "Generated id is set on commit " + commit.getHash());
+      CVerify.String.equals(
+          saved.getShortMessage(),
+          commit.getShortMessage(),
+          "Commit " + commit.getHash() + " is saved with its own id");
+    }
+    CVerify.Int.equals(ids.size(), COMMIT_COUNT, "Each commit has its own id");
+
+    CGitCommit last = commits.get(COMMIT_COUNT - 1);
+    CVerify.Long.equals(count("file_change", last), 2L, "File changes are saved");
+    CVerify.Long.equals(count("commit_branch_mid", last), 1L, "Branches are saved");
+    CVerify.Long.equals(count("commit_tag_mid", last), 1L, "Tags are saved");
+  }
+
+  private static CGitCommit commit(CGitRepository repository, int index) {
+    CGitCommit commit =
+        new CGitCommit()
+            .setHash(String.format("%040x", index + 1))
+            .setShortMessage("Commit " + index)
+            .setFullMessage("Commit " + index + "\n")
+            .setCommitTime(new Date())
+            .setRepository(repository)
+            .setAuthor(new CGitUser("author" + index % 5))
+            .setCommitter(new CGitUser("committer" + index % 3));
+    commit.getFileChanges().add(fileChange("src/File" + index + ".java", 10, 2));
+    commit.getFileChanges().add(fileChange("README.md", 1, 0));
+    commit.getBranches().add(new CGitBranch("branch" + index % 2, "branch" + index % 2));
+    commit.getTags().add(new CGitTag("tag" + index, "v" + index));
+    return commit;
+  }
+
+  private static CGitFileChange fileChange(String path, int inserted, int deleted) {
+    return new CGitFileChange()
+        .setPath(path)
+        .setNewPath(path)
+        .setInserted(inserted)
+        .setDeleted(deleted);
+  }
+
+  private static long count(String table, CGitCommit commit) {
+    return CGitCommitDao.doTransaction(
+        entityManager ->
+            ((Number)
+                    entityManager
+                        .createNativeQuery(
+                            "select count(*) from "
+                                + GIT_SCHEMA
+                                + "."
+                                + table
+                                + " where commit_id = :commit_id")
+                        .setParameter("commit_id", commit.getId())
+                        .getSingleResult())
+                .longValue());
+  }
+}
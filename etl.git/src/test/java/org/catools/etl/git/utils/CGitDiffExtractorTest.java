@@ -0,0 +1,55 @@
+package org.catools.etl.git.utils;
+
+import java.io.File;
+import java.nio.file.Files;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.io.CFile;
+import org.catools.etl.git.model.CGitCommit;
+import org.catools.etl.git.model.CGitFileChange;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.testng.annotations.Test;
+
+public class CGitDiffExtractorTest {
+
+  @Test
+  public void testReuseExtractorForMultipleCommits() throws Exception {
+    File source = Files.createTempDirectory("diff-extractor").toFile();
+    try (Git git = Git.init().setDirectory(source).setInitialBranch("main").call()) {
+      RevCommit root = commit(git, "a.txt", "line1\nline2\n");
+      RevCommit second = commit(git, "a.txt", "line1\nline3\nline4\n");
+      Files.move(new File(source, "a.txt").toPath(), new File(source, "b.txt").toPath());
+      git.rm().addFilepattern("a.txt").call();
+      RevCommit third = commit(git, "b.txt", "line1\nline3\nline4\n");
+
+      try (CGitDiffExtractor extractor =
+          new CGitDiffExtractor(git.getRepository(), 100, 1024 * 1024)) {
+        CGitCommit rootCommit = new CGitCommit();
+        extractor.addFileChanges(rootCommit, root);
+        CVerify.Int.equals(rootCommit.getFileChanges().size(), 0, "Root commit has no diff");
+
+        CGitCommit secondCommit = new CGitCommit();
+        extractor.addFileChanges(secondCommit, second);
+        CGitFileChange change = secondCommit.getFileChanges().iterator().next();
+        CVerify.String.equals(change.getPath(), "a.txt", "The changed path is correct");
+        CVerify.Int.equals(change.getInserted(), 2, "The inserted lines are correct");
+        CVerify.Int.equals(change.getDeleted(), 1, "The deleted lines are correct");
+
+        CGitCommit thirdCommit = new CGitCommit();
+        extractor.addFileChanges(thirdCommit, third);
+        CGitFileChange rename = thirdCommit.getFileChanges().iterator().next();
+        CVerify.Int.equals(thirdCommit.getFileChanges().size(), 1, "Rename is detected");
+        CVerify.String.equals(rename.getPath(), "a.txt", "The old path is correct");
+        CVerify.String.equals(rename.getNewPath(), "b.txt", "The new path is correct");
+      }
+    } finally {
+      CFile.of(source).forceDelete();
+    }
+  }
+
+  private static RevCommit commit(Git git, String fileName, String content) throws Exception {
+    Files.writeString(new File(git.getRepository().getWorkTree(), fileName).toPath(), content);
+    git.add().addFilepattern(".").call();
+    return git.commit().setMessage(fileName).setAuthor("tester", "tester@catools.org").call();
+  }
+}
@@ -0,0 +1,146 @@
+package org.catools.etl.git.utils;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.io.CFile;
+import org.catools.etl.git.exception.CGitClientException;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class CGitMirrorManagerTest {
+  private File mirrors;
+
+  @BeforeClass
+  public void beforeClass() throws Exception {
+    mirrors = Files.createTempDirectory("mirrors").toFile();
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void afterClass() {
+    CFile.of(mirrors).forceDelete();
+  }
+
+  @Test
+  public void testFetchOnlyUpdatesExistingMirror() throws Exception {
+    File source = Files.createTempDirectory("mirror-source").toFile();
+    File mirrorDir = new File(mirrors, "mirror-fetch.git");
+    try (Git sourceGit = Git.init().setDirectory(source).setInitialBranch("main").call()) {
+      commit(sourceGit, "first");
+      sourceGit.tag().setName("v1").call();
+
+      String url = source.toURI().toString();
+      try (Git mirror = sync(mirrorDir, url)) {
+        CVerify.Bool.isTrue(mirror.getRepository().isBare(), "Mirror is a bare repository");
+        CVerify.Object.isNotNull(
+            mirror.getRepository().exactRef(Constants.R_TAGS + "v1"), "Tag is mirrored");
+      }
+
+      File marker = new File(mirrorDir, "marker");
+      CVerify.Bool.isTrue(marker.createNewFile(), "Marker file created");
+
+      RevCommit second = commit(sourceGit, "second");
+      try (Git mirror = sync(mirrorDir, url)) {
+        ObjectId head = mirror.getRepository().resolve(Constants.R_HEADS + "main");
+        CVerify.String.equals(head.getName(), second.getName(), "New commit is fetched");
+        CVerify.Bool.isTrue(marker.exists(), "Mirror is updated in place");
+      }
+    } finally {
+      CFile.of(source).forceDelete();
+    }
+  }
+
+  @Test
+  public void testKeepMirrorWhenFetchFails() throws Exception {
+    File source = Files.createTempDirectory("mirror-source").toFile();
+    File mirrorDir = new File(mirrors, "mirror-offline.git");
+    String url = source.toURI().toString();
+    try (Git sourceGit = Git.init().setDirectory(source).setInitialBranch("main").call()) {
+      commit(sourceGit, "first");
+      sync(mirrorDir, url).close();
+    }
+
+    File marker = new File(mirrorDir, "marker");
+    CVerify.Bool.isTrue(marker.createNewFile(), "Marker file created");
+    CFile.of(source).forceDelete();
+
+    CVerify.Bool.isTrue(
+        failsWith(() -> sync(mirrorDir, url), CGitClientException.class),
+        "Fetch failure is thrown");
+    CVerify.Bool.isTrue(marker.exists(), "Mirror is not recreated when the remote is unreachable");
+  }
+
+  @Test
+  public void testRecreateMirrorForDifferentUrl() throws Exception {
+    File source1 = Files.createTempDirectory("mirror-source1").toFile();
+    File source2 = Files.createTempDirectory("mirror-source2").toFile();
+    File mirrorDir = new File(mirrors, "mirror-url.git");
+    try (Git git1 = Git.init().setDirectory(source1).setInitialBranch("main").call();
+        Git git2 = Git.init().setDirectory(source2).setInitialBranch("main").call()) {
+      commit(git1, "first");
+      RevCommit expected = commit(git2, "second");
+
+      sync(mirrorDir, source1.toURI().toString()).close();
+      try (Git mirror = sync(mirrorDir, source2.toURI().toString())) {
+        ObjectId head = mirror.getRepository().resolve(Constants.R_HEADS + "main");
+        CVerify.String.equals(head.getName(), expected.getName(), "Mirror is recreated");
+      }
+    } finally {
+      CFile.of(source1).forceDelete();
+      CFile.of(source2).forceDelete();
+    }
+  }
+
+  @Test
+  public void testConcurrentSyncOfDifferentRepositories() throws Exception {
+    File source = Files.createTempDirectory("mirror-source").toFile();
+    File mirror1 = new File(mirrors, "mirror-c1.git");
+    File mirror2 = new File(mirrors, "mirror-c2.git");
+    try (Git sourceGit = Git.init().setDirectory(source).setInitialBranch("main").call()) {
+      commit(sourceGit, "first");
+      String url = source.toURI().toString();
+
+      List<CompletableFuture<Git>> futures =
+          List.of(
+              CompletableFuture.supplyAsync(() -> sync(mirror1, url)),
+              CompletableFuture.supplyAsync(() -> sync(mirror2, url)),
+              CompletableFuture.supplyAsync(() -> sync(mirror1, url)));
+
+      for (CompletableFuture<Git> future : futures) {
+        try (Git mirror = future.join()) {
+          CVerify.Object.isNotNull(
+              mirror.getRepository().resolve(Constants.R_HEADS + "main"), "Branch is mirrored");
+        }
+      }
+    } finally {
+      CFile.of(source).forceDelete();
+    }
+  }
+
+  private static Git sync(File mirrorDir, String url) {
+    return CGitMirrorManager.sync(mirrorDir, url, new CGitMirrorOptions());
+  }
+
+  private static boolean failsWith(Runnable runnable, Class<? extends Throwable> type) {
+    try {
+      runnable.run();
+      return false;
+    } catch (RuntimeException e) {
+      return type.isInstance(e);
+    }
+  }
+
+  private static RevCommit commit(Git git, String message) throws Exception {
+    File file = new File(git.getRepository().getWorkTree(), message + ".txt");
+    Files.writeString(file.toPath(), message);
+    git.add().addFilepattern(".").call();
+    return git.commit().setMessage(message).setAuthor("tester", "tester@catools.org").call();
+  }
+}
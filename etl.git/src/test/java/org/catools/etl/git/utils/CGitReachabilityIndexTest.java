@@ -0,0 +1,84 @@
+package org.catools.etl.git.utils;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.io.CFile;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.testng.annotations.Test;
+
+public class CGitReachabilityIndexTest {
+
+  @Test
+  public void testBuildIndex() throws Exception {
+    File source = Files.createTempDirectory("reachability-build").toFile();
+    try (Git git = Git.init().setDirectory(source).setInitialBranch("main").call()) {
+      RevCommit first = commit(git, "first");
+      git.tag().setName("v1").setAnnotated(true).setMessage("v1").call();
+      git.branchCreate().setName("feature").call();
+      RevCommit second = commit(git, "second");
+      git.checkout().setName("feature").call();
+      RevCommit third = commit(git, "third");
+
+      CGitReachabilityIndex index = CGitReachabilityIndex.build(git.getRepository());
+      verifyRefs(index.getBranches(first), "refs/heads/feature", "refs/heads/main");
+      verifyRefs(index.getTags(first), "refs/tags/v1");
+      verifyRefs(index.getBranches(second), "refs/heads/main");
+      verifyRefs(index.getTags(second));
+      verifyRefs(index.getBranches(third), "refs/heads/feature");
+    } finally {
+      CFile.of(source).forceDelete();
+    }
+  }
+
+  @Test
+  public void testExtendSavedIndex() throws Exception {
+    File source = Files.createTempDirectory("reachability-load").toFile();
+    try (Git git = Git.init().setDirectory(source).setInitialBranch("main").call()) {
+      RevCommit first = commit(git, "first");
+      RevCommit second = commit(git, "second");
+      git.branchCreate().setName("rewritten").call();
+      CGitReachabilityIndex.build(git.getRepository()).save();
+
+      // fast-forward main, add a new branch and tag, rewrite a branch
+      RevCommit third = commit(git, "third");
+      git.tag().setName("v2").call();
+      git.branchCreate().setName("feature").setStartPoint(first).call();
+      git.checkout().setName("rewritten").call();
+      git.reset().setMode(ResetCommand.ResetType.HARD).setRef(first.getName()).call();
+      RevCommit fourth = commit(git, "fourth");
+
+      CGitReachabilityIndex index = CGitReachabilityIndex.load(git.getRepository());
+      verifyRefs(
+          index.getBranches(first),
+          "refs/heads/feature",
+          "refs/heads/main",
+          "refs/heads/rewritten");
+      verifyRefs(index.getBranches(second), "refs/heads/main");
+      verifyRefs(index.getBranches(third), "refs/heads/main");
+      verifyRefs(index.getTags(second), "refs/tags/v2");
+      verifyRefs(index.getBranches(fourth), "refs/heads/rewritten");
+    } finally {
+      CFile.of(source).forceDelete();
+    }
+  }
+
+  private static void verifyRefs(List<CGitReachabilityIndex.IndexedRef> refs, String... expected) {
+    CVerify.Collection.containsAll(
+        refs.stream().map(CGitReachabilityIndex.IndexedRef::getName).collect(Collectors.toList()),
+        List.of(expected),
+        "Index contains expected refs");
+    CVerify.Int.equals(refs.size(), expected.length, "Index has correct number of refs");
+  }
+
+  private static RevCommit commit(Git git, String message) throws Exception {
+    File file = new File(git.getRepository().getWorkTree(), message + ".txt");
+    Files.writeString(file.toPath(), message);
+    git.add().addFilepattern(".").call();
+    return git.commit().setMessage(message).setAuthor("tester", "tester@catools.org").call();
+  }
+}
@@ -17,7 +17,9 @@ import org.catools.etl.k8s.model.CEtlKubeProject;
 import org.catools.k8s.model.CKubeContainer;
 import org.catools.k8s.model.CKubeContainerStateInfo;
 import org.catools.k8s.model.CKubePod;
+import org.catools.k8s.model.CKubePodChanges;
 import org.catools.k8s.model.CKubePods;
+import org.catools.k8s.utils.CKubePodInformer;
 
 @Slf4j
 @UtilityClass
@@ -29,8 +31,56 @@ public class CEtlKubeLoader {
    * @param pods Pods to load
    */
   public static void loadPods(String projectName, CKubePods pods, int totalParallelProcessors) {
-    Iterator<CKubePod> podsToLoad = pods.iterator();
+    savePods(projectName, pods, CDate.now(), totalParallelProcessors);
+  }
+
+  /**
+   * Sync pods using informer and only load pods which have been added, modified or deleted since
+   * the previous sync to DB. Deleted pods are kept in DB with their deletion time.
+   *
+   * @param projectName Project name to assign to all pods
+   * @param informer The informer to read pod changes from
+   * @return the changes which have been loaded
+   */
+  public static CKubePodChanges syncPods(
+      String projectName, CKubePodInformer informer, int totalParallelProcessors) {
+    CKubePodChanges changes = informer.sync();
+    loadPodChanges(projectName, changes, totalParallelProcessors);
+    return changes;
+  }
+
+  /**
+   * Load added, modified and deleted pods to DB. Deleted pods are kept in DB with their deletion
+   * time.
+   *
+   * @param projectName Project name to assign to all pods
+   * @param changes Pod changes to load
+   */
+  public static void loadPodChanges(
+      String projectName, CKubePodChanges changes, int totalParallelProcessors) {
+    if (changes.isEmpty()) return;
+
     CDate loadTime = CDate.now();
+    CKubePods pods = new CKubePods();
+    pods.addAll(changes.getAdded());
+    pods.addAll(changes.getModified());
+    changes.getDeleted().stream()
+        .map(p -> p.getDeletedAt() == null ? p.setDeletedAt(loadTime) : p)
+        .forEach(pods::add);
+
+    savePods(projectName, pods, loadTime, totalParallelProcessors);
+    log.info(
+        "{} pods loaded for {} project, {} added, {} modified, {} deleted.",
+        changes.size(),
+        projectName,
+        changes.getAdded().size(),
+        changes.getModified().size(),
+        changes.getDeleted().size());
+  }
+
+  private static void savePods(
+      String projectName, CKubePods pods, CDate loadTime, int totalParallelProcessors) {
+    Iterator<CKubePod> podsToLoad = pods.iterator();
     CParallelRunner<Boolean> runner =
         new CParallelRunner<>(
             "Load Pods",
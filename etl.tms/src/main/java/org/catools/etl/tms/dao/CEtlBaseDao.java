@@ -110,6 +110,19 @@ public class CEtlBaseDao {
   }
 
   protected static synchronized <T> T doTransaction(Function<EntityManager, T> action) {
+    return doConcurrentTransaction(action);
+  }
+
+  /**
+   * Runs the action in a transaction without the lock which {@link #doTransaction(Function)} holds,
+   * so transactions from several threads run at the same time. Only use it for records whose
+   * related records are already saved, otherwise concurrent transactions can insert the same
+   * related record twice.
+   *
+   * @param action the action to run in the transaction
+   * @return the result of the action
+   */
+  protected static <T> T doConcurrentTransaction(Function<EntityManager, T> action) {
     EntityManager em = getEntityManager();
     EntityTransaction tx = null;
     try {
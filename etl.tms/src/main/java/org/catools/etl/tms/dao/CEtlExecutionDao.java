@@ -2,16 +2,39 @@ package org.catools.etl.tms.dao;
 
 import lombok.extern.slf4j.Slf4j;
 import org.catools.common.collections.CSet;
+import org.catools.etl.tms.configs.CEtlConfigs;
 import org.catools.etl.tms.helpers.CEtlHelper;
 import org.catools.etl.tms.model.CEtlExecution;
 import org.catools.etl.tms.model.CEtlExecutions;
 
 @Slf4j
 public class CEtlExecutionDao extends CEtlBaseDao {
+  /**
+   * Normalize executions and merge them in transactions of {@code
+   * catools.etl.tms.bulk_transaction_partition_size} records rather than one transaction per
+   * execution.
+   *
+   * <p>Normalizing reads or saves the item, cycle, executor and status of each execution through
+   * {@link org.catools.etl.tms.cache.CEtlCacheManager}, so the transactions only save executions
+   * and can run at the same time as transactions of other threads.
+   *
+   * @param executions the executions to merge
+   */
   public static void mergeExecutions(CEtlExecutions executions) {
+    log.trace("Start merging {} executions.", executions.size());
     for (CEtlExecution execution : executions) {
-      mergeExecution(execution);
+      CEtlHelper.normalizeExecution(execution);
     }
+    executions
+        .partition(CEtlConfigs.getEtlBulkTransactionPartitionSize())
+        .forEach(
+            partition ->
+                doConcurrentTransaction(
+                    session -> {
+                      partition.forEach(session::merge);
+                      return true;
+                    }));
+    log.trace("Finish merging {} executions.", executions.size());
   }
 
   public static void mergeExecution(CEtlExecution execution) {
@@ -0,0 +1,93 @@
+package org.catools.etl.tms.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.catools.common.date.CDate;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.etl.tms.dao.CEtlBaseDao;
+import org.catools.etl.tms.dao.CEtlExecutionDao;
+import org.catools.etl.tms.model.*;
+import org.testng.annotations.Test;
+
+public class CEtlExecutionDaoTest {
+  private static final int ITEM_COUNT = 20;
+  private static final int THREAD_COUNT = 4;
+
+  @Test
+  public void testMergeExecutionsInConcurrentTransactions() throws Exception {
+    CEtlProject project = new CEtlProject("ConcurrentProject");
+    CEtlVersion version = new CEtlVersion("CV1", project);
+    CEtlCycle cycle = new CEtlCycle("C-1", "Concurrent Cycle", version, CDate.now(), CDate.now());
+    CEtlUser user = new CEtlUser("concurrent");
+    CEtlExecutionStatus status = new CEtlExecutionStatus("Passed");
+
+    List<CEtlItem> items = new ArrayList<>();
+    for (int i = 0; i < ITEM_COUNT; i++) {
+      items.add(
+          new CEtlItem(
+              "CT-" + i,
+              "Item " + i,
+              CDate.now().addMonths(-2),
+              CDate.now().addMonths(-1),
+              project,
+              new CEtlItemType("Test"),
+              new CEtlVersions(version),
+              new CEtlStatus("Open"),
+              new CEtlPriority("High")));
+    }
+
+    // first run adds the shared records, so the concurrent runs only add executions
+    CEtlExecutionDao.mergeExecutions(executions("A", items, cycle, user, status, 0, ITEM_COUNT));
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      int batchSize = ITEM_COUNT / THREAD_COUNT;
+      for (int i = 0; i < THREAD_COUNT; i++) {
+        CEtlExecutions batch =
+            executions("B", items, cycle, user, status, i * batchSize, (i + 1) * batchSize);
+        futures.add(executor.submit(() -> CEtlExecutionDao.mergeExecutions(batch)));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (int i = 0; i < ITEM_COUNT; i++) {
+      CVerify.Object.isNotNull(
+          CEtlBaseDao.find(CEtlExecution.class, "B" + i), "Execution B" + i + " is saved");
+    }
+    CVerify.Int.equals(
+        CEtlExecutionDao.getExecutionsByCycleId(cycle.getId()).size(),
+        ITEM_COUNT,
+        "Executions of all items are saved");
+  }
+
+  private static CEtlExecutions executions(
+      String prefix,
+      List<CEtlItem> items,
+      CEtlCycle cycle,
+      CEtlUser user,
+      CEtlExecutionStatus status,
+      int from,
+      int to) {
+    CEtlExecutions executions = new CEtlExecutions();
+    for (int i = from; i < to; i++) {
+      executions.add(
+          new CEtlExecution(
+              prefix + i,
+              items.get(i),
+              cycle,
+              CDate.now().addMonths(-2),
+              CDate.now().addMonths(-1),
+              user,
+              status));
+    }
+    return executions;
+  }
+}
@@ -187,6 +187,62 @@ public class CPipelineTestNGConfigs {
     return CHocon.asBoolean(Configs.CATOOLS_PIPELINE_LISTENER_CREATE_IF_NOT_EXIST);
   }
 
+  /**
+   * Returns the maximum number of test executions waiting to be saved to the database.
+   *
+   * <p>Test threads only queue executions and a background writer saves them. When the queue is
+   * full, test threads wait until the writer catches up.
+   *
+   * <h4>Configuration Property:</h4>
+   *
+   * {@code catools.pipeline.listener.recorder.queue_capacity}
+   *
+   * <h4>Default Value:</h4>
+   *
+   * {@code 10000}
+   *
+   * @return the capacity of the execution queue
+   */
+  public static int getRecorderQueueCapacity() {
+    return CHocon.asInteger(Configs.CATOOLS_PIPELINE_LISTENER_RECORDER_QUEUE_CAPACITY);
+  }
+
+  /**
+   * Returns the maximum number of test executions saved in a single transaction.
+   *
+   * <h4>Configuration Property:</h4>
+   *
+   * {@code catools.pipeline.listener.recorder.batch_size}
+   *
+   * <h4>Default Value:</h4>
+   *
+   * {@code 100}
+   *
+   * @return the number of executions per transaction
+   */
+  public static int getRecorderBatchSize() {
+    return CHocon.asInteger(Configs.CATOOLS_PIPELINE_LISTENER_RECORDER_BATCH_SIZE);
+  }
+
+  /**
+   * Returns the folder, relative to the storage directory, where test executions which could not be
+   * saved are written to. Executions in this folder are saved once the database is available again,
+   * either later in the same run or in the next one.
+   *
+   * <h4>Configuration Property:</h4>
+   *
+   * {@code catools.pipeline.listener.recorder.spill_folder}
+   *
+   * <h4>Default Value:</h4>
+   *
+   * {@code pipeline_spill}
+   *
+   * @return the spill folder name
+   */
+  public static String getRecorderSpillFolder() {
+    return CHocon.asString(Configs.CATOOLS_PIPELINE_LISTENER_RECORDER_SPILL_FOLDER);
+  }
+
   /**
    * Enumeration of configuration paths used by the pipeline TestNG module.
    *
@@ -229,7 +285,18 @@ public class CPipelineTestNGConfigs {
         "catools.pipeline.listener.always_create_new_pipeline"),
 
     /** Configuration path for creating pipelines when they don't exist */
-    CATOOLS_PIPELINE_LISTENER_CREATE_IF_NOT_EXIST("catools.pipeline.listener.create_if_not_exist");
+    CATOOLS_PIPELINE_LISTENER_CREATE_IF_NOT_EXIST("catools.pipeline.listener.create_if_not_exist"),
+
+    /** Configuration path for the capacity of the execution queue */
+    CATOOLS_PIPELINE_LISTENER_RECORDER_QUEUE_CAPACITY(
+        "catools.pipeline.listener.recorder.queue_capacity"),
+
+    /** Configuration path for the number of executions saved per transaction */
+    CATOOLS_PIPELINE_LISTENER_RECORDER_BATCH_SIZE("catools.pipeline.listener.recorder.batch_size"),
+
+    /** Configuration path for the folder of executions which could not be saved */
+    CATOOLS_PIPELINE_LISTENER_RECORDER_SPILL_FOLDER(
+        "catools.pipeline.listener.recorder.spill_folder");
 
     /** The HOCON configuration path */
     private final String path;
@@ -4,34 +4,27 @@ import static org.catools.pipeline.cache.CPipelineCacheManager.getExecutor;
 import static org.catools.pipeline.cache.CPipelineCacheManager.readExecutionMetaData;
 import static org.catools.pipeline.cache.CPipelineCacheManager.readMetaData;
 
-import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import org.apache.commons.lang3.StringUtils;
-import org.catools.common.annotations.CAwaiting;
-import org.catools.common.annotations.CDefects;
-import org.catools.common.annotations.CDeferred;
-import org.catools.common.annotations.CIgnored;
-import org.catools.common.annotations.COpenDefects;
-import org.catools.common.annotations.CRegression;
-import org.catools.common.annotations.CSeverity;
-import org.catools.common.annotations.CTestIds;
+import lombok.extern.slf4j.Slf4j;
 import org.catools.common.date.CDate;
 import org.catools.common.testng.model.CTestResult;
-import org.catools.common.utils.CJsonUtil;
-import org.catools.common.utils.CStringUtil;
 import org.catools.pipeline.configs.CPipelineConfigs;
 import org.catools.pipeline.configs.CPipelineTestNGConfigs;
 import org.catools.pipeline.dao.CPipelineBaseDao;
 import org.catools.pipeline.dao.CPipelineDao;
+import org.catools.pipeline.dao.CPipelineExecutionDao;
 import org.catools.pipeline.model.CPipeline;
 import org.catools.pipeline.model.CPipelineExecution;
 import org.catools.pipeline.model.CPipelineExecutionException;
 import org.catools.pipeline.model.CPipelineExecutionMetaData;
 import org.catools.pipeline.model.CPipelineMetaData;
 import org.catools.pipeline.model.CPipelineStatus;
-import org.testng.annotations.Test;
+import org.catools.pipeline.recorder.CPipelineExecutionRecord;
+import org.catools.pipeline.recorder.CPipelineRecorder;
 
 /**
  * Helper class for managing pipeline operations and test execution tracking. This class provides
@@ -66,6 +59,7 @@ import org.testng.annotations.Test;
  * @see CPipelineExecution
  * @since 1.0
  */
+@Slf4j
 public class CPipelineHelper {
 
   /**
@@ -226,138 +220,83 @@ public class CPipelineHelper {
       List<CPipelineExecutionMetaData> executionMetaData) {
     if (!CPipelineTestNGConfigs.isEnabled()) return;
 
-    CPipelineExecution execution = new CPipelineExecution();
-
-    if (testResult.getTestIds() != null)
-      testResult
-          .getTestIds()
-          .forEach(t -> executionMetaData.add(readExecutionMetaData("Test ID", t)));
-
-    if (testResult.getOpenDefectIds() != null)
-      testResult
-          .getOpenDefectIds()
-          .forEach(t -> executionMetaData.add(readExecutionMetaData("Open Defect ID", t)));
-
-    if (testResult.getDefectIds() != null)
-      testResult
-          .getDefectIds()
-          .forEach(t -> executionMetaData.add(readExecutionMetaData("Defect ID", t)));
-
-    if (testResult.getDeferredId() != null)
-      testResult
-          .getDeferredId()
-          .forEach(t -> executionMetaData.add(readExecutionMetaData("Deferred ID", t)));
-
-    if (testResult.getMethodGroups() != null)
-      testResult
-          .getMethodGroups()
-          .forEach(t -> executionMetaData.add(readExecutionMetaData("Method Group", t)));
-
-    if (testResult.getParameters() != null && testResult.getParameters().length > 0)
-      executionMetaData.add(
-          readExecutionMetaData("Parameters", CJsonUtil.toString(testResult.getParameters())));
+    CPipelineBaseDao.merge(
+        toExecution(
+            pipeline,
+            new CPipelineExecutionRecord(pipeline.getId(), testResult),
+            executionMetaData));
+  }
 
-    if (StringUtils.isNotBlank(testResult.getAwaiting()))
-      executionMetaData.add(readExecutionMetaData("Awaiting", testResult.getAwaiting()));
+  /**
+   * Inserts snapshots of test executions in a single batched transaction. Executions are attached
+   * to the given pipeline, or to the pipeline with the id of the snapshot if it belongs to another
+   * one, which is the case for snapshots left in spill files by an earlier run.
+   *
+   * @param pipeline the pipeline of the current run
+   * @param records the snapshots to save
+   * @see CPipelineRecorder
+   */
+  public static void saveExecutions(CPipeline pipeline, List<CPipelineExecutionRecord> records) {
+    Map<Integer, CPipeline> pipelines = new HashMap<>();
+    pipelines.put(pipeline.getId(), pipeline);
 
-    if (testResult.getRegressionDepth() != null)
-      executionMetaData.add(
-          readExecutionMetaData("Regression Depth", testResult.getRegressionDepth().toString()));
+    List<CPipelineExecution> executions = new ArrayList<>();
+    for (CPipelineExecutionRecord record : records) {
+      CPipeline owner =
+          pipelines.computeIfAbsent(
+              record.getPipelineId(), id -> CPipelineBaseDao.find(CPipeline.class, id));
+      if (owner == null) {
+        log.warn(
+            "Pipeline {} does not exist, execution {} is dropped.", record.getPipelineId(), record);
+        continue;
+      }
+      executions.add(toExecution(owner, record, new ArrayList<>()));
+    }
 
-    if (testResult.getSeverityLevel() != null)
-      executionMetaData.add(
-          readExecutionMetaData("Severity Level", testResult.getSeverityLevel().toString()));
+    CPipelineExecutionDao.insertAll(executions);
+  }
 
-    if (StringUtils.isNotBlank(testResult.getHost()))
-      executionMetaData.add(readExecutionMetaData("Host", testResult.getHost()));
+  /**
+   * Builds the execution entity from a snapshot, resolving metadata to saved entities.
+   *
+   * @param pipeline the pipeline to add the execution to
+   * @param record the snapshot of the test execution
+   * @param executionMetaData additional metadata to be associated with the execution
+   * @return the execution to merge
+   */
+  private static CPipelineExecution toExecution(
+      CPipeline pipeline,
+      CPipelineExecutionRecord record,
+      List<CPipelineExecutionMetaData> executionMetaData) {
+    CPipelineExecution execution = new CPipelineExecution();
 
-    if (testResult.getAnnotations() != null) {
-      for (Object annotation : testResult.getAnnotations()) {
-        if (skipAlreadyAddedAnnotations(annotation)) continue;
-        Annotation annot = (Annotation) annotation;
-        Class<? extends Annotation> annotationType = annot.annotationType();
-        executionMetaData.add(
-            readExecutionMetaData(
-                annotationType.getSimpleName(),
-                annot.toString().replace("@" + annotationType.getName(), CStringUtil.EMPTY)));
-      }
-    }
+    record
+        .getMetadata()
+        .forEach(m -> executionMetaData.add(readExecutionMetaData(m.getName(), m.getValue())));
 
-    if (testResult.getExceptionInfo() != null)
+    if (record.hasException())
       execution.setException(
           new CPipelineExecutionException(
-              testResult.getExceptionInfo().getType(),
-              testResult.getExceptionInfo().getMessage(),
-              testResult.getExceptionInfo().getStackTrace()));
-
-    if (testResult.getExecutionMetadata() != null)
-      testResult
-          .getExecutionMetadata()
-          .forEach(m -> executionMetaData.add(readExecutionMetaData(m.getName(), m.getValue())));
+              record.getExceptionType(),
+              record.getExceptionMessage(),
+              record.getExceptionStackTrace()));
 
-    execution
+    return execution
         .setPipeline(pipeline)
-        .setStatus(
-            new CPipelineStatus(testResult.getStatus().getId(), testResult.getStatus().name()))
+        .setStatus(new CPipelineStatus(record.getStatusId(), record.getStatusName()))
         .setExecutor(getExecutor())
-        .setStartTime(testResult.getStartTime())
-        .setEndTime(testResult.getEndTime())
-        .setTestStartTime(testResult.getTestStartTime())
-        .setTestEndTime(testResult.getTestEndTime())
-        .setBeforeClassStartTime(testResult.getBeforeClassStartTime())
-        .setBeforeClassEndTime(testResult.getBeforeClassEndTime())
-        .setBeforeMethodStartTime(testResult.getBeforeMethodStartTime())
-        .setBeforeMethodEndTime(testResult.getBeforeMethodEndTime())
-        .setPackageName(testResult.getPackageName())
-        .setClassName(testResult.getClassName())
-        .setMethodName(testResult.getMethodName())
+        .setStartTime(record.getStartTime())
+        .setEndTime(record.getEndTime())
+        .setTestStartTime(record.getTestStartTime())
+        .setTestEndTime(record.getTestEndTime())
+        .setBeforeClassStartTime(record.getBeforeClassStartTime())
+        .setBeforeClassEndTime(record.getBeforeClassEndTime())
+        .setBeforeMethodStartTime(record.getBeforeMethodStartTime())
+        .setBeforeMethodEndTime(record.getBeforeMethodEndTime())
+        .setPackageName(record.getPackageName())
+        .setClassName(record.getClassName())
+        .setMethodName(record.getMethodName())
         .setMetadata(executionMetaData);
-
-    CPipelineBaseDao.merge(execution);
-  }
-
-  /**
-   * Determines whether certain annotations should be skipped during metadata extraction. This
-   * method filters out annotations that are already processed elsewhere to avoid duplication.
-   *
-   * <p>The following annotations are skipped:
-   *
-   * <ul>
-   *   <li>{@code @Test} - TestNG's basic test annotation
-   *   <li>{@code @CRegression} - Custom regression annotation
-   *   <li>{@code @CSeverity} - Custom severity annotation
-   *   <li>{@code @CDefects} - Custom defects annotation
-   *   <li>{@code @CAwaiting} - Custom awaiting annotation
-   *   <li>{@code @COpenDefects} - Custom open defects annotation
-   *   <li>{@code @CDeferred} - Custom deferred annotation
-   *   <li>{@code @CTestIds} - Custom test IDs annotation
-   *   <li>{@code @CIgnored} - Custom ignored annotation
-   * </ul>
-   *
-   * @param annotation the annotation to check
-   * @return true if the annotation should be skipped, false otherwise
-   * @example
-   *     <pre>{@code
-   * // This method is used internally during annotation processing
-   * for (Object annotation : testResult.getAnnotations()) {
-   *     if (skipAlreadyAddedAnnotations(annotation)) {
-   *         continue; // Skip processing this annotation
-   *     }
-   *     // Process custom annotations that aren't already handled
-   *     processCustomAnnotation(annotation);
-   * }
-   * }</pre>
-   */
-  private static boolean skipAlreadyAddedAnnotations(Object annotation) {
-    return annotation instanceof Test
-        || annotation instanceof CRegression
-        || annotation instanceof CSeverity
-        || annotation instanceof CDefects
-        || annotation instanceof CAwaiting
-        || annotation instanceof COpenDefects
-        || annotation instanceof CDeferred
-        || annotation instanceof CTestIds
-        || annotation instanceof CIgnored;
   }
 
   /**
@@ -6,6 +6,8 @@ import org.catools.common.testng.model.CTestResult;
 import org.catools.pipeline.dao.CPipelineDao;
 import org.catools.pipeline.helpers.CPipelineHelper;
 import org.catools.pipeline.model.CPipeline;
+import org.catools.pipeline.recorder.CPipelineExecutionRecord;
+import org.catools.pipeline.recorder.CPipelineRecorder;
 import org.testng.IInvokedMethod;
 import org.testng.ITestContext;
 import org.testng.ITestNGMethod;
@@ -57,12 +59,16 @@ import org.testng.ITestResult;
  * @see CITestNGListener
  * @see CPipelineHelper
  * @see CPipelineDao
+ * @see CPipelineRecorder
  * @since 1.0
  */
 public class CPipelineListener implements CITestNGListener {
   /** The current pipeline instance being tracked */
   private static CPipeline pipeline;
 
+  /** Saves test executions of the pipeline in the background */
+  private static volatile CPipelineRecorder recorder;
+
   /** Start time of the current test method */
   private CDate testStartTime;
 
@@ -157,7 +163,8 @@ public class CPipelineListener implements CITestNGListener {
    * Called when a test method passes successfully. Records the successful test result with complete
    * timing information.
    *
-   * <p>This method is thread-safe and can handle concurrent test execution.
+   * <p>This method is thread-safe and can handle concurrent test execution. The result is queued
+   * and saved to the database in the background.
    *
    * <p><strong>Example successful test flow:</strong>
    *
@@ -173,7 +180,7 @@ public class CPipelineListener implements CITestNGListener {
    * @param result the test result containing execution details and outcome
    */
   @Override
-  public synchronized void onTestSuccess(ITestResult result) {
+  public void onTestSuccess(ITestResult result) {
     addResult(result);
   }
 
@@ -203,7 +210,7 @@ public class CPipelineListener implements CITestNGListener {
    * @param result the test result containing failure details and stack trace
    */
   @Override
-  public synchronized void onTestFailure(ITestResult result) {
+  public void onTestFailure(ITestResult result) {
     addResult(result);
   }
 
@@ -237,7 +244,7 @@ public class CPipelineListener implements CITestNGListener {
    * @param result the test result containing skip details and reason
    */
   @Override
-  public synchronized void onTestSkipped(ITestResult result) {
+  public void onTestSkipped(ITestResult result) {
     addResult(result);
   }
 
@@ -283,7 +290,10 @@ public class CPipelineListener implements CITestNGListener {
    */
   @Override
   public void onExecutionFinish() {
-    CPipelineDao.updateEndDate(pipeline.getId(), CDate.now().getTimeStamp());
+    closeRecorder();
+    if (pipeline != null) {
+      CPipelineDao.updateEndDate(pipeline.getId(), CDate.now().getTimeStamp());
+    }
   }
 
   /**
@@ -291,7 +301,8 @@ public class CPipelineListener implements CITestNGListener {
    * ensures only one pipeline is created per test run.
    *
    * <p>The pipeline is obtained from CPipelineHelper, which handles the configuration and setup
-   * based on the current environment context.
+   * based on the current environment context. A {@link CPipelineRecorder} is started to save test
+   * executions of the pipeline.
    *
    * <p><strong>Thread Safety:</strong> This method uses synchronization to prevent multiple threads
    * from creating duplicate pipeline instances during parallel test execution.
@@ -300,6 +311,20 @@ public class CPipelineListener implements CITestNGListener {
     if (pipeline == null) {
       pipeline = CPipelineHelper.getPipeline();
     }
+    if (pipeline != null && recorder == null) {
+      recorder = new CPipelineRecorder(pipeline);
+    }
+  }
+
+  /**
+   * Waits until all queued test executions are saved or spilled and stops the recorder, so the
+   * pipeline end date is only set after its executions are recorded.
+   */
+  private static synchronized void closeRecorder() {
+    if (recorder != null) {
+      recorder.close();
+      recorder = null;
+    }
   }
 
   /**
@@ -379,7 +404,7 @@ public class CPipelineListener implements CITestNGListener {
    * testStartTime ─────────────▶ testEndTime (CDate.now())
    * </pre>
    *
-   * <p>The assembled result is then added to the pipeline for tracking and reporting.
+   * <p>A snapshot of the assembled result is then queued to be saved to the pipeline.
    *
    * @param testResult the TestNG result containing execution details and outcome
    */
@@ -391,6 +416,9 @@ public class CPipelineListener implements CITestNGListener {
     result.setBeforeMethodStartTime(beforeMethodStartTime);
     result.setBeforeMethodEndTime(beforeMethodEndTime);
 
-    CPipelineHelper.addExecution(pipeline, result);
+    CPipelineRecorder currentRecorder = recorder;
+    if (currentRecorder != null) {
+      currentRecorder.record(new CPipelineExecutionRecord(pipeline.getId(), result));
+    }
   }
 }
@@ -0,0 +1,187 @@
+package org.catools.pipeline.recorder;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.catools.common.annotations.CAwaiting;
+import org.catools.common.annotations.CDefects;
+import org.catools.common.annotations.CDeferred;
+import org.catools.common.annotations.CIgnored;
+import org.catools.common.annotations.COpenDefects;
+import org.catools.common.annotations.CRegression;
+import org.catools.common.annotations.CSeverity;
+import org.catools.common.annotations.CTestIds;
+import org.catools.common.testng.model.CTestResult;
+import org.catools.common.utils.CJsonUtil;
+import org.catools.common.utils.CStringUtil;
+import org.catools.pipeline.model.CPipelineExecutionMetaData;
+import org.testng.annotations.Test;
+
+/**
+ * Immutable snapshot of a test execution which is taken on the test thread and saved later by
+ * {@link CPipelineRecorder}.
+ *
+ * <p>The snapshot only holds plain values, so it does not touch the database when it is created and
+ * it can be written to a spill file while the database is not available. Execution metadata is kept
+ * as unsaved name-value pairs and resolved to saved entities when the execution is saved.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * CPipelineExecutionRecord record = new CPipelineExecutionRecord(pipeline.getId(), testResult);
+ * recorder.record(record);
+ * }</pre>
+ *
+ * @see CPipelineRecorder
+ */
+@Getter
+@ToString
+public class CPipelineExecutionRecord implements Serializable {
+
+  @Serial private static final long serialVersionUID = 2219347581045813707L;
+
+  private final int pipelineId;
+  private final int statusId;
+  private final String statusName;
+  private final Date startTime;
+  private final Date endTime;
+  private final Date testStartTime;
+  private final Date testEndTime;
+  private final Date beforeClassStartTime;
+  private final Date beforeClassEndTime;
+  private final Date beforeMethodStartTime;
+  private final Date beforeMethodEndTime;
+  private final String packageName;
+  private final String className;
+  private final String methodName;
+  private final String exceptionType;
+  private final String exceptionMessage;
+  private final String exceptionStackTrace;
+  private final List<CPipelineExecutionMetaData> metadata;
+
+  /**
+   * Takes a snapshot of the test result.
+   *
+   * @param pipelineId the id of the pipeline the execution belongs to
+   * @param testResult the test result containing execution details
+   */
+  public CPipelineExecutionRecord(int pipelineId, CTestResult testResult) {
+    this.pipelineId = pipelineId;
+    this.statusId = testResult.getStatus().getId();
+    this.statusName = testResult.getStatus().name();
+    this.startTime = testResult.getStartTime();
+    this.endTime = testResult.getEndTime();
+    this.testStartTime = testResult.getTestStartTime();
+    this.testEndTime = testResult.getTestEndTime();
+    this.beforeClassStartTime = testResult.getBeforeClassStartTime();
+    this.beforeClassEndTime = testResult.getBeforeClassEndTime();
+    this.beforeMethodStartTime = testResult.getBeforeMethodStartTime();
+    this.beforeMethodEndTime = testResult.getBeforeMethodEndTime();
+    this.packageName = testResult.getPackageName();
+    this.className = testResult.getClassName();
+    this.methodName = testResult.getMethodName();
+
+    if (testResult.getExceptionInfo() != null) {
+      this.exceptionType = testResult.getExceptionInfo().getType();
+      this.exceptionMessage = testResult.getExceptionInfo().getMessage();
+      this.exceptionStackTrace = testResult.getExceptionInfo().getStackTrace();
+    } else {
+      this.exceptionType = null;
+      this.exceptionMessage = null;
+      this.exceptionStackTrace = null;
+    }
+
+    this.metadata = Collections.unmodifiableList(readMetadata(testResult));
+  }
+
+  /**
+   * Whether the test failed with an exception.
+   *
+   * @return true if exception information is available
+   */
+  public boolean hasException() {
+    return exceptionType != null || exceptionMessage != null || exceptionStackTrace != null;
+  }
+
+  private static List<CPipelineExecutionMetaData> readMetadata(CTestResult testResult) {
+    List<CPipelineExecutionMetaData> metadata = new ArrayList<>();
+
+    if (testResult.getTestIds() != null)
+      testResult.getTestIds().forEach(t -> metadata.add(metadata("Test ID", t)));
+
+    if (testResult.getOpenDefectIds() != null)
+      testResult.getOpenDefectIds().forEach(t -> metadata.add(metadata("Open Defect ID", t)));
+
+    if (testResult.getDefectIds() != null)
+      testResult.getDefectIds().forEach(t -> metadata.add(metadata("Defect ID", t)));
+
+    if (testResult.getDeferredId() != null)
+      testResult.getDeferredId().forEach(t -> metadata.add(metadata("Deferred ID", t)));
+
+    if (testResult.getMethodGroups() != null)
+      testResult.getMethodGroups().forEach(t -> metadata.add(metadata("Method Group", t)));
+
+    if (testResult.getParameters() != null && testResult.getParameters().length > 0)
+      metadata.add(metadata("Parameters", CJsonUtil.toString(testResult.getParameters())));
+
+    if (StringUtils.isNotBlank(testResult.getAwaiting()))
+      metadata.add(metadata("Awaiting", testResult.getAwaiting()));
+
+    if (testResult.getRegressionDepth() != null)
+      metadata.add(metadata("Regression Depth", testResult.getRegressionDepth().toString()));
+
+    if (testResult.getSeverityLevel() != null)
+      metadata.add(metadata("Severity Level", testResult.getSeverityLevel().toString()));
+
+    if (StringUtils.isNotBlank(testResult.getHost()))
+      metadata.add(metadata("Host", testResult.getHost()));
+
+    if (testResult.getAnnotations() != null) {
+      for (Object annotation : testResult.getAnnotations()) {
+        if (skipAlreadyAddedAnnotations(annotation)) continue;
+        Annotation annot = (Annotation) annotation;
+        Class<? extends Annotation> annotationType = annot.annotationType();
+        metadata.add(
+            metadata(
+                annotationType.getSimpleName(),
+                annot.toString().replace("@" + annotationType.getName(), CStringUtil.EMPTY)));
+      }
+    }
+
+    if (testResult.getExecutionMetadata() != null)
+      testResult
+          .getExecutionMetadata()
+          .forEach(m -> metadata.add(metadata(m.getName(), m.getValue())));
+
+    return metadata;
+  }
+
+  private static CPipelineExecutionMetaData metadata(String name, String value) {
+    return new CPipelineExecutionMetaData(name, value);
+  }
+
+  /**
+   * Determines whether the annotation is already added to metadata by a dedicated field.
+   *
+   * @param annotation the annotation to check
+   * @return true if the annotation should be skipped, false otherwise
+   */
+  private static boolean skipAlreadyAddedAnnotations(Object annotation) {
+    return annotation instanceof Test
+        || annotation instanceof CRegression
+        || annotation instanceof CSeverity
+        || annotation instanceof CDefects
+        || annotation instanceof CAwaiting
+        || annotation instanceof COpenDefects
+        || annotation instanceof CDeferred
+        || annotation instanceof CTestIds
+        || annotation instanceof CIgnored;
+  }
+}
@@ -0,0 +1,230 @@
+package org.catools.pipeline.recorder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.catools.common.concurrent.CBackgroundQueue;
+import org.catools.common.configs.CPathConfigs;
+import org.catools.pipeline.configs.CPipelineTestNGConfigs;
+import org.catools.pipeline.helpers.CPipelineHelper;
+import org.catools.pipeline.model.CPipeline;
+
+/**
+ * Write-behind recorder for test executions of a pipeline.
+ *
+ * <p>Test threads only take a {@link CPipelineExecutionRecord} snapshot and put it in a {@link
+ * CBackgroundQueue}, and a background thread saves queued snapshots in batches of up to {@code
+ * batchSize} executions per transaction. When the queue is full, test threads wait until the writer
+ * catches up, so memory use stays bounded.
+ *
+ * <p>When a batch cannot be saved, for example while the database is not available, it is written
+ * to a spill file in {@code spillFolder}. Spill files are saved again after the next successful
+ * batch and when the recorder is closed, and files left by an earlier run are picked up by the next
+ * recorder using the same folder. {@link #close()} waits until every queued execution is either
+ * saved or spilled.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * try (CPipelineRecorder recorder = new CPipelineRecorder(pipeline)) {
+ *   recorder.record(new CPipelineExecutionRecord(pipeline.getId(), testResult));
+ * }
+ * }</pre>
+ */
+@Slf4j
+public class CPipelineRecorder implements AutoCloseable {
+  private static final String SPILL_FILE_PREFIX = "executions-";
+  private static final String SPILL_FILE_SUFFIX = ".ser";
+
+  private final Consumer<List<CPipelineExecutionRecord>> writer;
+  private final File spillFolder;
+  private final AtomicInteger spillCounter = new AtomicInteger();
+  private final AtomicInteger savedCount = new AtomicInteger();
+  private final Object writeLock = new Object();
+  private final CBackgroundQueue<CPipelineExecutionRecord> queue;
+  private volatile boolean hasSpilled;
+
+  /**
+   * Creates a recorder which saves executions to the pipeline using the configured queue capacity,
+   * batch size and spill folder.
+   *
+   * @param pipeline the pipeline of the current run
+   */
+  public CPipelineRecorder(CPipeline pipeline) {
+    this(
+        records -> CPipelineHelper.saveExecutions(pipeline, records),
+        CPipelineTestNGConfigs.getRecorderQueueCapacity(),
+        CPipelineTestNGConfigs.getRecorderBatchSize(),
+        CPathConfigs.fromStorage(CPipelineTestNGConfigs.getRecorderSpillFolder()));
+  }
+
+  /**
+   * Creates a recorder.
+   *
+   * @param writer saves a batch of executions in a single transaction
+   * @param queueCapacity the maximum number of executions waiting to be saved
+   * @param batchSize the maximum number of executions to save in a single transaction
+   * @param spillFolder the folder to write executions which could not be saved to
+   */
+  public CPipelineRecorder(
+      Consumer<List<CPipelineExecutionRecord>> writer,
+      int queueCapacity,
+      int batchSize,
+      File spillFolder) {
+    this.writer = Objects.requireNonNull(writer);
+    this.spillFolder = Objects.requireNonNull(spillFolder);
+    this.hasSpilled = getSpillFiles().length > 0;
+    this.queue =
+        new CBackgroundQueue<>("Pipeline Recorder", queueCapacity, 1, batchSize, this::saveBatch);
+  }
+
+  /**
+   * Adds the execution to the queue, waiting for space if the queue is full. After the recorder is
+   * closed, the execution is saved on the calling thread.
+   *
+   * @param record the snapshot of the test execution
+   */
+  public void record(CPipelineExecutionRecord record) {
+    queue.add(record);
+  }
+
+  /**
+   * The number of executions which are waiting to be saved.
+   *
+   * @return number of queued executions
+   */
+  public int getPendingCount() {
+    return queue.getPendingCount();
+  }
+
+  /**
+   * The number of executions which have been saved.
+   *
+   * @return number of saved executions
+   */
+  public int getSavedCount() {
+    return savedCount.get();
+  }
+
+  /**
+   * The number of spill files with executions which have not been saved yet.
+   *
+   * @return number of spill files
+   */
+  public int getSpillFileCount() {
+    return getSpillFiles().length;
+  }
+
+  /**
+   * Stops accepting executions to the queue, waits until all queued executions are saved or
+   * spilled, and tries to save spill files one more time.
+   */
+  @Override
+  public void close() {
+    queue.close();
+
+    replaySpillFiles();
+    int spillFileCount = getSpillFileCount();
+    if (spillFileCount > 0) {
+      log.error(
+          "{} spill files with unsaved executions are left in {}.",
+          spillFileCount,
+          spillFolder.getAbsolutePath());
+    }
+  }
+
+  private void saveBatch(List<CPipelineExecutionRecord> batch) {
+    if (save(batch) && hasSpilled) {
+      replaySpillFiles();
+    }
+  }
+
+  private boolean save(List<CPipelineExecutionRecord> batch) {
+    try {
+      synchronized (writeLock) {
+        writer.accept(batch);
+      }
+      savedCount.addAndGet(batch.size());
+      return true;
+    } catch (Throwable t) {
+      log.warn("Failed to save {} executions, writing them to a spill file.", batch.size(), t);
+      spill(batch);
+      return false;
+    }
+  }
+
+  private void spill(List<CPipelineExecutionRecord> batch) {
+    File file =
+        new File(
+            spillFolder,
+            String.format(
+                "%s%d-%06d%s",
+                SPILL_FILE_PREFIX,
+                System.currentTimeMillis(),
+                spillCounter.incrementAndGet(),
+                SPILL_FILE_SUFFIX));
+    try {
+      spillFolder.mkdirs();
+      try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+        out.writeObject(new ArrayList<>(batch));
+      }
+      hasSpilled = true;
+    } catch (IOException e) {
+      log.error("Failed to write {} executions to {}, they are lost.", batch.size(), file, e);
+    }
+  }
+
+  private void replaySpillFiles() {
+    synchronized (writeLock) {
+      for (File file : getSpillFiles()) {
+        List<CPipelineExecutionRecord> records;
+        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(file))) {
+          records = readRecords(in.readObject());
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+          log.error("Failed to read spill file {}, it will be skipped.", file, e);
+          continue;
+        }
+
+        try {
+          writer.accept(records);
+        } catch (Throwable t) {
+          // the database is still not available, try again later
+          log.warn("Failed to save executions from spill file {}.", file, t);
+          return;
+        }
+
+        savedCount.addAndGet(records.size());
+        if (!file.delete()) {
+          log.error("Failed to delete spill file {}, executions might be saved twice.", file);
+        }
+      }
+      hasSpilled = false;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<CPipelineExecutionRecord> readRecords(Object object) {
+    return (List<CPipelineExecutionRecord>) object;
+  }
+
+  private File[] getSpillFiles() {
+    File[] files =
+        spillFolder.listFiles(
+            (dir, name) -> name.startsWith(SPILL_FILE_PREFIX) && name.endsWith(SPILL_FILE_SUFFIX));
+    if (files == null) {
+      return new File[0];
+    }
+    Arrays.sort(files);
+    return files;
+  }
+}
@@ -0,0 +1,113 @@
+package org.catools.pipeline.dao;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.testng.model.CExecutionStatus;
+import org.catools.pipeline.configs.CPipelineConfigs;
+import org.catools.pipeline.helpers.CPipelineHelper;
+import org.catools.pipeline.model.CPipeline;
+import org.catools.pipeline.model.CPipelineExecution;
+import org.catools.pipeline.model.CPipelineExecutionException;
+import org.catools.pipeline.model.CPipelineStatus;
+import org.catools.pipeline.model.CPipelineUser;
+import org.testng.annotations.Test;
+
+public class CPipelineExecutionDaoTest {
+  private static final String EXECUTOR_NAME = "insertAllExecutor";
+
+  @Test
+  public void testInsertAllAcrossIdPools() {
+    CPipeline pipeline = CPipelineHelper.getPipeline();
+    int count = CPipelineConfigs.PIPELINE_ID_ALLOCATION_SIZE + 5;
+    CPipelineUser executor = getExecutor();
+
+    List<CPipelineExecution> executions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      executions.add(execution(pipeline, executor, i));
+    }
+    List<CPipelineExecution> inserted = CPipelineExecutionDao.insertAll(executions);
+
+    Set<Long> ids = new HashSet<>();
+    inserted.forEach(execution -> ids.add(execution.getId()));
+    CVerify.Int.equals(inserted.size(), count, "All executions are inserted");
+    CVerify.Bool.isFalse(ids.contains(null), "All executions have an id");
+    CVerify.Int.equals(ids.size(), count, "Execution ids are unique");
+
+    Map<Long, String> rows = readRows(ids);
+    CVerify.Int.equals(rows.size(), count, "A row is saved for each execution");
+    for (int i = 0; i < count; i++) {
+      CVerify.String.equals(
+          rows.get(inserted.get(i).getId()),
+          expectedRow(pipeline, i),
+          "Execution " + i + " is saved with its id");
+    }
+  }
+
+  private static CPipelineUser getExecutor() {
+    // the user name is unique, so reuse the executor saved by an earlier run
+    CPipelineUser executor = CPipelineUserDao.getUserByName(EXECUTOR_NAME);
+    return executor == null ? CPipelineUserDao.merge(new CPipelineUser(EXECUTOR_NAME)) : executor;
+  }
+
+  private static CPipelineExecution execution(
+      CPipeline pipeline, CPipelineUser executor, int index) {
+    CExecutionStatus status = index % 3 == 0 ? CExecutionStatus.FAILURE : CExecutionStatus.SUCCESS;
+    CPipelineExecution execution =
+        new CPipelineExecution()
+            .setPipeline(pipeline)
+            .setStatus(new CPipelineStatus(status.getId(), status.name()))
+            .setExecutor(executor)
+            .setStartTime(new Date())
+            .setEndTime(new Date())
+            .setPackageName("org.catools.pipeline.dao")
+            .setClassName("CPipelineExecutionDaoTest")
+            .setMethodName("testMethod" + index);
+    if (status == CExecutionStatus.FAILURE) {
+      execution.setException(
+          new CPipelineExecutionException("AssertionError", "Failure " + index, "stack trace"));
+    }
+    return execution;
+  }
+
+  private static String expectedRow(CPipeline pipeline, int index) {
+    boolean failed = index % 3 == 0;
+    return String.join(
+        "|",
+        String.valueOf(pipeline.getId()),
+        "testMethod" + index,
+        failed ? CExecutionStatus.FAILURE.name() : CExecutionStatus.SUCCESS.name(),
+        EXECUTOR_NAME,
+        failed ? "Failure " + index : "null");
+  }
+
+  private static Map<Long, String> readRows(Set<Long> ids) {
+    return CPipelineBaseDao.getTransactionResult(
+        session -> {
+          Map<Long, String> rows = new TreeMap<>();
+          for (Long id : ids) {
+            CPipelineExecution execution = session.find(CPipelineExecution.class, id);
+            if (execution == null) {
+              continue;
+            }
+            rows.put(
+                id,
+                String.join(
+                    "|",
+                    String.valueOf(execution.getPipeline().getId()),
+                    execution.getMethodName(),
+                    execution.getStatus().getName(),
+                    execution.getExecutor().getName(),
+                    execution.getException() == null
+                        ? "null"
+                        : execution.getException().getMessage()));
+          }
+          return rows;
+        });
+  }
+}
@@ -0,0 +1,119 @@
+package org.catools.pipeline.recorder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.catools.common.date.CDate;
+import org.catools.common.extensions.verify.CVerify;
+import org.catools.common.testng.model.CExecutionStatus;
+import org.catools.common.testng.model.CTestResult;
+import org.catools.common.utils.CSleeper;
+import org.testng.annotations.Test;
+
+public class CPipelineRecorderTest {
+
+  @Test
+  public void testSaveAllExecutionsInBatchesOnClose() throws IOException {
+    List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    try (CPipelineRecorder recorder =
+        new CPipelineRecorder(batch -> batchSizes.add(batch.size()), 1000, 10, spillFolder())) {
+      for (int i = 0; i < 95; i++) {
+        recorder.record(record("testMethod" + i));
+      }
+    }
+
+    CVerify.Int.equals(
+        batchSizes.stream().mapToInt(Integer::intValue).sum(), 95, "All executions are saved");
+    CVerify.Bool.isTrue(
+        batchSizes.stream().allMatch(size -> size <= 10), "Executions are saved in batches");
+  }
+
+  @Test
+  public void testWaitForWriterWhenQueueIsFull() throws IOException {
+    AtomicInteger saved = new AtomicInteger();
+    Consumer<List<CPipelineExecutionRecord>> slowWriter =
+        batch -> {
+          CSleeper.sleepTight(20);
+          saved.addAndGet(batch.size());
+        };
+    try (CPipelineRecorder recorder = new CPipelineRecorder(slowWriter, 2, 1, spillFolder())) {
+      for (int i = 0; i < 10; i++) {
+        recorder.record(record("testMethod" + i));
+        CVerify.Int.lessOrEqual(recorder.getPendingCount(), 2, "Queue is bounded");
+      }
+    }
+
+    CVerify.Int.equals(saved.get(), 10, "All executions are saved");
+  }
+
+  @Test
+  public void testSpillExecutionsWhileDatabaseIsNotAvailable() throws IOException {
+    AtomicBoolean available = new AtomicBoolean();
+    AtomicInteger saved = new AtomicInteger();
+    Consumer<List<CPipelineExecutionRecord>> writer =
+        batch -> {
+          if (!available.get()) {
+            throw new IllegalStateException("Database is not available");
+          }
+          saved.addAndGet(batch.size());
+        };
+
+    CPipelineRecorder recorder = new CPipelineRecorder(writer, 100, 5, spillFolder());
+    for (int i = 0; i < 12; i++) {
+      recorder.record(record("testMethod" + i));
+    }
+    for (int i = 0; i < 100 && recorder.getPendingCount() > 0; i++) {
+      CSleeper.sleepTight(100);
+    }
+    CVerify.Int.greater(recorder.getSpillFileCount(), 0, "Executions are spilled");
+
+    available.set(true);
+    recorder.record(record("testMethod12"));
+    recorder.close();
+
+    CVerify.Int.equals(saved.get(), 13, "Spilled executions are saved");
+    CVerify.Int.equals(recorder.getSpillFileCount(), 0, "Spill files are removed");
+  }
+
+  @Test
+  public void testSaveSpillFilesOfEarlierRun() throws IOException {
+    File spillFolder = spillFolder();
+    CPipelineRecorder earlier =
+        new CPipelineRecorder(
+            batch -> {
+              throw new IllegalStateException("Database is not available");
+            },
+            100,
+            5,
+            spillFolder);
+    for (int i = 0; i < 7; i++) {
+      earlier.record(record("testMethod" + i));
+    }
+    earlier.close();
+    CVerify.Int.greater(earlier.getSpillFileCount(), 0, "Executions are spilled");
+
+    AtomicInteger saved = new AtomicInteger();
+    new CPipelineRecorder(batch -> saved.addAndGet(batch.size()), 100, 5, spillFolder).close();
+    CVerify.Int.equals(saved.get(), 7, "Executions of earlier run are saved");
+  }
+
+  private static File spillFolder() throws IOException {
+    return Files.createTempDirectory("pipeline_spill").toFile();
+  }
+
+  private static CPipelineExecutionRecord record(String methodName) {
+    CTestResult result = new CTestResult();
+    result.setStatus(CExecutionStatus.SUCCESS);
+    result.setPackageName("org.catools.pipeline.recorder");
+    result.setClassName("CPipelineRecorderTest");
+    result.setMethodName(methodName);
+    result.setStartTime(CDate.now());
+    result.setEndTime(CDate.now());
+    return new CPipelineExecutionRecord(1, result);
+  }
+}
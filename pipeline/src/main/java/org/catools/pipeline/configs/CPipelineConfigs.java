@@ -20,6 +20,12 @@ import org.catools.pipeline.model.CPipelineUser;
 public class CPipelineConfigs {
   public static final String PIPELINE_SCHEMA = "pipeline";
 
+  /**
+   * Number of ids reserved from a sequence at a time. Hibernate hands out ids from the reserved
+   * range without a round trip, which allows inserts to be sent in JDBC batches.
+   */
+  public static final int PIPELINE_ID_ALLOCATION_SIZE = 50;
+
   public static String getPipelineType() {
     return CHocon.asString(Configs.CATOOLS_PIPELINE_TYPE);
   }
@@ -1,5 +1,7 @@
 package org.catools.pipeline.dao;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -24,6 +26,10 @@ public class CPipelineBaseDao {
     return doTransaction(session -> session.merge(record));
   }
 
+  public static <T> List<T> mergeAll(Collection<T> records) {
+    return doTransaction(session -> records.stream().map(session::merge).toList());
+  }
+
   protected static synchronized <T> T getTransactionResult(Function<EntityManager, T> action) {
     EntityManager session = getEntityManager();
     EntityTransaction tx = null;
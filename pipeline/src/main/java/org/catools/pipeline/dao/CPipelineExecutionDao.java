@@ -1,3 +1,61 @@
 package org.catools.pipeline.dao;
 
-public class CPipelineExecutionDao extends CPipelineBaseDao {}
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.catools.pipeline.model.CPipeline;
+import org.catools.pipeline.model.CPipelineExecution;
+import org.catools.pipeline.model.CPipelineExecutionMetaData;
+import org.catools.pipeline.model.CPipelineStatus;
+import org.catools.pipeline.model.CPipelineUser;
+
+public class CPipelineExecutionDao extends CPipelineBaseDao {
+
+  /**
+   * Inserts new executions in a single transaction. Ids are taken from pooled sequences, so
+   * executions, their exceptions and metadata join rows are sent in JDBC batches instead of one
+   * round trip per row.
+   *
+   * <p>The pipeline and metadata of executions should already be saved and are only referenced by
+   * id. Executors and statuses are merged once per transaction.
+   *
+   * @param executions the new executions to insert
+   * @return the inserted executions with their ids
+   */
+  public static List<CPipelineExecution> insertAll(Collection<CPipelineExecution> executions) {
+    return doTransaction(
+        entityManager -> {
+          Map<String, CPipelineUser> executors = new HashMap<>();
+          Map<Integer, CPipelineStatus> statuses = new HashMap<>();
+
+          for (CPipelineExecution execution : executions) {
+            if (execution.getPipeline() != null)
+              execution.setPipeline(
+                  entityManager.getReference(CPipeline.class, execution.getPipeline().getId()));
+
+            if (execution.getExecutor() != null)
+              execution.setExecutor(
+                  executors.computeIfAbsent(
+                      execution.getExecutor().getName(),
+                      name -> entityManager.merge(execution.getExecutor())));
+
+            if (execution.getStatus() != null)
+              execution.setStatus(
+                  statuses.computeIfAbsent(
+                      execution.getStatus().getId(),
+                      id -> entityManager.merge(execution.getStatus())));
+
+            List<CPipelineExecutionMetaData> metadata = new ArrayList<>();
+            for (CPipelineExecutionMetaData m : execution.getMetadata()) {
+              metadata.add(entityManager.getReference(CPipelineExecutionMetaData.class, m.getId()));
+            }
+            execution.setMetadata(metadata);
+
+            entityManager.persist(execution);
+          }
+          return new ArrayList<>(executions);
+        });
+  }
+}
@@ -1,5 +1,6 @@
 package org.catools.pipeline.model;
 
+import static org.catools.pipeline.configs.CPipelineConfigs.PIPELINE_ID_ALLOCATION_SIZE;
 import static org.catools.pipeline.configs.CPipelineConfigs.PIPELINE_SCHEMA;
 
 import java.io.Serial;
@@ -28,7 +29,12 @@ public class CPipeline implements Serializable {
   @Serial private static final long serialVersionUID = 6051874043285613707L;
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pipeline_seq")
+  @SequenceGenerator(
+      name = "pipeline_seq",
+      sequenceName = "pipeline_seq",
+      schema = PIPELINE_SCHEMA,
+      allocationSize = PIPELINE_ID_ALLOCATION_SIZE)
   private int id;
 
   @Column(name = "type", length = 100, nullable = false)
@@ -1,5 +1,6 @@
 package org.catools.pipeline.model;
 
+import static org.catools.pipeline.configs.CPipelineConfigs.PIPELINE_ID_ALLOCATION_SIZE;
 import static org.catools.pipeline.configs.CPipelineConfigs.PIPELINE_SCHEMA;
 
 import java.io.Serial;
@@ -22,7 +23,12 @@ public class CPipelineExecution implements Serializable {
   @Serial private static final long serialVersionUID = 6051874058285613707L;
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "execution_seq")
+  @SequenceGenerator(
+      name = "execution_seq",
+      sequenceName = "execution_seq",
+      schema = PIPELINE_SCHEMA,
+      allocationSize = PIPELINE_ID_ALLOCATION_SIZE)
   private Long id;
 
   @Column(name = "packageName", nullable = false)
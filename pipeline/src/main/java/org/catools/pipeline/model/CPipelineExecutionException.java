@@ -1,6 +1,7 @@
 package org.catools.pipeline.model;
 
 import static org.catools.common.utils.CStringUtil.trySubstring;
+import static org.catools.pipeline.configs.CPipelineConfigs.PIPELINE_ID_ALLOCATION_SIZE;
 import static org.catools.pipeline.configs.CPipelineConfigs.PIPELINE_SCHEMA;
 
 import java.io.Serial;
@@ -20,7 +21,12 @@ public class CPipelineExecutionException implements Serializable {
   @Serial private static final long serialVersionUID = 606744019185613707L;
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "execution_exception_seq")
+  @SequenceGenerator(
+      name = "execution_exception_seq",
+      sequenceName = "execution_exception_seq",
+      schema = PIPELINE_SCHEMA,
+      allocationSize = PIPELINE_ID_ALLOCATION_SIZE)
   private int id;
 
   @Column(name = "type", length = 200, nullable = false)
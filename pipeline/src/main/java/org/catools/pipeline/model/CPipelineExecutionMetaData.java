@@ -1,5 +1,6 @@
 package org.catools.pipeline.model;
 
+import static org.catools.pipeline.configs.CPipelineConfigs.PIPELINE_ID_ALLOCATION_SIZE;
 import static org.catools.pipeline.configs.CPipelineConfigs.PIPELINE_SCHEMA;
 
 import java.io.Serial;
@@ -25,7 +26,12 @@ public class CPipelineExecutionMetaData implements Serializable {
   @Serial private static final long serialVersionUID = 606744018185613707L;
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "execution_metadata_seq")
+  @SequenceGenerator(
+      name = "execution_metadata_seq",
+      sequenceName = "execution_metadata_seq",
+      schema = PIPELINE_SCHEMA,
+      allocationSize = PIPELINE_ID_ALLOCATION_SIZE)
   private int id;
 
   @Column(name = "name", length = 50, nullable = false)
@@ -1,5 +1,6 @@
 package org.catools.pipeline.model;
 
+import static org.catools.pipeline.configs.CPipelineConfigs.PIPELINE_ID_ALLOCATION_SIZE;
 import static org.catools.pipeline.configs.CPipelineConfigs.PIPELINE_SCHEMA;
 
 import java.io.Serial;
@@ -25,7 +26,12 @@ public class CPipelineMetaData implements Serializable {
   @Serial private static final long serialVersionUID = 4067874018185613707L;
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pipeline_metadata_seq")
+  @SequenceGenerator(
+      name = "pipeline_metadata_seq",
+      sequenceName = "pipeline_metadata_seq",
+      schema = PIPELINE_SCHEMA,
+      allocationSize = PIPELINE_ID_ALLOCATION_SIZE)
   private Long id;
 
   @Column(name = "name", length = 50, nullable = false)
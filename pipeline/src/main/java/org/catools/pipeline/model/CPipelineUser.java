@@ -1,5 +1,6 @@
 package org.catools.pipeline.model;
 
+import static org.catools.pipeline.configs.CPipelineConfigs.PIPELINE_ID_ALLOCATION_SIZE;
 import static org.catools.pipeline.configs.CPipelineConfigs.PIPELINE_SCHEMA;
 
 import java.io.Serial;
@@ -23,7 +24,12 @@ public class CPipelineUser implements Serializable {
   @Serial private static final long serialVersionUID = 6267874018185513707L;
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+  @SequenceGenerator(
+      name = "user_seq",
+      sequenceName = "user_seq",
+      schema = PIPELINE_SCHEMA,
+      allocationSize = PIPELINE_ID_ALLOCATION_SIZE)
   private int id;
 
   @Column(name = "name", length = 150, unique = true, nullable = false)
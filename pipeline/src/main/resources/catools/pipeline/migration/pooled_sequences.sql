@@ -0,0 +1,40 @@
+-- Moves an existing PostgreSQL pipeline schema from identity columns to the pooled sequences
+-- used by pipeline entities. Run it once, while no pipeline is running, before upgrading a
+-- database which was created by an earlier version. New databases do not need it.
+--
+-- Hibernate reserves 50 ids per sequence call, so each sequence should start at least 50 ids
+-- above the largest existing id.
+--
+-- Old and new clients cannot write to the same database. Ids generated by the identity columns of
+-- an older client would collide with blocks reserved from the sequences, so the identity and any
+-- column default are dropped, and an older client fails on insert instead of reusing an id.
+
+ALTER TABLE pipeline.pipeline ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE pipeline.pipeline ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS pipeline.pipeline_seq INCREMENT BY 50;
+SELECT setval('pipeline.pipeline_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM pipeline.pipeline));
+
+ALTER TABLE pipeline.pipeline_metadata ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE pipeline.pipeline_metadata ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS pipeline.pipeline_metadata_seq INCREMENT BY 50;
+SELECT setval('pipeline.pipeline_metadata_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM pipeline.pipeline_metadata));
+
+ALTER TABLE pipeline.execution ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE pipeline.execution ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS pipeline.execution_seq INCREMENT BY 50;
+SELECT setval('pipeline.execution_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM pipeline.execution));
+
+ALTER TABLE pipeline.execution_exception ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE pipeline.execution_exception ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS pipeline.execution_exception_seq INCREMENT BY 50;
+SELECT setval('pipeline.execution_exception_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM pipeline.execution_exception));
+
+ALTER TABLE pipeline.execution_metadata ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE pipeline.execution_metadata ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS pipeline.execution_metadata_seq INCREMENT BY 50;
+SELECT setval('pipeline.execution_metadata_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM pipeline.execution_metadata));
+
+ALTER TABLE pipeline."user" ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE pipeline."user" ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS pipeline.user_seq INCREMENT BY 50;
+SELECT setval('pipeline.user_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM pipeline."user"));